@@ -7,15 +7,22 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.QueryResults;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.ObjectifyService;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.client.connector.DatastoreClient;
@@ -31,6 +38,7 @@ import teammates.test.FileHelper;
  * <li>Supports automatic continuation from the last failure point (Checkpoint feature).</li>
  * <li>Supports transaction between {@link #isMigrationNeeded(BaseEntity)} and {@link #migrateEntity(BaseEntity)}.</li>
  * <li>Supports batch saving if transaction is not used.</li>
+ * <li>Supports saving batches in parallel with the migration of the next batches.</li>
  * </ul>
  *
  * @param <T> The entity type to be migrated by the script.
@@ -58,6 +66,10 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
     // buffer of entities to save
     private List<T> entitiesSavingBuffer;
 
+    // batches being saved in parallel, in the order of the batches
+    private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+    private ExecutorService savingExecutor;
+
     public DataMigrationEntitiesBaseScript() {
         numberOfScannedKey = new AtomicLong();
         numberOfAffectedEntities = new AtomicLong();
@@ -102,6 +114,16 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
         return false;
     }
 
+    /**
+     * Gets the number of batches of entities which can be saved in parallel while the next batches are migrated.
+     *
+     * <p>This speeds up migrations which save most of the entities they scan. The cursor position is only saved
+     * after all batches up to it are saved, thus the batches being saved may be scanned again on continuation.
+     */
+    protected int getNumberOfParallelSavingBatches() {
+        return 1;
+    }
+
     /**
      * Migrates the entity without transaction for better performance.
      */
@@ -187,8 +209,7 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
 
             if (shouldContinue) {
                 cursor = iterator.getCursorAfter();
-                flushEntitiesSavingBuffer();
-                savePositionOfCursorToFile(cursor);
+                flushEntitiesSavingBuffer(cursor);
                 log(String.format("Cursor Position: %s", cursor.toUrlSafe()));
                 log(String.format("Number Of Entity Key Scanned: %d", numberOfScannedKey.get()));
                 log(String.format("Number Of Entity affected: %d", numberOfAffectedEntities.get()));
@@ -196,6 +217,10 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
             }
         }
 
+        waitForPendingBatches(0);
+        if (savingExecutor != null) {
+            savingExecutor.shutdown();
+        }
         deleteCursorPositionFile();
         log(isPreview() ? "Preview Completed!" : "Migration Completed!");
         log("Total number of entities: " + numberOfScannedKey.get());
@@ -214,14 +239,56 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
     }
 
     /**
-     * Flushes the saving buffer by issuing Datastore save request.
+     * Flushes the saving buffer by issuing Datastore save request, and saves the cursor position after the buffer
+     * once the entities up to it are saved.
      */
-    private void flushEntitiesSavingBuffer() {
-        if (!entitiesSavingBuffer.isEmpty() && !isPreview()) {
-            log("Saving entities in batch..." + entitiesSavingBuffer.size());
-            ofy().save().entities(entitiesSavingBuffer).now();
-        }
+    private void flushEntitiesSavingBuffer(Cursor cursor) {
+        List<T> entitiesToSave = new ArrayList<>(entitiesSavingBuffer);
         entitiesSavingBuffer.clear();
+        boolean hasEntitiesToSave = !entitiesToSave.isEmpty() && !isPreview();
+        if (hasEntitiesToSave) {
+            log("Saving entities in batch..." + entitiesToSave.size());
+        }
+
+        int numberOfParallelSavingBatches = getNumberOfParallelSavingBatches();
+        if (numberOfParallelSavingBatches <= 1) {
+            if (hasEntitiesToSave) {
+                ofy().save().entities(entitiesToSave).now();
+            }
+            savePositionOfCursorToFile(cursor);
+            return;
+        }
+
+        if (savingExecutor == null) {
+            savingExecutor = Executors.newFixedThreadPool(numberOfParallelSavingBatches);
+        }
+        Future<?> saving = hasEntitiesToSave
+                // the Objectify session is bound to the thread, thus each save runs in a session of its own
+                ? savingExecutor.submit(() -> ObjectifyService.run(() -> ofy().save().entities(entitiesToSave).now()))
+                : null;
+        pendingBatches.addLast(new PendingBatch(saving, cursor));
+        waitForPendingBatches(numberOfParallelSavingBatches - 1);
+    }
+
+    /**
+     * Waits for the oldest batches being saved until at most {@code maxPendingBatches} are left,
+     * saving the cursor position after each of them.
+     */
+    private void waitForPendingBatches(int maxPendingBatches) {
+        while (pendingBatches.size() > maxPendingBatches) {
+            PendingBatch batch = pendingBatches.removeFirst();
+            if (batch.saving != null) {
+                try {
+                    batch.saving.get();
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Fail to save entities in batch", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            savePositionOfCursorToFile(batch.cursor);
+        }
     }
 
     /**
@@ -342,4 +409,17 @@ public abstract class DataMigrationEntitiesBaseScript<T extends BaseEntity> exte
                 .replace("&amp;", "&");
     }
 
+    /**
+     * A batch of entities being saved, and the cursor position after the batch.
+     */
+    private static class PendingBatch {
+        private final Future<?> saving;
+        private final Cursor cursor;
+
+        PendingBatch(Future<?> saving, Cursor cursor) {
+            this.saving = saving;
+            this.cursor = cursor;
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package teammates.client.scripts;
+
+import java.util.List;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to fill in the sections of feedback responses created before the field was introduced,
+ * so that they are found by the queries for the responses of a section.
+ *
+ * <p>The sections are computed from the giver and recipient sections when a response is saved,
+ * thus the affected responses only need to be saved again.
+ *
+ * <p>This is to be run once the version which stores the sections of responses is deployed.
+ * Only after it has completed can {@code app.enable.response.sections.query} be set in build.properties.
+ */
+public class DataMigrationForSectionsInFeedbackResponses
+        extends DataMigrationEntitiesBaseScript<FeedbackResponse> {
+
+    public static void main(String[] args) {
+        new DataMigrationForSectionsInFeedbackResponses().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackResponse> getFilterQuery() {
+        return ofy().load().type(FeedbackResponse.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected int getNumberOfParallelSavingBatches() {
+        // nearly all responses are expected to be saved again
+        return 8;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackResponse response) {
+        List<String> sections = response.getSections();
+        if (sections == null) {
+            return true;
+        }
+        response.updateSections();
+        return !sections.equals(response.getSections());
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackResponse response) {
+        response.updateSections();
+
+        saveEntityDeferred(response);
+    }
+
+}
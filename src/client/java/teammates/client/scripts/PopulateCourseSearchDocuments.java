@@ -16,6 +16,9 @@ import teammates.storage.entity.Course;
 
 /**
  * Script to populate search documents into the system back-end.
+ *
+ * <p>To rebuild whole search collections, the in-app rebuild at
+ * {@link teammates.common.util.Const.ResourceURIs#SEARCH_INDEXES} is faster, as it indexes in parallel.
  */
 public class PopulateCourseSearchDocuments extends DataMigrationEntitiesBaseScript<Course> {
 
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,36 +15,62 @@ import teammates.common.util.Const;
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>Students, teams and sections are interned into dense integer IDs, so that team and section membership
+ * can be checked with array lookups instead of comparing names.
+ * The lists returned are shared and cannot be modified.
  */
 public class CourseRoster {
 
-    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    /**
+     * The team ID returned when there is no matching team.
+     */
+    public static final int NO_TEAM_ID = -1;
+
+    // lists are used so that students and instructors are returned in the order given
+    private final List<StudentAttributes> students = new ArrayList<>();
+    private final List<InstructorAttributes> instructors;
+    private final Map<String, Integer> studentIdsByEmail = new HashMap<>();
+    private final Map<String, InstructorAttributes> instructorsByEmail = new HashMap<>();
+
     private final Map<String, List<StudentAttributes>> teamToMembersTable;
+    private final Map<String, Integer> teamIdsByName = new HashMap<>();
+    private final Map<String, List<StudentAttributes>> sectionToMembersTable = new HashMap<>();
+    // the team ID of each student, indexed by student ID
+    private final int[] studentTeamIds;
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
-        populateStudentListByEmail(students);
-        populateInstructorListByEmail(instructors);
-        teamToMembersTable = buildTeamToMembersTable(getStudents());
+        populateStudents(students);
+        this.instructors = populateInstructors(instructors);
+        teamToMembersTable = buildTeamToMembersTable(this.students);
+        studentTeamIds = new int[this.students.size()];
+        populateTeamAndSectionIndexes();
     }
 
     public List<StudentAttributes> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return Collections.unmodifiableList(students);
     }
 
     public List<InstructorAttributes> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return Collections.unmodifiableList(instructors);
     }
 
     public Map<String, List<StudentAttributes>> getTeamToMembersTable() {
         return teamToMembersTable;
     }
 
+    /**
+     * Returns the students in the section, in the order given.
+     */
+    public List<StudentAttributes> getStudentsInSection(String sectionName) {
+        return sectionToMembersTable.getOrDefault(sectionName, Collections.emptyList());
+    }
+
     /**
      * Checks whether a student is in course.
      */
     public boolean isStudentInCourse(String studentEmail) {
-        return studentListByEmail.containsKey(studentEmail);
+        return studentIdsByEmail.containsKey(studentEmail);
     }
 
     /**
@@ -56,54 +84,98 @@ public class CourseRoster {
      * Checks whether a student is in team.
      */
     public boolean isStudentInTeam(String studentEmail, String targetTeamName) {
-        StudentAttributes student = studentListByEmail.get(studentEmail);
-        return student != null && student.getTeam().equals(targetTeamName);
+        int teamId = getTeamIdOfStudent(studentEmail);
+        return teamId != NO_TEAM_ID && teamId == getTeamId(targetTeamName);
     }
 
     /**
      * Checks whether two students are in the same team.
      */
     public boolean isStudentsInSameTeam(String studentEmail1, String studentEmail2) {
-        StudentAttributes student1 = studentListByEmail.get(studentEmail1);
-        StudentAttributes student2 = studentListByEmail.get(studentEmail2);
-        return student1 != null && student2 != null
-                && student1.getTeam() != null && student1.getTeam().equals(student2.getTeam());
+        int teamId = getTeamIdOfStudent(studentEmail1);
+        return teamId != NO_TEAM_ID && teamId == getTeamIdOfStudent(studentEmail2);
+    }
+
+    /**
+     * Returns the ID of the team with the given name, or {@link #NO_TEAM_ID} if there is no such team in the course.
+     *
+     * <p>Team IDs are only meaningful within the same roster.
+     */
+    public int getTeamId(String teamName) {
+        return teamIdsByName.getOrDefault(teamName, NO_TEAM_ID);
+    }
+
+    /**
+     * Returns the ID of the team of the student with the given email,
+     * or {@link #NO_TEAM_ID} if there is no such student in the course or the student is not in a team.
+     *
+     * <p>Team IDs are only meaningful within the same roster.
+     */
+    public int getTeamIdOfStudent(String studentEmail) {
+        Integer studentId = studentIdsByEmail.get(studentEmail);
+        return studentId == null ? NO_TEAM_ID : studentTeamIds[studentId];
     }
 
     /**
      * Returns the student object for the given email.
      */
     public StudentAttributes getStudentForEmail(String email) {
-        return studentListByEmail.get(email);
+        Integer studentId = studentIdsByEmail.get(email);
+        return studentId == null ? null : students.get(studentId);
     }
 
     /**
      * Returns the instructor object for the given email.
      */
     public InstructorAttributes getInstructorForEmail(String email) {
-        return instructorListByEmail.get(email);
+        return instructorsByEmail.get(email);
     }
 
-    private void populateStudentListByEmail(List<StudentAttributes> students) {
+    private void populateStudents(List<StudentAttributes> students) {
 
         if (students == null) {
             return;
         }
 
         for (StudentAttributes s : students) {
-            studentListByEmail.put(s.getEmail(), s);
+            // a later student with the same email replaces the earlier one in its position
+            Integer existingStudentId = studentIdsByEmail.putIfAbsent(s.getEmail(), this.students.size());
+            if (existingStudentId == null) {
+                this.students.add(s);
+            } else {
+                this.students.set(existingStudentId, s);
+            }
         }
     }
 
-    private void populateInstructorListByEmail(List<InstructorAttributes> instructors) {
+    private List<InstructorAttributes> populateInstructors(List<InstructorAttributes> instructors) {
 
         if (instructors == null) {
-            return;
+            return new ArrayList<>();
         }
 
+        // a linked map is used so that a later instructor with the same email replaces the earlier one in its position
+        Map<String, InstructorAttributes> instructorsInOrder = new LinkedHashMap<>();
         for (InstructorAttributes i : instructors) {
-            instructorListByEmail.put(i.getEmail(), i);
+            instructorsInOrder.put(i.getEmail(), i);
+        }
+        instructorsByEmail.putAll(instructorsInOrder);
+        return new ArrayList<>(instructorsInOrder.values());
+    }
+
+    private void populateTeamAndSectionIndexes() {
+        for (Map.Entry<String, List<StudentAttributes>> team : teamToMembersTable.entrySet()) {
+            if (team.getKey() != null) {
+                teamIdsByName.put(team.getKey(), teamIdsByName.size());
+            }
+        }
+
+        for (int studentId = 0; studentId < students.size(); studentId++) {
+            StudentAttributes student = students.get(studentId);
+            studentTeamIds[studentId] = getTeamId(student.getTeam());
+            sectionToMembersTable.computeIfAbsent(student.getSection(), key -> new ArrayList<>()).add(student);
         }
+        sectionToMembersTable.replaceAll((sectionName, members) -> Collections.unmodifiableList(members));
     }
 
     /**
@@ -0,0 +1,40 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents a range of consecutive entities of a kind, ordered by their IDs.
+ *
+ * <p>The range includes the entity with the start ID and excludes the entity with the end ID,
+ * so that adjacent ranges never overlap even if entities are added or removed in the meantime.
+ */
+public class EntityIdRange {
+
+    private final String startId;
+    private final String endId;
+
+    /**
+     * Creates a range.
+     *
+     * @param startId the ID of the first entity in the range
+     * @param endId the ID of the first entity after the range, or null if the range extends to the last entity
+     */
+    public EntityIdRange(String startId, String endId) {
+        assert startId != null;
+
+        this.startId = startId;
+        this.endId = endId;
+    }
+
+    public String getStartId() {
+        return startId;
+    }
+
+    public String getEndId() {
+        return endId;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIdRange [startId=" + startId + ", endId=" + endId + "]";
+    }
+
+}
@@ -1,11 +1,14 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.util.Const;
@@ -19,11 +22,14 @@ public class SessionResultsBundle {
     private final Map<String, FeedbackQuestionAttributes> questionsMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionResponseMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
+    private final MissingResponsesGenerator missingResponsesGenerator;
     private final Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap;
     private final Map<String, Boolean> responseGiverVisibilityTable;
     private final Map<String, Boolean> responseRecipientVisibilityTable;
     private final Map<Long, Boolean> commentGiverVisibilityTable;
     private final CourseRoster roster;
+    private String nextPageToken;
+    private Map<String, FeedbackQuestionStatisticsAttributes> questionStatisticsMap = Collections.emptyMap();
 
     public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
                                 List<FeedbackResponseAttributes> responses,
@@ -42,6 +48,33 @@ public class SessionResultsBundle {
         this.roster = roster;
         this.questionResponseMap = buildQuestionToResponseMap(responses);
         this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.missingResponsesGenerator = null;
+    }
+
+    /**
+     * Constructs a bundle whose missing responses are generated on demand by {@code missingResponsesGenerator}.
+     *
+     * <p>The visibility of the givers and recipients of the missing responses is also checked with
+     * {@code missingResponsesGenerator}, so the visibility tables only need to cover {@code responses}.
+     */
+    public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
+                                List<FeedbackResponseAttributes> responses,
+                                MissingResponsesGenerator missingResponsesGenerator,
+                                Map<String, Boolean> responseGiverVisibilityTable,
+                                Map<String, Boolean> responseRecipientVisibilityTable,
+                                Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
+                                Map<Long, Boolean> commentGiverVisibilityTable,
+                                CourseRoster roster) {
+
+        this.questionsMap = questionsMap;
+        this.responseCommentsMap = responseCommentsMap;
+        this.responseGiverVisibilityTable = responseGiverVisibilityTable;
+        this.responseRecipientVisibilityTable = responseRecipientVisibilityTable;
+        this.commentGiverVisibilityTable = commentGiverVisibilityTable;
+        this.roster = roster;
+        this.questionResponseMap = buildQuestionToResponseMap(responses);
+        this.questionMissingResponseMap = null;
+        this.missingResponsesGenerator = missingResponsesGenerator;
     }
 
     private Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
@@ -84,7 +117,7 @@ public class SessionResultsBundle {
         FeedbackParticipantType participantType;
         String responseId = response.getId();
 
-        boolean isVisible;
+        Boolean isVisible;
         if (isGiver) {
             isVisible = responseGiverVisibilityTable.get(responseId);
             participantType = question.getGiverType();
@@ -92,6 +125,12 @@ public class SessionResultsBundle {
             isVisible = responseRecipientVisibilityTable.get(responseId);
             participantType = question.getRecipientType();
         }
+        if (isVisible == null && missingResponsesGenerator != null) {
+            // generated missing responses are not in the visibility tables
+            isVisible = isGiver
+                    ? missingResponsesGenerator.isGiverVisible(response)
+                    : missingResponsesGenerator.isRecipientVisible(response);
+        }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
 
         return isVisible || isTypeNone;
@@ -121,8 +160,33 @@ public class SessionResultsBundle {
         return questionResponseMap;
     }
 
+    /**
+     * Returns the missing responses of all questions.
+     *
+     * <p>If the missing responses are generated on demand, all of them are generated and held in memory at once;
+     * use {@link #getMissingResponsesOfQuestion(String)} to go through them one question at a time instead.
+     */
     public Map<String, List<FeedbackResponseAttributes>> getQuestionMissingResponseMap() {
-        return questionMissingResponseMap;
+        if (missingResponsesGenerator == null) {
+            return questionMissingResponseMap;
+        }
+        Map<String, List<FeedbackResponseAttributes>> missingResponseMap = new LinkedHashMap<>();
+        for (String questionId : questionsMap.keySet()) {
+            List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
+            getMissingResponsesOfQuestion(questionId).forEachRemaining(missingResponses::add);
+            missingResponseMap.put(questionId, missingResponses);
+        }
+        return missingResponseMap;
+    }
+
+    /**
+     * Returns the missing responses of the question, which may be generated as they are iterated.
+     */
+    public Iterator<FeedbackResponseAttributes> getMissingResponsesOfQuestion(String questionId) {
+        if (missingResponsesGenerator == null) {
+            return questionMissingResponseMap.getOrDefault(questionId, Collections.emptyList()).iterator();
+        }
+        return missingResponsesGenerator.generate(questionId);
     }
 
     private static String getEncryptedName(String name) {
@@ -156,4 +220,51 @@ public class SessionResultsBundle {
     public Map<Long, Boolean> getCommentGiverVisibilityTable() {
         return commentGiverVisibilityTable;
     }
+
+    /**
+     * Returns the token for the next page of the results if the bundle is a page of the results
+     * followed by more pages, or null otherwise.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Returns the running statistics of the responses to a question if they are in the bundle, or null otherwise.
+     */
+    public FeedbackQuestionStatisticsAttributes getQuestionStatistics(String questionId) {
+        return questionStatisticsMap.get(questionId);
+    }
+
+    public void setQuestionStatisticsMap(Map<String, FeedbackQuestionStatisticsAttributes> questionStatisticsMap) {
+        this.questionStatisticsMap = questionStatisticsMap;
+    }
+
+    /**
+     * Generates the missing responses of the questions in a bundle, i.e. those for the possible giver-recipient pairs
+     * without a response, so that they do not need to be held in memory all at once.
+     */
+    public interface MissingResponsesGenerator {
+
+        /**
+         * Generates the missing responses of the question which are visible to the current user,
+         * one at a time as they are iterated.
+         */
+        Iterator<FeedbackResponseAttributes> generate(String questionId);
+
+        /**
+         * Returns true if the giver of a generated missing response is visible to the current user.
+         */
+        boolean isGiverVisible(FeedbackResponseAttributes missingResponse);
+
+        /**
+         * Returns true if the recipient of a generated missing response is visible to the current user.
+         */
+        boolean isRecipientVisible(FeedbackResponseAttributes missingResponse);
+
+    }
 }
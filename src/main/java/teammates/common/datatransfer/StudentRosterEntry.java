@@ -0,0 +1,38 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the placement of a student in a course, i.e. the email, team and section of the student.
+ *
+ * <p>This is a lightweight alternative to {@link teammates.common.datatransfer.attributes.StudentAttributes}
+ * for operations which only need to know how the students of a course are grouped.
+ */
+public class StudentRosterEntry {
+
+    private final String email;
+    private final String team;
+    private final String section;
+
+    public StudentRosterEntry(String email, String team, String section) {
+        this.email = email;
+        this.team = team;
+        this.section = section;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentRosterEntry [email=" + email + ", team=" + team + ", section=" + section + "]";
+    }
+
+}
@@ -0,0 +1,289 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NA;
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import teammates.common.util.Const;
+
+/**
+ * Calculates the feedback contribution question results of many teams in one pass.
+ *
+ * <p>The results are the same as those of {@link TeamEvalResult}, including the handling of NA, NSU and NSB,
+ * but the points of all the teams are held in flat arrays, and the intermediate values of each team are
+ * calculated in buffers which are reused for all the teams. The buffers are only grown when a team larger than
+ * all previous teams is calculated, thus an instance should be reused for many teams, but not by many threads.
+ */
+public class TeamEvalCalculator {
+
+    /** the peer contribution ratios of the current team, as a flattened teamSize x teamSize matrix. */
+    private double[] peerContributionRatios = new double[0];
+    /** a row of points of the current team. */
+    private double[] rowBuffer = new double[0];
+    /** the average perception of each member of the current team. */
+    private double[] averagePerceived = new double[0];
+
+    /**
+     * Calculates the results of the teams.
+     *
+     * @param teamSizes the number of members of each team
+     * @param points the points given by the members of each team to each other, where the points of a team are a
+     *               flattened teamSize x teamSize matrix, i.e. the points given by member {@code i} to member
+     *               {@code j} are at {@code i * teamSize + j}, and the matrices of the teams follow each other
+     *               in the same order as {@code teamSizes}
+     */
+    public Results calculate(int[] teamSizes, int[] points) {
+        Results results = new Results(teamSizes, points);
+        assert points.length == results.normalizedClaimed.length : "Points do not match the sizes of the teams";
+
+        for (int team = 0; team < teamSizes.length; team++) {
+            calculateTeam(results, results.matrixOffsets[team], results.memberOffsets[team], teamSizes[team]);
+        }
+        return results;
+    }
+
+    private void calculateTeam(Results results, int matrixOffset, int memberOffset, int teamSize) {
+        ensureCapacity(teamSize);
+        int[] points = results.claimed;
+
+        for (int i = 0; i < teamSize; i++) {
+            int rowOffset = matrixOffset + i * teamSize;
+
+            // claimed values normalized, with missing points left in place
+            for (int j = 0; j < teamSize; j++) {
+                rowBuffer[j] = points[rowOffset + j];
+            }
+            double factor = calculateFactor(rowBuffer, 0, teamSize);
+            for (int j = 0; j < teamSize; j++) {
+                results.normalizedClaimed[rowOffset + j] = doubleToInt(multiplyByFactor(factor, rowBuffer[j]));
+            }
+
+            // claimed values sanitized and normalized, then normalized again without the self rating
+            for (int j = 0; j < teamSize; j++) {
+                rowBuffer[j] = sanitize(points[rowOffset + j]);
+            }
+            factor = calculateFactor(rowBuffer, 0, teamSize);
+            int ratioRowOffset = i * teamSize;
+            for (int j = 0; j < teamSize; j++) {
+                peerContributionRatios[ratioRowOffset + j] = i == j ? NA : multiplyByFactor(factor, rowBuffer[j]);
+            }
+            factor = calculateFactor(peerContributionRatios, ratioRowOffset, teamSize);
+            for (int j = 0; j < teamSize; j++) {
+                peerContributionRatios[ratioRowOffset + j] =
+                        multiplyByFactor(factor, peerContributionRatios[ratioRowOffset + j]);
+            }
+        }
+
+        for (int j = 0; j < teamSize; j++) {
+            averagePerceived[j] = averageColumn(peerContributionRatios, teamSize, j);
+        }
+        double factor = calculateFactor(averagePerceived, 0, teamSize);
+        for (int k = 0; k < teamSize * teamSize; k++) {
+            results.normalizedPeerContributionRatio[matrixOffset + k] =
+                    doubleToInt(multiplyByFactor(factor, peerContributionRatios[k]));
+        }
+        // the average perception is normalized in place from here on
+        for (int j = 0; j < teamSize; j++) {
+            averagePerceived[j] = multiplyByFactor(factor, averagePerceived[j]);
+            results.normalizedAveragePerceived[memberOffset + j] = doubleToInt(averagePerceived[j]);
+        }
+
+        for (int k = 0; k < teamSize; k++) {
+            calculatePerceivedForStudent(results, matrixOffset + k * teamSize, teamSize);
+        }
+    }
+
+    private void calculatePerceivedForStudent(Results results, int rowOffset, int teamSize) {
+        // sums only the values which are not matched by special values in the other of the two rows
+        double sumOfPerceived = NA;
+        double sumOfActualAsDouble = NA;
+        for (int i = 0; i < teamSize; i++) {
+            int claimed = sanitize(results.claimed[rowOffset + i]);
+            double perceived = isSpecialValue(claimed) ? purge(claimed) : averagePerceived[i];
+            sumOfPerceived = addToSum(sumOfPerceived, perceived);
+
+            int perceivedAsInt = (int) averagePerceived[i];
+            double actual = isSpecialValue(perceivedAsInt) ? purge(perceivedAsInt) : claimed;
+            sumOfActualAsDouble = addToSum(sumOfActualAsDouble, actual);
+        }
+        double sumOfActual = (int) sumOfActualAsDouble;
+
+        // if the student did not submit
+        if (sumOfActual == NA) {
+            sumOfActual = sumOfPerceived;
+        }
+
+        double factor = sumOfActual / sumOfPerceived;
+        for (int i = 0; i < teamSize; i++) {
+            results.denormalizedAveragePerceived[rowOffset + i] =
+                    doubleToInt(multiplyByFactor(factor, averagePerceived[i]));
+        }
+    }
+
+    private void ensureCapacity(int teamSize) {
+        if (rowBuffer.length >= teamSize) {
+            return;
+        }
+        peerContributionRatios = new double[teamSize * teamSize];
+        rowBuffer = new double[teamSize];
+        averagePerceived = new double[teamSize];
+    }
+
+    private static int sanitize(int points) {
+        return points == NSB ? NA : points;
+    }
+
+    private static double purge(int specialValue) {
+        return specialValue == NSU ? NSU : NA;
+    }
+
+    private static boolean isSpecialValue(int value) {
+        return value == NA || value == NSU || value == NSB;
+    }
+
+    private static boolean isValidSpecialValue(double value) {
+        return value == NA || value == NSU;
+    }
+
+    private static double addToSum(double sum, double value) {
+        if (isValidSpecialValue(value)) {
+            return sum;
+        }
+        return sum == NA ? value : sum + value;
+    }
+
+    private static double calculateFactor(double[] values, int from, int length) {
+        double actualSum = 0;
+        int count = 0;
+        for (int i = from; i < from + length; i++) {
+            double value = values[i];
+            if (isSpecialValue((int) value)) {
+                continue;
+            }
+            actualSum += value;
+            count++;
+        }
+
+        double idealSum = count * Const.POINTS_EQUAL_SHARE * 1.0;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
+    }
+
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
+        }
+        return factor == 0 ? value : value * factor;
+    }
+
+    private static double averageColumn(double[] matrix, int teamSize, int column) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < teamSize; i++) {
+            double value = matrix[i * teamSize + column];
+            if (isValidSpecialValue(value)) {
+                continue;
+            }
+            sum += value;
+            count++;
+        }
+        // omit calculation if no data points
+        return count == 0 ? NA : sum / count;
+    }
+
+    private static int doubleToInt(double value) {
+        return (int) Math.round(value);
+    }
+
+    /**
+     * The results of the teams calculated by {@link TeamEvalCalculator}.
+     *
+     * <p>The teams are identified by their index in the team sizes given, and their members by their index
+     * in the matrices of points given. The values are those of the fields of the same names in {@link TeamEvalResult}.
+     */
+    public static class Results {
+
+        private final int[] teamSizes;
+        private final int[] matrixOffsets;
+        private final int[] memberOffsets;
+
+        private final int[] claimed;
+        private final int[] normalizedClaimed;
+        private final int[] normalizedAveragePerceived;
+        private final int[] denormalizedAveragePerceived;
+        private final int[] normalizedPeerContributionRatio;
+
+        private Results(int[] teamSizes, int[] points) {
+            this.teamSizes = teamSizes;
+            this.matrixOffsets = new int[teamSizes.length];
+            this.memberOffsets = new int[teamSizes.length];
+            int numberOfPoints = 0;
+            int numberOfMembers = 0;
+            for (int team = 0; team < teamSizes.length; team++) {
+                matrixOffsets[team] = numberOfPoints;
+                memberOffsets[team] = numberOfMembers;
+                numberOfPoints += teamSizes[team] * teamSizes[team];
+                numberOfMembers += teamSizes[team];
+            }
+
+            this.claimed = points;
+            this.normalizedClaimed = new int[numberOfPoints];
+            this.normalizedAveragePerceived = new int[numberOfMembers];
+            this.denormalizedAveragePerceived = new int[numberOfPoints];
+            this.normalizedPeerContributionRatio = new int[numberOfPoints];
+        }
+
+        public int getNumberOfTeams() {
+            return teamSizes.length;
+        }
+
+        public int getTeamSize(int team) {
+            return teamSizes[team];
+        }
+
+        /**
+         * Gets the points given by {@code giver} to {@code recipient}, as submitted.
+         */
+        public int getClaimed(int team, int giver, int recipient) {
+            return claimed[getMatrixIndex(team, giver, recipient)];
+        }
+
+        /**
+         * Gets the points given by {@code giver} to {@code recipient}, normalized to be shown to instructors.
+         */
+        public int getNormalizedClaimed(int team, int giver, int recipient) {
+            return normalizedClaimed[getMatrixIndex(team, giver, recipient)];
+        }
+
+        /**
+         * Gets the average perception of {@code member} by the team, excluding self evaluations,
+         * to be shown to instructors.
+         */
+        public int getNormalizedAveragePerceived(int team, int member) {
+            return normalizedAveragePerceived[memberOffsets[team] + member];
+        }
+
+        /**
+         * Gets the perception of {@code member} by the team to be shown to {@code student},
+         * denormalized to match the claims of {@code student}.
+         */
+        public int getDenormalizedAveragePerceived(int team, int student, int member) {
+            return denormalizedAveragePerceived[getMatrixIndex(team, student, member)];
+        }
+
+        /**
+         * Gets the points given by {@code giver} to {@code recipient} which are used to calculate
+         * the normalized average perception.
+         */
+        public int getNormalizedPeerContributionRatio(int team, int giver, int recipient) {
+            return normalizedPeerContributionRatio[getMatrixIndex(team, giver, recipient)];
+        }
+
+        private int getMatrixIndex(int team, int row, int column) {
+            assert row < teamSizes[team] && column < teamSizes[team];
+
+            return matrixOffsets[team] + row * teamSizes[team] + column;
+        }
+
+    }
+
+}
@@ -0,0 +1,359 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackQuestionStatistics;
+
+/**
+ * The data transfer object for {@link FeedbackQuestionStatistics} entities.
+ *
+ * <p>The statistics hold the number of responses to a question, and a {@link Tally} of the values the responses
+ * contribute under each key, e.g. under each option of the question, both overall and per recipient.
+ * As the tallies only consist of counts and sums, the values of a response can be removed again exactly as
+ * they are added, which allows the statistics to be kept up to date as responses are created, updated and deleted.
+ */
+public class FeedbackQuestionStatisticsAttributes extends EntityAttributes<FeedbackQuestionStatistics> {
+
+    private static final double TOLERANCE = 1e-6;
+
+    private final String feedbackQuestionId;
+    private String feedbackSessionName;
+    private String courseId;
+    private long numberOfResponses;
+    private Map<String, Tally> tallies;
+    private Map<String, Map<String, Tally>> recipientTallies;
+    private long version;
+    private Instant buildStartedAt;
+    private Instant builtAt;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    private FeedbackQuestionStatisticsAttributes(String feedbackQuestionId) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.tallies = new TreeMap<>();
+        this.recipientTallies = new TreeMap<>();
+    }
+
+    /**
+     * Gets the {@link FeedbackQuestionStatisticsAttributes} instance of the given {@link FeedbackQuestionStatistics}.
+     */
+    public static FeedbackQuestionStatisticsAttributes valueOf(FeedbackQuestionStatistics statistics) {
+        FeedbackQuestionStatisticsAttributes statisticsAttributes =
+                new FeedbackQuestionStatisticsAttributes(statistics.getFeedbackQuestionId());
+
+        statisticsAttributes.feedbackSessionName = statistics.getFeedbackSessionName();
+        statisticsAttributes.courseId = statistics.getCourseId();
+        statisticsAttributes.numberOfResponses = statistics.getNumberOfResponses();
+        if (statistics.getTallies() != null) {
+            SerializedTallies serializedTallies =
+                    JsonUtils.fromJson(statistics.getTallies(), SerializedTallies.class);
+            if (serializedTallies.overall != null) {
+                statisticsAttributes.tallies.putAll(serializedTallies.overall);
+            }
+            if (serializedTallies.perRecipient != null) {
+                serializedTallies.perRecipient.forEach((recipient, recipientTally) ->
+                        statisticsAttributes.recipientTallies.put(recipient, new TreeMap<>(recipientTally)));
+            }
+        }
+        statisticsAttributes.version = statistics.getVersion();
+        statisticsAttributes.buildStartedAt = statistics.getBuildStartedAt();
+        statisticsAttributes.builtAt = statistics.getBuiltAt();
+        statisticsAttributes.createdAt = statistics.getCreatedAt();
+        statisticsAttributes.updatedAt = statistics.getUpdatedAt();
+
+        return statisticsAttributes;
+    }
+
+    /**
+     * Returns a builder for {@link FeedbackQuestionStatisticsAttributes}.
+     */
+    public static Builder builder(String feedbackQuestionId) {
+        return new Builder(feedbackQuestionId);
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public long getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    /**
+     * Gets the tallies of all the responses, keyed by what the values are tallied under.
+     */
+    public Map<String, Tally> getTallies() {
+        return Collections.unmodifiableMap(tallies);
+    }
+
+    /**
+     * Gets the tallies of the responses to each recipient, keyed by recipient and then by what the values are
+     * tallied under.
+     */
+    public Map<String, Map<String, Tally>> getRecipientTallies() {
+        return Collections.unmodifiableMap(recipientTallies);
+    }
+
+    /**
+     * Gets the version of the stored statistics, which changes whenever they are saved.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time before the responses were read when the statistics were last built.
+     */
+    public Instant getBuildStartedAt() {
+        return buildStartedAt;
+    }
+
+    /**
+     * Gets the time after the responses were read when the statistics were last built.
+     *
+     * @return null if the statistics are still being built
+     */
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Returns true if the stored statistics are built from the responses, instead of being a placeholder
+     * for statistics which are still being built.
+     */
+    public boolean isBuilt() {
+        return builtAt != null;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Adds a response to {@code recipient} which contributes {@code values} to the statistics.
+     */
+    public void addResponse(String recipient, Map<String, Double> values) {
+        tallyResponse(recipient, values, 1);
+    }
+
+    /**
+     * Removes a response to {@code recipient} which has contributed {@code values} to the statistics.
+     */
+    public void removeResponse(String recipient, Map<String, Double> values) {
+        tallyResponse(recipient, values, -1);
+    }
+
+    private void tallyResponse(String recipient, Map<String, Double> values, int sign) {
+        numberOfResponses += sign;
+        Map<String, Tally> recipientTally = recipientTallies.computeIfAbsent(recipient, key -> new TreeMap<>());
+        values.forEach((key, value) -> {
+            Tally change = new Tally(sign, sign * value, sign * value * value);
+            addTally(tallies, key, change);
+            addTally(recipientTally, key, change);
+        });
+        if (recipientTally.isEmpty()) {
+            recipientTallies.remove(recipient);
+        }
+    }
+
+    /**
+     * Adds all the statistics of {@code changes}, e.g. the statistics of some responses which are added and
+     * removed, to these statistics.
+     */
+    public void add(FeedbackQuestionStatisticsAttributes changes) {
+        numberOfResponses += changes.numberOfResponses;
+        changes.tallies.forEach((key, change) -> addTally(tallies, key, change));
+        changes.recipientTallies.forEach((recipient, recipientChanges) -> {
+            Map<String, Tally> recipientTally = recipientTallies.computeIfAbsent(recipient, key -> new TreeMap<>());
+            recipientChanges.forEach((key, change) -> addTally(recipientTally, key, change));
+            if (recipientTally.isEmpty()) {
+                recipientTallies.remove(recipient);
+            }
+        });
+    }
+
+    private static void addTally(Map<String, Tally> tallies, String key, Tally change) {
+        Tally tally = tallies.computeIfAbsent(key, k -> new Tally(0, 0, 0));
+        tally.count += change.count;
+        tally.sum += change.sum;
+        tally.sumOfSquares += change.sumOfSquares;
+        if (tally.isZero()) {
+            tallies.remove(key);
+        }
+    }
+
+    /**
+     * Returns true if the statistics change nothing when added to other statistics.
+     */
+    public boolean isEmpty() {
+        return numberOfResponses == 0 && tallies.isEmpty() && recipientTallies.isEmpty();
+    }
+
+    /**
+     * Returns true if these statistics are the same as {@code other}, save for rounding errors in the sums.
+     */
+    public boolean hasSameStatistics(FeedbackQuestionStatisticsAttributes other) {
+        if (numberOfResponses != other.numberOfResponses
+                || !hasSameTallies(tallies, other.tallies)
+                || !recipientTallies.keySet().equals(other.recipientTallies.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, Map<String, Tally>> entry : recipientTallies.entrySet()) {
+            if (!hasSameTallies(entry.getValue(), other.recipientTallies.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasSameTallies(Map<String, Tally> tallies, Map<String, Tally> otherTallies) {
+        if (!tallies.keySet().equals(otherTallies.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, Tally> entry : tallies.entrySet()) {
+            Tally tally = entry.getValue();
+            Tally otherTally = otherTallies.get(entry.getKey());
+            if (tally.count != otherTally.count
+                    || !isClose(tally.sum, otherTally.sum)
+                    || !isClose(tally.sumOfSquares, otherTally.sumOfSquares)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isClose(double value, double otherValue) {
+        return Math.abs(value - otherValue) <= TOLERANCE * Math.max(1, Math.max(Math.abs(value), Math.abs(otherValue)));
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // the statistics are computed by the system and need no validation
+        return new ArrayList<>();
+    }
+
+    @Override
+    public FeedbackQuestionStatistics toEntity() {
+        SerializedTallies serializedTallies = new SerializedTallies();
+        serializedTallies.overall = tallies;
+        serializedTallies.perRecipient = recipientTallies;
+        FeedbackQuestionStatistics statistics = new FeedbackQuestionStatistics(feedbackQuestionId,
+                feedbackSessionName, courseId, numberOfResponses, JsonUtils.toCompactJson(serializedTallies));
+        statistics.setBuildStartedAt(buildStartedAt);
+        statistics.setBuiltAt(builtAt);
+        return statistics;
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no sanitization required
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJson(this, FeedbackQuestionStatisticsAttributes.class);
+    }
+
+    /**
+     * The count, sum and sum of squares of the values tallied under a key.
+     *
+     * <p>For keys which are merely counted, e.g. the options of a multiple choice question, every value is 1.
+     */
+    public static class Tally {
+
+        private long count;
+        private double sum;
+        private double sumOfSquares;
+
+        private Tally(long count, double sum, double sumOfSquares) {
+            this.count = count;
+            this.sum = sum;
+            this.sumOfSquares = sumOfSquares;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getSumOfSquares() {
+            return sumOfSquares;
+        }
+
+        private boolean isZero() {
+            return count == 0 && isClose(sum, 0) && isClose(sumOfSquares, 0);
+        }
+
+    }
+
+    /**
+     * The form in which the tallies are stored in {@link FeedbackQuestionStatistics}.
+     */
+    private static class SerializedTallies {
+        private Map<String, Tally> overall;
+        private Map<String, Map<String, Tally>> perRecipient;
+    }
+
+    /**
+     * A builder for {@link FeedbackQuestionStatisticsAttributes}.
+     */
+    public static class Builder {
+        private final FeedbackQuestionStatisticsAttributes statisticsAttributes;
+
+        private Builder(String feedbackQuestionId) {
+            assert feedbackQuestionId != null;
+
+            statisticsAttributes = new FeedbackQuestionStatisticsAttributes(feedbackQuestionId);
+        }
+
+        public Builder withCourseId(String courseId) {
+            assert courseId != null;
+
+            statisticsAttributes.courseId = courseId;
+            return this;
+        }
+
+        public Builder withFeedbackSessionName(String feedbackSessionName) {
+            assert feedbackSessionName != null;
+
+            statisticsAttributes.feedbackSessionName = feedbackSessionName;
+            return this;
+        }
+
+        /**
+         * Sets the time before the responses which the statistics are built from are read.
+         */
+        public Builder withBuildStartedAt(Instant buildStartedAt) {
+            assert buildStartedAt != null;
+
+            statisticsAttributes.buildStartedAt = buildStartedAt;
+            return this;
+        }
+
+        public FeedbackQuestionStatisticsAttributes build() {
+            return statisticsAttributes;
+        }
+    }
+
+}
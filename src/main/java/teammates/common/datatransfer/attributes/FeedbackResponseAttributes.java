@@ -7,8 +7,8 @@ import java.util.Objects;
 
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
-import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.FeedbackResponseDetailsParser;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackResponse;
@@ -31,12 +31,22 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     private String recipient;
     private String feedbackSessionName;
     private String courseId;
-    private FeedbackResponseDetails responseDetails;
+    /**
+     * The parsed response details. For responses loaded from the database, this is only parsed from
+     * {@link #serializedResponseDetails} on first access; from then on, it takes precedence over the
+     * serialized form as callers may modify it.
+     */
+    private volatile FeedbackResponseDetails responseDetails;
     private String giverSection;
     private String recipientSection;
     private transient Instant createdAt;
     private transient Instant updatedAt;
     private transient String feedbackResponseId;
+    /**
+     * The serialized form of the response details, which is up-to-date as long as {@link #responseDetails}
+     * is not parsed yet. It is never modified in place, so that it can be read by several threads at once.
+     */
+    private transient volatile SerializedResponseDetails serializedResponseDetails;
 
     private FeedbackResponseAttributes(String feedbackQuestionId, String giver, String recipient) {
         this.feedbackQuestionId = feedbackQuestionId;
@@ -79,7 +89,8 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         if (fr.getRecipientSection() != null) {
             fra.recipientSection = fr.getRecipientSection();
         }
-        fra.responseDetails = deserializeResponseFromSerializedString(fr.getAnswer(), fr.getFeedbackQuestionType());
+        // the answer is only parsed when the response details are needed
+        fra.serializedResponseDetails = new SerializedResponseDetails(fr.getAnswer(), fr.getFeedbackQuestionType());
         fra.createdAt = fr.getCreatedAt();
         fra.updatedAt = fr.getUpdatedAt();
 
@@ -87,7 +98,12 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     }
 
     public FeedbackQuestionType getFeedbackQuestionType() {
-        return responseDetails.getQuestionType();
+        FeedbackResponseDetails details = responseDetails;
+        if (details != null) {
+            return details.getQuestionType();
+        }
+        SerializedResponseDetails serialized = serializedResponseDetails;
+        return serialized == null ? null : serialized.questionType;
     }
 
     public String getId() {
@@ -215,29 +231,47 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         // nothing to sanitize before saving
     }
 
+    /**
+     * Gets the response details, parsing them on first access.
+     *
+     * <p>The details returned are shared, so that any modification by the caller is kept in this response.
+     */
     public FeedbackResponseDetails getResponseDetails() {
-        return responseDetails;
+        FeedbackResponseDetails details = responseDetails;
+        if (details != null) {
+            return details;
+        }
+        // the details are parsed only once, so that every caller gets the same instance to modify
+        synchronized (this) {
+            if (responseDetails == null && serializedResponseDetails != null) {
+                responseDetails = serializedResponseDetails.parse();
+            }
+            return responseDetails;
+        }
     }
 
-    public void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
-        responseDetails = newFeedbackResponseDetails.getDeepCopy();
+    public synchronized void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
+        // the serialized form is a deep copy by itself; it is only parsed back when needed
+        serializedResponseDetails = new SerializedResponseDetails(
+                newFeedbackResponseDetails.getJsonString(), newFeedbackResponseDetails.getQuestionType());
+        responseDetails = null;
     }
 
     public String getSerializedFeedbackResponseDetail() {
-        return responseDetails.getJsonString();
+        FeedbackResponseDetails details = responseDetails;
+        if (details != null) {
+            return details.getJsonString();
+        }
+        return serializedResponseDetails.json;
     }
 
     public FeedbackResponseDetails getResponseDetailsCopy() {
-        return responseDetails.getDeepCopy();
-    }
-
-    private static FeedbackResponseDetails deserializeResponseFromSerializedString(
-            String serializedResponseDetails, FeedbackQuestionType questionType) {
-        if (questionType == FeedbackQuestionType.TEXT) {
-            // For Text questions, the answer simply contains the response text, not a JSON
-            return new FeedbackTextResponseDetails(serializedResponseDetails);
+        FeedbackResponseDetails details = responseDetails;
+        if (details != null) {
+            return details.getDeepCopy();
         }
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+        SerializedResponseDetails serialized = serializedResponseDetails;
+        return serialized == null ? null : serialized.parse();
     }
 
     /**
@@ -411,4 +445,21 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
 
     }
 
+    /**
+     * The immutable serialized form of response details, together with the type needed to parse it.
+     */
+    private static final class SerializedResponseDetails {
+
+        private final String json;
+        private final FeedbackQuestionType questionType;
+
+        private SerializedResponseDetails(String json, FeedbackQuestionType questionType) {
+            this.json = json;
+            this.questionType = questionType;
+        }
+
+        private FeedbackResponseDetails parse() {
+            return json == null ? null : FeedbackResponseDetailsParser.parse(json, questionType);
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
+
+/**
+ * The data transfer object for {@link FeedbackSessionSubmissionSummary} entities.
+ *
+ * <p>The summary holds the number of users expected to submit to a session and the givers who have submitted,
+ * so that the response rate of the session can be read without loading the roster, the questions or the responses.
+ */
+public class FeedbackSessionSubmissionSummaryAttributes extends EntityAttributes<FeedbackSessionSubmissionSummary> {
+
+    private final String feedbackSessionName;
+    private final String courseId;
+    private int expectedTotalSubmission;
+    private Set<String> givers;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    private FeedbackSessionSubmissionSummaryAttributes(String feedbackSessionName, String courseId) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.givers = new TreeSet<>();
+    }
+
+    /**
+     * Gets the {@link FeedbackSessionSubmissionSummaryAttributes} instance of the given
+     * {@link FeedbackSessionSubmissionSummary}.
+     */
+    public static FeedbackSessionSubmissionSummaryAttributes valueOf(FeedbackSessionSubmissionSummary summary) {
+        FeedbackSessionSubmissionSummaryAttributes summaryAttributes =
+                new FeedbackSessionSubmissionSummaryAttributes(summary.getFeedbackSessionName(), summary.getCourseId());
+
+        summaryAttributes.expectedTotalSubmission = summary.getExpectedTotalSubmission();
+        summaryAttributes.givers.addAll(summary.getGivers());
+        summaryAttributes.createdAt = summary.getCreatedAt();
+        summaryAttributes.updatedAt = summary.getUpdatedAt();
+
+        return summaryAttributes;
+    }
+
+    /**
+     * Returns a builder for {@link FeedbackSessionSubmissionSummaryAttributes}.
+     */
+    public static Builder builder(String feedbackSessionName, String courseId) {
+        return new Builder(feedbackSessionName, courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getExpectedTotalSubmission() {
+        return expectedTotalSubmission;
+    }
+
+    public int getActualTotalSubmission() {
+        return givers.size();
+    }
+
+    /**
+     * Gets the identifiers of the givers who have given at least one response in the session.
+     */
+    public Set<String> getGivers() {
+        return Collections.unmodifiableSet(givers);
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // the summary is computed by the system and needs no validation
+        return new ArrayList<>();
+    }
+
+    @Override
+    public FeedbackSessionSubmissionSummary toEntity() {
+        FeedbackSessionSubmissionSummary summary = new FeedbackSessionSubmissionSummary(feedbackSessionName, courseId,
+                expectedTotalSubmission, new ArrayList<>(givers));
+        if (createdAt != null) {
+            summary.setCreatedAt(createdAt);
+        }
+        return summary;
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no sanitization required
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJson(this, FeedbackSessionSubmissionSummaryAttributes.class);
+    }
+
+    /**
+     * A builder for {@link FeedbackSessionSubmissionSummaryAttributes}.
+     */
+    public static class Builder {
+        private final FeedbackSessionSubmissionSummaryAttributes summaryAttributes;
+
+        private Builder(String feedbackSessionName, String courseId) {
+            assert feedbackSessionName != null;
+            assert courseId != null;
+
+            summaryAttributes = new FeedbackSessionSubmissionSummaryAttributes(feedbackSessionName, courseId);
+        }
+
+        public Builder withExpectedTotalSubmission(int expectedTotalSubmission) {
+            summaryAttributes.expectedTotalSubmission = expectedTotalSubmission;
+            return this;
+        }
+
+        /**
+         * Sets the creation time of the summary, which is the current time by default.
+         */
+        public Builder withCreatedAt(Instant createdAt) {
+            assert createdAt != null;
+
+            summaryAttributes.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder withGivers(Collection<String> givers) {
+            assert givers != null;
+
+            summaryAttributes.givers.addAll(givers);
+            return this;
+        }
+
+        public FeedbackSessionSubmissionSummaryAttributes build() {
+            return summaryAttributes;
+        }
+    }
+
+}
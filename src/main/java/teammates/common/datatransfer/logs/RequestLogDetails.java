@@ -11,6 +11,7 @@ public class RequestLogDetails extends LogDetails {
 
     private int responseStatus;
     private long responseTime;
+    private int datastoreRpcCount;
     private String requestMethod;
     private String requestUrl;
     private String userAgent;
@@ -48,6 +49,14 @@ public class RequestLogDetails extends LogDetails {
         this.responseTime = responseTime;
     }
 
+    public int getDatastoreRpcCount() {
+        return datastoreRpcCount;
+    }
+
+    public void setDatastoreRpcCount(int datastoreRpcCount) {
+        this.datastoreRpcCount = datastoreRpcCount;
+    }
+
     public String getRequestMethod() {
         return requestMethod;
     }
@@ -1,8 +1,10 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -82,6 +84,27 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return !this.distributePointsFor.equals(newConstSumDetails.distributePointsFor);
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        List<Integer> answers = ((FeedbackConstantSumResponseDetails) responseDetails).getAnswers();
+        Map<String, Double> values = new HashMap<>();
+        if (distributeToRecipients) {
+            if (!answers.isEmpty()) {
+                values.put(ANSWER_STATISTICS_KEY, (double) answers.get(0));
+            }
+            return values;
+        }
+        for (int i = 0; i < Math.min(answers.size(), constSumOptions.size()); i++) {
+            values.put(constSumOptions.get(i), (double) answers.get(i));
+        }
+        return values;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
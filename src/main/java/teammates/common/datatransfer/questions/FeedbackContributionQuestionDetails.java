@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.TeamEvalCalculator;
 import teammates.common.datatransfer.TeamEvalResult;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -39,9 +40,6 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                     + "\"Shown anonymously to recipient and team members, visible to instructors\" "
                     + "option will be used instead.";
 
-    private static final int SUMMARY_INDEX_CLAIMED = 0;
-    private static final int SUMMARY_INDEX_PERCEIVED = 1;
-
     private static final Logger log = Logger.getLogger();
 
     private boolean isNotSureAllowed;
@@ -86,42 +84,38 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         // Each team's responses
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(responses, bundle, teamNames);
 
-        // Get each team's submission array. -> int[teamSize][teamSize]
-        // Where int[0][1] refers points from student 0 to student 1
-        // Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
-
-        // Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray);
+        // Each team's contribution question results, calculated together.
+        // The teams are in the order of teamNames, and each team's students in the order of teamMembersEmail
+        TeamEvalCalculator.Results teamResults = getTeamResults(teamNames, teamMembersEmail, teamResponses);
         ContributionStatistics output = new ContributionStatistics();
 
         if (isStudent) {
             String currentUserTeam = bundle.getRoster().getInfoForIdentifier(studentEmail).getTeamName();
-            TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
-            if (currentUserTeamResults != null) {
+            int teamIndex = teamNames.indexOf(currentUserTeam);
+            if (teamIndex != -1) {
                 List<String> teamEmails = teamMembersEmail.get(currentUserTeam);
                 int currentUserIndex = teamEmails.indexOf(studentEmail);
-                int[] claimedNumbers = currentUserTeamResults.claimed[currentUserIndex];
-                int[] perceivedNumbers = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex];
 
                 int claimed = 0;
                 int perceived = 0;
                 Map<String, Integer> claimedOthers = new HashMap<>();
                 List<Integer> perceivedOthers = new ArrayList<>();
 
-                for (int i = 0; i < claimedNumbers.length; i++) {
+                for (int i = 0; i < teamEmails.size(); i++) {
+                    int claimedNumber = teamResults.getClaimed(teamIndex, currentUserIndex, i);
                     if (i == currentUserIndex) {
-                        claimed = claimedNumbers[i];
+                        claimed = claimedNumber;
                     } else {
-                        claimedOthers.put(teamEmails.get(i), claimedNumbers[i]);
+                        claimedOthers.put(teamEmails.get(i), claimedNumber);
                     }
                 }
 
-                for (int i = 0; i < perceivedNumbers.length; i++) {
+                for (int i = 0; i < teamEmails.size(); i++) {
+                    int perceivedNumber = teamResults.getDenormalizedAveragePerceived(teamIndex, currentUserIndex, i);
                     if (i == currentUserIndex) {
-                        perceived = perceivedNumbers[i];
+                        perceived = perceivedNumber;
                     } else {
-                        perceivedOthers.add(perceivedNumbers[i]);
+                        perceivedOthers.add(perceivedNumber);
                     }
                 }
                 perceivedOthers.sort(Comparator.reverseOrder());
@@ -131,89 +125,68 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                         perceivedOthers.stream().mapToInt(i -> i).toArray()));
             }
         } else {
-            Map<String, int[]> studentResults = getStudentResults(teamMembersEmail, teamResults);
-
-            for (Map.Entry<String, int[]> entry : studentResults.entrySet()) {
-                int[] summary = entry.getValue();
-                String email = entry.getKey();
-                String team = bundle.getRoster().getStudentForEmail(email).getTeam();
-                List<String> teamEmails = teamMembersEmail.get(team);
-                TeamEvalResult teamResult = teamResults.get(team);
-                int studentIndex = teamEmails.indexOf(email);
-                Map<String, Integer> claimedOthers = new HashMap<>();
-                List<Integer> perceivedOthers = new ArrayList<>();
-                for (int i = 0; i < teamResult.normalizedPeerContributionRatio.length; i++) {
-                    if (i != studentIndex) {
-                        claimedOthers.put(teamEmails.get(i), teamResult.normalizedPeerContributionRatio[studentIndex][i]);
-                        perceivedOthers.add(teamResult.normalizedPeerContributionRatio[i][studentIndex]);
+            for (int teamIndex = 0; teamIndex < teamNames.size(); teamIndex++) {
+                List<String> teamEmails = teamMembersEmail.get(teamNames.get(teamIndex));
+                for (int studentIndex = 0; studentIndex < teamEmails.size(); studentIndex++) {
+                    Map<String, Integer> claimedOthers = new HashMap<>();
+                    List<Integer> perceivedOthers = new ArrayList<>();
+                    for (int i = 0; i < teamEmails.size(); i++) {
+                        if (i != studentIndex) {
+                            claimedOthers.put(teamEmails.get(i),
+                                    teamResults.getNormalizedPeerContributionRatio(teamIndex, studentIndex, i));
+                            perceivedOthers.add(
+                                    teamResults.getNormalizedPeerContributionRatio(teamIndex, i, studentIndex));
+                        }
                     }
-                }
-                perceivedOthers.sort(Comparator.reverseOrder());
+                    perceivedOthers.sort(Comparator.reverseOrder());
 
-                output.results.put(email, new ContributionStatisticsEntry(summary[SUMMARY_INDEX_CLAIMED],
-                        summary[SUMMARY_INDEX_PERCEIVED],
-                        claimedOthers, perceivedOthers.stream().mapToInt(i -> i).toArray()));
+                    output.results.put(teamEmails.get(studentIndex), new ContributionStatisticsEntry(
+                            teamResults.getNormalizedClaimed(teamIndex, studentIndex, studentIndex),
+                            teamResults.getNormalizedAveragePerceived(teamIndex, studentIndex),
+                            claimedOthers, perceivedOthers.stream().mapToInt(i -> i).toArray()));
+                }
             }
         }
 
         return JsonUtils.toJson(output);
     }
 
-    private Map<String, int[]> getStudentResults(
+    private TeamEvalCalculator.Results getTeamResults(List<String> teamNames,
             Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
-        Map<String, int[]> studentResults = new LinkedHashMap<>();
-        teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
-            for (int i = 0; i < teamEmails.size(); i++) {
-                String studentEmail = teamEmails.get(i);
-                int[] summary = new int[2];
-                summary[SUMMARY_INDEX_CLAIMED] = teamResult.normalizedClaimed[i][i];
-                summary[SUMMARY_INDEX_PERCEIVED] = teamResult.normalizedAveragePerceived[i];
-
-                studentResults.put(studentEmail, summary);
-            }
-        });
-        return studentResults;
-    }
-
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamResults.put(team, teamEvalResult);
+            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
+        // Each team's submission array is a flattened int[teamSize][teamSize],
+        // where [0][1] refers points from student 0 to student 1,
+        // and student 0 is the 0th student in the list in teamMembersEmail
+        int[] teamSizes = new int[teamNames.size()];
+        int numberOfPoints = 0;
+        for (int teamIndex = 0; teamIndex < teamNames.size(); teamIndex++) {
+            teamSizes[teamIndex] = teamMembersEmail.get(teamNames.get(teamIndex)).size();
+            numberOfPoints += teamSizes[teamIndex] * teamSizes[teamIndex];
         }
-        return teamResults;
-    }
 
-    private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
-        Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
-            //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
-            }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
+        //Initialize all as not submitted.
+        int[] points = new int[numberOfPoints];
+        Arrays.fill(points, Const.POINTS_NOT_SUBMITTED);
+
+        //Fill in submitted points
+        int teamOffset = 0;
+        for (int teamIndex = 0; teamIndex < teamNames.size(); teamIndex++) {
+            String team = teamNames.get(teamIndex);
+            int teamSize = teamSizes[teamIndex];
             List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
+            for (FeedbackResponseAttributes response : teamResponses.get(team)) {
                 int giverIndx = memberEmailList.indexOf(response.getGiver());
                 int recipientIndx = memberEmailList.indexOf(response.getRecipient());
                 if (giverIndx == -1 || recipientIndx == -1) {
                     continue;
                 }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
+                int answer = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
+                points[teamOffset + giverIndx * teamSize + recipientIndx] = answer;
             }
+            teamOffset += teamSize * teamSize;
         }
-        return teamSubmissionArray;
+
+        return new TeamEvalCalculator().calculate(teamSizes, points);
     }
 
     private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
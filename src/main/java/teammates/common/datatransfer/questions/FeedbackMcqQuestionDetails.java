@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -62,6 +64,19 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMcqDetails.otherEnabled;
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        FeedbackMcqResponseDetails mcqResponseDetails = (FeedbackMcqResponseDetails) responseDetails;
+        // answers to the "other" option are tallied together, as they are free text
+        return Collections.singletonMap(
+                mcqResponseDetails.isOther() ? OTHER_OPTION_STATISTICS_KEY : mcqResponseDetails.getAnswer(), 1.0);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -110,6 +112,28 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMsqDetails.otherEnabled;
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        FeedbackMsqResponseDetails msqResponseDetails = (FeedbackMsqResponseDetails) responseDetails;
+        Map<String, Double> values = new HashMap<>();
+        for (String answer : msqResponseDetails.getAnswers()) {
+            // "other" answers are free text and "none of the above" is no option
+            if (!MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(answer)
+                    && (msqChoices.contains(answer) || generateOptionsFor != FeedbackParticipantType.NONE)) {
+                values.put(answer, 1.0);
+            }
+        }
+        if (msqResponseDetails.isOther()) {
+            values.put(OTHER_OPTION_STATISTICS_KEY, 1.0);
+        }
+        return values;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
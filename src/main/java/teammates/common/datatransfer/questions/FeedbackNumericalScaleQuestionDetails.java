@@ -3,7 +3,9 @@ package teammates.common.datatransfer.questions;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 
@@ -43,6 +45,17 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                || this.step != newNumScaleDetails.step;
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        return Collections.singletonMap(ANSWER_STATISTICS_KEY,
+                ((FeedbackNumericalScaleResponseDetails) responseDetails).getAnswer());
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
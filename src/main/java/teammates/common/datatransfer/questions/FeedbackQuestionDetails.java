@@ -1,10 +1,13 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.util.JsonUtils;
 
 /**
@@ -15,6 +18,16 @@ import teammates.common.util.JsonUtils;
  * question type
  */
 public abstract class FeedbackQuestionDetails {
+    /**
+     * The key under which the "other" answers of a question are tallied in its running statistics.
+     */
+    static final String OTHER_OPTION_STATISTICS_KEY = "Other";
+
+    /**
+     * The key under which the answers of a question without options are tallied in its running statistics.
+     */
+    static final String ANSWER_STATISTICS_KEY = "answer";
+
     private FeedbackQuestionType questionType;
     private String questionText;
 
@@ -30,14 +43,43 @@ public abstract class FeedbackQuestionDetails {
     /**
      * Get question result statistics as JSON string.
      */
-    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
     public String getQuestionResultStatisticsJson(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
         // Statistics are calculated in the front-end as it is dependent on the responses being filtered.
         // The only exception is contribution question, where there is only one statistics for the entire question.
         // It is also necessary to calculate contribution question statistics here
         // to be displayed in student result page as students are not supposed to be able to see the exact responses.
-        return "";
+        // The running statistics of the question are only in the bundle when an instructor views the statistics
+        // of all responses without their details.
+        FeedbackQuestionStatisticsAttributes statistics = bundle.getQuestionStatistics(question.getId());
+        if (statistics == null) {
+            return "";
+        }
+        // the recipients of the tallies must not be identifiable if the responses do not show them
+        boolean isRecipientIdentifiable = question.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS)
+                && (question.getRecipientType() != FeedbackParticipantType.SELF
+                        || question.getShowGiverNameTo().contains(FeedbackParticipantType.INSTRUCTORS));
+        return JsonUtils.toCompactJson(new RunningStatistics(statistics, isRecipientIdentifiable));
+    }
+
+    /**
+     * Checks whether running statistics of the responses are kept for the question type.
+     *
+     * <p>Override in Feedback*QuestionDetails together with {@link #getResponseStatisticsValues} if necessary.
+     */
+    public boolean isResponseStatisticsMaintained() {
+        return false;
+    }
+
+    /**
+     * Gets the values which a response contributes to the running statistics of the question,
+     * keyed by what the values are tallied under, e.g. 1 under the chosen option of a multiple choice question.
+     *
+     * <p>The values must only depend on the question details and the response details,
+     * as they are removed again from the statistics with the same details when the response changes.
+     */
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        return Collections.emptyMap();
     }
 
     /**
@@ -152,4 +194,34 @@ public abstract class FeedbackQuestionDetails {
     public void setQuestionText(String questionText) {
         this.questionText = questionText;
     }
+
+    /**
+     * Represents the running statistics of all the responses to a question.
+     *
+     * <p>The tallies per recipient are left out if the recipients are not identifiable to the viewer.
+     */
+    public static class RunningStatistics {
+        private final long numberOfResponses;
+        private final Map<String, FeedbackQuestionStatisticsAttributes.Tally> tallies;
+        private final Map<String, Map<String, FeedbackQuestionStatisticsAttributes.Tally>> recipientTallies;
+
+        RunningStatistics(FeedbackQuestionStatisticsAttributes statistics, boolean isRecipientIdentifiable) {
+            this.numberOfResponses = statistics.getNumberOfResponses();
+            this.tallies = statistics.getTallies();
+            this.recipientTallies = isRecipientIdentifiable ? statistics.getRecipientTallies() : null;
+        }
+
+        public long getNumberOfResponses() {
+            return numberOfResponses;
+        }
+
+        public Map<String, FeedbackQuestionStatisticsAttributes.Tally> getTallies() {
+            return tallies;
+        }
+
+        public Map<String, Map<String, FeedbackQuestionStatisticsAttributes.Tally>> getRecipientTallies() {
+            return recipientTallies;
+        }
+    }
+
 }
@@ -1,8 +1,10 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -47,6 +49,23 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
             || this.maxOptionsToBeRanked != newRankQuestionDetails.maxOptionsToBeRanked;
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        List<Integer> answers = ((FeedbackRankOptionsResponseDetails) responseDetails).getAnswers();
+        Map<String, Double> values = new HashMap<>();
+        for (int i = 0; i < Math.min(answers.size(), options.size()); i++) {
+            if (answers.get(i) != Const.POINTS_NOT_SUBMITTED) {
+                values.put(options.get(i), (double) answers.get(i));
+            }
+        }
+        return values;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -1,8 +1,10 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -26,6 +28,17 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         return false;
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        return Collections.singletonMap(ANSWER_STATISTICS_KEY,
+                (double) ((FeedbackRankRecipientsResponseDetails) responseDetails).getAnswer());
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         return new ArrayList<>();
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import teammates.common.util.FeedbackResponseDetailsParser;
 import teammates.common.util.JsonUtils;
 
 /**
@@ -39,11 +40,7 @@ public abstract class FeedbackResponseDetails {
      */
     public FeedbackResponseDetails getDeepCopy() {
         assert questionType != null;
-        if (questionType == FeedbackQuestionType.TEXT) {
-            return new FeedbackTextResponseDetails(getAnswerString());
-        }
-        String serializedResponseDetails = getJsonString();
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+        return FeedbackResponseDetailsParser.parse(getJsonString(), questionType);
     }
 
     public void setQuestionType(FeedbackQuestionType questionType) {
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 
@@ -90,6 +92,25 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             || !newRubricDetails.rubricSubQuestions.containsAll(this.rubricSubQuestions);
     }
 
+    @Override
+    public boolean isResponseStatisticsMaintained() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        List<Integer> answer = ((FeedbackRubricResponseDetails) responseDetails).getAnswer();
+        Map<String, Double> values = new HashMap<>();
+        for (int subQuestionIndex = 0; subQuestionIndex < answer.size(); subQuestionIndex++) {
+            int choiceIndex = answer.get(subQuestionIndex);
+            if (choiceIndex != RUBRIC_ANSWER_NOT_CHOSEN) {
+                // tallied under the cell of the sub-question and the choice, e.g. "0-2"
+                values.put(subQuestionIndex + "-" + choiceIndex, 1.0);
+            }
+        }
+        return values;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         // For rubric questions,
@@ -94,12 +94,33 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.search.service" in build.properties file. */
+    public static final String SEARCH_SERVICE;
+
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.search.resultcache.maxsize" in build.properties file. */
+    public static final int SEARCH_RESULT_CACHE_MAX_SIZE;
+
+    /** The value of the "app.search.resultcache.ttl" in build.properties file. */
+    public static final int SEARCH_RESULT_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.entitycache.maxsize" in build.properties file. */
+    public static final int ENTITY_CACHE_MAX_SIZE;
+
+    /** The value of the "app.entitycache.ttl" in build.properties file. */
+    public static final int ENTITY_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.request.parallelism" in build.properties file. */
+    public static final int REQUEST_PARALLELISM;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
+    /** The value of the "app.enable.response.sections.query" in build.properties file. */
+    public static final boolean ENABLE_RESPONSE_SECTIONS_QUERY;
+
     /** The value of the "app.maintenance" in build.properties file. */
     public static final boolean MAINTENANCE;
 
@@ -139,8 +160,16 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        SEARCH_SERVICE = properties.getProperty("app.search.service");
         SEARCH_SERVICE_HOST = properties.getProperty("app.search.service.host");
+        SEARCH_RESULT_CACHE_MAX_SIZE = Integer.parseInt(properties.getProperty("app.search.resultcache.maxsize", "0"));
+        SEARCH_RESULT_CACHE_TTL_SECONDS = Integer.parseInt(properties.getProperty("app.search.resultcache.ttl", "60"));
+        ENTITY_CACHE_MAX_SIZE = Integer.parseInt(properties.getProperty("app.entitycache.maxsize", "0"));
+        ENTITY_CACHE_TTL_SECONDS = Integer.parseInt(properties.getProperty("app.entitycache.ttl", "60"));
+        REQUEST_PARALLELISM = Integer.parseInt(properties.getProperty("app.request.parallelism", "1"));
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(properties.getProperty("app.enable.datastore.backup", "false"));
+        ENABLE_RESPONSE_SECTIONS_QUERY =
+                Boolean.parseBoolean(properties.getProperty("app.enable.response.sections.query", "false"));
         MAINTENANCE = Boolean.parseBoolean(properties.getProperty("app.maintenance", "false"));
     }
 
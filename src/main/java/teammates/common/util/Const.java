@@ -4,6 +4,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Stores constants that are widely used across classes.
@@ -36,6 +39,9 @@ public final class Const {
 
     public static final int SEARCH_QUERY_SIZE_LIMIT = 50;
 
+    // the number of possible giver-recipient pairs a page of session results aims to cover
+    public static final int SESSION_RESULTS_PAGE_SIZE = 500;
+
     // These constants are used as variable values to mean that the variable is in a 'special' state.
 
     public static final int INT_UNINITIALIZED = -9999;
@@ -128,6 +134,9 @@ public final class Const {
         public static final String FEEDBACK_RESPONSE_COMMENT_ID = "responsecommentid";
 
         public static final String FEEDBACK_RESULTS_GROUPBYSECTION = "frgroupbysection";
+        public static final String FEEDBACK_RESULTS_PAGINATED = "frpaginated";
+        public static final String FEEDBACK_RESULTS_PAGE_TOKEN = "frpagetoken";
+        public static final String FEEDBACK_RESULTS_STATISTICS_ONLY = "frstatisticsonly";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -145,6 +154,10 @@ public final class Const {
         public static final String USER_ID = "user";
 
         public static final String SEARCH_KEY = "searchkey";
+        public static final String SEARCH_COLLECTION = "searchcollection";
+        public static final String SEARCH_INDEX_REBUILD_STARTTIME = "rebuildstarttime";
+        public static final String ENTITY_ID_RANGE_START = "rangestart";
+        public static final String ENTITY_ID_RANGE_END = "rangeend";
 
         public static final String USER_CAPTCHA_RESPONSE = "captcharesponse";
 
@@ -206,6 +219,20 @@ public final class Const {
 
     }
 
+    /**
+     * Represents the collections of the search service.
+     */
+    public static class SearchCollections {
+
+        public static final String STUDENTS = "students";
+        public static final String INSTRUCTORS = "instructors";
+        public static final String ACCOUNT_REQUESTS = "accountrequests";
+
+        public static final List<String> ALL =
+                Collections.unmodifiableList(Arrays.asList(STUDENTS, INSTRUCTORS, ACCOUNT_REQUESTS));
+
+    }
+
     /**
      * Represents security-related configuration.
      */
@@ -327,6 +354,7 @@ public final class Const {
         public static final String SEARCH_ACCOUNT_REQUESTS = URI_PREFIX + "/search/accountrequests";
         public static final String SEARCH_INSTRUCTORS = URI_PREFIX + "/search/instructors";
         public static final String SEARCH_STUDENTS = URI_PREFIX + "/search/students";
+        public static final String SEARCH_INDEXES = URI_PREFIX + "/search/indexes";
         public static final String BIN_SESSION = URI_PREFIX + "/bin/session";
         public static final String QUESTIONS = URI_PREFIX + "/questions";
         public static final String QUESTION = URI_PREFIX + "/question";
@@ -366,6 +394,8 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS =
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_QUESTION_STATISTICS_RECONCILIATION =
+                URI_PREFIX + "/feedbackQuestionStatisticsReconciliation";
     }
 
     /**
@@ -411,6 +441,15 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+
+        public static final String SEARCH_INDEX_REBUILD_QUEUE_NAME = "search-index-rebuild-queue";
+        public static final String SEARCH_INDEX_REBUILD_SPLIT_WORKER_URL = URI_PREFIX + "/searchIndexRebuildSplit";
+        public static final String SEARCH_INDEX_REBUILD_CHUNK_WORKER_URL = URI_PREFIX + "/searchIndexRebuildChunk";
+
+        public static final String FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_QUEUE_NAME =
+                "feedback-question-statistics-reconciliation-queue";
+        public static final String FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_WORKER_URL =
+                URI_PREFIX + "/feedbackQuestionStatisticsReconciliation";
     }
 
 }
@@ -0,0 +1,164 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import teammates.common.datatransfer.questions.FeedbackConstantSumResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * Parses serialized {@link FeedbackResponseDetails}, i.e. the form produced by
+ * {@link FeedbackResponseDetails#getJsonString()}.
+ *
+ * <p>The most common question types are read field by field from a streaming reader,
+ * which avoids the reflection and intermediate objects of a full {@link JsonUtils#fromJson(String, Class)}.
+ * Other question types, as well as input that the streaming parsers do not understand, go through {@link JsonUtils}.
+ */
+public final class FeedbackResponseDetailsParser {
+
+    private FeedbackResponseDetailsParser() {
+        // utility class
+    }
+
+    /**
+     * Parses the serialized response details of a question of the given type.
+     */
+    public static FeedbackResponseDetails parse(String serializedResponseDetails, FeedbackQuestionType questionType) {
+        assert serializedResponseDetails != null;
+        assert questionType != null;
+
+        if (questionType == FeedbackQuestionType.TEXT) {
+            // For Text questions, the answer simply contains the response text, not a JSON
+            return new FeedbackTextResponseDetails(serializedResponseDetails);
+        }
+
+        try {
+            switch (questionType) {
+            case MCQ:
+                return parseMcqResponseDetails(serializedResponseDetails);
+            case NUMSCALE:
+                return parseNumericalScaleResponseDetails(serializedResponseDetails);
+            case CONSTSUM:
+                return parseConstantSumResponseDetails(serializedResponseDetails);
+            default:
+                break;
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            // fall through to the generic parser, which is the reference behavior
+        }
+
+        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+    }
+
+    private static FeedbackMcqResponseDetails parseMcqResponseDetails(String json) throws IOException {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        try (JsonReader reader = createReader(json)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                case "answer":
+                    details.setAnswer(nextNullableString(reader));
+                    break;
+                case "isOther":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        details.setOther(reader.nextBoolean());
+                    }
+                    break;
+                case "otherFieldContent":
+                    details.setOtherFieldContent(nextNullableString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+                }
+            }
+            reader.endObject();
+            ensureFullyConsumed(reader);
+        }
+        return details;
+    }
+
+    private static FeedbackNumericalScaleResponseDetails parseNumericalScaleResponseDetails(String json)
+            throws IOException {
+        FeedbackNumericalScaleResponseDetails details = new FeedbackNumericalScaleResponseDetails();
+        try (JsonReader reader = createReader(json)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("answer".equals(reader.nextName()) && reader.peek() != JsonToken.NULL) {
+                    details.setAnswer(reader.nextDouble());
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            ensureFullyConsumed(reader);
+        }
+        return details;
+    }
+
+    private static FeedbackConstantSumResponseDetails parseConstantSumResponseDetails(String json) throws IOException {
+        FeedbackConstantSumResponseDetails details = new FeedbackConstantSumResponseDetails();
+        try (JsonReader reader = createReader(json)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"answers".equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    details.setAnswers(null);
+                    continue;
+                }
+                List<Integer> answers = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                        answers.add(null);
+                    } else {
+                        answers.add(reader.nextInt());
+                    }
+                }
+                reader.endArray();
+                details.setAnswers(answers);
+            }
+            reader.endObject();
+            ensureFullyConsumed(reader);
+        }
+        return details;
+    }
+
+    private static JsonReader createReader(String json) {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        // consistent with the leniency of Gson#fromJson
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static String nextNullableString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private static void ensureFullyConsumed(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new IllegalStateException("Unexpected content after the response details");
+        }
+    }
+
+}
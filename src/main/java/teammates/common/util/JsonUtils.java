@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -12,10 +13,15 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -27,22 +33,31 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    // Gson instances are immutable and thread-safe; they are created once as building them is expensive
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+    private static final Gson PRETTY_GSON = createGsonInstance(true);
+
     private JsonUtils() {
         // utility class
     }
 
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_GSON : COMPACT_GSON;
+    }
+
     /**
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new InstantAdapter())
-                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter())
-                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter())
+                .registerTypeAdapter(Instant.class, new InstantAdapter().nullSafe())
+                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter().nullSafe())
+                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter().nullSafe())
                 .registerTypeAdapter(FeedbackQuestionDetails.class, new FeedbackQuestionDetailsAdapter())
                 .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
                 .registerTypeAdapter(LogDetails.class, new LogDetailsAdapter())
+                .registerTypeAdapterFactory(new FeedbackResponseAttributesAdapterFactory())
                 .disableHtmlEscaping();
         if (prettyPrint) {
             builder.setPrettyPrinting();
@@ -114,54 +129,45 @@ public final class JsonUtils {
         return JsonParser.parseString(json);
     }
 
-    private static class InstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+    // The adapters below are stateless and thus safe to be shared across threads without locking.
+    // They read from and write to the stream directly instead of going through an intermediate JSON tree.
+
+    private static class InstantAdapter extends TypeAdapter<Instant> {
 
         @Override
-        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+        public void write(JsonWriter out, Instant instant) throws IOException {
+            out.value(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
         }
     }
 
-    private static class ZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+    private static class ZoneIdAdapter extends TypeAdapter<ZoneId> {
 
         @Override
-        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+        public void write(JsonWriter out, ZoneId zoneId) throws IOException {
+            out.value(zoneId.getId());
         }
 
         @Override
-        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+        public ZoneId read(JsonReader in) throws IOException {
+            return ZoneId.of(in.nextString());
         }
     }
 
-    private static class DurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    private static class DurationMinutesAdapter extends TypeAdapter<Duration> {
 
         @Override
-        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+        public void write(JsonWriter out, Duration duration) throws IOException {
+            out.value(duration.toMinutes());
         }
 
         @Override
-        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+        public Duration read(JsonReader in) throws IOException {
+            return Duration.ofMinutes(in.nextLong());
         }
     }
 
@@ -220,4 +226,33 @@ public final class JsonUtils {
             return context.deserialize(json, event.getDetailsClass());
         }
     }
+
+    /**
+     * Serializes {@link FeedbackResponseAttributes} with their response details parsed, as the details of
+     * responses loaded from the database are only parsed on demand.
+     */
+    private static class FeedbackResponseAttributesAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != FeedbackResponseAttributes.class) {
+                return null;
+            }
+            TypeAdapter<FeedbackResponseAttributes> delegate =
+                    gson.getDelegateAdapter(this, TypeToken.get(FeedbackResponseAttributes.class));
+            return (TypeAdapter<T>) new TypeAdapter<FeedbackResponseAttributes>() {
+                @Override
+                public void write(JsonWriter out, FeedbackResponseAttributes value) throws IOException {
+                    // the copy always holds parsed response details, leaving the original untouched
+                    delegate.write(out, value == null ? null : new FeedbackResponseAttributes(value));
+                }
+
+                @Override
+                public FeedbackResponseAttributes read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+    }
 }
@@ -115,6 +115,7 @@ public final class Logger {
         RequestLogDetails details = new RequestLogDetails();
         details.setResponseStatus(statusCode);
         details.setResponseTime(timeElapsed);
+        details.setDatastoreRpcCount(RequestTracer.getDatastoreRpcCount());
         details.setRequestMethod(method);
         details.setRequestUrl(requestUrl);
         details.setUserAgent(request.getHeader("User-Agent"));
@@ -0,0 +1,73 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Runs independent, CPU-bound parts of the work of the current request in parallel.
+ *
+ * <p>The work is run on a pool of {@link Config#REQUEST_PARALLELISM} threads shared by all requests of the instance.
+ * If the parallelism is not more than one, the work is run on the request thread instead.
+ */
+public final class ParallelHelper {
+
+    private static final ForkJoinPool POOL =
+            Config.REQUEST_PARALLELISM > 1 ? new ForkJoinPool(Config.REQUEST_PARALLELISM) : null;
+
+    private ParallelHelper() {
+        // utility class
+    }
+
+    /**
+     * Applies the function to each of the inputs, possibly in parallel, and returns the results in the input order.
+     *
+     * <p>The function is applied as part of the current request, so that the deadline of the request is checked
+     * before each input is processed. As the function may be applied on other threads, it must be thread-safe and
+     * must not access the Datastore, whose session is bound to the request thread.
+     *
+     * <p>If the function throws an exception for any input, the exception is rethrown after all inputs are processed.
+     */
+    public static <T, R> List<R> map(List<T> inputs, Function<T, R> function) {
+        Function<T, R> task = RequestTracer.bindToCurrentRequest(input -> {
+            RequestTracer.checkRemainingTime();
+            return function.apply(input);
+        });
+
+        List<R> results = new ArrayList<>(inputs.size());
+        if (POOL == null || inputs.size() < 2) {
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+
+        List<Callable<R>> callables = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            callables.add(() -> task.apply(input));
+        }
+        for (Future<R> future : POOL.invokeAll(callables)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        return results;
+    }
+
+}
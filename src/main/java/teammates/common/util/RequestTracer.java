@@ -2,6 +2,11 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -12,6 +17,8 @@ public final class RequestTracer {
 
     private static final ThreadLocal<RequestTrace> THREAD_LOCAL = new ThreadLocal<>();
 
+    private static final Logger log = Logger.getLogger();
+
     private RequestTracer() {
         // utility class
     }
@@ -78,11 +85,141 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Clears the information of the current request, including all values stored for it.
+     */
+    public static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
+    /**
+     * Gets the value stored under the key for the current request,
+     * computing and storing it with the supplier if it is not present.
+     *
+     * <p>If there is no ongoing request, the value is computed without being stored.
+     * Null values are never stored.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrComputeRequestScopedValue(String key, Supplier<T> supplier) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return supplier.get();
+        }
+        Object value = trace.requestScopedValues.get(key);
+        if (value == null) {
+            // the supplier is not run inside computeIfAbsent as it may access other request-scoped values
+            value = supplier.get();
+            if (value != null) {
+                trace.requestScopedValues.put(key, value);
+            }
+        }
+        return (T) value;
+    }
+
+    /**
+     * Removes all values stored for the current request whose keys start with the prefix.
+     */
+    public static void removeRequestScopedValues(String keyPrefix) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.requestScopedValues.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * Returns a function which applies {@code function} as part of the current request,
+     * even if it is applied on another thread.
+     *
+     * <p>This allows work of the current request which is handed to other threads to share the information
+     * of the request, e.g. its deadline and its request-scoped values.
+     */
+    public static <T, R> Function<T, R> bindToCurrentRequest(Function<T, R> function) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return function;
+        }
+        return input -> {
+            RequestTrace originalTrace = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(trace);
+            try {
+                return function.apply(input);
+            } finally {
+                if (originalTrace == null) {
+                    THREAD_LOCAL.remove();
+                } else {
+                    THREAD_LOCAL.set(originalTrace);
+                }
+            }
+        };
+    }
+
+    /**
+     * Schedules the task to be run when the current request ends.
+     *
+     * <p>Tasks scheduled under the same key are only run once, which allows an action that is needed after
+     * every one of a series of writes to be carried out just once after the last write.
+     * If there is no ongoing request, the task is run immediately.
+     */
+    public static void runAtEndOfRequest(String key, Runnable task) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            task.run();
+            return;
+        }
+        trace.endOfRequestTasks.putIfAbsent(key, task);
+    }
+
+    /**
+     * Runs all the tasks scheduled with {@link #runAtEndOfRequest(String, Runnable)} for the current request.
+     *
+     * <p>A failing task is logged and does not prevent the remaining tasks from being run.
+     */
+    public static void runEndOfRequestTasks() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        for (String key : trace.endOfRequestTasks.keySet()) {
+            Runnable task = trace.endOfRequestTasks.remove(key);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.severe("Failed to run end-of-request task " + key, e);
+            }
+        }
+    }
+
+    /**
+     * Records that a Datastore RPC is issued while serving the current request.
+     */
+    public static void recordDatastoreRpc() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.datastoreRpcCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of Datastore RPCs issued so far while serving the current request.
+     */
+    public static int getDatastoreRpcCount() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return 0;
+        }
+        return trace.datastoreRpcCount.get();
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private final Map<String, Object> requestScopedValues = new ConcurrentHashMap<>();
+        private final AtomicInteger datastoreRpcCount = new AtomicInteger();
+        private final Map<String, Runnable> endOfRequestTasks = new ConcurrentHashMap<>();
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
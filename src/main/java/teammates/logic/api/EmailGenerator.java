@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -459,9 +460,12 @@ public final class EmailGenerator {
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
 
         if (isEmailNeededForStudents) {
-            List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            // students are streamed as the attempt check has to be made for each of them anyway
+            Iterator<StudentAttributes> studentsForCourse =
+                    studentsLogic.streamStudentsForCourse(session.getCourseId()).iterator();
 
-            for (StudentAttributes student : studentsForCourse) {
+            while (studentsForCourse.hasNext()) {
+                StudentAttributes student = studentsForCourse.next();
                 try {
                     if (!fsLogic.isFeedbackSessionAttemptedByUser(session, student.getEmail(), false)) {
                         students.add(student);
@@ -1,13 +1,17 @@
 package teammates.logic.api;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.EntityIdRange;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
@@ -16,6 +20,7 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -29,12 +34,17 @@ import teammates.logic.core.AccountRequestsLogic;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
+import teammates.logic.core.FeedbackQuestionStatisticsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionSubmissionSummariesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SearchIndexesLogic;
+import teammates.logic.core.SessionResultsSnapshotsLogic;
+import teammates.logic.core.SessionResultsSnapshotsLogic.ResultsWriter;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -53,10 +63,15 @@ public class Logic {
     final CoursesLogic coursesLogic = CoursesLogic.inst();
     final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+    final FeedbackQuestionStatisticsLogic feedbackQuestionStatisticsLogic = FeedbackQuestionStatisticsLogic.inst();
     final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
+    final FeedbackSessionSubmissionSummariesLogic feedbackSessionSubmissionSummariesLogic =
+            FeedbackSessionSubmissionSummariesLogic.inst();
     final ProfilesLogic profilesLogic = ProfilesLogic.inst();
     final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    final SessionResultsSnapshotsLogic sessionResultsSnapshotsLogic = SessionResultsSnapshotsLogic.inst();
+    final SearchIndexesLogic searchIndexesLogic = SearchIndexesLogic.inst();
 
     Logic() {
         // prevent initialization
@@ -80,6 +95,20 @@ public class Logic {
         return coursesLogic.getCourseInstitute(courseId);
     }
 
+    /**
+     * Gets the institutes of the courses in a single batch.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#getCourseInstitutes(Collection)
+     */
+    public Map<String, String> getCourseInstitutes(Collection<String> courseIds) {
+        assert courseIds != null;
+
+        return coursesLogic.getCourseInstitutes(courseIds);
+    }
+
     /**
      * Updates/Creates the profile using {@link StudentProfileAttributes.UpdateOptions}.
      *
@@ -569,6 +598,17 @@ public class Logic {
         return studentsLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Streams all students of a course, fetching them from the database in chunks as the stream is consumed.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Stream<StudentAttributes> streamStudentsForCourse(String courseId) {
+        assert courseId != null;
+        return studentsLogic.streamStudentsForCourse(courseId);
+    }
+
     /**
      * Returns a list of section names for the course with ID courseId.
      *
@@ -809,6 +849,15 @@ public class Logic {
         studentsLogic.putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in bulk.
+     *
+     * @see StudentsLogic#putDocuments(Collection)
+     */
+    public void putStudentDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        studentsLogic.putDocuments(students);
+    }
+
     /**
      * Creates a feedback session.
      *
@@ -888,6 +937,20 @@ public class Logic {
         return feedbackSessionsLogic.getActualTotalSubmission(fsa);
     }
 
+    /**
+     * Gets the submission summary of a feedback session, which holds both its expected and actual number
+     * of submissions, building it if necessary.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionSubmissionSummariesLogic#getOrBuildSummary(FeedbackSessionAttributes)
+     */
+    public FeedbackSessionSubmissionSummaryAttributes getFeedbackSessionSubmissionSummary(FeedbackSessionAttributes fsa) {
+        assert fsa != null;
+        return feedbackSessionSubmissionSummariesLogic.getOrBuildSummary(fsa);
+    }
+
     /**
      * Gets a list of feedback sessions for instructors.
      */
@@ -1152,6 +1215,38 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, questionId, section);
     }
 
+    /**
+     * Gets a page of the session result of a question for an instructor.
+     *
+     * @see FeedbackResponsesLogic#getSessionResultsPageForCourse(String, String, String, String, String, String, int)
+     */
+    public SessionResultsBundle getSessionResultsPageForCourse(
+            String feedbackSessionName, String courseId, String userEmail, String questionId,
+            @Nullable String section, @Nullable String pageToken, int pageSize) throws InvalidParametersException {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert userEmail != null;
+        assert questionId != null;
+
+        return feedbackResponsesLogic.getSessionResultsPageForCourse(
+                feedbackSessionName, courseId, userEmail, questionId, section, pageToken, pageSize);
+    }
+
+    /**
+     * Gets the running statistics of the responses of a feedback session for an instructor.
+     *
+     * @see FeedbackResponsesLogic#getSessionStatisticsForCourse(String, String, String, String)
+     */
+    public SessionResultsBundle getSessionStatisticsForCourse(
+            String feedbackSessionName, String courseId, String userEmail, @Nullable String questionId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert userEmail != null;
+
+        return feedbackResponsesLogic.getSessionStatisticsForCourse(
+                feedbackSessionName, courseId, userEmail, questionId);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1168,6 +1263,44 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, isInstructor, questionId);
     }
 
+    /**
+     * Writes the snapshot of the serialized results of a feedback session for the given view to {@code writer},
+     * building it with {@code resultsWriter} if necessary.
+     *
+     * @see SessionResultsSnapshotsLogic#writeSnapshot(FeedbackSessionAttributes, String, ResultsWriter, Appendable)
+     */
+    public void writeSessionResultsSnapshot(FeedbackSessionAttributes feedbackSession, String viewKey,
+                                            ResultsWriter resultsWriter, Appendable writer) throws IOException {
+        assert feedbackSession != null;
+        assert viewKey != null;
+        assert resultsWriter != null;
+        assert writer != null;
+
+        sessionResultsSnapshotsLogic.writeSnapshot(feedbackSession, viewKey, resultsWriter, writer);
+    }
+
+    /**
+     * Gets the IDs of the questions whose running statistics are updated at or after {@code updatedAfter}.
+     *
+     * @see FeedbackQuestionStatisticsLogic#getFeedbackQuestionIdsWithStatisticsUpdatedAfter(Instant)
+     */
+    public List<String> getFeedbackQuestionIdsWithStatisticsUpdatedAfter(Instant updatedAfter) {
+        assert updatedAfter != null;
+
+        return feedbackQuestionStatisticsLogic.getFeedbackQuestionIdsWithStatisticsUpdatedAfter(updatedAfter);
+    }
+
+    /**
+     * Rebuilds the running statistics of a question from all its responses.
+     *
+     * @see FeedbackQuestionStatisticsLogic#rebuildStatistics(String)
+     */
+    public boolean rebuildFeedbackQuestionStatistics(String feedbackQuestionId) {
+        assert feedbackQuestionId != null;
+
+        return feedbackQuestionStatisticsLogic.rebuildStatistics(feedbackQuestionId);
+    }
+
     /**
      * Get existing feedback responses from student or his team for the given question.
      */
@@ -1242,6 +1375,35 @@ public class Logic {
         return feedbackResponsesLogic.updateFeedbackResponseCascade(updateOptions);
     }
 
+    /**
+     * Creates, updates and deletes feedback responses in a batch.
+     *
+     * <p>Cascade updates the associated feedback response comments of updated responses
+     * and cascade deletes the associated feedback response comments of deleted responses.
+     *
+     * <p>If any response is not valid, cannot be found or already exists, none of the changes is applied.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the created responses followed by the updated responses, in the given order
+     * @throws InvalidParametersException if any response to create or update is not valid
+     * @throws EntityDoesNotExistException if any response to update cannot be found
+     * @throws EntityAlreadyExistsException if any response to create, or to update by recreation, already exists
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            List<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+        assert responseIdsToDelete != null;
+
+        return feedbackResponsesLogic.batchUpdateFeedbackResponsesCascade(
+                responsesToCreate, responsesToUpdate, responseIdsToDelete);
+    }
+
     /**
      * Deletes a feedback response cascade its associated comments.
      *
@@ -1286,6 +1448,25 @@ public class Logic {
         return feedbackResponseCommentsLogic.getFeedbackResponseCommentForResponseFromParticipant(feedbackResponseId);
     }
 
+    /**
+     * Gets comments associated with the responses of a question.
+     *
+     * <p>The comments are given by feedback participants to explain the responses</p>
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the comments mapped by their response ids; responses without such comment are omitted
+     */
+    public Map<String, FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponsesFromParticipants(
+            String feedbackQuestionId, Collection<String> feedbackResponseIds) {
+        assert feedbackQuestionId != null;
+        assert feedbackResponseIds != null;
+
+        return feedbackResponseCommentsLogic.getFeedbackResponseCommentsForResponsesFromParticipants(
+                feedbackQuestionId, feedbackResponseIds);
+    }
+
     /**
      * Updates a feedback response comment by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
      *
@@ -1476,4 +1657,33 @@ public class Logic {
     public void putAccountRequestDocument(AccountRequestAttributes accountRequest) throws SearchServiceException {
         accountRequestsLogic.putDocument(accountRequest);
     }
+
+    /**
+     * Splits the entities of a search collection into chunks to be indexed separately.
+     *
+     * <p>Preconditions: <br>
+     * * {@code collection} is non-null.
+     *
+     * @see SearchIndexesLogic#splitIntoChunks(String, String)
+     */
+    public List<EntityIdRange> splitSearchCollectionIntoChunks(String collection, @Nullable String startId) {
+        assert collection != null;
+
+        return searchIndexesLogic.splitIntoChunks(collection, startId);
+    }
+
+    /**
+     * Creates or updates the search documents of all entities in a chunk of a search collection.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SearchIndexesLogic#indexChunk(String, EntityIdRange)
+     */
+    public int indexSearchCollectionChunk(String collection, EntityIdRange chunk) throws SearchServiceException {
+        assert collection != null;
+        assert chunk != null;
+
+        return searchIndexesLogic.indexChunk(collection, chunk);
+    }
 }
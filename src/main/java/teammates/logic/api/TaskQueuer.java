@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.EntityIdRange;
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
@@ -244,6 +245,76 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the search indexing of all students of the course identified by {@code courseId} in bulk.
+     *
+     * <p>This is preferred to scheduling the students one by one when many of them are changed at once,
+     * e.g. in an enrollment, as they are then indexed with a handful of requests to the search service.
+     *
+     * @param courseId the course ID of the students
+     */
+    public void scheduleCourseStudentsForSearchIndexing(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL,
+                paramMap, null);
+    }
+
+    /**
+     * Schedules for the running statistics of the question identified by {@code feedbackQuestionId}
+     * to be reconciled with its responses.
+     *
+     * @param feedbackQuestionId the ID of the question
+     */
+    public void scheduleFeedbackQuestionStatisticsReconciliation(String feedbackQuestionId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+
+        addTask(TaskQueue.FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_QUEUE_NAME,
+                TaskQueue.FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_WORKER_URL, paramMap, null);
+    }
+
+    /**
+     * Schedules for the entities of a search collection, from the entity with {@code startId} onwards,
+     * to be split into chunks, each of which is then scheduled to be indexed separately.
+     *
+     * @param collection the name of the search collection
+     * @param startId the ID of the first entity to split from, or null to split from the first entity
+     * @param rebuildStartTime the time the rebuild of the collection was started, in epoch milliseconds
+     */
+    public void scheduleSearchIndexRebuildSplit(String collection, String startId, long rebuildStartTime) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.SEARCH_COLLECTION, collection);
+        if (startId != null) {
+            paramMap.put(ParamsNames.ENTITY_ID_RANGE_START, startId);
+        }
+        paramMap.put(ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, String.valueOf(rebuildStartTime));
+
+        addTask(TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, TaskQueue.SEARCH_INDEX_REBUILD_SPLIT_WORKER_URL,
+                paramMap, null);
+    }
+
+    /**
+     * Schedules for the search indexing of all entities in a chunk of a search collection in bulk.
+     *
+     * @param collection the name of the search collection
+     * @param chunk the range of entities to index
+     * @param rebuildStartTime the time the rebuild of the collection was started, in epoch milliseconds
+     */
+    public void scheduleSearchIndexRebuildChunk(String collection, EntityIdRange chunk, long rebuildStartTime) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.SEARCH_COLLECTION, collection);
+        paramMap.put(ParamsNames.ENTITY_ID_RANGE_START, chunk.getStartId());
+        if (chunk.getEndId() != null) {
+            paramMap.put(ParamsNames.ENTITY_ID_RANGE_END, chunk.getEndId());
+        }
+        paramMap.put(ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, String.valueOf(rebuildStartTime));
+
+        addTask(TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, TaskQueue.SEARCH_INDEX_REBUILD_CHUNK_WORKER_URL,
+                paramMap, null);
+    }
+
     private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
         try {
             SendEmailRequest request = new SendEmailRequest(email);
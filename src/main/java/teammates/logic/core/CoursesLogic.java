@@ -2,13 +2,18 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.StudentRosterEntry;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -18,6 +23,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.api.CoursesDb;
 
 /**
@@ -30,6 +36,10 @@ public final class CoursesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final String COURSE_ROSTER_KEY_PREFIX = "CourseRoster:";
+    // shares the prefix of course rosters so that both are invalidated together
+    private static final String STUDENT_ROSTER_ENTRIES_KEY_PREFIX = COURSE_ROSTER_KEY_PREFIX + "StudentEntries:";
+
     private static final CoursesLogic instance = new CoursesLogic();
 
     /* Explanation: This class depends on CoursesDb class but no other *Db classes.
@@ -48,6 +58,7 @@ public final class CoursesLogic {
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private InstructorsLogic instructorsLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
     private StudentsLogic studentsLogic;
 
     private CoursesLogic() {
@@ -65,6 +76,7 @@ public final class CoursesLogic {
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
 
@@ -77,6 +89,21 @@ public final class CoursesLogic {
         return cd.getInstitute();
     }
 
+    /**
+     * Gets the institutes associated with the courses, fetching the courses in a single batch.
+     *
+     * @return the institutes mapped by the IDs of their courses
+     */
+    public Map<String, String> getCourseInstitutes(Collection<String> courseIds) {
+        Map<String, String> courseInstitutes = new HashMap<>();
+        for (CourseAttributes course : coursesDb.getCourses(new ArrayList<>(new HashSet<>(courseIds)))) {
+            courseInstitutes.put(course.getId(), course.getInstitute());
+        }
+        assert courseInstitutes.keySet().containsAll(courseIds)
+                : "Trying to getCourseInstitutes for inexistent courses among " + courseIds;
+        return courseInstitutes;
+    }
+
     /**
      * Creates a course.
      *
@@ -149,6 +176,38 @@ public final class CoursesLogic {
         }
     }
 
+    /**
+     * Gets the roster of the course with the specified ID.
+     *
+     * <p>The roster is memoized for the current request so that it is only read from the database once
+     * per request, until students or instructors are modified.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        return RequestTracer.getOrComputeRequestScopedValue(COURSE_ROSTER_KEY_PREFIX + courseId,
+                () -> new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId)));
+    }
+
+    /**
+     * Gets the email, team and section of all students of the course with the specified ID.
+     *
+     * <p>Unlike {@link #getCourseRoster(String)}, only the properties needed to group the students are read.
+     * The entries are memoized for the current request in the same way as the course roster.
+     */
+    public List<StudentRosterEntry> getStudentRosterEntries(String courseId) {
+        return RequestTracer.getOrComputeRequestScopedValue(STUDENT_ROSTER_ENTRIES_KEY_PREFIX + courseId,
+                () -> studentsLogic.getStudentRosterEntriesForCourse(courseId));
+    }
+
+    /**
+     * Invalidates all course rosters memoized for the current request.
+     *
+     * <p>This should be called whenever students or instructors are modified.
+     */
+    static void invalidateCourseRosters() {
+        RequestTracer.removeRequestScopedValues(COURSE_ROSTER_KEY_PREFIX);
+    }
+
     /**
      * Returns a list of section names for the course with valid ID courseId.
      *
@@ -157,12 +216,10 @@ public final class CoursesLogic {
     public List<String> getSectionsNameForCourse(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
         Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.getSection().equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.getSection());
+        for (StudentRosterEntry entry : getStudentRosterEntries(courseId)) {
+            if (!entry.getSection().equals(Const.DEFAULT_SECTION)) {
+                sectionNameSet.add(entry.getSection());
             }
         }
 
@@ -184,9 +241,9 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        return studentsLogic.getStudentsForCourse(courseId)
+        return getStudentRosterEntries(courseId)
                 .stream()
-                .map(StudentAttributes::getTeam)
+                .map(StudentRosterEntry::getTeam)
                 .distinct()
                 .sorted()
                 .collect(Collectors.toList());
@@ -204,10 +261,10 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        return studentsLogic.getStudentsForCourse(courseId)
+        return getStudentRosterEntries(courseId)
                 .stream()
-                .filter(studentAttributes -> studentAttributes.getSection().equals(sectionName))
-                .map(StudentAttributes::getTeam)
+                .filter(entry -> entry.getSection().equals(sectionName))
+                .map(StudentRosterEntry::getTeam)
                 .distinct()
                 .sorted()
                 .collect(Collectors.toList());
@@ -297,6 +354,7 @@ public final class CoursesLogic {
             feedbackSessionsLogic
                     .updateFeedbackSessionsTimeZoneForCourse(updatedCourse.getId(), updatedCourse.getTimeZone());
         }
+        snapshotsLogic.invalidateSnapshotsForCourse(updatedCourse.getId());
 
         return updatedCourse;
     }
@@ -322,6 +380,7 @@ public final class CoursesLogic {
         instructorsLogic.deleteInstructors(query);
 
         coursesDb.deleteCourse(courseId);
+        snapshotsLogic.invalidateSnapshotsForCourse(courseId);
     }
 
     /**
@@ -28,9 +28,11 @@ import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountRequestsDb;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionSubmissionSummariesDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
@@ -55,6 +57,10 @@ public final class DataBundleLogic {
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
+    private final FeedbackQuestionStatisticsDb fqsDb = FeedbackQuestionStatisticsDb.inst();
+    private final FeedbackSessionSubmissionSummariesDb fsssDb = FeedbackSessionSubmissionSummariesDb.inst();
+
+    private final SessionResultsSnapshotsLogic snapshotsLogic = SessionResultsSnapshotsLogic.inst();
 
     private DataBundleLogic() {
         // prevent initialization
@@ -106,6 +112,11 @@ public final class DataBundleLogic {
 
         List<StudentProfileAttributes> newProfiles = profilesDb.putEntities(profiles);
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
+        CoursesLogic.invalidateCourseRosters();
+        newCourses.forEach(course -> snapshotsLogic.invalidateSnapshotsForCourse(course.getId()));
+        newCourses.forEach(course -> fsssDb.deleteFeedbackSessionSubmissionSummaries(AttributesDeletionQuery.builder()
+                .withCourseId(course.getId())
+                .build()));
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
@@ -159,25 +170,28 @@ public final class DataBundleLogic {
     public void putDocuments(DataBundle dataBundle) throws SearchServiceException {
         // query the entity in db first to get the actual data and create document for actual entity
 
+        // the documents of each type are put in bulk
         Map<String, StudentAttributes> students = dataBundle.students;
+        List<StudentAttributes> studentsInDb = new ArrayList<>();
         for (StudentAttributes student : students.values()) {
-            StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.getCourse(), student.getEmail());
-            studentsDb.putDocument(studentInDb);
+            studentsInDb.add(studentsDb.getStudentForEmail(student.getCourse(), student.getEmail()));
         }
+        studentsDb.putDocuments(studentsInDb);
 
         Map<String, InstructorAttributes> instructors = dataBundle.instructors;
+        List<InstructorAttributes> instructorsInDb = new ArrayList<>();
         for (InstructorAttributes instructor : instructors.values()) {
-            InstructorAttributes instructorInDb =
-                    instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail());
-            instructorsDb.putDocument(instructorInDb);
+            instructorsInDb.add(instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()));
         }
+        instructorsDb.putDocuments(instructorsInDb);
 
         Map<String, AccountRequestAttributes> accountRequests = dataBundle.accountRequests;
+        List<AccountRequestAttributes> accountRequestsInDb = new ArrayList<>();
         for (AccountRequestAttributes accountRequest : accountRequests.values()) {
-            AccountRequestAttributes accountRequestInDb =
-                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute());
-            accountRequestsDb.putDocument(accountRequestInDb);
+            accountRequestsInDb.add(
+                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute()));
         }
+        accountRequestsDb.putDocuments(accountRequestsInDb);
     }
 
     private void processInstructors(
@@ -393,8 +407,12 @@ public final class DataBundleLogic {
                         .build();
                 fcDb.deleteFeedbackResponseComments(query);
                 frDb.deleteFeedbackResponses(query);
+                fqsDb.deleteFeedbackQuestionStatistics(query);
+                fsssDb.deleteFeedbackSessionSubmissionSummaries(query);
                 fqDb.deleteFeedbackQuestions(query);
                 fbDb.deleteFeedbackSessions(query);
+                CoursesLogic.invalidateCourseRosters();
+                snapshotsLogic.invalidateSnapshotsForCourse(courseId);
                 studentsDb.deleteStudents(query);
                 instructorsDb.deleteInstructors(query);
 
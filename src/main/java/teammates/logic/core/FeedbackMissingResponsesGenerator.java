@@ -0,0 +1,193 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * Generates the missing responses of a session which are visible to an instructor.
+ *
+ * <p>The possible recipients of a question are only looked up for one giver at a time, as the missing responses
+ * are iterated, so that neither all the possible giver-recipient pairs nor all the missing responses of a question
+ * need to be held in memory at once.
+ *
+ * <p>The missing responses of different questions can be generated concurrently, as the lookups done while
+ * iterating only read the course roster and the state set up when the generator is created.
+ */
+final class FeedbackMissingResponsesGenerator implements SessionResultsBundle.MissingResponsesGenerator {
+
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final Map<String, FeedbackQuestionAttributes> questionsMap;
+    private final FeedbackVisibilityEvaluator visibilityEvaluator;
+    private final CourseRoster courseRoster;
+    @Nullable
+    private final String section;
+
+    // only questions which should have missing responses generated are in this map
+    private final Map<String, List<String>> questionPossibleGiversMap = new HashMap<>();
+    private final Map<String, Map<String, Set<String>>> questionExistingGiverRecipientMap = new HashMap<>();
+
+    /**
+     * Creates a generator for the missing responses of the questions.
+     *
+     * <p>The possible givers of the questions are looked up here, as the lookup may need the Datastore.
+     *
+     * @param questionsMap the questions to generate missing responses for
+     * @param existingResponses the existing responses of the questions
+     * @param visibilityEvaluator the visibility evaluator of the instructor
+     * @param courseRoster the course roster
+     * @param section if not null, will only generate missing responses for the section
+     * @param givers if not null, will only generate missing responses from these givers instead of
+     *         all the possible givers of each question
+     */
+    FeedbackMissingResponsesGenerator(String courseId, String feedbackSessionName,
+            Map<String, FeedbackQuestionAttributes> questionsMap, List<FeedbackResponseAttributes> existingResponses,
+            FeedbackVisibilityEvaluator visibilityEvaluator, CourseRoster courseRoster, @Nullable String section,
+            @Nullable List<String> givers) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.questionsMap = questionsMap;
+        this.visibilityEvaluator = visibilityEvaluator;
+        this.courseRoster = courseRoster;
+        this.section = section;
+
+        for (FeedbackQuestionAttributes question : questionsMap.values()) {
+            if (question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+                questionPossibleGiversMap.put(question.getId(),
+                        givers == null ? fqLogic.getPossibleGivers(question, courseRoster) : givers);
+            }
+        }
+        for (FeedbackResponseAttributes existingResponse : existingResponses) {
+            questionExistingGiverRecipientMap
+                    .computeIfAbsent(existingResponse.getFeedbackQuestionId(), key -> new HashMap<>())
+                    .computeIfAbsent(existingResponse.getGiver(), key -> new HashSet<>())
+                    .add(existingResponse.getRecipient());
+        }
+    }
+
+    @Override
+    public Iterator<FeedbackResponseAttributes> generate(String questionId) {
+        List<String> possibleGivers = questionPossibleGiversMap.get(questionId);
+        if (possibleGivers == null) {
+            return Collections.emptyIterator();
+        }
+        return new MissingResponsesIterator(questionsMap.get(questionId), possibleGivers,
+                questionExistingGiverRecipientMap.getOrDefault(questionId, Collections.emptyMap()));
+    }
+
+    @Override
+    public boolean isGiverVisible(FeedbackResponseAttributes missingResponse) {
+        return visibilityEvaluator.isGiverNameVisible(
+                missingResponse, questionsMap.get(missingResponse.getFeedbackQuestionId()));
+    }
+
+    @Override
+    public boolean isRecipientVisible(FeedbackResponseAttributes missingResponse) {
+        return visibilityEvaluator.isRecipientNameVisible(
+                missingResponse, questionsMap.get(missingResponse.getFeedbackQuestionId()));
+    }
+
+    /**
+     * Iterates the visible missing responses of a question, giver by giver.
+     */
+    private final class MissingResponsesIterator implements Iterator<FeedbackResponseAttributes> {
+
+        private final FeedbackQuestionAttributes question;
+        private final Iterator<String> giverIterator;
+        private final Map<String, Set<String>> existingGiverRecipientMap;
+
+        private String giver;
+        private CourseRoster.ParticipantInfo giverInfo;
+        private Iterator<String> recipientIterator = Collections.emptyIterator();
+        private FeedbackResponseAttributes nextMissingResponse;
+
+        private MissingResponsesIterator(FeedbackQuestionAttributes question, List<String> possibleGivers,
+                Map<String, Set<String>> existingGiverRecipientMap) {
+            this.question = question;
+            this.giverIterator = possibleGivers.iterator();
+            this.existingGiverRecipientMap = existingGiverRecipientMap;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextMissingResponse == null) {
+                nextMissingResponse = findNextMissingResponse();
+            }
+            return nextMissingResponse != null;
+        }
+
+        @Override
+        public FeedbackResponseAttributes next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            FeedbackResponseAttributes missingResponse = nextMissingResponse;
+            nextMissingResponse = null;
+            return missingResponse;
+        }
+
+        private FeedbackResponseAttributes findNextMissingResponse() {
+            while (hasNextGiverRecipientPair()) {
+                String recipient = recipientIterator.next();
+                CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipient);
+
+                // skip responses not in current section
+                if (section != null
+                        && !giverInfo.getSectionName().equals(section)
+                        && !recipientInfo.getSectionName().equals(section)) {
+                    continue;
+                }
+
+                FeedbackResponseAttributes missingResponse =
+                        FeedbackResponseAttributes.builder(question.getId(), giver, recipient)
+                                .withCourseId(courseId)
+                                .withFeedbackSessionName(feedbackSessionName)
+                                .withGiverSection(giverInfo.getSectionName())
+                                .withRecipientSection(recipientInfo.getSectionName())
+                                .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
+                                .build();
+
+                // check visibility of the missing response
+                if (visibilityEvaluator.isResponseVisible(missingResponse, question)) {
+                    return missingResponse;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Moves on to the next giver with possible recipients without a response, if there are no more for this giver.
+         */
+        private boolean hasNextGiverRecipientPair() {
+            while (!recipientIterator.hasNext()) {
+                if (!giverIterator.hasNext()) {
+                    return false;
+                }
+                giver = giverIterator.next();
+                giverInfo = courseRoster.getInfoForIdentifier(giver);
+                Set<String> recipients = fqLogic.getPossibleRecipientsOfGiver(question, giver, courseRoster);
+                recipients.removeAll(existingGiverRecipientMap.getOrDefault(giver, Collections.emptySet()));
+                recipientIterator = recipients.iterator();
+            }
+            return true;
+        }
+
+    }
+
+}
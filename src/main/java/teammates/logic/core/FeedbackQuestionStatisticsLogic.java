@@ -0,0 +1,213 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Logger;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+
+/**
+ * Handles operations related to the running statistics of the responses to feedback questions.
+ *
+ * <p>The statistics of a question are created from all its responses when they are first needed,
+ * and are kept up to date from then on as its responses are created, updated and deleted.
+ * They are discarded whenever the question is edited or they cannot be kept up to date,
+ * and created afresh on their next access.
+ *
+ * <p>The statistics are built in place of stored statistics, so that the changes of responses written while
+ * they are built are noticed: if there are no statistics, a placeholder which is still being built is stored first.
+ * The changes of responses are added to built statistics according to when the responses are written,
+ * so that the responses which the statistics are built from are not counted twice.
+ *
+ * @see FeedbackQuestionStatisticsAttributes
+ * @see FeedbackQuestionStatisticsDb
+ */
+public final class FeedbackQuestionStatisticsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Maximum number of times the statistics of a question are rebuilt when they are updated in the meantime.
+     */
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private static final FeedbackQuestionStatisticsLogic instance = new FeedbackQuestionStatisticsLogic();
+
+    private final FeedbackQuestionStatisticsDb fqsDb = FeedbackQuestionStatisticsDb.inst();
+
+    private FeedbackQuestionsLogic fqLogic;
+    private FeedbackResponsesLogic frLogic;
+
+    private FeedbackQuestionStatisticsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackQuestionStatisticsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        fqLogic = FeedbackQuestionsLogic.inst();
+        frLogic = FeedbackResponsesLogic.inst();
+    }
+
+    /**
+     * Gets the statistics of the question, creating them from all its responses if there are none yet.
+     *
+     * @return null if no statistics are kept for the type of the question
+     */
+    public FeedbackQuestionStatisticsAttributes getOrBuildStatistics(FeedbackQuestionAttributes question) {
+        if (!question.getQuestionDetailsCopy().isResponseStatisticsMaintained()) {
+            return null;
+        }
+
+        FeedbackQuestionStatisticsAttributes storedStatistics = fqsDb.getFeedbackQuestionStatistics(question.getId());
+        if (storedStatistics == null) {
+            storedStatistics = fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeEmptyStatistics(question));
+        }
+        if (storedStatistics != null && storedStatistics.isBuilt()) {
+            return storedStatistics;
+        }
+
+        // the statistics are not stored if responses are written while they are built; they are built again
+        // on the next access then
+        FeedbackQuestionStatisticsAttributes statistics = buildStatistics(question);
+        if (storedStatistics != null) {
+            fqsDb.replaceFeedbackQuestionStatistics(statistics, storedStatistics.getVersion());
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the IDs of the questions whose statistics are updated at or after {@code updatedAfter}.
+     */
+    public List<String> getFeedbackQuestionIdsWithStatisticsUpdatedAfter(Instant updatedAfter) {
+        return fqsDb.getFeedbackQuestionIdsWithStatisticsUpdatedAfter(updatedAfter);
+    }
+
+    /**
+     * Rebuilds the statistics of the question from all its responses and replaces the stored statistics with them.
+     *
+     * <p>Nothing is done if there are no statistics kept for the question, as they will be built on their next access.
+     * The statistics are only replaced if they are not updated while they are rebuilt, so that the updates are
+     * not lost; otherwise, they are rebuilt again.
+     *
+     * @return true if the stored statistics have drifted from the responses
+     */
+    public boolean rebuildStatistics(String feedbackQuestionId) {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question == null || !question.getQuestionDetailsCopy().isResponseStatisticsMaintained()) {
+            fqsDb.deleteFeedbackQuestionStatistics(AttributesDeletionQuery.builder()
+                    .withQuestionId(feedbackQuestionId)
+                    .build());
+            return false;
+        }
+
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            FeedbackQuestionStatisticsAttributes storedStatistics =
+                    fqsDb.getFeedbackQuestionStatistics(feedbackQuestionId);
+            if (storedStatistics == null) {
+                return false;
+            }
+            FeedbackQuestionStatisticsAttributes statistics = buildStatistics(question);
+            if (!fqsDb.replaceFeedbackQuestionStatistics(statistics, storedStatistics.getVersion())) {
+                continue;
+            }
+            // statistics which are still being built have not been kept up to date yet
+            boolean hasDrifted = storedStatistics.isBuilt() && !statistics.hasSameStatistics(storedStatistics);
+            if (hasDrifted) {
+                log.severe("Statistics of feedback question " + feedbackQuestionId
+                        + " have drifted from its responses: " + storedStatistics + " instead of " + statistics);
+            }
+            return hasDrifted;
+        }
+        log.warning("Statistics of feedback question " + feedbackQuestionId + " are not rebuilt as they are updated "
+                + "during every attempt; they are left to the next reconciliation");
+        return false;
+    }
+
+    private FeedbackQuestionStatisticsAttributes buildStatistics(FeedbackQuestionAttributes question) {
+        FeedbackQuestionStatisticsAttributes statistics = FeedbackQuestionStatisticsAttributes.builder(question.getId())
+                .withCourseId(question.getCourseId())
+                .withFeedbackSessionName(question.getFeedbackSessionName())
+                .withBuildStartedAt(Instant.now())
+                .build();
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForQuestion(question.getId())) {
+            statistics.addResponse(response.getRecipient(),
+                    question.getQuestionDetailsCopy().getResponseStatisticsValues(response.getResponseDetailsCopy()));
+        }
+        return statistics;
+    }
+
+    /**
+     * Updates the statistics of the questions of the given responses for the responses which are removed and the
+     * responses which are added, e.g. the old and the new versions of updated responses.
+     *
+     * <p>Statistics which do not exist yet are not created, as they will be built from all the responses
+     * on their next access. Statistics which cannot be updated are discarded in the same way, instead of failing
+     * the request after its responses are saved.
+     *
+     * @param writeStartedAt the time before the responses are written; they are written before this is called
+     */
+    public void updateStatisticsForResponses(Collection<FeedbackResponseAttributes> removedResponses,
+            Collection<FeedbackResponseAttributes> addedResponses, Instant writeStartedAt) {
+        Instant writeFinishedAt = Instant.now();
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        Map<String, FeedbackQuestionStatisticsAttributes> changesOfQuestions = new HashMap<>();
+        for (FeedbackResponseAttributes response : removedResponses) {
+            FeedbackQuestionStatisticsAttributes changes = getChangesOfQuestion(response, questions, changesOfQuestions);
+            if (changes != null) {
+                changes.removeResponse(response.getRecipient(), getStatisticsValues(response, questions));
+            }
+        }
+        for (FeedbackResponseAttributes response : addedResponses) {
+            FeedbackQuestionStatisticsAttributes changes = getChangesOfQuestion(response, questions, changesOfQuestions);
+            if (changes != null) {
+                changes.addResponse(response.getRecipient(), getStatisticsValues(response, questions));
+            }
+        }
+
+        // each question is updated in its own transaction, as a transaction may only cover a limited number of groups
+        changesOfQuestions.values().forEach(changes ->
+                fqsDb.addToFeedbackQuestionStatistics(changes, writeStartedAt, writeFinishedAt));
+    }
+
+    private FeedbackQuestionStatisticsAttributes getChangesOfQuestion(FeedbackResponseAttributes response,
+            Map<String, FeedbackQuestionAttributes> questions,
+            Map<String, FeedbackQuestionStatisticsAttributes> changesOfQuestions) {
+        FeedbackQuestionAttributes question = questions.computeIfAbsent(
+                response.getFeedbackQuestionId(), fqLogic::getFeedbackQuestion);
+        if (question == null || !question.getQuestionDetailsCopy().isResponseStatisticsMaintained()) {
+            return null;
+        }
+        return changesOfQuestions.computeIfAbsent(question.getId(), id -> makeEmptyStatistics(question));
+    }
+
+    private static Map<String, Double> getStatisticsValues(FeedbackResponseAttributes response,
+            Map<String, FeedbackQuestionAttributes> questions) {
+        return questions.get(response.getFeedbackQuestionId()).getQuestionDetailsCopy()
+                .getResponseStatisticsValues(response.getResponseDetailsCopy());
+    }
+
+    private static FeedbackQuestionStatisticsAttributes makeEmptyStatistics(FeedbackQuestionAttributes question) {
+        return FeedbackQuestionStatisticsAttributes.builder(question.getId())
+                .withCourseId(question.getCourseId())
+                .withFeedbackSessionName(question.getFeedbackSessionName())
+                .build();
+    }
+
+    /**
+     * Deletes statistics using {@link AttributesDeletionQuery}.
+     */
+    public void deleteStatistics(AttributesDeletionQuery query) {
+        fqsDb.deleteFeedbackQuestionStatistics(query);
+    }
+
+}
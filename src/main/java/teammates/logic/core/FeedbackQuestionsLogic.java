@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,6 +16,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -44,9 +46,12 @@ public final class FeedbackQuestionsLogic {
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
 
     private CoursesLogic coursesLogic;
+    private FeedbackQuestionStatisticsLogic fqsLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
+    private FeedbackSessionSubmissionSummariesLogic fsssLogic;
     private InstructorsLogic instructorsLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
     private StudentsLogic studentsLogic;
 
     private FeedbackQuestionsLogic() {
@@ -59,9 +64,12 @@ public final class FeedbackQuestionsLogic {
 
     void initLogicDependencies() {
         coursesLogic = CoursesLogic.inst();
+        fqsLogic = FeedbackQuestionStatisticsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
+        fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
 
@@ -80,6 +88,9 @@ public final class FeedbackQuestionsLogic {
         FeedbackQuestionAttributes createdQuestion = fqDb.putEntity(fqa);
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(
+                createdQuestion.getFeedbackSessionName(), createdQuestion.getCourseId());
+        fsssLogic.invalidateSummaryForSession(createdQuestion.getFeedbackSessionName(), createdQuestion.getCourseId());
         return createdQuestion;
     }
 
@@ -93,6 +104,28 @@ public final class FeedbackQuestionsLogic {
         return fqDb.getFeedbackQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Gets the questions of the given IDs in a single batch.
+     *
+     * @return the questions mapped by their IDs; questions that do not exist are omitted
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        return fqDb.getFeedbackQuestions(feedbackQuestionIds);
+    }
+
+    /**
+     * Gets the questions of the given responses in a single batch.
+     *
+     * @return the questions mapped by their IDs
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestionsForResponses(
+            Collection<FeedbackResponseAttributes> responses) {
+        Set<String> feedbackQuestionIds = responses.stream()
+                .map(FeedbackResponseAttributes::getFeedbackQuestionId)
+                .collect(Collectors.toSet());
+        return getFeedbackQuestions(feedbackQuestionIds);
+    }
+
     /**
      * Gets a single question corresponding to the given parameters.
      */
@@ -259,7 +292,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.getCourseId());
+            List<StudentAttributes> studentsInCourse = coursesLogic.getCourseRoster(question.getCourseId()).getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.getEmail())) {
@@ -279,7 +312,7 @@ public final class FeedbackQuestionsLogic {
             break;
         case INSTRUCTORS:
             List<InstructorAttributes> instructorsInCourse =
-                    instructorsLogic.getInstructorsForCourse(question.getCourseId());
+                    coursesLogic.getCourseRoster(question.getCourseId()).getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.getEmail())) {
@@ -385,14 +418,11 @@ public final class FeedbackQuestionsLogic {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
                     studentList = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
                 } else {
-                    studentList = studentsLogic.getStudentsForCourse(question.getCourseId());
+                    studentList = coursesLogic.getCourseRoster(question.getCourseId()).getStudents();
                 }
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    studentList = courseRoster.getStudents().stream()
-                            .filter(studentAttributes -> studentAttributes.getSection()
-                                    .equals(finalGiverSection)).collect(Collectors.toList());
+                    studentList = courseRoster.getStudentsInSection(giverSection);
                 } else {
                     studentList = courseRoster.getStudents();
                 }
@@ -413,7 +443,7 @@ public final class FeedbackQuestionsLogic {
         case INSTRUCTORS:
             List<InstructorAttributes> instructorsInCourse;
             if (courseRoster == null) {
-                instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.getCourseId());
+                instructorsInCourse = coursesLogic.getCourseRoster(question.getCourseId()).getInstructors();
             } else {
                 instructorsInCourse = courseRoster.getInstructors();
             }
@@ -433,12 +463,16 @@ public final class FeedbackQuestionsLogic {
             Map<String, List<StudentAttributes>> teamToTeamMembersTable;
             List<StudentAttributes> teamStudents;
             if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
-                teamStudents = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
+                if (courseRoster == null) {
+                    teamStudents = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
+                } else {
+                    teamStudents = courseRoster.getStudentsInSection(giverSection);
+                }
                 teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(teamStudents);
             } else {
                 if (courseRoster == null) {
-                    teamStudents = studentsLogic.getStudentsForCourse(question.getCourseId());
-                    teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(teamStudents);
+                    teamToTeamMembersTable =
+                            coursesLogic.getCourseRoster(question.getCourseId()).getTeamToMembersTable();
                 } else {
                     teamToTeamMembersTable = courseRoster.getTeamToMembersTable();
                 }
@@ -508,39 +542,41 @@ public final class FeedbackQuestionsLogic {
 
         List<String> possibleGivers = getPossibleGivers(relatedQuestion, courseRoster);
         for (String possibleGiver : possibleGivers) {
-            switch (relatedQuestion.getGiverType()) {
-            case STUDENTS:
-                StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
-                break;
-            case TEAMS:
-                StudentAttributes oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
-                break;
-            case INSTRUCTORS:
-            case SELF:
-                InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
-                break;
-            default:
-                log.severe("Invalid giver type specified");
-                break;
-            }
+            completeGiverRecipientMap
+                    .computeIfAbsent(possibleGiver, key -> new HashSet<>())
+                    .addAll(getPossibleRecipientsOfGiver(relatedQuestion, possibleGiver, courseRoster));
         }
 
         return completeGiverRecipientMap;
     }
 
+    /**
+     * Gets the identifiers of the possible recipients of a giver of a feedback question.
+     *
+     * @param question the feedback question
+     * @param giver the identifier of the giver, which is one of the possible givers of the question
+     * @param courseRoster roster of all students and instructors
+     * @return a modifiable set of recipient identifiers
+     */
+    Set<String> getPossibleRecipientsOfGiver(
+            FeedbackQuestionAttributes question, String giver, CourseRoster courseRoster) {
+        switch (question.getGiverType()) {
+        case STUDENTS:
+            StudentAttributes studentGiver = courseRoster.getStudentForEmail(giver);
+            return new HashSet<>(getRecipientsOfQuestion(question, null, studentGiver, courseRoster).keySet());
+        case TEAMS:
+            StudentAttributes oneTeamMember = courseRoster.getTeamToMembersTable().get(giver).iterator().next();
+            return new HashSet<>(getRecipientsOfQuestion(question, null, oneTeamMember, courseRoster).keySet());
+        case INSTRUCTORS:
+        case SELF:
+            InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(giver);
+            return new HashSet<>(getRecipientsOfQuestion(question, instructorGiver, null, courseRoster).keySet());
+        default:
+            log.severe("Invalid giver type specified");
+            return new HashSet<>();
+        }
+    }
+
     /**
      * Gets possible giver identifiers for a feedback question.
      *
@@ -548,7 +584,7 @@ public final class FeedbackQuestionsLogic {
      * @param courseRoster roster of all students and instructors
      * @return a list of giver identifier
      */
-    private List<String> getPossibleGivers(
+    List<String> getPossibleGivers(
             FeedbackQuestionAttributes fqa, CourseRoster courseRoster) {
         FeedbackParticipantType giverType = fqa.getGiverType();
         List<String> possibleGivers = new ArrayList<>();
@@ -626,7 +662,8 @@ public final class FeedbackQuestionsLogic {
                         studentsLogic.getStudentForEmail(emailOfEntityDoingQuestion, courseId);
                 studentList = studentsLogic.getStudentsForSection(studentAttributes.getSection(), courseId);
             } else {
-                studentList = studentsLogic.getStudentsForCourse(feedbackQuestionAttributes.getCourseId());
+                studentList = new ArrayList<>(
+                        coursesLogic.getCourseRoster(feedbackQuestionAttributes.getCourseId()).getStudents());
             }
 
             if (generateOptionsFor == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF) {
@@ -683,7 +720,7 @@ public final class FeedbackQuestionsLogic {
             break;
         case INSTRUCTORS:
             List<InstructorAttributes> instructorList =
-                    instructorsLogic.getInstructorsForCourse(feedbackQuestionAttributes.getCourseId());
+                    coursesLogic.getCourseRoster(feedbackQuestionAttributes.getCourseId()).getInstructors();
 
             for (InstructorAttributes instructor : instructorList) {
                 optionList.add(instructor.getName());
@@ -796,6 +833,14 @@ public final class FeedbackQuestionsLogic {
         if (oldQuestion.areResponseDeletionsRequiredForChanges(updatedQuestion)) {
             frLogic.deleteFeedbackResponsesForQuestionCascade(oldQuestion.getId());
         }
+        // the values tallied for the responses may depend on the question, e.g. on its options
+        fqsLogic.deleteStatistics(AttributesDeletionQuery.builder()
+                .withQuestionId(oldQuestion.getId())
+                .build());
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(
+                updatedQuestion.getFeedbackSessionName(), updatedQuestion.getCourseId());
+        // the expected givers depend on the giver types of the questions
+        fsssLogic.invalidateSummaryForSession(updatedQuestion.getFeedbackSessionName(), updatedQuestion.getCourseId());
 
         return updatedQuestion;
     }
@@ -856,6 +901,10 @@ public final class FeedbackQuestionsLogic {
         if (questionToDelete.getQuestionNumber() < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.getQuestionNumber(), questionsToShiftQnNumber);
         }
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(
+                questionToDelete.getFeedbackSessionName(), questionToDelete.getCourseId());
+        fsssLogic.invalidateSummaryForSession(
+                questionToDelete.getFeedbackSessionName(), questionToDelete.getCourseId());
     }
 
     /**
@@ -1,7 +1,9 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -36,6 +38,7 @@ public final class FeedbackResponseCommentsLogic {
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
     private InstructorsLogic instructorsLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
     private StudentsLogic studentsLogic;
 
     private FeedbackResponseCommentsLogic() {
@@ -51,6 +54,7 @@ public final class FeedbackResponseCommentsLogic {
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
 
@@ -67,7 +71,9 @@ public final class FeedbackResponseCommentsLogic {
                 frComment.isCommentFromFeedbackParticipant());
         verifyIsFeedbackSessionOfCourse(frComment.getCourseId(), frComment.getFeedbackSessionName());
 
-        return frcDb.createEntity(frComment);
+        FeedbackResponseCommentAttributes createdComment = frcDb.createEntity(frComment);
+        invalidateSnapshotsForComment(createdComment);
+        return createdComment;
     }
 
     /**
@@ -106,6 +112,20 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentForResponseFromParticipant(feedbackResponseId);
     }
 
+    /**
+     * Gets comments associated with the responses of a question.
+     *
+     * <p>The comments are given by feedback participants to explain the responses</p>
+     *
+     * @param feedbackQuestionId the question of the responses
+     * @param feedbackResponseIds the response ids
+     * @return the comments mapped by their response ids; responses without such comment are omitted
+     */
+    public Map<String, FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponsesFromParticipants(
+            String feedbackQuestionId, Collection<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponsesFromParticipants(feedbackQuestionId, feedbackResponseIds);
+    }
+
     /**
      * Gets all feedback response comments for session in a section.
      *
@@ -175,7 +195,24 @@ public final class FeedbackResponseCommentsLogic {
             FeedbackResponseCommentAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        return frcDb.updateFeedbackResponseComment(updateOptions);
+        FeedbackResponseCommentAttributes updatedComment = frcDb.updateFeedbackResponseComment(updateOptions);
+        invalidateSnapshotsForComment(updatedComment);
+        return updatedComment;
+    }
+
+    /**
+     * Updates and deletes feedback response comments in a batch.
+     *
+     * <p>If any update is not valid or the comment cannot be found, none of the changes is applied.
+     *
+     * @throws InvalidParametersException if any attributes to update are not valid
+     * @throws EntityDoesNotExistException if any comment to update cannot be found
+     */
+    public void batchUpdateFeedbackResponseComments(
+            Collection<FeedbackResponseCommentAttributes.UpdateOptions> commentsToUpdate,
+            Collection<Long> commentIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        frcDb.batchUpdateFeedbackResponseComments(commentsToUpdate, commentIdsToDelete);
     }
 
     /**
@@ -190,7 +227,15 @@ public final class FeedbackResponseCommentsLogic {
      * Deletes a comment.
      */
     public void deleteFeedbackResponseComment(long commentId) {
+        FeedbackResponseCommentAttributes comment = frcDb.getFeedbackResponseComment(commentId);
         frcDb.deleteFeedbackResponseComment(commentId);
+        if (comment != null) {
+            invalidateSnapshotsForComment(comment);
+        }
+    }
+
+    private void invalidateSnapshotsForComment(FeedbackResponseCommentAttributes comment) {
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(comment.getFeedbackSessionName(), comment.getCourseId());
     }
 
     /**
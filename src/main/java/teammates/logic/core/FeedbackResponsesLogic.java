@@ -1,13 +1,17 @@
 package teammates.logic.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -16,16 +20,17 @@ import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.StringHelper;
 import teammates.storage.api.FeedbackResponsesDb;
 
 /**
@@ -40,9 +45,13 @@ public final class FeedbackResponsesLogic {
 
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
 
+    private CoursesLogic coursesLogic;
     private FeedbackQuestionsLogic fqLogic;
+    private FeedbackQuestionStatisticsLogic fqsLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionSubmissionSummariesLogic fsssLogic;
     private InstructorsLogic instructorsLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
     private StudentsLogic studentsLogic;
 
     private FeedbackResponsesLogic() {
@@ -54,9 +63,13 @@ public final class FeedbackResponsesLogic {
     }
 
     void initLogicDependencies() {
+        coursesLogic = CoursesLogic.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
+        fqsLogic = FeedbackQuestionStatisticsLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
 
@@ -76,7 +89,13 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        Instant writeStartedAt = Instant.now();
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        invalidateSnapshotsForResponse(createdResponse);
+        fqsLogic.updateStatisticsForResponses(
+                Collections.emptyList(), Collections.singletonList(createdResponse), writeStartedAt);
+        fsssLogic.addGiversOfResponses(Collections.singletonList(createdResponse));
+        return createdResponse;
     }
 
     /**
@@ -119,6 +138,24 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
     }
 
+    /**
+     * Streams all responses given to/from a section in a feedback session in a course.
+     *
+     * <p>Responses are fetched from the database in chunks as the stream is consumed.
+     *
+     * @param feedbackSessionName the name if the session
+     * @param courseId the course ID of the session
+     * @param section if null, will stream all responses in the session
+     * @return a stream of responses
+     */
+    Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSessionInSection(
+            String feedbackSessionName, String courseId, @Nullable String section) {
+        if (section == null) {
+            return frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId);
+        }
+        return frDb.streamFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
+    }
+
     /**
      * Gets all responses for a question.
      */
@@ -337,7 +374,7 @@ public final class FeedbackResponsesLogic {
             boolean isCourseWide, String feedbackSessionName, String courseId, String section, String questionId,
             boolean isInstructor, String userEmail, InstructorAttributes instructor, StudentAttributes student,
             CourseRoster roster, List<FeedbackQuestionAttributes> allQuestions,
-            List<FeedbackResponseAttributes> allResponses) {
+            Stream<FeedbackResponseAttributes> allResponses, @Nullable List<String> missingResponseGivers) {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         for (FeedbackQuestionAttributes qn : allQuestions) {
             allQuestionsMap.put(qn.getId(), qn);
@@ -363,13 +400,9 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        Set<String> studentsEmailInTeam = new HashSet<>();
-        if (student != null) {
-            for (StudentAttributes studentInTeam
-                    : roster.getTeamToMembersTable().getOrDefault(student.getTeam(), Collections.emptyList())) {
-                studentsEmailInTeam.add(studentInTeam.getEmail());
-            }
-        }
+        // the visibility settings of each question are compiled once for the user
+        FeedbackVisibilityEvaluator visibilityEvaluator =
+                new FeedbackVisibilityEvaluator(userEmail, isInstructor, student, instructor, roster);
 
         // visibility table for each response and comment
         Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
@@ -377,15 +410,17 @@ public final class FeedbackResponsesLogic {
         Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
 
         // build response
-        for (FeedbackResponseAttributes response : allResponses) {
+        // responses are consumed one by one so that only the related ones are retained
+        Iterator<FeedbackResponseAttributes> allResponsesIterator = allResponses.iterator();
+        while (allResponsesIterator.hasNext()) {
+            FeedbackResponseAttributes response = allResponsesIterator.next();
             FeedbackQuestionAttributes correspondingQuestion = allQuestionsMap.get(response.getFeedbackQuestionId());
             if (correspondingQuestion == null) {
                 // orphan response without corresponding question, ignore it
                 continue;
             }
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(response, correspondingQuestion);
             if (!isVisibleResponse) {
                 continue;
             }
@@ -395,9 +430,9 @@ public final class FeedbackResponsesLogic {
             relatedResponsesMap.put(response.getId(), response);
             // generate giver/recipient name visibility table
             responseGiverVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
+                    visibilityEvaluator.isGiverNameVisible(response, correspondingQuestion));
             responseRecipientVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+                    visibilityEvaluator.isRecipientNameVisible(response, correspondingQuestion));
         }
         RequestTracer.checkRemainingTime();
 
@@ -410,8 +445,7 @@ public final class FeedbackResponsesLogic {
                 continue;
             }
             // check visibility of comment
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+            boolean isVisibleResponseComment = visibilityEvaluator.isCommentVisible(frc, relatedResponse, relatedQuestion);
             if (!isVisibleResponseComment) {
                 continue;
             }
@@ -423,15 +457,19 @@ public final class FeedbackResponsesLogic {
         RequestTracer.checkRemainingTime();
 
         List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
-        if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
-                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+        if (!isCourseWide) {
+            return new SessionResultsBundle(relatedQuestionsMap, existingResponses, Collections.emptyList(),
+                    responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
+                    commentVisibilityTable, roster);
         }
+
+        // missing responses are generated when the bundle is used, one question at a time
+        FeedbackMissingResponsesGenerator missingResponsesGenerator = new FeedbackMissingResponsesGenerator(
+                courseId, feedbackSessionName, relatedQuestionsMap, existingResponses, visibilityEvaluator, roster,
+                section, missingResponseGivers);
         RequestTracer.checkRemainingTime();
 
-        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponses,
+        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponsesGenerator,
                 responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
                 commentVisibilityTable, roster);
     }
@@ -449,21 +487,19 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForCourse(
             String feedbackSessionName, String courseId, String instructorEmail,
             @Nullable String questionId, @Nullable String section) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
         RequestTracer.checkRemainingTime();
 
         // load response(s)
-        List<FeedbackResponseAttributes> allResponses;
-        // load all response for instructors and passively filter them later
+        Stream<FeedbackResponseAttributes> allResponses;
+        // stream all response for instructors and passively filter them later
         if (questionId == null) {
-            allResponses = getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
+            allResponses = streamFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
         } else {
-            allResponses = getFeedbackResponsesForQuestionInSection(questionId, section);
+            allResponses = getFeedbackResponsesForQuestionInSection(questionId, section).stream();
         }
         RequestTracer.checkRemainingTime();
 
@@ -471,7 +507,121 @@ public final class FeedbackResponsesLogic {
         InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
 
         return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
-                instructor, null, roster, allQuestions, allResponses);
+                instructor, null, roster, allQuestions, allResponses, null);
+    }
+
+    /**
+     * Gets a page of the session result of a question for an instructor.
+     *
+     * <p>Each page covers a range of givers of the question, with the existing and the missing responses
+     * from them, so that the size of a page does not grow with the number of givers.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId the ID of the question
+     * @param section if not null, will only return the results for the section
+     * @param pageToken the token for the next page returned with the previous page, or null for the first page
+     * @param pageSize the number of possible giver-recipient pairs the givers in a page should have in total;
+     *         a page has at least one giver however
+     * @return the session result bundle of the page, with the token for the next page if there is one
+     * @throws InvalidParametersException if the page token is invalid
+     */
+    public SessionResultsBundle getSessionResultsPageForCourse(
+            String feedbackSessionName, String courseId, String instructorEmail, String questionId,
+            @Nullable String section, @Nullable String pageToken, int pageSize) throws InvalidParametersException {
+        // the token hides the giver it ends at, which may be anonymous
+        String giverAfter = pageToken == null ? null : StringHelper.decrypt(pageToken);
+
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+        RequestTracer.checkRemainingTime();
+        if (allQuestions.isEmpty()) {
+            return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
+                    instructor, null, roster, allQuestions, Stream.empty(), null);
+        }
+        FeedbackQuestionAttributes question = allQuestions.get(0);
+
+        // givers are paged in the order of their responses' IDs, which is also the order the responses are fetched in
+        List<String> possibleGivers = new ArrayList<>(fqLogic.getPossibleGivers(question, roster));
+        possibleGivers.sort(Comparator.comparing(giver -> giver + '%'));
+        List<String> pageGivers = new ArrayList<>();
+        String lastGiver = null;
+        int numberOfPairs = 0;
+        for (String giver : possibleGivers) {
+            if (giverAfter != null && (giver + '%').compareTo(giverAfter + '%') <= 0) {
+                continue;
+            }
+            if (numberOfPairs >= pageSize) {
+                lastGiver = pageGivers.get(pageGivers.size() - 1);
+                break;
+            }
+            pageGivers.add(giver);
+            numberOfPairs += fqLogic.getPossibleRecipientsOfGiver(question, giver, roster).size();
+        }
+        RequestTracer.checkRemainingTime();
+
+        // the last page also covers the responses from givers which are no longer in the course
+        Stream<FeedbackResponseAttributes> pageResponses =
+                frDb.streamFeedbackResponsesForQuestionInGiverRange(question.getId(), giverAfter, lastGiver);
+        if (section != null) {
+            pageResponses = pageResponses.filter(response -> section.equals(response.getGiverSection())
+                    || section.equals(response.getRecipientSection()));
+        }
+
+        SessionResultsBundle bundle = buildResultsBundle(true, feedbackSessionName, courseId, section, questionId,
+                true, instructorEmail, instructor, null, roster, allQuestions, pageResponses, pageGivers);
+        if (lastGiver != null) {
+            bundle.setNextPageToken(StringHelper.encrypt(lastGiver));
+        }
+        return bundle;
+    }
+
+    /**
+     * Gets the running statistics of the responses of a feedback session for an instructor, without the responses.
+     *
+     * <p>The statistics cover all the responses to a question, so they are only included for the questions
+     * whose responses are visible to instructors if the instructor can view the session in all sections.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId if not null, will only return partial bundle for the question
+     * @return the session result bundle with the statistics of the questions and no responses
+     */
+    public SessionResultsBundle getSessionStatisticsForCourse(
+            String feedbackSessionName, String courseId, String instructorEmail, @Nullable String questionId) {
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+        RequestTracer.checkRemainingTime();
+
+        Set<String> sectionNames = new HashSet<>();
+        sectionNames.add(Const.DEFAULT_SECTION);
+        roster.getStudents().forEach(student -> sectionNames.add(student.getSection()));
+        boolean canViewAllSections = sectionNames.stream().allMatch(sectionName -> instructor.isAllowedForPrivilege(
+                sectionName, feedbackSessionName, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+
+        Map<String, FeedbackQuestionAttributes> questionsMap = new HashMap<>();
+        Map<String, FeedbackQuestionStatisticsAttributes> questionStatisticsMap = new HashMap<>();
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            questionsMap.put(question.getId(), question);
+            if (!canViewAllSections || !question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                continue;
+            }
+            FeedbackQuestionStatisticsAttributes statistics = fqsLogic.getOrBuildStatistics(question);
+            if (statistics != null) {
+                questionStatisticsMap.put(question.getId(), statistics);
+            }
+        }
+        RequestTracer.checkRemainingTime();
+
+        SessionResultsBundle bundle = new SessionResultsBundle(questionsMap, Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), roster);
+        bundle.setQuestionStatisticsMap(questionStatisticsMap);
+        return bundle;
     }
 
     /**
@@ -487,9 +637,7 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForUser(
             String feedbackSessionName, String courseId, String userEmail, boolean isInstructor,
             @Nullable String questionId) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
@@ -510,158 +658,7 @@ public final class FeedbackResponsesLogic {
         RequestTracer.checkRemainingTime();
 
         return buildResultsBundle(false, feedbackSessionName, courseId, null, questionId, isInstructor, userEmail,
-                instructor, student, roster, allQuestions, allResponses);
-    }
-
-    /**
-     * Builds viewable missing responses for the session for instructor.
-     *
-     * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
-     * @param relatedQuestionsMap the relevant questions
-     * @param existingResponses existing responses
-     * @param courseRoster the course roster
-     * @param section if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
-     */
-    private List<FeedbackResponseAttributes> buildMissingResponses(
-            String courseId, String feedbackSessionName, InstructorAttributes instructor,
-            Map<String, Boolean> responseGiverVisibilityTable, Map<String, Boolean> responseRecipientVisibilityTable,
-            Map<String, FeedbackQuestionAttributes> relatedQuestionsMap,
-            List<FeedbackResponseAttributes> existingResponses, CourseRoster courseRoster, @Nullable String section) {
-
-        // first get all possible giver recipient pairs
-        Map<String, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(),
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(), new HashMap<>());
-            }
-        }
-
-        // remove the existing responses in those pairs
-        for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestionId());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
-                continue;
-            }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
-        }
-
-        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestionAttributes correspondingQuestion =
-                    relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
-            String questionId = correspondingQuestion.getId();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (section != null
-                            && !giverInfo.getSectionName().equals(section)
-                            && !recipientInfo.getSectionName().equals(section)) {
-                        continue;
-                    }
-
-                    FeedbackResponseAttributes missingResponse =
-                            FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
-                                    .withCourseId(courseId)
-                                    .withFeedbackSessionName(feedbackSessionName)
-                                    .withGiverSection(giverInfo.getSectionName())
-                                    .withRecipientSection(recipientInfo.getSectionName())
-                                    .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
-                                    .build();
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
-                    }
-
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
-                }
-            }
-        }
-
-        return missingResponses;
-    }
-
-    private boolean isResponseVisibleForUser(
-            String userEmail, boolean isInstructor, StudentAttributes student,
-            Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
-                && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.getGiver().equals(userEmail)
-                || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && !isInstructor) {
-            if (relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                    && response.getGiver().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getGiver())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getRecipient())) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
+                instructor, student, roster, allQuestions, allResponses.stream(), null);
     }
 
     /**
@@ -690,7 +687,17 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
 
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
+        Instant writeStartedAt = Instant.now();
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
+        invalidateSnapshotsForResponse(newResponse);
+        fqsLogic.updateStatisticsForResponses(
+                Collections.singletonList(oldResponse), Collections.singletonList(newResponse), writeStartedAt);
+        if (oldResponse.getGiver().equals(newResponse.getGiver())) {
+            fsssLogic.addGiversOfResponses(Collections.singletonList(newResponse));
+        } else {
+            // the old giver may have no other response left
+            invalidateSubmissionSummaryForResponse(oldResponse);
+        }
 
         boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
         boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(newResponse.getGiverSection());
@@ -722,6 +729,103 @@ public final class FeedbackResponsesLogic {
         return newResponse;
     }
 
+    /**
+     * Creates, updates and deletes feedback responses in a batch.
+     *
+     * <p>Cascade updates the associated feedback response comments of updated responses
+     * (e.g. associated response ID, giverSection and recipientSection)
+     * and cascade deletes the associated feedback response comments of deleted responses.
+     *
+     * <p>All responses are validated and checked for existence before anything is written,
+     * i.e. if any of them fails, none of the changes is applied.
+     * Each of responses and comments is then written with a single save and a single delete
+     * instead of one write per response.
+     *
+     * <p>The comments are written after the responses are, not atomically with them. If writing the comments
+     * fails, the changes to the responses are kept while their comments are left as they were.
+     *
+     * @return the created responses followed by the updated responses, in the given order
+     * @throws InvalidParametersException if any response to create or update is not valid,
+     *         or if any comment to cascade update is not valid after the responses are written
+     * @throws EntityDoesNotExistException if any response to update cannot be found,
+     *         or if any comment to cascade update is deleted concurrently after the responses are written
+     * @throws EntityAlreadyExistsException if any response to create, or to update by recreation, already exists
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            List<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        Set<String> responseIdsToDeleteSet = new HashSet<>(responseIdsToDelete);
+        Set<String> responseIdsAffected = new HashSet<>(responseIdsToDelete);
+        for (FeedbackResponseAttributes.UpdateOptions updateOptions : responsesToUpdate) {
+            responseIdsAffected.add(updateOptions.getFeedbackResponseId());
+        }
+        Map<String, FeedbackResponseAttributes> oldResponses = frDb.getFeedbackResponses(responseIdsAffected);
+
+        Instant writeStartedAt = Instant.now();
+        List<FeedbackResponseAttributes> responses =
+                frDb.batchUpdateFeedbackResponses(responsesToCreate, responsesToUpdate, responseIdsToDelete);
+        List<FeedbackResponseAttributes> updatedResponses =
+                responses.subList(responsesToCreate.size(), responses.size());
+        responses.forEach(this::invalidateSnapshotsForResponse);
+        // the old versions of both the updated and the deleted responses are removed from the statistics
+        fqsLogic.updateStatisticsForResponses(oldResponses.values(), responses, writeStartedAt);
+        fsssLogic.addGiversOfResponses(responses);
+
+        // maps the old ID of each response whose comments have to be cascade updated to the updated response
+        Map<String, FeedbackResponseAttributes> responsesToCascadeUpdate = new HashMap<>();
+        Set<String> questionIdsToCascade = new HashSet<>();
+        for (int i = 0; i < responsesToUpdate.size(); i++) {
+            FeedbackResponseAttributes oldResponse = oldResponses.get(responsesToUpdate.get(i).getFeedbackResponseId());
+            FeedbackResponseAttributes newResponse = updatedResponses.get(i);
+            if (!oldResponse.getGiver().equals(newResponse.getGiver())) {
+                invalidateSubmissionSummaryForResponse(oldResponse);
+            }
+            if (!oldResponse.getId().equals(newResponse.getId())
+                    || !oldResponse.getGiverSection().equals(newResponse.getGiverSection())
+                    || !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection())) {
+                responsesToCascadeUpdate.put(oldResponse.getId(), newResponse);
+                questionIdsToCascade.add(oldResponse.getFeedbackQuestionId());
+            }
+        }
+        for (String responseIdToDelete : responseIdsToDeleteSet) {
+            FeedbackResponseAttributes oldResponse = oldResponses.get(responseIdToDelete);
+            if (oldResponse != null) {
+                questionIdsToCascade.add(oldResponse.getFeedbackQuestionId());
+                invalidateSnapshotsForResponse(oldResponse);
+                invalidateSubmissionSummaryForResponse(oldResponse);
+            }
+        }
+
+        // comments are fetched per question as all responses of a submission usually belong to the same question
+        List<FeedbackResponseCommentAttributes.UpdateOptions> commentsToUpdate = new ArrayList<>();
+        List<Long> commentIdsToDelete = new ArrayList<>();
+        for (String questionId : questionIdsToCascade) {
+            for (FeedbackResponseCommentAttributes comment
+                    : frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, null)) {
+                String oldResponseId = comment.getFeedbackResponseId();
+                if (responseIdsToDeleteSet.contains(oldResponseId)) {
+                    commentIdsToDelete.add(comment.getId());
+                    continue;
+                }
+
+                FeedbackResponseAttributes newResponse = responsesToCascadeUpdate.get(oldResponseId);
+                if (newResponse == null) {
+                    continue;
+                }
+                commentsToUpdate.add(FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
+                        .withFeedbackResponseId(newResponse.getId())
+                        .withGiverSection(newResponse.getGiverSection())
+                        .withReceiverSection(newResponse.getRecipientSection())
+                        .build());
+            }
+        }
+        frcLogic.batchUpdateFeedbackResponseComments(commentsToUpdate, commentIdsToDelete);
+
+        return responses;
+    }
+
     /**
      * Updates responses for a student when his team changes.
      *
@@ -733,8 +837,10 @@ public final class FeedbackResponsesLogic {
         // deletes all responses given by the user to team members or given by the user as a representative of a team.
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+        Map<String, FeedbackQuestionAttributes> questionsOfResponsesFromUser =
+                fqLogic.getFeedbackQuestionsForResponses(responsesFromUser);
         for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
+            question = questionsOfResponsesFromUser.get(response.getFeedbackQuestionId());
             if (question.getGiverType() == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
                 deleteFeedbackResponseCascade(response.getId());
@@ -744,8 +850,10 @@ public final class FeedbackResponsesLogic {
         // Deletes all responses given by other team members to the user.
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+        Map<String, FeedbackQuestionAttributes> questionsOfResponsesToUser =
+                fqLogic.getFeedbackQuestionsForResponses(responsesToUser);
         for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
+            question = questionsOfResponsesToUser.get(response.getFeedbackQuestionId());
             if (isRecipientTypeTeamMembers(question)) {
                 deleteFeedbackResponseCascade(response.getId());
             }
@@ -850,17 +958,36 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         frDb.deleteFeedbackResponses(query);
+        fqsLogic.deleteStatistics(query);
+        fsssLogic.deleteSummaries(query);
     }
 
     /**
      * Deletes a feedback response cascade its associated comments.
      */
     public void deleteFeedbackResponseCascade(String responseId) {
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
         frcLogic.deleteFeedbackResponseComments(
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
+        Instant writeStartedAt = Instant.now();
         frDb.deleteFeedbackResponse(responseId);
+        if (response != null) {
+            invalidateSnapshotsForResponse(response);
+            fqsLogic.updateStatisticsForResponses(
+                    Collections.singletonList(response), Collections.emptyList(), writeStartedAt);
+            invalidateSubmissionSummaryForResponse(response);
+        }
+    }
+
+    private void invalidateSnapshotsForResponse(FeedbackResponseAttributes response) {
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(
+                response.getFeedbackSessionName(), response.getCourseId());
+    }
+
+    private void invalidateSubmissionSummaryForResponse(FeedbackResponseAttributes response) {
+        fsssLogic.invalidateSummaryForSession(response.getFeedbackSessionName(), response.getCourseId());
     }
 
     /**
@@ -900,19 +1027,16 @@ public final class FeedbackResponsesLogic {
     private List<FeedbackResponseAttributes> getFeedbackResponsesFromTeamForQuestion(
             String feedbackQuestionId, String courseId, String teamName, @Nullable CourseRoster courseRoster) {
 
-        List<FeedbackResponseAttributes> responses = new ArrayList<>();
         List<StudentAttributes> studentsInTeam = courseRoster == null
                 ? studentsLogic.getStudentsForTeam(teamName, courseId) : courseRoster.getTeamToMembersTable().get(teamName);
 
+        List<String> giverIdentifiers = new ArrayList<>();
         for (StudentAttributes student : studentsInTeam) {
-            responses.addAll(frDb.getFeedbackResponsesFromGiverForQuestion(
-                    feedbackQuestionId, student.getEmail()));
+            giverIdentifiers.add(student.getEmail());
         }
+        giverIdentifiers.add(teamName);
 
-        responses.addAll(frDb.getFeedbackResponsesFromGiverForQuestion(
-                                        feedbackQuestionId, teamName));
-
-        return responses;
+        return frDb.getFeedbackResponsesFromGiversForQuestion(feedbackQuestionId, giverIdentifiers);
     }
 
     /**
@@ -1027,4 +1151,5 @@ public final class FeedbackResponsesLogic {
             return responses;
         }
     }
+
 }
@@ -0,0 +1,136 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
+import teammates.storage.api.FeedbackSessionSubmissionSummariesDb;
+
+/**
+ * Handles operations related to the submission summaries of feedback sessions.
+ *
+ * <p>The summary of a session is created from its roster, questions and responses when it is first needed.
+ * The givers of new responses are added to it from then on, while all other changes which may affect it,
+ * e.g. changes to the roster or the questions, or deleted responses, discard it to be created afresh
+ * on its next access. A summary is also created afresh once it is older than {@link #SUMMARY_MAX_AGE},
+ * which bounds the effect of any change missed by a summary created concurrently with the change.
+ *
+ * <p>A summary is built in place of a stored one, so that the givers added while it is built are kept:
+ * if there is no summary, a placeholder without givers which is due to be built is stored first.
+ *
+ * @see FeedbackSessionSubmissionSummaryAttributes
+ * @see FeedbackSessionSubmissionSummariesDb
+ */
+public final class FeedbackSessionSubmissionSummariesLogic {
+
+    static final Duration SUMMARY_MAX_AGE = Duration.ofHours(1);
+
+    private static final FeedbackSessionSubmissionSummariesLogic instance =
+            new FeedbackSessionSubmissionSummariesLogic();
+
+    private final FeedbackSessionSubmissionSummariesDb fsssDb = FeedbackSessionSubmissionSummariesDb.inst();
+
+    private FeedbackResponsesLogic frLogic;
+    private FeedbackSessionsLogic fsLogic;
+
+    private FeedbackSessionSubmissionSummariesLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionSubmissionSummariesLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        frLogic = FeedbackResponsesLogic.inst();
+        fsLogic = FeedbackSessionsLogic.inst();
+    }
+
+    /**
+     * Gets the submission summary of the session, creating it if there is none yet or if it is too old.
+     */
+    public FeedbackSessionSubmissionSummaryAttributes getOrBuildSummary(FeedbackSessionAttributes session) {
+        FeedbackSessionSubmissionSummaryAttributes storedSummary =
+                fsssDb.getFeedbackSessionSubmissionSummary(session.getFeedbackSessionName(), session.getCourseId());
+        if (storedSummary == null) {
+            // the givers of responses created from now on are added to the placeholder while the summary is built
+            FeedbackSessionSubmissionSummaryAttributes placeholder = FeedbackSessionSubmissionSummaryAttributes
+                    .builder(session.getFeedbackSessionName(), session.getCourseId())
+                    .withCreatedAt(Instant.now().minus(SUMMARY_MAX_AGE))
+                    .build();
+            storedSummary = fsssDb.createFeedbackSessionSubmissionSummaryIfAbsent(placeholder);
+        }
+        if (!isOutdated(storedSummary)) {
+            return storedSummary;
+        }
+
+        FeedbackSessionSubmissionSummaryAttributes summary = FeedbackSessionSubmissionSummaryAttributes
+                .builder(session.getFeedbackSessionName(), session.getCourseId())
+                .withExpectedTotalSubmission(fsLogic.getExpectedTotalSubmission(session))
+                .withGivers(frLogic.getGiverSetThatAnswerFeedbackSession(
+                        session.getCourseId(), session.getFeedbackSessionName()))
+                .build();
+        return fsssDb.replaceFeedbackSessionSubmissionSummary(summary, storedSummary);
+    }
+
+    private static boolean isOutdated(FeedbackSessionSubmissionSummaryAttributes summary) {
+        return !summary.getCreatedAt().plus(SUMMARY_MAX_AGE).isAfter(Instant.now());
+    }
+
+    /**
+     * Adds the givers of the given responses, e.g. responses which are created or updated,
+     * to the summaries of their sessions.
+     *
+     * <p>Summaries which do not exist yet are not created, as they will be built on their next access.
+     */
+    public void addGiversOfResponses(Collection<FeedbackResponseAttributes> responses) {
+        // courseId and feedbackSessionName of each session mapped to the givers in the session
+        Map<List<String>, Set<String>> giversOfSessions = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            giversOfSessions.computeIfAbsent(List.of(response.getCourseId(), response.getFeedbackSessionName()),
+                    key -> new HashSet<>()).add(response.getGiver());
+        }
+        giversOfSessions.forEach((session, givers) ->
+                fsssDb.addGiversToFeedbackSessionSubmissionSummary(session.get(1), session.get(0), givers));
+    }
+
+    /**
+     * Discards the summaries of all sessions in the course.
+     *
+     * <p>This should be called whenever the students or the instructors of the course are modified.
+     */
+    public void invalidateSummariesForCourse(String courseId) {
+        deleteSummaries(AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .build());
+    }
+
+    /**
+     * Discards the summary of the session.
+     *
+     * <p>This should be called whenever the session or its questions are modified, or its responses are deleted.
+     */
+    public void invalidateSummaryForSession(String feedbackSessionName, String courseId) {
+        deleteSummaries(AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .withFeedbackSessionName(feedbackSessionName)
+                .build());
+    }
+
+    /**
+     * Deletes summaries using {@link AttributesDeletionQuery}.
+     */
+    public void deleteSummaries(AttributesDeletionQuery query) {
+        fsssDb.deleteFeedbackSessionSubmissionSummaries(query);
+    }
+
+}
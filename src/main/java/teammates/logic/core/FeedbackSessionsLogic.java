@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -47,8 +48,8 @@ public final class FeedbackSessionsLogic {
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
-    private InstructorsLogic instructorsLogic;
-    private StudentsLogic studentsLogic;
+    private FeedbackSessionSubmissionSummariesLogic fsssLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -63,8 +64,8 @@ public final class FeedbackSessionsLogic {
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
-        instructorsLogic = InstructorsLogic.inst();
-        studentsLogic = StudentsLogic.inst();
+        fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
     }
 
     /**
@@ -308,7 +309,10 @@ public final class FeedbackSessionsLogic {
             newUpdateOptions.withSentPublishedEmail(newSession.isPublished());
         }
 
-        return fsDb.updateFeedbackSession(newUpdateOptions.build());
+        FeedbackSessionAttributes updatedSession = fsDb.updateFeedbackSession(newUpdateOptions.build());
+        snapshotsLogic.invalidateSnapshotsForSession(updatedSession.getFeedbackSessionName(), updatedSession.getCourseId());
+        fsssLogic.invalidateSummaryForSession(updatedSession.getFeedbackSessionName(), updatedSession.getCourseId());
+        return updatedSession;
     }
 
     /**
@@ -458,6 +462,7 @@ public final class FeedbackSessionsLogic {
         fqLogic.deleteFeedbackQuestions(query);
 
         fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
+        snapshotsLogic.invalidateSnapshotsForSession(feedbackSessionName, courseId);
     }
 
     /**
@@ -489,8 +494,9 @@ public final class FeedbackSessionsLogic {
      * Gets the expected number of submissions for a feedback session.
      */
     public int getExpectedTotalSubmission(FeedbackSessionAttributes fsa) {
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
+        CourseRoster roster = coursesLogic.getCourseRoster(fsa.getCourseId());
+        List<StudentAttributes> students = roster.getStudents();
+        List<InstructorAttributes> instructors = roster.getInstructors();
         List<FeedbackQuestionAttributes> questions =
                 fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
         List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
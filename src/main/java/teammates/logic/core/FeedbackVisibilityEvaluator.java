@@ -0,0 +1,291 @@
+package teammates.logic.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Evaluates the visibility of the responses and comments of a feedback session to one user.
+ *
+ * <p>The visibility settings of each question are compiled once into bitmasks of the relationships
+ * between the user and a response (e.g. being its giver, or being in the team of its recipient)
+ * which make the response, or the giver/recipient name of the response, visible to the user.
+ * Checking the visibility of a response then only needs the relationships of the user to the response,
+ * where team membership is resolved through the team IDs of the course roster.
+ *
+ * <p>The results are the same as those of {@link FeedbackResponsesLogic#isNameVisibleToUser} and
+ * {@link FeedbackResponseCommentsLogic#isResponseCommentVisibleForUser}.
+ * The evaluator is thread-safe.
+ */
+final class FeedbackVisibilityEvaluator {
+
+    // relationships between the user and a response
+    private static final int ANYONE = 1;
+    private static final int GIVER = 1 << 1;
+    private static final int RECIPIENT = 1 << 2;
+    // relationships through the team of the user as the student viewing the results
+    private static final int STUDENT_TEAM_IS_GIVER = 1 << 3;
+    private static final int STUDENT_TEAM_IS_RECIPIENT = 1 << 4;
+    private static final int STUDENT_TEAM_HAS_GIVER = 1 << 5;
+    private static final int STUDENT_TEAM_HAS_RECIPIENT = 1 << 6;
+    // relationships through the team of the user in the course roster
+    private static final int ROSTER_TEAM_IS_GIVER = 1 << 7;
+    private static final int ROSTER_TEAM_IS_RECIPIENT = 1 << 8;
+    private static final int ROSTER_TEAM_HAS_GIVER = 1 << 9;
+    private static final int ROSTER_TEAM_HAS_RECIPIENT = 1 << 10;
+
+    private static final int GIVER_TEAM_RELATIONSHIPS = STUDENT_TEAM_IS_GIVER | ROSTER_TEAM_IS_GIVER;
+    private static final int RECIPIENT_TEAM_RELATIONSHIPS = STUDENT_TEAM_IS_RECIPIENT | ROSTER_TEAM_IS_RECIPIENT;
+    private static final int GIVER_TEAM_MEMBER_RELATIONSHIPS = STUDENT_TEAM_HAS_GIVER | ROSTER_TEAM_HAS_GIVER;
+    private static final int RECIPIENT_TEAM_MEMBER_RELATIONSHIPS =
+            STUDENT_TEAM_HAS_RECIPIENT | ROSTER_TEAM_HAS_RECIPIENT;
+
+    private final String userEmail;
+    private final boolean isInstructor;
+    private final InstructorAttributes instructor;
+    private final CourseRoster roster;
+
+    private final int studentTeamId;
+    private final int rosterTeamId;
+    private final boolean isInstructorInRoster;
+    private final boolean isStudentInRoster;
+
+    private final Map<String, CompiledQuestion> compiledQuestions = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> sectionViewPrivileges = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an evaluator for the user viewing the results of a session.
+     *
+     * @param student the user as a student, or null if the user is an instructor
+     * @param instructor if not null, responses are only visible if the instructor can view the sections of
+     *         their giver and recipient
+     */
+    FeedbackVisibilityEvaluator(String userEmail, boolean isInstructor, StudentAttributes student,
+            InstructorAttributes instructor, CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.isInstructor = isInstructor;
+        this.instructor = instructor;
+        this.roster = roster;
+
+        this.studentTeamId = student == null ? CourseRoster.NO_TEAM_ID : roster.getTeamId(student.getTeam());
+        this.rosterTeamId = roster.getTeamIdOfStudent(userEmail);
+        this.isInstructorInRoster = isInstructor && roster.getInstructorForEmail(userEmail) != null;
+        this.isStudentInRoster = roster.isStudentInCourse(userEmail);
+    }
+
+    /**
+     * Returns true if the response is visible to the user.
+     */
+    boolean isResponseVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        CompiledQuestion compiledQuestion = compile(question);
+        if (!isAnyRelationshipOf(response, compiledQuestion.responseVisibleTo)) {
+            return false;
+        }
+        if (instructor == null) {
+            return true;
+        }
+        // If instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        return isSectionViewable(response.getGiverSection(), response.getFeedbackSessionName())
+                && (question.getRecipientType() == FeedbackParticipantType.NONE
+                        || isSectionViewable(response.getRecipientSection(), response.getFeedbackSessionName()));
+    }
+
+    /**
+     * Returns true if the giver name of the response is visible to the user.
+     */
+    boolean isGiverNameVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        return isAnyRelationshipOf(response, compile(question).giverNameVisibleTo);
+    }
+
+    /**
+     * Returns true if the recipient name of the response is visible to the user.
+     */
+    boolean isRecipientNameVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        return isAnyRelationshipOf(response, compile(question).recipientNameVisibleTo);
+    }
+
+    /**
+     * Returns true if the comment on the response is visible to the user.
+     */
+    boolean isCommentVisible(FeedbackResponseCommentAttributes comment, FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes question) {
+        if (comment.getCommentGiver().equals(userEmail)) {
+            return true;
+        }
+
+        int visibleTo = 0;
+        if (isInstructor && isCommentVisibleTo(comment, question, FeedbackParticipantType.INSTRUCTORS)
+                || !isInstructor && isCommentVisibleTo(comment, question, FeedbackParticipantType.STUDENTS)) {
+            visibleTo |= ANYONE;
+        }
+        if (comment.isVisibilityFollowingFeedbackQuestion() || comment.isVisibleTo(FeedbackParticipantType.GIVER)) {
+            visibleTo |= GIVER;
+        }
+        if (isCommentVisibleTo(comment, question, FeedbackParticipantType.RECEIVER)) {
+            visibleTo |= RECIPIENT;
+            if (!isInstructor && question.getRecipientType() == FeedbackParticipantType.TEAMS) {
+                visibleTo |= STUDENT_TEAM_IS_RECIPIENT;
+            }
+        }
+        if (question.getGiverType() == FeedbackParticipantType.TEAMS
+                || isCommentVisibleTo(comment, question, FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
+            visibleTo |= STUDENT_TEAM_HAS_GIVER;
+            if (!isInstructor) {
+                visibleTo |= STUDENT_TEAM_IS_GIVER;
+            }
+        }
+        if (isCommentVisibleTo(comment, question, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
+            visibleTo |= STUDENT_TEAM_HAS_RECIPIENT;
+        }
+        return isAnyRelationshipOf(response, visibleTo);
+    }
+
+    private static boolean isCommentVisibleTo(FeedbackResponseCommentAttributes comment,
+            FeedbackQuestionAttributes question, FeedbackParticipantType viewerType) {
+        return comment.isVisibilityFollowingFeedbackQuestion()
+                ? question.isResponseVisibleTo(viewerType)
+                : comment.isVisibleTo(viewerType);
+    }
+
+    private boolean isSectionViewable(String sectionName, String feedbackSessionName) {
+        return sectionViewPrivileges.computeIfAbsent(sectionName,
+                key -> instructor.isAllowedForPrivilege(sectionName, feedbackSessionName,
+                        Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+    }
+
+    private CompiledQuestion compile(FeedbackQuestionAttributes question) {
+        return compiledQuestions.computeIfAbsent(question.getId(), key -> new CompiledQuestion(question));
+    }
+
+    /**
+     * Returns true if the user has any of the relationships to the response.
+     */
+    private boolean isAnyRelationshipOf(FeedbackResponseAttributes response, int relationships) {
+        if ((relationships & ANYONE) != 0) {
+            return true;
+        }
+        if ((relationships & GIVER) != 0 && response.getGiver().equals(userEmail)
+                || (relationships & RECIPIENT) != 0 && response.getRecipient().equals(userEmail)) {
+            return true;
+        }
+        if ((relationships & GIVER_TEAM_RELATIONSHIPS) != 0
+                && isTeamRelationship(roster.getTeamId(response.getGiver()),
+                        relationships, STUDENT_TEAM_IS_GIVER, ROSTER_TEAM_IS_GIVER)) {
+            return true;
+        }
+        if ((relationships & RECIPIENT_TEAM_RELATIONSHIPS) != 0
+                && isTeamRelationship(roster.getTeamId(response.getRecipient()),
+                        relationships, STUDENT_TEAM_IS_RECIPIENT, ROSTER_TEAM_IS_RECIPIENT)) {
+            return true;
+        }
+        if ((relationships & GIVER_TEAM_MEMBER_RELATIONSHIPS) != 0
+                && isTeamRelationship(roster.getTeamIdOfStudent(response.getGiver()),
+                        relationships, STUDENT_TEAM_HAS_GIVER, ROSTER_TEAM_HAS_GIVER)) {
+            return true;
+        }
+        return (relationships & RECIPIENT_TEAM_MEMBER_RELATIONSHIPS) != 0
+                && isTeamRelationship(roster.getTeamIdOfStudent(response.getRecipient()),
+                        relationships, STUDENT_TEAM_HAS_RECIPIENT, ROSTER_TEAM_HAS_RECIPIENT);
+    }
+
+    private boolean isTeamRelationship(int teamId, int relationships,
+            int studentTeamRelationship, int rosterTeamRelationship) {
+        if (teamId == CourseRoster.NO_TEAM_ID) {
+            return false;
+        }
+        return (relationships & studentTeamRelationship) != 0 && teamId == studentTeamId
+                || (relationships & rosterTeamRelationship) != 0 && teamId == rosterTeamId;
+    }
+
+    /**
+     * The visibility settings of a question compiled for the user.
+     */
+    private final class CompiledQuestion {
+        private final int responseVisibleTo;
+        private final int giverNameVisibleTo;
+        private final int recipientNameVisibleTo;
+
+        private CompiledQuestion(FeedbackQuestionAttributes question) {
+            this.responseVisibleTo = compileResponseVisibility(question);
+            this.giverNameVisibleTo = compileNameVisibility(question, question.getShowGiverNameTo());
+            this.recipientNameVisibleTo = compileNameVisibility(question, question.getShowRecipientNameTo());
+        }
+
+        private int compileResponseVisibility(FeedbackQuestionAttributes question) {
+            int visibleTo = GIVER;
+            if (isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || !isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                visibleTo |= ANYONE;
+            }
+            boolean isVisibleToRecipient = question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+            if (isVisibleToRecipient) {
+                visibleTo |= RECIPIENT;
+            }
+            if (isInstructor) {
+                return visibleTo;
+            }
+            FeedbackParticipantType recipientType = question.getRecipientType();
+            if (isVisibleToRecipient && (recipientType == FeedbackParticipantType.TEAMS
+                    || recipientType == FeedbackParticipantType.TEAMS_IN_SAME_SECTION)) {
+                visibleTo |= STUDENT_TEAM_IS_RECIPIENT;
+            }
+            if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
+                visibleTo |= STUDENT_TEAM_IS_GIVER;
+            }
+            if (question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
+                visibleTo |= STUDENT_TEAM_HAS_GIVER;
+            }
+            if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
+                visibleTo |= STUDENT_TEAM_HAS_RECIPIENT;
+            }
+            return visibleTo;
+        }
+
+        private int compileNameVisibility(FeedbackQuestionAttributes question,
+                List<FeedbackParticipantType> showNameTo) {
+            // the giver, or anyone in the giving team, can always see the name
+            int visibleTo = question.getGiverType() == FeedbackParticipantType.TEAMS ? ROSTER_TEAM_IS_GIVER : GIVER;
+            boolean isRecipientTeam = question.getRecipientType().isTeam();
+            for (FeedbackParticipantType type : showNameTo) {
+                switch (type) {
+                case INSTRUCTORS:
+                    if (isInstructorInRoster) {
+                        visibleTo |= ANYONE;
+                    }
+                    break;
+                case OWN_TEAM_MEMBERS:
+                case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                    visibleTo |= ROSTER_TEAM_HAS_GIVER;
+                    break;
+                case RECEIVER:
+                    visibleTo |= isRecipientTeam ? ROSTER_TEAM_IS_RECIPIENT : RECIPIENT;
+                    break;
+                case RECEIVER_TEAM_MEMBERS:
+                    visibleTo |= isRecipientTeam ? ROSTER_TEAM_IS_RECIPIENT : ROSTER_TEAM_HAS_RECIPIENT;
+                    break;
+                case STUDENTS:
+                    if (isStudentInRoster) {
+                        visibleTo |= ANYONE;
+                    }
+                    break;
+                default:
+                    assert false : "Invalid FeedbackParticipantType for showNameTo in "
+                            + "FeedbackVisibilityEvaluator.compileNameVisibility()";
+                    break;
+                }
+            }
+            return visibleTo;
+        }
+    }
+
+}
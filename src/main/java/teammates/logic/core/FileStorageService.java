@@ -1,5 +1,9 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /**
  * A binary file storage interface used for managing binary files such as profile pictures.
  */
@@ -15,14 +19,35 @@ public interface FileStorageService {
      */
     byte[] getContent(String fileKey);
 
+    /**
+     * Opens a stream to read the content of the file with the specified {@code fileKey} piece by piece.
+     *
+     * <p>A file which does not exist is read as an empty file. The stream must be closed after use.
+     */
+    InputStream openForReading(String fileKey) throws IOException;
+
     /**
      * Deletes the file with the specified {@code fileKey}.
      */
     void delete(String fileKey);
 
+    /**
+     * Deletes all files whose keys start with the specified {@code fileKeyPrefix}.
+     */
+    void deleteWithPrefix(String fileKeyPrefix);
+
     /**
      * Creates a file with the specified {@code contentBytes} as content and with type {@code contentType}.
      */
     void create(String fileKey, byte[] contentBytes, String contentType);
 
+    /**
+     * Opens a stream to create a file with type {@code contentType}, with the content written to the stream
+     * piece by piece.
+     *
+     * <p>The file is only created, or replaced, when the stream is closed; if the stream is abandoned without
+     * being closed, e.g. because writing the content fails, the file is left as it was.
+     */
+    OutputStream openForWriting(String fileKey, String contentType) throws IOException;
+
 }
@@ -1,9 +1,20 @@
 package teammates.logic.core;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
 
 import teammates.common.util.Config;
@@ -20,6 +31,19 @@ public final class GoogleCloudStorageService implements FileStorageService {
         storage.delete(BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey));
     }
 
+    @Override
+    public void deleteWithPrefix(String fileKeyPrefix) {
+        List<BlobId> blobIds = new ArrayList<>();
+        for (Blob blob : storage.list(Config.PRODUCTION_GCS_BUCKETNAME,
+                Storage.BlobListOption.prefix(fileKeyPrefix)).iterateAll()) {
+            blobIds.add(blob.getBlobId());
+        }
+        if (!blobIds.isEmpty()) {
+            // deleted in batches rather than one by one
+            storage.delete(blobIds);
+        }
+    }
+
     @Override
     public void create(String fileKey, byte[] contentBytes, String contentType) {
         BlobId blobId = BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey);
@@ -27,6 +51,14 @@ public final class GoogleCloudStorageService implements FileStorageService {
         storage.create(blobInfo, contentBytes);
     }
 
+    @Override
+    public OutputStream openForWriting(String fileKey, String contentType) {
+        BlobId blobId = BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType(contentType).build();
+        // the content is uploaded in chunks, and the file is only created when the upload is closed
+        return Channels.newOutputStream(storage.writer(blobInfo));
+    }
+
     @Override
     public boolean doesFileExist(String fileKey) {
         BlobId blobId = BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey);
@@ -37,11 +69,60 @@ public final class GoogleCloudStorageService implements FileStorageService {
     @Override
     public byte[] getContent(String fileKey) {
         BlobId blobId = BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey);
-        Blob blob = storage.get(blobId);
-        if (blob == null) {
-            return new byte[0];
+        try {
+            // reads the content in a single request, without fetching the metadata of the file first
+            return storage.readAllBytes(blobId);
+        } catch (StorageException e) {
+            if (e.getCode() == HttpStatus.SC_NOT_FOUND) {
+                return new byte[0];
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openForReading(String fileKey) {
+        BlobId blobId = BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey);
+        // the content is downloaded in chunks as it is read, without fetching the metadata of the file first
+        return new MissingFileAsEmptyInputStream(Channels.newInputStream(storage.reader(blobId)));
+    }
+
+    /**
+     * Reads the content of a file, reading a file which does not exist as an empty file.
+     *
+     * <p>The existence of the file is only known when its content is first read.
+     */
+    private static final class MissingFileAsEmptyInputStream extends FilterInputStream {
+
+        MissingFileAsEmptyInputStream(InputStream in) {
+            super(in);
         }
-        return blob.getContent();
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (StorageException e) {
+                return getEndOfMissingFile(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (StorageException e) {
+                return getEndOfMissingFile(e);
+            }
+        }
+
+        private static int getEndOfMissingFile(StorageException e) {
+            if (e.getCode() == HttpStatus.SC_NOT_FOUND) {
+                return -1;
+            }
+            throw e;
+        }
+
     }
 
 }
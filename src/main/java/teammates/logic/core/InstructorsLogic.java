@@ -2,6 +2,7 @@ package teammates.logic.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -34,6 +35,8 @@ public final class InstructorsLogic {
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private FeedbackQuestionsLogic fqLogic;
+    private FeedbackSessionSubmissionSummariesLogic fsssLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
 
     private InstructorsLogic() {
         // prevent initialization
@@ -47,6 +50,8 @@ public final class InstructorsLogic {
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
     }
 
     /**
@@ -78,7 +83,11 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        CoursesLogic.invalidateCourseRosters();
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        snapshotsLogic.invalidateSnapshotsForCourse(createdInstructor.getCourseId());
+        fsssLogic.invalidateSummariesForCourse(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -87,6 +96,7 @@ public final class InstructorsLogic {
      */
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
             throws InvalidParametersException, EntityDoesNotExistException {
+        CoursesLogic.invalidateCourseRosters();
         instructorsDb.updateInstructorByGoogleId(
                 InstructorAttributes.updateOptionsWithGoogleIdBuilder(courseId, googleId)
                         .withIsArchived(archiveStatus)
@@ -193,15 +203,21 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
+        CoursesLogic.invalidateCourseRosters();
         InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByGoogleId(updateOptions);
+        snapshotsLogic.invalidateSnapshotsForCourse(updatedInstructor.getCourseId());
+        fsssLogic.invalidateSummariesForCourse(updatedInstructor.getCourseId());
 
         if (!originalInstructor.getEmail().equals(updatedInstructor.getEmail())) {
             // cascade responses
             List<FeedbackResponseAttributes> responsesFromUser =
                     frLogic.getFeedbackResponsesFromGiverForCourse(
                             originalInstructor.getCourseId(), originalInstructor.getEmail());
+            Map<String, FeedbackQuestionAttributes> questionsOfResponsesFromUser =
+                    fqLogic.getFeedbackQuestionsForResponses(responsesFromUser);
             for (FeedbackResponseAttributes responseFromUser : responsesFromUser) {
-                FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(responseFromUser.getFeedbackQuestionId());
+                FeedbackQuestionAttributes question =
+                        questionsOfResponsesFromUser.get(responseFromUser.getFeedbackQuestionId());
                 if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                         || question.getGiverType() == FeedbackParticipantType.SELF) {
                     try {
@@ -217,8 +233,11 @@ public final class InstructorsLogic {
             List<FeedbackResponseAttributes> responsesToUser =
                     frLogic.getFeedbackResponsesForReceiverForCourse(
                             originalInstructor.getCourseId(), originalInstructor.getEmail());
+            Map<String, FeedbackQuestionAttributes> questionsOfResponsesToUser =
+                    fqLogic.getFeedbackQuestionsForResponses(responsesToUser);
             for (FeedbackResponseAttributes responseToUser : responsesToUser) {
-                FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(responseToUser.getFeedbackQuestionId());
+                FeedbackQuestionAttributes question =
+                        questionsOfResponsesToUser.get(responseToUser.getFeedbackQuestionId());
                 if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
                         || (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                         && question.getRecipientType() == FeedbackParticipantType.SELF)) {
@@ -265,13 +284,18 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        CoursesLogic.invalidateCourseRosters();
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        snapshotsLogic.invalidateSnapshotsForCourse(updatedInstructor.getCourseId());
+        fsssLogic.invalidateSummariesForCourse(updatedInstructor.getCourseId());
+        return updatedInstructor;
     }
 
     /**
      * Deletes instructors using {@link AttributesDeletionQuery}.
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
+        CoursesLogic.invalidateCourseRosters();
         instructorsDb.deleteInstructors(query);
     }
 
@@ -287,7 +311,10 @@ public final class InstructorsLogic {
         }
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
+        CoursesLogic.invalidateCourseRosters();
         instructorsDb.deleteInstructor(courseId, email);
+        snapshotsLogic.invalidateSnapshotsForCourse(courseId);
+        fsssLogic.invalidateSummariesForCourse(courseId);
     }
 
     /**
@@ -321,6 +348,7 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        CoursesLogic.invalidateCourseRosters();
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
@@ -378,6 +406,7 @@ public final class InstructorsLogic {
             throw new EntityDoesNotExistException(errorMessage);
         }
 
+        CoursesLogic.invalidateCourseRosters();
         return instructorsDb.regenerateEntityKey(originalInstructor);
     }
 
@@ -1,11 +1,16 @@
 package teammates.logic.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import com.google.common.io.ByteStreams;
 
@@ -17,6 +22,7 @@ import teammates.common.util.Logger;
 public final class LocalFileStorageService implements FileStorageService {
 
     private static final String BASE_DIRECTORY = System.getProperty("user.dir") + "/filestorage-dev";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
     private static final Logger log = Logger.getLogger();
 
     private static String constructFilePath(String fileKey) {
@@ -29,6 +35,17 @@ public final class LocalFileStorageService implements FileStorageService {
         file.delete();
     }
 
+    @Override
+    public void deleteWithPrefix(String fileKeyPrefix) {
+        File[] files = new File(BASE_DIRECTORY).listFiles((directory, name) -> name.startsWith(fileKeyPrefix));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
     @Override
     public void create(String fileKey, byte[] contentBytes, String contentType) {
         try (OutputStream os = Files.newOutputStream(Paths.get(constructFilePath(fileKey)))) {
@@ -38,6 +55,15 @@ public final class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public OutputStream openForWriting(String fileKey, String contentType) throws IOException {
+        Path filePath = Paths.get(constructFilePath(fileKey));
+        // the content is written to a temporary file first, which only replaces the file when the stream is closed
+        Path temporaryFilePath = Paths.get(constructFilePath(fileKey) + TEMPORARY_FILE_SUFFIX);
+        Files.createDirectories(filePath.getParent());
+        return new TemporaryFileOutputStream(temporaryFilePath, filePath);
+    }
+
     @Override
     public boolean doesFileExist(String fileKey) {
         return Files.exists(Paths.get(constructFilePath(fileKey)));
@@ -55,4 +81,45 @@ public final class LocalFileStorageService implements FileStorageService {
         return buffer;
     }
 
+    @Override
+    public InputStream openForReading(String fileKey) throws IOException {
+        try {
+            return Files.newInputStream(Paths.get(constructFilePath(fileKey)));
+        } catch (NoSuchFileException e) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+    }
+
+    /**
+     * Writes to a temporary file, which replaces the target file when the stream is closed.
+     */
+    private static final class TemporaryFileOutputStream extends FilterOutputStream {
+
+        private final Path temporaryFilePath;
+        private final Path filePath;
+        private boolean isClosed;
+
+        TemporaryFileOutputStream(Path temporaryFilePath, Path filePath) throws IOException {
+            super(Files.newOutputStream(temporaryFilePath));
+            this.temporaryFilePath = temporaryFilePath;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            super.close();
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+    }
+
 }
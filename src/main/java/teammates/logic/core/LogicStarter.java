@@ -19,22 +19,28 @@ public class LogicStarter implements ServletContextListener {
         AccountsLogic accountsLogic = AccountsLogic.inst();
         CoursesLogic coursesLogic = CoursesLogic.inst();
         FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+        FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+        FeedbackSessionSubmissionSummariesLogic fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
         InstructorsLogic instructorsLogic = InstructorsLogic.inst();
         StudentsLogic studentsLogic = StudentsLogic.inst();
         ProfilesLogic profilesLogic = ProfilesLogic.inst();
+        SessionResultsSnapshotsLogic snapshotsLogic = SessionResultsSnapshotsLogic.inst();
 
         accountsLogic.initLogicDependencies();
         coursesLogic.initLogicDependencies();
         fqLogic.initLogicDependencies();
+        fqsLogic.initLogicDependencies();
         frLogic.initLogicDependencies();
         frcLogic.initLogicDependencies();
         fsLogic.initLogicDependencies();
+        fsssLogic.initLogicDependencies();
         instructorsLogic.initLogicDependencies();
         studentsLogic.initLogicDependencies();
         profilesLogic.initLogicDependencies();
+        snapshotsLogic.initLogicDependencies();
 
         log.info("Initialized dependencies between logic classes");
     }
@@ -0,0 +1,102 @@
+package teammates.logic.core;
+
+import java.util.List;
+
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.datatransfer.attributes.AccountRequestAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const;
+import teammates.storage.api.AccountRequestsDb;
+import teammates.storage.api.InstructorsDb;
+import teammates.storage.api.StudentsDb;
+
+/**
+ * Handles the logic related to rebuilding the search collections from the database.
+ *
+ * <p>A collection is rebuilt in chunks of consecutive entities, each of which can be indexed independently
+ * of the others, so that the chunks can be indexed in parallel and any failed chunk can be retried on its own.
+ */
+public final class SearchIndexesLogic {
+
+    /**
+     * Number of entities in a chunk; a multiple of the number of entities fetched per query.
+     */
+    static final int CHUNK_SIZE = 1500;
+
+    /**
+     * Maximum number of chunks found by a single split.
+     */
+    static final int MAX_CHUNKS_PER_SPLIT = 10;
+
+    private static final SearchIndexesLogic instance = new SearchIndexesLogic();
+
+    private final StudentsDb studentsDb = StudentsDb.inst();
+    private final InstructorsDb instructorsDb = InstructorsDb.inst();
+    private final AccountRequestsDb accountRequestsDb = AccountRequestsDb.inst();
+
+    private SearchIndexesLogic() {
+        // prevent initialization
+    }
+
+    public static SearchIndexesLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        // No dependency to other logic class
+    }
+
+    /**
+     * Splits the entities of a search collection, from the entity with {@code startId} onwards, into chunks.
+     *
+     * <p>The end ID of the last chunk is the ID to continue splitting from, or null if all entities are covered.
+     *
+     * @param collection one of {@link Const.SearchCollections#ALL}
+     * @param startId the ID of the first entity to split from, or null to split from the first entity
+     */
+    public List<EntityIdRange> splitIntoChunks(String collection, String startId) {
+        switch (collection) {
+        case Const.SearchCollections.STUDENTS:
+            return studentsDb.splitIntoIdRanges(startId, CHUNK_SIZE, MAX_CHUNKS_PER_SPLIT);
+        case Const.SearchCollections.INSTRUCTORS:
+            return instructorsDb.splitIntoIdRanges(startId, CHUNK_SIZE, MAX_CHUNKS_PER_SPLIT);
+        case Const.SearchCollections.ACCOUNT_REQUESTS:
+            return accountRequestsDb.splitIntoIdRanges(startId, CHUNK_SIZE, MAX_CHUNKS_PER_SPLIT);
+        default:
+            throw new IllegalArgumentException("Unknown search collection: " + collection);
+        }
+    }
+
+    /**
+     * Creates or updates the search documents of all entities in the chunk in bulk.
+     *
+     * <p>Indexing the same chunk again gives the same documents, so a failed chunk can be safely retried.
+     *
+     * <p>The documents become searchable shortly after, without a commit of their own, so that the chunks
+     * indexed in parallel do not overwhelm the search service with commits.
+     *
+     * @param collection one of {@link Const.SearchCollections#ALL}
+     * @return the number of documents indexed
+     */
+    public int indexChunk(String collection, EntityIdRange chunk) throws SearchServiceException {
+        switch (collection) {
+        case Const.SearchCollections.STUDENTS:
+            List<StudentAttributes> students = studentsDb.getAttributesInIdRange(chunk);
+            studentsDb.putDocumentsWithoutWaiting(students);
+            return students.size();
+        case Const.SearchCollections.INSTRUCTORS:
+            List<InstructorAttributes> instructors = instructorsDb.getAttributesInIdRange(chunk);
+            instructorsDb.putDocumentsWithoutWaiting(instructors);
+            return instructors.size();
+        case Const.SearchCollections.ACCOUNT_REQUESTS:
+            List<AccountRequestAttributes> accountRequests = accountRequestsDb.getAttributesInIdRange(chunk);
+            accountRequestsDb.putDocumentsWithoutWaiting(accountRequests);
+            return accountRequests.size();
+        default:
+            throw new IllegalArgumentException("Unknown search collection: " + collection);
+        }
+    }
+
+}
@@ -0,0 +1,337 @@
+package teammates.logic.core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.google.common.hash.Hashing;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.storage.api.OfyHelper;
+
+/**
+ * Handles operations related to the snapshots of the results of published feedback sessions.
+ *
+ * <p>A snapshot holds the serialized results of a session as seen by one particular view, e.g. by one viewer
+ * for one section, and is kept in the file storage so that the results need not be computed for every access.
+ *
+ * <p>Snapshots are written to and read from the file storage piece by piece, as they are written out,
+ * so that the results are never held in memory as a whole.
+ *
+ * <p>The files of a session are kept under a common key prefix, which is itself under the key prefix of its course,
+ * so that all the files of a session or of a course can be deleted together.
+ * Writes which may change the results delete the files of the affected session or course, and the snapshots
+ * are rebuilt on their next access. Snapshots are not updated in place, as a single response may change
+ * any part of the results of many views, e.g. the statistics or the missing responses.
+ *
+ * <p>Every snapshot is also stamped with the current version of its session, which is kept as one of the files
+ * of the session. Results built before a concurrent write may be stored after the files are deleted, but
+ * such results carry a version which no longer exists, so they are never served.
+ */
+public final class SessionResultsSnapshotsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final SessionResultsSnapshotsLogic instance = new SessionResultsSnapshotsLogic();
+
+    private static final String FILE_KEY_PREFIX = "results-snapshot-";
+    private static final String FILE_KEY_SEPARATOR = "-";
+    // not a possible hash, so that it never clashes with the key of a snapshot
+    private static final String VERSION_FILE_KEY_SUFFIX = "version";
+    private static final String SNAPSHOT_CONTENT_TYPE = "application/json";
+    private static final char VERSION_SEPARATOR = '\n';
+    private static final int MAX_VERSION_LENGTH = 64;
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private FeedbackSessionsLogic fsLogic;
+
+    private FileStorageService fileStorageService;
+
+    private SessionResultsSnapshotsLogic() {
+        if (Config.isDevServer()) {
+            fileStorageService = new LocalFileStorageService();
+        } else {
+            fileStorageService = new GoogleCloudStorageService();
+        }
+    }
+
+    public static SessionResultsSnapshotsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        fsLogic = FeedbackSessionsLogic.inst();
+    }
+
+    void setFileStorageService(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * Writes the snapshot of the results of {@code session} for the view identified by {@code viewKey} to
+     * {@code writer}.
+     *
+     * <p>If there is no valid snapshot, the results are written with {@code resultsWriter}, and are stored as
+     * the snapshot at the same time. The snapshot is only stored if all the results are written.
+     * Results of sessions which are not published are always written afresh, as they are not expected to be stable.
+     *
+     * <p>The results are built with all entities loaded directly from the database, as the entity cache may hold
+     * entities outdated by writes on other instances, which would otherwise be kept in the snapshot indefinitely.
+     * Serving a valid snapshot takes two file storage reads, one for the version of the session and one for
+     * the snapshot itself.
+     *
+     * @param viewKey a key which identifies everything, apart from the session, that the results depend on
+     * @param resultsWriter writes the serialized results
+     */
+    public void writeSnapshot(FeedbackSessionAttributes session, String viewKey, ResultsWriter resultsWriter,
+                              Appendable writer) throws IOException {
+        if (!session.isPublished()) {
+            resultsWriter.writeTo(writer);
+            return;
+        }
+
+        // the version is read before the results are built, so that the snapshot of results built
+        // before a concurrent write will never carry the version which is created after that write
+        String sessionFileKeyPrefix = getSessionFileKeyPrefix(session.getFeedbackSessionName(), session.getCourseId());
+        String version = getOrCreateVersion(sessionFileKeyPrefix + VERSION_FILE_KEY_SUFFIX);
+        String snapshotFileKey = sessionFileKeyPrefix + hash(viewKey);
+
+        try (Reader snapshotReader = new BufferedReader(new InputStreamReader(
+                fileStorageService.openForReading(snapshotFileKey), StandardCharsets.UTF_8))) {
+            if (version.equals(readVersion(snapshotReader))) {
+                copy(snapshotReader, writer);
+                return;
+            }
+        }
+
+        Writer snapshotWriter = new BufferedWriter(new OutputStreamWriter(
+                fileStorageService.openForWriting(snapshotFileKey, SNAPSHOT_CONTENT_TYPE), StandardCharsets.UTF_8));
+        SnapshotStoringWriter snapshotStoringWriter = new SnapshotStoringWriter(writer, snapshotWriter);
+        String versionLine = version + VERSION_SEPARATOR;
+        snapshotStoringWriter.storeInSnapshot(versionLine, 0, versionLine.length());
+        // the snapshot is not stored if writing the results fails, as its writer is then never closed
+        writeResultsWithoutEntityCache(resultsWriter, snapshotStoringWriter);
+        snapshotStoringWriter.close();
+    }
+
+    /**
+     * Deletes the snapshots of all sessions in the course.
+     *
+     * <p>This should be called whenever the course, its students or its instructors are modified,
+     * and when the course is deleted.
+     * The deletion takes place at the end of the current request, i.e. after all the writes of the request.
+     */
+    public void invalidateSnapshotsForCourse(String courseId) {
+        deleteFilesAtEndOfRequest(getCourseFileKeyPrefix(courseId));
+    }
+
+    /**
+     * Deletes the snapshots of the session.
+     *
+     * <p>This should be called whenever the session itself is modified, and when the session is deleted.
+     * The deletion takes place at the end of the current request, i.e. after all the writes of the request.
+     */
+    public void invalidateSnapshotsForSession(String feedbackSessionName, String courseId) {
+        deleteFilesAtEndOfRequest(getSessionFileKeyPrefix(feedbackSessionName, courseId));
+    }
+
+    /**
+     * Deletes the snapshots of the session if the session is published.
+     *
+     * <p>This should be called whenever the questions, responses or comments of the session are modified.
+     * There is no snapshot to delete for a session which is not published, as snapshots are only used
+     * for published sessions and a published session can only become unpublished through a modification
+     * of the session, which deletes its snapshots.
+     */
+    public void invalidateSnapshotsForSessionIfPublished(String feedbackSessionName, String courseId) {
+        String sessionFileKeyPrefix = getSessionFileKeyPrefix(feedbackSessionName, courseId);
+        // scheduled separately from the unconditional deletion, which must not be skipped
+        // if the session becomes unpublished later in the same request
+        RequestTracer.runAtEndOfRequest(sessionFileKeyPrefix + ":ifPublished", () -> {
+            FeedbackSessionAttributes session = fsLogic.getFeedbackSession(feedbackSessionName, courseId);
+            if (session != null && session.isPublished()) {
+                fileStorageService.deleteWithPrefix(sessionFileKeyPrefix);
+            }
+        });
+    }
+
+    private void deleteFilesAtEndOfRequest(String fileKeyPrefix) {
+        RequestTracer.runAtEndOfRequest(fileKeyPrefix, () -> fileStorageService.deleteWithPrefix(fileKeyPrefix));
+    }
+
+    private static void writeResultsWithoutEntityCache(ResultsWriter resultsWriter, Appendable writer)
+            throws IOException {
+        try {
+            OfyHelper.runWithoutEntityCache(() -> {
+                try {
+                    resultsWriter.writeTo(writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the version which the snapshot starts with, or returns null if the snapshot has none, e.g. if it is empty.
+     */
+    private static String readVersion(Reader snapshotReader) throws IOException {
+        StringBuilder version = new StringBuilder();
+        for (int c = snapshotReader.read(); c != -1; c = snapshotReader.read()) {
+            if (c == VERSION_SEPARATOR) {
+                return version.toString();
+            }
+            if (version.length() == MAX_VERSION_LENGTH) {
+                return null;
+            }
+            version.append((char) c);
+        }
+        return null;
+    }
+
+    private static void copy(Reader reader, Appendable writer) throws IOException {
+        char[] buffer = new char[COPY_BUFFER_SIZE];
+        for (int length = reader.read(buffer); length != -1; length = reader.read(buffer)) {
+            writer.append(CharBuffer.wrap(buffer, 0, length));
+        }
+    }
+
+    private String getOrCreateVersion(String versionFileKey) {
+        byte[] version = fileStorageService.getContent(versionFileKey);
+        if (version.length > 0) {
+            return new String(version, StandardCharsets.UTF_8);
+        }
+        String newVersion = UUID.randomUUID().toString();
+        fileStorageService.create(versionFileKey, newVersion.getBytes(StandardCharsets.UTF_8), "text/plain");
+        return newVersion;
+    }
+
+    private static String getCourseFileKeyPrefix(String courseId) {
+        return FILE_KEY_PREFIX + hash(courseId) + FILE_KEY_SEPARATOR;
+    }
+
+    private static String getSessionFileKeyPrefix(String feedbackSessionName, String courseId) {
+        return getCourseFileKeyPrefix(courseId) + hash(feedbackSessionName) + FILE_KEY_SEPARATOR;
+    }
+
+    /**
+     * Hashes the parts into a string which is safe to be used in a file key.
+     */
+    private static String hash(String... parts) {
+        return Hashing.sha256().hashString(String.join("\u0000", parts), StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Writes out serialized results piece by piece.
+     */
+    @FunctionalInterface
+    public interface ResultsWriter {
+
+        /**
+         * Writes the serialized results to {@code writer}.
+         */
+        void writeTo(Appendable writer) throws IOException;
+
+    }
+
+    /**
+     * Writes to a writer, storing everything written in a snapshot at the same time.
+     *
+     * <p>A failure to store the snapshot is only logged, as the results can still be written out;
+     * nothing is written to the snapshot after such a failure, and the snapshot is not stored.
+     */
+    private static final class SnapshotStoringWriter extends Writer {
+
+        private final Appendable writer;
+        private final Writer snapshotWriter;
+        private boolean isSnapshotFailed;
+
+        SnapshotStoringWriter(Appendable writer, Writer snapshotWriter) {
+            this.writer = writer;
+            this.snapshotWriter = snapshotWriter;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            writer.append(CharBuffer.wrap(cbuf, off, len));
+            if (!isSnapshotFailed) {
+                try {
+                    snapshotWriter.write(cbuf, off, len);
+                } catch (IOException | RuntimeException e) {
+                    handleSnapshotFailure(e);
+                }
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            writer.append(str, off, off + len);
+            storeInSnapshot(str, off, len);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            writer.append((char) c);
+            if (!isSnapshotFailed) {
+                try {
+                    snapshotWriter.write(c);
+                } catch (IOException | RuntimeException e) {
+                    handleSnapshotFailure(e);
+                }
+            }
+        }
+
+        /**
+         * Writes to the snapshot only.
+         */
+        void storeInSnapshot(String str, int off, int len) {
+            if (!isSnapshotFailed) {
+                try {
+                    snapshotWriter.write(str, off, len);
+                } catch (IOException | RuntimeException e) {
+                    handleSnapshotFailure(e);
+                }
+            }
+        }
+
+        private void handleSnapshotFailure(Exception e) {
+            isSnapshotFailed = true;
+            log.warning("Failed to store the snapshot of session results", e);
+        }
+
+        @Override
+        public void flush() {
+            // the snapshot is only flushed when it is stored
+        }
+
+        /**
+         * Stores the snapshot, unless storing it has failed.
+         */
+        @Override
+        public void close() {
+            if (!isSnapshotFailed) {
+                try {
+                    snapshotWriter.close();
+                } catch (IOException | RuntimeException e) {
+                    handleSnapshotFailure(e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -1,10 +1,13 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentRosterEntry;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -38,6 +41,8 @@ public final class StudentsLogic {
     private final StudentsDb studentsDb = StudentsDb.inst();
 
     private FeedbackResponsesLogic frLogic;
+    private FeedbackSessionSubmissionSummariesLogic fsssLogic;
+    private SessionResultsSnapshotsLogic snapshotsLogic;
 
     private StudentsLogic() {
         // prevent initialization
@@ -49,6 +54,8 @@ public final class StudentsLogic {
 
     void initLogicDependencies() {
         frLogic = FeedbackResponsesLogic.inst();
+        fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
+        snapshotsLogic = SessionResultsSnapshotsLogic.inst();
     }
 
     /**
@@ -60,7 +67,11 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        CoursesLogic.invalidateCourseRosters();
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        snapshotsLogic.invalidateSnapshotsForCourse(createdStudent.getCourse());
+        fsssLogic.invalidateSummariesForCourse(createdStudent.getCourse());
+        return createdStudent;
     }
 
     /**
@@ -105,6 +116,20 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Streams all students of a course, fetching them from the database in chunks as the stream is consumed.
+     */
+    public Stream<StudentAttributes> streamStudentsForCourse(String courseId) {
+        return studentsDb.streamStudentsForCourse(courseId);
+    }
+
+    /**
+     * Gets the email, team and section of all students of a course.
+     */
+    public List<StudentRosterEntry> getStudentRosterEntriesForCourse(String courseId) {
+        return studentsDb.getStudentRosterEntriesForCourse(courseId);
+    }
+
     /**
      * Gets all students of a section.
      */
@@ -202,7 +227,10 @@ public final class StudentsLogic {
     public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
+        CoursesLogic.invalidateCourseRosters();
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        snapshotsLogic.invalidateSnapshotsForCourse(updatedStudent.getCourse());
+        fsssLogic.invalidateSummariesForCourse(updatedStudent.getCourse());
 
         // cascade email change, if any
         if (!originalStudent.getEmail().equals(updatedStudent.getEmail())) {
@@ -260,6 +288,7 @@ public final class StudentsLogic {
             throw new EntityDoesNotExistException(errorMessage);
         }
 
+        CoursesLogic.invalidateCourseRosters();
         return studentsDb.regenerateEntityKey(originalStudent);
     }
 
@@ -405,7 +434,10 @@ public final class StudentsLogic {
             // the student is the only student in the team, delete responses related to the team
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
+        CoursesLogic.invalidateCourseRosters();
         studentsDb.deleteStudent(courseId, studentEmail);
+        snapshotsLogic.invalidateSnapshotsForCourse(courseId);
+        fsssLogic.invalidateSummariesForCourse(courseId);
     }
 
     /**
@@ -424,6 +456,7 @@ public final class StudentsLogic {
      * Deletes students using {@link AttributesDeletionQuery}.
      */
     public void deleteStudents(AttributesDeletionQuery query) {
+        CoursesLogic.invalidateCourseRosters();
         studentsDb.deleteStudents(query);
     }
 
@@ -436,6 +469,15 @@ public final class StudentsLogic {
         studentsDb.putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in bulk.
+     *
+     * @param students the students to be put into documents
+     */
+    public void putDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        studentsDb.putDocuments(students);
+    }
+
     private boolean isInEnrollList(StudentAttributes student,
             List<StudentAttributes> studentInfoList) {
         for (StudentAttributes studentInfo : studentInfoList) {
@@ -1,14 +1,14 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -47,6 +47,22 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
         getSearchManager().putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search documents for the given account requests in bulk.
+     */
+    public void putDocuments(Collection<AccountRequestAttributes> accountRequests) throws SearchServiceException {
+        getSearchManager().putDocuments(accountRequests);
+    }
+
+    /**
+     * Creates or updates search documents for the given account requests in bulk,
+     * without waiting for them to become searchable.
+     */
+    public void putDocumentsWithoutWaiting(Collection<AccountRequestAttributes> accountRequests)
+            throws SearchServiceException {
+        getSearchManager().putDocumentsWithoutWaiting(accountRequests);
+    }
+
     /**
      * Searches all account requests in the system.
      *
@@ -72,6 +88,26 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
         return makeAttributesOrNull(getAccountRequestEntity(AccountRequest.generateId(email, institute)));
     }
 
+    /**
+     * Gets account requests by their IDs in a single batch.
+     *
+     * @return the account requests mapped by their IDs; account requests that do not exist are omitted
+     * @see AccountRequest#generateId(String, String)
+     */
+    public Map<String, AccountRequestAttributes> getAccountRequestsByIds(Collection<String> accountRequestIds) {
+        assert accountRequestIds != null;
+
+        List<Key<AccountRequest>> keys = accountRequestIds.stream()
+                .map(id -> Key.create(AccountRequest.class, id))
+                .collect(Collectors.toList());
+
+        Map<String, AccountRequestAttributes> accountRequests = new HashMap<>();
+        for (AccountRequest accountRequest : loadEntities(keys).values()) {
+            accountRequests.put(accountRequest.getId(), makeAttributes(accountRequest));
+        }
+        return accountRequests;
+    }
+
     /**
      * Updates an account request.
      *
@@ -145,8 +181,8 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
     }
 
     @Override
-    LoadType<AccountRequest> load() {
-        return ofy().load().type(AccountRequest.class);
+    Class<AccountRequest> getEntityClass() {
+        return AccountRequest.class;
     }
 
     @Override
@@ -1,9 +1,6 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -96,8 +93,8 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     }
 
     @Override
-    LoadType<Account> load() {
-        return ofy().load().type(Account.class);
+    Class<Account> getEntityClass() {
+        return Account.class;
     }
 
     @Override
@@ -1,13 +1,10 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -38,7 +35,7 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     public CourseAttributes getCourse(String courseId) {
         assert courseId != null;
 
-        return makeAttributesOrNull(getCourseEntity(courseId));
+        return makeAttributesOrNull(getEntity(Key.create(Course.class, courseId)));
     }
 
     /**
@@ -138,8 +135,8 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     }
 
     @Override
-    LoadType<Course> load() {
-        return ofy().load().type(Course.class);
+    Class<Course> getEntityClass() {
+        return Course.class;
     }
 
     @Override
@@ -0,0 +1,88 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.RequestTracer;
+
+/**
+ * An iterator that iterates all the matched entities of a Datastore query by fetching them in chunks,
+ * so that at most one chunk of entities is held in memory at any time.
+ *
+ * <p>Each chunk is fetched with a separate query which resumes from the cursor of the previous chunk.
+ *
+ * @param <E> the type of entity to iterate
+ */
+class CursorIterator<E> implements Iterator<E> {
+
+    // cannot set number greater than 300
+    // see https://stackoverflow.com/questions/41499505/objectify-queries-setting-limit-above-300-does-not-work
+    static final int MAX_CHUNK_SIZE = 300;
+
+    private final Query<E> query;
+    private final int chunkSize;
+
+    private List<E> chunk = Collections.emptyList();
+    private int positionInChunk;
+    private Cursor cursor;
+    private boolean isLastChunkFetched;
+
+    CursorIterator(Query<E> query, int chunkSize) {
+        assert query != null;
+        assert chunkSize > 0 && chunkSize <= MAX_CHUNK_SIZE;
+
+        this.query = query;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (positionInChunk < chunk.size()) {
+            return true;
+        }
+        if (isLastChunkFetched) {
+            return false;
+        }
+        fetchNextChunk();
+        return positionInChunk < chunk.size();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunk.get(positionInChunk++);
+    }
+
+    private void fetchNextChunk() {
+        Query<E> chunkQuery = query.limit(chunkSize);
+        if (cursor != null) {
+            // there is no point fetching more entities if the request cannot be served in time anyway
+            RequestTracer.checkRemainingTime();
+            chunkQuery = chunkQuery.startAt(cursor);
+            // the query for the first chunk has been counted when the query was created
+            RequestTracer.recordDatastoreRpc();
+        }
+
+        QueryResults<E> results = chunkQuery.iterator();
+        List<E> entities = new ArrayList<>(chunkSize);
+        while (results.hasNext()) {
+            entities.add(results.next());
+        }
+
+        cursor = results.getCursorAfter();
+        // a chunk which is not full means that there is no more matched entity
+        isLastChunkFetched = entities.size() < chunkSize;
+        chunk = entities;
+        positionInChunk = 0;
+    }
+
+}
@@ -5,19 +5,35 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Result;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 
+import teammates.common.datatransfer.EntityIdRange;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.entity.BaseEntity;
 
 /**
@@ -44,8 +60,20 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * Number of entities fetched per query when streaming query results.
+     */
+    static final int DEFAULT_STREAM_CHUNK_SIZE = CursorIterator.MAX_CHUNK_SIZE;
+
     static final Logger log = Logger.getLogger();
 
+    private static EntityCache entityCache;
+
+    /**
+     * Whether the entity cache is bypassed by the current thread; see {@link #runWithoutEntityCache(Supplier)}.
+     */
+    private static final ThreadLocal<Boolean> IS_ENTITY_CACHE_BYPASSED = ThreadLocal.withInitial(() -> false);
+
     /**
      * Creates the entity in the database.
      *
@@ -74,7 +102,9 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         E entity = convertToEntityForSaving(entityToAdd);
 
+        RequestTracer.recordDatastoreRpc();
         ofy().save().entity(entity).now();
+        invalidateCachedEntities(Collections.singletonList(entity));
         log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
 
         return makeAttributes(entity);
@@ -133,7 +163,9 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         for (A attributes : entitiesToAdd) {
             log.info("Entity created: " + JsonUtils.toJson(attributes));
         }
+        RequestTracer.recordDatastoreRpc();
         ofy().save().entities(entities).now();
+        invalidateCachedEntities(entities);
 
         return makeAttributes(entities);
     }
@@ -153,7 +185,9 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
 
+        RequestTracer.recordDatastoreRpc();
         ofy().save().entity(entityToSave).now();
+        invalidateCachedEntities(Collections.singletonList(entityToSave));
     }
 
     /**
@@ -164,7 +198,52 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
         }
 
+        RequestTracer.recordDatastoreRpc();
         ofy().save().entities(entitiesToSave).now();
+        invalidateCachedEntities(entitiesToSave);
+    }
+
+    /**
+     * Saves a collection of entities and deletes entities by keys.
+     *
+     * <p>The save and the delete are issued asynchronously as one batch each and this method only returns
+     * after both have completed. The same entity must not be both saved and deleted.
+     */
+    void saveAndDeleteEntities(Collection<E> entitiesToSave, Collection<Key<E>> keysToDelete) {
+        assert entitiesToSave != null;
+        assert keysToDelete != null;
+        assert !keysToDelete.contains(null);
+
+        Result<?> saveResult = null;
+        if (!entitiesToSave.isEmpty()) {
+            for (E entityToSave : entitiesToSave) {
+                log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+            }
+            RequestTracer.recordDatastoreRpc();
+            saveResult = ofy().save().entities(entitiesToSave);
+        }
+
+        Result<?> deleteResult = null;
+        if (!keysToDelete.isEmpty()) {
+            for (Key<E> key : keysToDelete) {
+                log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
+                        key.getKind(), key.getRaw().getId(), key.getName()));
+            }
+            RequestTracer.recordDatastoreRpc();
+            deleteResult = ofy().delete().keys(keysToDelete);
+        }
+
+        if (saveResult != null) {
+            saveResult.now();
+            invalidateCachedEntities(entitiesToSave);
+        }
+        if (deleteResult != null) {
+            deleteResult.now();
+            EntityCache cache = entityCache;
+            if (cache != null) {
+                cache.invalidate(keysToDelete);
+            }
+        }
     }
 
     /**
@@ -186,10 +265,269 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
                     key.getKind(), key.getRaw().getId(), key.getName()));
         }
+        RequestTracer.recordDatastoreRpc();
         ofy().delete().keys(keys).now();
+        EntityCache cache = entityCache;
+        if (cache != null) {
+            cache.invalidate(keys);
+        }
     }
 
-    abstract LoadType<E> load();
+    /**
+     * Gets an entity by key.
+     *
+     * <p>The entity is served from the entity cache (if registered) and must not be modified.
+     * Entities meant to be updated should be loaded directly from the database instead.
+     *
+     * @return null if the entity does not exist
+     */
+    E getEntity(Key<E> key) {
+        assert key != null;
+
+        EntityCache cache = getEntityCacheForReading();
+        if (cache == null) {
+            return loadEntity(key);
+        }
+        return cache.get(key, this::loadEntity);
+    }
+
+    /**
+     * Gets entities by keys in a single batch.
+     *
+     * <p>Entities are served from the entity cache (if registered) where possible and must not be modified;
+     * see {@link #getEntity(Key)}.
+     *
+     * @return the entities mapped by their keys; entities that do not exist are omitted
+     */
+    Map<Key<E>, E> getEntities(Collection<Key<E>> keys) {
+        assert keys != null;
+
+        EntityCache cache = getEntityCacheForReading();
+        if (cache == null) {
+            return loadEntities(keys);
+        }
+        return cache.getAll(keys, this::loadEntities);
+    }
+
+    /**
+     * Loads an entity by key directly from the database.
+     *
+     * @return null if the entity does not exist
+     */
+    E loadEntity(Key<E> key) {
+        RequestTracer.recordDatastoreRpc();
+        return ofy().load().key(key).now();
+    }
+
+    /**
+     * Loads entities by keys directly from the database in a single batch.
+     *
+     * @return the entities mapped by their keys; entities that do not exist are omitted
+     */
+    Map<Key<E>, E> loadEntities(Collection<Key<E>> keys) {
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        RequestTracer.recordDatastoreRpc();
+        return new HashMap<>(ofy().load().keys(keys));
+    }
+
+    private void invalidateCachedEntities(Collection<E> entities) {
+        EntityCache cache = entityCache;
+        if (cache == null) {
+            return;
+        }
+        List<Key<E>> keys = new ArrayList<>();
+        for (E entity : entities) {
+            keys.add(Key.create(entity));
+        }
+        cache.invalidate(keys);
+    }
+
+    /**
+     * Registers the cache for entities fetched by key.
+     * This is only meant to be invoked at application startup.
+     *
+     * @param cache if null, entities will always be fetched from the database
+     */
+    static void registerEntityCache(EntityCache cache) {
+        entityCache = cache;
+    }
+
+    static EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    private static EntityCache getEntityCacheForReading() {
+        return IS_ENTITY_CACHE_BYPASSED.get() ? null : entityCache;
+    }
+
+    /**
+     * Runs the task with all entities read by the current thread loaded directly from the database,
+     * bypassing the entity cache. Entities written by the task are still invalidated in the cache.
+     */
+    static <T> T runWithoutEntityCache(Supplier<T> task) {
+        boolean wasBypassed = IS_ENTITY_CACHE_BYPASSED.get();
+        IS_ENTITY_CACHE_BYPASSED.set(true);
+        try {
+            return task.get();
+        } finally {
+            IS_ENTITY_CACHE_BYPASSED.set(wasBypassed);
+        }
+    }
+
+    /**
+     * Creates a command to load entities of the type managed by this class.
+     *
+     * <p>Each command is expected to be executed as one Datastore RPC and is counted as such for the current request.
+     */
+    LoadType<E> load() {
+        RequestTracer.recordDatastoreRpc();
+        return ofy().load().type(getEntityClass());
+    }
+
+    /**
+     * Checks whether there is any entity matching the query.
+     *
+     * <p>This is a keys-only query fetching at most one key, so no entity is read or deserialized.
+     */
+    boolean hasMatchingEntities(Query<E> query) {
+        return query.limit(1).keys().first().now() != null;
+    }
+
+    /**
+     * Gets the keys of all entities matching the query.
+     *
+     * <p>This is a keys-only query, so no entity is read or deserialized.
+     */
+    List<Key<E>> getMatchingKeys(Query<E> query) {
+        return query.keys().list();
+    }
+
+    /**
+     * Gets the values of selected properties of all entities matching the query, mapped to lightweight rows.
+     *
+     * <p>This is a projection query, so only the selected properties are read from the index instead of
+     * the whole entity. Only indexed properties can be selected and a composite index covering both the
+     * filtered and the selected properties is required.
+     *
+     * @param rowMapper converts an entity which only has the selected properties populated to a row;
+     *                  such entities are incomplete and must never be saved
+     */
+    <T> List<T> getProjectedRows(Query<E> query, Function<E, T> rowMapper, String... properties) {
+        assert properties.length > 0;
+
+        List<T> rows = new ArrayList<>();
+        for (E partialEntity : query.project(properties).list()) {
+            rows.add(rowMapper.apply(partialEntity));
+        }
+        return rows;
+    }
+
+    /**
+     * Streams the attributes of all entities matching the query.
+     *
+     * <p>Entities are fetched lazily in chunks of {@code chunkSize} as the stream is consumed,
+     * so that large result sets never need to be held in memory all at once.
+     * The stream can only be consumed once and should be consumed within the current request.
+     *
+     * @param chunkSize the number of entities to fetch per query; at most {@value CursorIterator#MAX_CHUNK_SIZE}
+     */
+    Stream<A> streamAttributes(Query<E> query, int chunkSize) {
+        Iterator<E> iterator = new CursorIterator<>(query, chunkSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .map(this::makeAttributes);
+    }
+
+    /**
+     * Streams the attributes of all entities matching the query in chunks of the default size.
+     *
+     * @see #streamAttributes(Query, int)
+     */
+    Stream<A> streamAttributes(Query<E> query) {
+        return streamAttributes(query, DEFAULT_STREAM_CHUNK_SIZE);
+    }
+
+    /**
+     * Splits the entities managed by this class, from the entity with {@code startId} onwards,
+     * into ranges of {@code rangeSize} consecutive entities each.
+     *
+     * <p>Only the keys are scanned, in chunks which resume from the cursor of the previous chunk.
+     * The end ID of the last range is the ID to continue splitting from, or null if all entities are covered.
+     *
+     * @param startId the ID of the first entity to split from, or null to split from the first entity
+     * @return at most {@code maxNumberOfRanges} ranges, ordered by ID
+     */
+    public List<EntityIdRange> splitIntoIdRanges(String startId, int rangeSize, int maxNumberOfRanges) {
+        assert rangeSize > 0;
+        assert maxNumberOfRanges > 0;
+
+        Query<E> query = load();
+        if (startId != null) {
+            query = query.filterKey(">=", Key.create(getEntityClass(), startId));
+        }
+
+        // one more key is scanned to find out where the next ranges start
+        long maxNumberOfKeys = (long) rangeSize * maxNumberOfRanges + 1;
+        List<String> rangeStartIds = new ArrayList<>();
+        long numberOfKeys = 0;
+        Cursor cursor = null;
+        boolean isLastChunkFetched = false;
+        while (!isLastChunkFetched && numberOfKeys < maxNumberOfKeys) {
+            int chunkSize = (int) Math.min(CursorIterator.MAX_CHUNK_SIZE, maxNumberOfKeys - numberOfKeys);
+            Query<E> chunkQuery = query.limit(chunkSize);
+            if (cursor != null) {
+                RequestTracer.checkRemainingTime();
+                chunkQuery = chunkQuery.startAt(cursor);
+                RequestTracer.recordDatastoreRpc();
+            }
+
+            QueryResults<Key<E>> results = chunkQuery.keys().iterator();
+            int numberOfKeysInChunk = 0;
+            while (results.hasNext()) {
+                Key<E> key = results.next();
+                if (numberOfKeys % rangeSize == 0) {
+                    rangeStartIds.add(key.getName());
+                }
+                numberOfKeys++;
+                numberOfKeysInChunk++;
+            }
+
+            cursor = results.getCursorAfter();
+            isLastChunkFetched = numberOfKeysInChunk < chunkSize;
+        }
+
+        List<EntityIdRange> ranges = new ArrayList<>();
+        for (int i = 0; i < rangeStartIds.size(); i++) {
+            String endId = i + 1 < rangeStartIds.size() ? rangeStartIds.get(i + 1) : null;
+            ranges.add(new EntityIdRange(rangeStartIds.get(i), endId));
+        }
+        if (numberOfKeys == maxNumberOfKeys) {
+            // the extra key only marks the end of the last range
+            ranges.remove(ranges.size() - 1);
+        }
+        return ranges;
+    }
+
+    /**
+     * Gets the attributes of all entities managed by this class which are within the range.
+     *
+     * <p>Entities are fetched in chunks of the default size.
+     */
+    public List<A> getAttributesInIdRange(EntityIdRange range) {
+        assert range != null;
+
+        Query<E> query = load().filterKey(">=", Key.create(getEntityClass(), range.getStartId()));
+        if (range.getEndId() != null) {
+            query = query.filterKey("<", Key.create(getEntityClass(), range.getEndId()));
+        }
+        return streamAttributes(query).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the class of the entities managed by this class.
+     */
+    abstract Class<E> getEntityClass();
 
     /**
      * Converts from entity to attributes.
@@ -200,13 +538,27 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
      * Converts a collection of entities to a list of attributes.
      */
     List<A> makeAttributes(Collection<E> entities) {
-        List<A> attributes = new LinkedList<>();
+        List<A> attributes = new ArrayList<>(entities.size());
         for (E entity : entities) {
             attributes.add(makeAttributes(entity));
         }
         return attributes;
     }
 
+    /**
+     * Converts a collection of entities to an unmodifiable list of attributes without converting them upfront.
+     *
+     * <p>Each entity is only converted when its element is first accessed, which is cheaper than
+     * {@link #makeAttributes(Collection)} for callers that may not read all elements.
+     */
+    List<A> makeAttributesView(Collection<E> entities) {
+        // query results are not necessarily random-access; copying the references is cheap compared to conversion
+        List<E> randomAccessEntities = entities instanceof RandomAccess
+                ? (List<E>) entities
+                : new ArrayList<>(entities);
+        return new LazyAttributesList<>(randomAccessEntities, this::makeAttributes);
+    }
+
     /**
      * Converts from entity to attributes.
      *
@@ -0,0 +1,48 @@
+package teammates.storage.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.googlecode.objectify.Key;
+
+/**
+ * Read-through cache for entities fetched by key, shared across requests.
+ *
+ * <p>The cache is kept coherent by {@link EntitiesDb}, which invalidates the affected keys
+ * whenever entities are created, saved or deleted through it.
+ * Implementations must be thread-safe.
+ */
+public interface EntityCache {
+
+    /**
+     * Gets the entity of the given key, loading it with {@code loader} if it is not cached.
+     *
+     * <p>Entities that do not exist (i.e. {@code loader} returns null) are not cached.
+     */
+    <E> E get(Key<E> key, Function<Key<E>, E> loader);
+
+    /**
+     * Gets the entities of the given keys, loading those that are not cached with {@code loader} in a single batch.
+     *
+     * <p>Entities that do not exist (i.e. absent from the map returned by {@code loader}) are neither cached
+     * nor included in the result.
+     */
+    <E> Map<Key<E>, E> getAll(Collection<Key<E>> keys, Function<Collection<Key<E>>, Map<Key<E>, E>> loader);
+
+    /**
+     * Removes the entities of the given keys from the cache.
+     */
+    void invalidate(Collection<? extends Key<?>> keys);
+
+    /**
+     * Removes all entities from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Gets the hit/miss/eviction statistics of the cache, grouped by entity kind.
+     */
+    Map<String, EntityCacheStats> getStats();
+
+}
@@ -0,0 +1,260 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.cloud.datastore.DatastoreException;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.storage.entity.FeedbackQuestionStatistics;
+
+/**
+ * Handles CRUD operations for the running statistics of feedback questions.
+ *
+ * @see FeedbackQuestionStatistics
+ * @see FeedbackQuestionStatisticsAttributes
+ */
+public final class FeedbackQuestionStatisticsDb
+        extends EntitiesDb<FeedbackQuestionStatistics, FeedbackQuestionStatisticsAttributes> {
+
+    /**
+     * Maximum size of the serialized tallies of stored statistics, which leaves room for the other properties
+     * within the size limit of an entity.
+     */
+    static final int MAX_TALLIES_SIZE_IN_BYTES = 1_000_000;
+
+    /**
+     * Maximum difference between the clocks of the instances, within which the times of writes of responses
+     * cannot be ordered reliably against the times the statistics are built.
+     */
+    static final Duration MAX_CLOCK_SKEW = Duration.ofSeconds(1);
+
+    private static final FeedbackQuestionStatisticsDb instance = new FeedbackQuestionStatisticsDb();
+
+    private FeedbackQuestionStatisticsDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackQuestionStatisticsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the statistics of a feedback question.
+     *
+     * @return null if there are no statistics kept for the question
+     */
+    public FeedbackQuestionStatisticsAttributes getFeedbackQuestionStatistics(String feedbackQuestionId) {
+        assert feedbackQuestionId != null;
+
+        // not read through the entity cache, as the statistics change with almost every response written
+        return makeAttributesOrNull(loadEntity(Key.create(FeedbackQuestionStatistics.class, feedbackQuestionId)));
+    }
+
+    /**
+     * Gets the IDs of the questions whose statistics are updated at or after {@code updatedAfter}.
+     */
+    public List<String> getFeedbackQuestionIdsWithStatisticsUpdatedAfter(Instant updatedAfter) {
+        assert updatedAfter != null;
+
+        return getMatchingKeys(load().filter("updatedAt >=", updatedAfter)).stream()
+                .map(Key::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the statistics of their question in a transaction, unless there are statistics stored already,
+     * e.g. ones created and updated by a concurrent request, which are then kept.
+     *
+     * <p>Statistics which are too large to be stored are not created; they are built on every access instead.
+     *
+     * @return the statistics stored for the question, or null if the statistics are too large to be stored
+     */
+    public FeedbackQuestionStatisticsAttributes createFeedbackQuestionStatisticsIfAbsent(
+            FeedbackQuestionStatisticsAttributes statistics) {
+        assert statistics != null;
+
+        FeedbackQuestionStatistics newEntity = statistics.toEntity();
+        if (isTooLargeToStore(newEntity)) {
+            return null;
+        }
+        Key<FeedbackQuestionStatistics> key = Key.create(newEntity);
+        return ofy().transact(() -> {
+            FeedbackQuestionStatistics entity = loadEntity(key);
+            if (entity != null) {
+                return makeAttributes(entity);
+            }
+            saveEntity(newEntity);
+            return makeAttributes(newEntity);
+        });
+    }
+
+    /**
+     * Replaces the statistics of their question with {@code statistics} in a transaction, provided that the stored
+     * statistics are still of {@code expectedVersion}, so that changes made in the meantime are not overwritten.
+     *
+     * <p>{@code statistics} are built from the responses read after their {@code buildStartedAt},
+     * and the replaced statistics are marked as built at the time of the replacement.
+     *
+     * <p>Statistics which are too large to be stored are deleted instead; they are built on every access then.
+     *
+     * @return false if there are no stored statistics of {@code expectedVersion}
+     */
+    public boolean replaceFeedbackQuestionStatistics(FeedbackQuestionStatisticsAttributes statistics,
+            long expectedVersion) {
+        assert statistics != null;
+        assert statistics.getBuildStartedAt() != null;
+
+        FeedbackQuestionStatistics newEntity = statistics.toEntity();
+        Key<FeedbackQuestionStatistics> key = Key.create(newEntity);
+        return ofy().transact(() -> {
+            FeedbackQuestionStatistics entity = loadEntity(key);
+            if (entity == null || entity.getVersion() != expectedVersion) {
+                return false;
+            }
+            if (isTooLargeToStore(newEntity)) {
+                deleteEntity(key);
+                return true;
+            }
+            entity.setNumberOfResponses(newEntity.getNumberOfResponses());
+            entity.setTallies(newEntity.getTallies());
+            entity.setBuildStartedAt(newEntity.getBuildStartedAt());
+            entity.setBuiltAt(Instant.now());
+            saveEntity(entity);
+            return true;
+        });
+    }
+
+    /**
+     * Adds {@code changes}, which are made by responses written between {@code writeStartedAt} and
+     * {@code writeFinishedAt}, to the statistics of their question in a transaction,
+     * so that the changes of concurrent requests are not lost.
+     *
+     * <p>Nothing is done if there are no statistics kept for the question yet, as statistics made up from
+     * the changes alone would be incomplete.
+     *
+     * <p>As the changes are added after the responses are written, the statistics may be built in the meantime.
+     * The changes are added only if the responses are written after the statistics are built, and are left out
+     * if the responses are written before the statistics are built, as the statistics include them already.
+     * Otherwise, it is unknown whether the statistics include the responses, so the statistics are deleted,
+     * to be built afresh on their next access. Changes added to statistics which are still being built
+     * change their version, which keeps the statistics being built from replacing them.
+     *
+     * <p>If the statistics cannot be updated, e.g. due to contention with concurrent requests, or would become
+     * too large to be stored, they are deleted instead, to be built afresh on their next access. The failure is
+     * not propagated, as the changes are made after the responses are saved.
+     */
+    public void addToFeedbackQuestionStatistics(FeedbackQuestionStatisticsAttributes changes,
+            Instant writeStartedAt, Instant writeFinishedAt) {
+        assert changes != null;
+        assert writeStartedAt != null;
+        assert writeFinishedAt != null;
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        Key<FeedbackQuestionStatistics> key =
+                Key.create(FeedbackQuestionStatistics.class, changes.getFeedbackQuestionId());
+        try {
+            ofy().transact(() -> {
+                FeedbackQuestionStatistics entity = loadEntity(key);
+                if (entity == null) {
+                    return;
+                }
+                if (entity.getBuiltAt() != null) {
+                    if (writeFinishedAt.plus(MAX_CLOCK_SKEW).isBefore(entity.getBuildStartedAt())) {
+                        return;
+                    }
+                    if (!writeStartedAt.minus(MAX_CLOCK_SKEW).isAfter(entity.getBuiltAt())) {
+                        log.info("Statistics of feedback question " + changes.getFeedbackQuestionId()
+                                + " may include responses written while they were built, and are deleted");
+                        deleteEntity(key);
+                        return;
+                    }
+                }
+                FeedbackQuestionStatisticsAttributes statistics = makeAttributes(entity);
+                statistics.add(changes);
+                entity.setNumberOfResponses(statistics.getNumberOfResponses());
+                entity.setTallies(statistics.toEntity().getTallies());
+                if (isTooLargeToStore(entity)) {
+                    deleteEntity(key);
+                    return;
+                }
+                saveEntity(entity);
+            });
+        } catch (ConcurrentModificationException | DatastoreException e) {
+            log.warning("Failed to update the statistics of feedback question " + changes.getFeedbackQuestionId()
+                    + ", which are deleted to be built afresh", e);
+            deleteOutdatedStatistics(key);
+        }
+    }
+
+    private void deleteOutdatedStatistics(Key<FeedbackQuestionStatistics> key) {
+        try {
+            deleteEntity(key);
+        } catch (DatastoreException e) {
+            // the statistics are being updated by concurrent requests, so the next reconciliation will cover them
+            log.severe("Failed to delete the outdated statistics of feedback question " + key.getName(), e);
+        }
+    }
+
+    private static boolean isTooLargeToStore(FeedbackQuestionStatistics entity) {
+        boolean isTooLarge = entity.getTallies().getBytes(StandardCharsets.UTF_8).length > MAX_TALLIES_SIZE_IN_BYTES;
+        if (isTooLarge) {
+            log.warning("Statistics of feedback question " + entity.getFeedbackQuestionId()
+                    + " are too large to be stored");
+        }
+        return isTooLarge;
+    }
+
+    /**
+     * Deletes statistics using {@link AttributesDeletionQuery}.
+     */
+    public void deleteFeedbackQuestionStatistics(AttributesDeletionQuery query) {
+        assert query != null;
+
+        if (query.isQuestionIdPresent()) {
+            deleteEntity(Key.create(FeedbackQuestionStatistics.class, query.getQuestionId()));
+            return;
+        }
+
+        Query<FeedbackQuestionStatistics> entitiesToDelete = load().project();
+        if (query.isCourseIdPresent()) {
+            entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        deleteEntity(getMatchingKeys(entitiesToDelete));
+    }
+
+    @Override
+    Class<FeedbackQuestionStatistics> getEntityClass() {
+        return FeedbackQuestionStatistics.class;
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackQuestionStatisticsAttributes entityToCreate) {
+        Key<FeedbackQuestionStatistics> key =
+                Key.create(FeedbackQuestionStatistics.class, entityToCreate.getFeedbackQuestionId());
+        return !load().filterKey(key).keys().list().isEmpty();
+    }
+
+    @Override
+    FeedbackQuestionStatisticsAttributes makeAttributes(FeedbackQuestionStatistics entity) {
+        assert entity != null;
+
+        return FeedbackQuestionStatisticsAttributes.valueOf(entity);
+    }
+
+}
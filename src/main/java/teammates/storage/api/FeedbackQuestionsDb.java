@@ -1,10 +1,12 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -38,7 +40,31 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId));
+        return makeAttributesOrNull(makeKeyFromWebSafeString(feedbackQuestionId).map(this::getEntity).orElse(null));
+    }
+
+    /**
+     * Gets feedback questions by their IDs in a single batch.
+     *
+     * @return the questions mapped by their IDs; questions that do not exist are omitted
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        assert feedbackQuestionIds != null;
+
+        Map<String, Key<FeedbackQuestion>> keysByQuestionId = new HashMap<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            makeKeyFromWebSafeString(feedbackQuestionId).ifPresent(key -> keysByQuestionId.put(feedbackQuestionId, key));
+        }
+        Map<Key<FeedbackQuestion>, FeedbackQuestion> entities = getEntities(new ArrayList<>(keysByQuestionId.values()));
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        keysByQuestionId.forEach((feedbackQuestionId, key) -> {
+            FeedbackQuestion question = entities.get(key);
+            if (question != null) {
+                questions.put(feedbackQuestionId, makeAttributes(question));
+            }
+        });
+        return questions;
     }
 
     /**
@@ -181,7 +207,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         assert feedbackQuestionId != null;
 
         return makeKeyFromWebSafeString(feedbackQuestionId)
-                .map(key -> ofy().load().key(key).now())
+                .map(this::loadEntity)
                 .orElse(null);
     }
 
@@ -216,29 +242,23 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
 
     private boolean hasFeedbackQuestionEntitiesForGiverType(
             String feedbackSessionName, String courseId, FeedbackParticipantType giverType) {
-        return load()
+        return hasMatchingEntities(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .filter("giverType =", giverType)
-                .keys()
-                .list()
-                .size() != 0;
+                .filter("giverType =", giverType));
     }
 
     @Override
-    LoadType<FeedbackQuestion> load() {
-        return ofy().load().type(FeedbackQuestion.class);
+    Class<FeedbackQuestion> getEntityClass() {
+        return FeedbackQuestion.class;
     }
 
     @Override
     boolean hasExistingEntities(FeedbackQuestionAttributes entityToCreate) {
-        return !load()
+        return hasMatchingEntities(load()
                 .filter("feedbackSessionName =", entityToCreate.getFeedbackSessionName())
                 .filter("courseId =", entityToCreate.getCourseId())
-                .filter("questionNumber =", entityToCreate.getQuestionNumber())
-                .keys()
-                .list()
-                .isEmpty();
+                .filter("questionNumber =", entityToCreate.getQuestionNumber()));
     }
 
     @Override
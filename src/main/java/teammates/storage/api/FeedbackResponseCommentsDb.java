@@ -1,15 +1,15 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -94,6 +94,36 @@ public final class FeedbackResponseCommentsDb
         return makeAttributesOrNull(getFeedbackResponseCommentEntitiesForResponseFromParticipant(feedbackResponseId));
     }
 
+    /**
+     * Gets comments associated with the responses of a question.
+     *
+     * <p>The comments are given by feedback participants to explain the responses
+     * and are fetched with a single query regardless of the number of responses.</p>
+     *
+     * @param feedbackQuestionId the question of the responses
+     * @param feedbackResponseIds the response ids
+     * @return the comments mapped by their response ids; responses without such comment are omitted
+     */
+    public Map<String, FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponsesFromParticipants(
+            String feedbackQuestionId, Collection<String> feedbackResponseIds) {
+        assert feedbackQuestionId != null;
+        assert feedbackResponseIds != null;
+
+        Map<String, FeedbackResponseCommentAttributes> comments = new HashMap<>();
+        if (feedbackResponseIds.isEmpty()) {
+            return comments;
+        }
+
+        Set<String> feedbackResponseIdSet = new HashSet<>(feedbackResponseIds);
+        for (FeedbackResponseComment comment
+                : getFeedbackResponseCommentEntitiesForQuestionFromParticipants(feedbackQuestionId)) {
+            if (feedbackResponseIdSet.contains(comment.getFeedbackResponseId())) {
+                comments.putIfAbsent(comment.getFeedbackResponseId(), makeAttributes(comment));
+            }
+        }
+        return comments;
+    }
+
     /**
      * Gets all comments in a feedback session of a course.
      */
@@ -154,43 +184,54 @@ public final class FeedbackResponseCommentsDb
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
         }
 
-        FeedbackResponseCommentAttributes newAttributes = makeAttributes(frc);
-        newAttributes.update(updateOptions);
-
-        newAttributes.sanitizeForSaving();
-        if (!newAttributes.isValid()) {
-            throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+        if (updateCommentEntity(frc, updateOptions)) {
+            saveEntity(frc);
         }
 
-        // update only if change
-        boolean hasSameAttributes =
-                this.<String>hasSameValue(frc.getFeedbackResponseId(), newAttributes.getFeedbackResponseId())
-                && this.<String>hasSameValue(frc.getCommentText(), newAttributes.getCommentText())
-                && this.<List<FeedbackParticipantType>>hasSameValue(frc.getShowCommentTo(), newAttributes.getShowCommentTo())
-                && this.<List<FeedbackParticipantType>>hasSameValue(
-                        frc.getShowGiverNameTo(), newAttributes.getShowGiverNameTo())
-                && this.<String>hasSameValue(frc.getLastEditorEmail(), newAttributes.getLastEditorEmail())
-                && this.<Instant>hasSameValue(frc.getLastEditedAt(), newAttributes.getLastEditedAt())
-                && this.<String>hasSameValue(frc.getGiverSection(), newAttributes.getGiverSection())
-                && this.<String>hasSameValue(frc.getReceiverSection(), newAttributes.getReceiverSection());
-        if (hasSameAttributes) {
-            log.info(String.format(
-                    OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
-            return newAttributes;
-        }
+        return makeAttributes(frc);
+    }
 
-        frc.setFeedbackResponseId(newAttributes.getFeedbackResponseId());
-        frc.setCommentText(newAttributes.getCommentText());
-        frc.setShowCommentTo(newAttributes.getShowCommentTo());
-        frc.setShowGiverNameTo(newAttributes.getShowGiverNameTo());
-        frc.setLastEditorEmail(newAttributes.getLastEditorEmail());
-        frc.setLastEditedAt(newAttributes.getLastEditedAt());
-        frc.setGiverSection(newAttributes.getGiverSection());
-        frc.setReceiverSection(newAttributes.getReceiverSection());
+    /**
+     * Updates and deletes feedback response comments in a batch.
+     *
+     * <p>All updates are validated before anything is written, i.e. if any of them fails,
+     * none of the changes is applied. The changes are then written with one save and one delete.
+     * A comment to update must not be deleted in the same batch.
+     *
+     * @throws InvalidParametersException if any attributes to update are not valid
+     * @throws EntityDoesNotExistException if any comment to update cannot be found
+     */
+    public void batchUpdateFeedbackResponseComments(
+            Collection<FeedbackResponseCommentAttributes.UpdateOptions> commentsToUpdate,
+            Collection<Long> commentIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert commentsToUpdate != null;
+        assert commentIdsToDelete != null;
 
-        saveEntity(frc);
+        List<Key<FeedbackResponseComment>> keysToUpdate = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes.UpdateOptions updateOptions : commentsToUpdate) {
+            keysToUpdate.add(Key.create(FeedbackResponseComment.class, updateOptions.getFeedbackResponseCommentId()));
+        }
+        Map<Key<FeedbackResponseComment>, FeedbackResponseComment> comments = loadEntities(keysToUpdate);
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes.UpdateOptions updateOptions : commentsToUpdate) {
+            FeedbackResponseComment frc = comments.get(
+                    Key.create(FeedbackResponseComment.class, updateOptions.getFeedbackResponseCommentId()));
+            if (frc == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
+            }
+            if (updateCommentEntity(frc, updateOptions)) {
+                commentsToSave.add(frc);
+            }
+        }
 
-        return makeAttributes(frc);
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (long commentId : commentIdsToDelete) {
+            keysToDelete.add(Key.create(FeedbackResponseComment.class, commentId));
+        }
+
+        saveAndDeleteEntities(commentsToSave, keysToDelete);
     }
 
     /**
@@ -269,6 +310,52 @@ public final class FeedbackResponseCommentsDb
         deleteEntity(entitiesToDelete.keys().list());
     }
 
+    /**
+     * Applies {@link FeedbackResponseCommentAttributes.UpdateOptions} to a comment entity.
+     *
+     * @return false if the comment does not change, in which case the entity is left untouched
+     * @throws InvalidParametersException if attributes to update are not valid
+     */
+    private boolean updateCommentEntity(
+            FeedbackResponseComment frc, FeedbackResponseCommentAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException {
+        FeedbackResponseCommentAttributes newAttributes = makeAttributes(frc);
+        newAttributes.update(updateOptions);
+
+        newAttributes.sanitizeForSaving();
+        if (!newAttributes.isValid()) {
+            throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+        }
+
+        // update only if change
+        boolean hasSameAttributes =
+                this.<String>hasSameValue(frc.getFeedbackResponseId(), newAttributes.getFeedbackResponseId())
+                && this.<String>hasSameValue(frc.getCommentText(), newAttributes.getCommentText())
+                && this.<List<FeedbackParticipantType>>hasSameValue(frc.getShowCommentTo(), newAttributes.getShowCommentTo())
+                && this.<List<FeedbackParticipantType>>hasSameValue(
+                        frc.getShowGiverNameTo(), newAttributes.getShowGiverNameTo())
+                && this.<String>hasSameValue(frc.getLastEditorEmail(), newAttributes.getLastEditorEmail())
+                && this.<Instant>hasSameValue(frc.getLastEditedAt(), newAttributes.getLastEditedAt())
+                && this.<String>hasSameValue(frc.getGiverSection(), newAttributes.getGiverSection())
+                && this.<String>hasSameValue(frc.getReceiverSection(), newAttributes.getReceiverSection());
+        if (hasSameAttributes) {
+            log.info(String.format(
+                    OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
+            return false;
+        }
+
+        frc.setFeedbackResponseId(newAttributes.getFeedbackResponseId());
+        frc.setCommentText(newAttributes.getCommentText());
+        frc.setShowCommentTo(newAttributes.getShowCommentTo());
+        frc.setShowGiverNameTo(newAttributes.getShowGiverNameTo());
+        frc.setLastEditorEmail(newAttributes.getLastEditorEmail());
+        frc.setLastEditedAt(newAttributes.getLastEditedAt());
+        frc.setGiverSection(newAttributes.getGiverSection());
+        frc.setReceiverSection(newAttributes.getReceiverSection());
+
+        return true;
+    }
+
     private FeedbackResponseComment getFeedbackResponseCommentEntity(long feedbackResponseCommentId) {
         return load().id(feedbackResponseCommentId).now();
     }
@@ -314,6 +401,14 @@ public final class FeedbackResponseCommentsDb
                 .now();
     }
 
+    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForQuestionFromParticipants(
+            String feedbackQuestionId) {
+        return load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("isCommentFromFeedbackParticipant =", true)
+                .list();
+    }
+
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForResponse(String feedbackResponseId) {
         return getFeedbackResponseCommentsForResponseQuery(feedbackResponseId).list();
     }
@@ -386,8 +481,8 @@ public final class FeedbackResponseCommentsDb
     }
 
     @Override
-    LoadType<FeedbackResponseComment> load() {
-        return ofy().load().type(FeedbackResponseComment.class);
+    Class<FeedbackResponseComment> getEntityClass() {
+        return FeedbackResponseComment.class;
     }
 
     @Override
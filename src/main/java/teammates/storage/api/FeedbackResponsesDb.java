@@ -1,17 +1,17 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -19,6 +19,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.storage.entity.FeedbackResponse;
 
 /**
@@ -46,11 +47,9 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert courseId != null;
         assert feedbackSessionName != null;
 
-        List<Key<FeedbackResponse>> keysOfResponses =
-                load().filter("courseId =", courseId)
-                        .filter("feedbackSessionName =", feedbackSessionName)
-                        .keys()
-                        .list();
+        List<Key<FeedbackResponse>> keysOfResponses = getMatchingKeys(load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName));
 
         // the following process makes use of the key pattern of feedback response entity
         // see generateId() in FeedbackResponse.java
@@ -76,6 +75,25 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributesOrNull(fr);
     }
 
+    /**
+     * Gets feedback responses by their IDs in a single batch.
+     *
+     * @return the responses mapped by their IDs; responses that do not exist are omitted
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        assert feedbackResponseIds != null;
+
+        List<Key<FeedbackResponse>> keys = feedbackResponseIds.stream()
+                .map(id -> Key.create(FeedbackResponse.class, id))
+                .collect(Collectors.toList());
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        for (FeedbackResponse response : loadEntities(keys).values()) {
+            responses.put(response.getId(), makeAttributes(response));
+        }
+        return responses;
+    }
+
     /**
      * Gets a feedback response by unique constraint question-giver-receiver.
      */
@@ -99,7 +117,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert feedbackQuestionId != null;
         assert section != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForQuestionInSection(feedbackQuestionId, section));
+        return makeAttributesView(getFeedbackResponseEntitiesForQuestionInSection(feedbackQuestionId, section));
     }
 
     /**
@@ -108,7 +126,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
+        return makeAttributesView(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
     }
 
     /**
@@ -117,11 +135,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return !load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .limit(1)
-                .list()
-                .isEmpty();
+        return hasMatchingEntities(load().filter("feedbackQuestionId =", feedbackQuestionId));
     }
 
     /**
@@ -147,6 +161,83 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesForSessionInSection(feedbackSessionName, courseId, section));
     }
 
+    /**
+     * Streams all responses of a feedback session in a course.
+     *
+     * <p>Unlike {@link #getFeedbackResponsesForSession(String, String)}, responses are fetched in chunks
+     * as the stream is consumed instead of being loaded all at once.
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return streamAttributes(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
+    }
+
+    /**
+     * Streams all responses given to/from a section in a feedback session in a course.
+     *
+     * <p>Unlike {@link #getFeedbackResponsesForSessionInSection(String, String, String)}, responses are fetched
+     * in chunks as the stream is consumed instead of being loaded all at once.
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSessionInSection(
+            String feedbackSessionName, String courseId, String section) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert section != null;
+
+        if (Config.ENABLE_RESPONSE_SECTIONS_QUERY) {
+            return streamAttributes(load()
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId)
+                    .filter("sections =", section));
+        }
+
+        Stream<FeedbackResponseAttributes> responsesFromSection = streamAttributes(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("giverSection =", section));
+        // responses within the section are already given from the section
+        Stream<FeedbackResponseAttributes> responsesToSectionFromOtherSections = streamAttributes(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("receiverSection =", section))
+                .filter(response -> !section.equals(response.getGiverSection()));
+
+        return Stream.concat(responsesFromSection, responsesToSectionFromOtherSections);
+    }
+
+    /**
+     * Streams the responses of a question given by a range of givers, in the order of their givers.
+     *
+     * <p>The ID of a response starts with the ID of its question followed by its giver
+     * (see {@link FeedbackResponse#generateId(String, String, String)}), so the responses are looked up
+     * by a range of IDs, which needs no composite index. Givers are ordered as their responses' IDs are,
+     * i.e. by the giver followed by the ID separator. Responses are fetched in chunks as the stream is consumed.
+     *
+     * @param giverAfter if not null, only responses from givers ordered after this giver are streamed
+     * @param lastGiver if not null, only responses from givers up to and including this giver are streamed
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForQuestionInGiverRange(
+            String feedbackQuestionId, String giverAfter, String lastGiver) {
+        assert feedbackQuestionId != null;
+
+        // '&' is the character right after the '%' separating the parts of an ID
+        String idLowerBound = giverAfter == null
+                ? feedbackQuestionId + '%'
+                : feedbackQuestionId + '%' + giverAfter + '&';
+        String idUpperBound = lastGiver == null
+                ? feedbackQuestionId + '&'
+                : feedbackQuestionId + '%' + lastGiver + '&';
+
+        return streamAttributes(load()
+                .filterKey(">=", Key.create(FeedbackResponse.class, idLowerBound))
+                .filterKey("<", Key.create(FeedbackResponse.class, idUpperBound)));
+    }
+
     /**
      * Gets all responses given by a user for a question.
      */
@@ -158,6 +249,27 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets all responses given by any of the givers for a question.
+     *
+     * <p>The responses of each giver are fetched with a separate query on the range of keys of the giver,
+     * i.e. with one round trip per giver, as the Datastore API offers neither {@code IN} filters nor batched queries
+     * and the keys of the responses cannot be computed without their recipients. Only the responses of the givers
+     * are read, regardless of the number of responses to the question.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiversForQuestion(
+            String feedbackQuestionId, Collection<String> giverEmails) {
+        assert feedbackQuestionId != null;
+        assert giverEmails != null;
+
+        if (giverEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return makeAttributes(
+                getFeedbackResponseEntitiesFromGiversForQuestion(feedbackQuestionId, new HashSet<>(giverEmails)));
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
@@ -178,14 +290,10 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert feedbackSessionName != null;
         assert courseId != null;
 
-        return !load()
+        return hasMatchingEntities(load()
                 .filter("giverEmail =", giverIdentifier)
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .limit(1)
-                .keys() // key query is free query
-                .list()
-                .isEmpty();
+                .filter("courseId =", courseId));
     }
 
     /**
@@ -279,6 +387,122 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         }
     }
 
+    /**
+     * Creates, updates and deletes feedback responses in a batch.
+     *
+     * <p>All responses are validated and checked for existence before anything is written, i.e. if any of them
+     * fails, none of the changes is applied. The changes are then written with one save and one delete.
+     * A response to create is allowed to replace a response deleted in the same batch,
+     * but a response to update must not be deleted in the same batch.
+     *
+     * <p>If the giver/recipient field of a response is changed, the response is updated by recreating the response
+     * as question-giver-recipient is the primary key.
+     *
+     * @return the created responses followed by the updated responses, in the given order
+     * @throws InvalidParametersException if any response to create or update is not valid
+     * @throws EntityDoesNotExistException if any response to update cannot be found
+     * @throws EntityAlreadyExistsException if any response to create, or to update by recreation, already exists
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponses(
+            Collection<FeedbackResponseAttributes> responsesToCreate,
+            Collection<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            Collection<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+        assert responseIdsToDelete != null;
+
+        Set<Key<FeedbackResponse>> keysToDelete = new LinkedHashSet<>();
+        for (String responseId : responseIdsToDelete) {
+            keysToDelete.add(Key.create(FeedbackResponse.class, responseId));
+        }
+
+        // entities are listed in the order of the output; not all of them need to be saved
+        List<FeedbackResponse> resultEntities = new ArrayList<>();
+        List<FeedbackResponse> entitiesToCreate = new ArrayList<>();
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+
+        for (FeedbackResponseAttributes responseToCreate : responsesToCreate) {
+            responseToCreate.sanitizeForSaving();
+            if (!responseToCreate.isValid()) {
+                throw new InvalidParametersException(responseToCreate.getInvalidityInfo());
+            }
+            FeedbackResponse entity = responseToCreate.toEntity();
+            resultEntities.add(entity);
+            entitiesToCreate.add(entity);
+        }
+
+        List<Key<FeedbackResponse>> keysToUpdate = responsesToUpdate.stream()
+                .map(updateOptions -> Key.create(FeedbackResponse.class, updateOptions.getFeedbackResponseId()))
+                .collect(Collectors.toList());
+        Map<Key<FeedbackResponse>, FeedbackResponse> oldResponses = loadEntities(keysToUpdate);
+
+        for (FeedbackResponseAttributes.UpdateOptions updateOptions : responsesToUpdate) {
+            FeedbackResponse oldResponse =
+                    oldResponses.get(Key.create(FeedbackResponse.class, updateOptions.getFeedbackResponseId()));
+            if (oldResponse == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
+            }
+
+            FeedbackResponseAttributes newAttributes = makeAttributes(oldResponse);
+            newAttributes.update(updateOptions);
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+            }
+
+            if (newAttributes.getRecipient().equals(oldResponse.getRecipientEmail())
+                    && newAttributes.getGiver().equals(oldResponse.getGiverEmail())) {
+                resultEntities.add(oldResponse);
+
+                // update only if change
+                boolean hasSameAttributes =
+                        this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetail());
+                if (hasSameAttributes) {
+                    log.info(String.format(
+                            OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(), updateOptions));
+                    continue;
+                }
+
+                oldResponse.setGiverSection(newAttributes.getGiverSection());
+                oldResponse.setRecipientSection(newAttributes.getRecipientSection());
+                oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetail());
+                entitiesToSave.add(oldResponse);
+            } else {
+                // need to recreate the entity
+                FeedbackResponse newResponse = newAttributes.toEntity();
+                resultEntities.add(newResponse);
+                entitiesToCreate.add(newResponse);
+                keysToDelete.add(Key.create(oldResponse));
+            }
+        }
+
+        Set<Key<FeedbackResponse>> keysToCreate = new HashSet<>();
+        for (FeedbackResponse entityToCreate : entitiesToCreate) {
+            Key<FeedbackResponse> key = Key.create(entityToCreate);
+            if (!keysToCreate.add(key)) {
+                throw new EntityAlreadyExistsException(String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, key));
+            }
+        }
+        for (Key<FeedbackResponse> existingKey : loadEntities(keysToCreate).keySet()) {
+            if (!keysToDelete.contains(existingKey)) {
+                throw new EntityAlreadyExistsException(String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, existingKey));
+            }
+        }
+        // the save replaces such responses, so they must not be deleted concurrently
+        keysToDelete.removeAll(keysToCreate);
+
+        entitiesToSave.addAll(entitiesToCreate);
+        saveAndDeleteEntities(entitiesToSave, keysToDelete);
+
+        return makeAttributes(resultEntities);
+    }
+
     /**
      * Deletes a feedback response.
      */
@@ -313,17 +537,24 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         assert courseId != null;
-        return !load().filter("courseId =", courseId).limit(1).list().isEmpty();
+        return hasMatchingEntities(load().filter("courseId =", courseId));
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
         return load().id(feedbackResponseId).now();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section) {
-        List<FeedbackResponse> allResponses = new ArrayList<>();
+        if (Config.ENABLE_RESPONSE_SECTIONS_QUERY) {
+            // the sections are distinct, thus a response given within the section is only matched once
+            return load()
+                    .filter("feedbackQuestionId =", feedbackQuestionId)
+                    .filter("sections =", section)
+                    .list();
+        }
 
+        List<FeedbackResponse> allResponses = new ArrayList<>();
         allResponses.addAll(load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
                 .filter("giverSection =", section)
@@ -349,31 +580,41 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> allResponse = new ArrayList<>();
+        if (Config.ENABLE_RESPONSE_SECTIONS_QUERY) {
+            return load()
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId)
+                    .filter("sections =", section)
+                    .list();
+        }
 
-        allResponse.addAll(load()
+        List<FeedbackResponse> allResponses = new ArrayList<>();
+        allResponses.addAll(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
                 .list());
-
-        allResponse.addAll(load()
+        allResponses.addAll(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("receiverSection =", section)
                 .list());
 
-        return removeDuplicates(allResponse);
+        return removeDuplicates(allResponses);
     }
 
-    private Collection<FeedbackResponse> removeDuplicates(Collection<FeedbackResponse> responses) {
+    /**
+     * Removes the duplicates of responses matched by both the giver section and the recipient section,
+     * which is only needed for responses loaded without querying their sections.
+     */
+    private List<FeedbackResponse> removeDuplicates(Collection<FeedbackResponse> responses) {
         Map<String, FeedbackResponse> uniqueResponses = new HashMap<>();
         for (FeedbackResponse response : responses) {
             uniqueResponses.put(response.getId(), response);
         }
-        return uniqueResponses.values();
+        return new ArrayList<>(uniqueResponses.values());
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -384,6 +625,29 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                 .list();
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiversForQuestion(
+            String feedbackQuestionId, Set<String> giverEmails) {
+        // the following process makes use of the key pattern of feedback response entity
+        // see generateId() in FeedbackResponse.java
+        // the responses of a giver are those with IDs in [qnId%giver%, qnId%giver&),
+        // as '&' is the character right after the '%' separating the parts of an ID
+        List<List<FeedbackResponse>> responsesOfGivers = new ArrayList<>();
+        for (String giverEmail : giverEmails) {
+            String keyPrefix = FeedbackResponse.generateId(feedbackQuestionId, giverEmail, "");
+            responsesOfGivers.add(load()
+                    .filterKey(">=", Key.create(FeedbackResponse.class, keyPrefix))
+                    .filterKey("<", Key.create(FeedbackResponse.class,
+                            keyPrefix.substring(0, keyPrefix.length() - 1) + '&'))
+                    .list());
+        }
+
+        // a key range may also match responses of another giver whose identifier contains the separator
+        return responsesOfGivers.stream()
+                .flatMap(List::stream)
+                .filter(response -> giverEmails.contains(response.getGiverEmail()))
+                .collect(Collectors.toList());
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestion(
             String feedbackQuestionId, String receiver) {
         return load()
@@ -409,8 +673,8 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     }
 
     @Override
-    LoadType<FeedbackResponse> load() {
-        return ofy().load().type(FeedbackResponse.class);
+    Class<FeedbackResponse> getEntityClass() {
+        return FeedbackResponse.class;
     }
 
     @Override
@@ -0,0 +1,223 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.cloud.datastore.DatastoreException;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
+
+/**
+ * Handles CRUD operations for the submission summaries of feedback sessions.
+ *
+ * @see FeedbackSessionSubmissionSummary
+ * @see FeedbackSessionSubmissionSummaryAttributes
+ */
+public final class FeedbackSessionSubmissionSummariesDb
+        extends EntitiesDb<FeedbackSessionSubmissionSummary, FeedbackSessionSubmissionSummaryAttributes> {
+
+    private static final FeedbackSessionSubmissionSummariesDb instance = new FeedbackSessionSubmissionSummariesDb();
+
+    private FeedbackSessionSubmissionSummariesDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionSubmissionSummariesDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the submission summary of a feedback session.
+     *
+     * @return null if there is no summary kept for the session
+     */
+    public FeedbackSessionSubmissionSummaryAttributes getFeedbackSessionSubmissionSummary(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        // not read through the entity cache, as the summary changes with the first submission of every giver
+        return makeAttributesOrNull(loadEntity(getKey(feedbackSessionName, courseId)));
+    }
+
+    /**
+     * Creates the submission summary of its feedback session in a transaction, unless there is a summary
+     * stored already, e.g. one created by a concurrent request, which is then kept.
+     *
+     * @return the summary stored for the session
+     */
+    public FeedbackSessionSubmissionSummaryAttributes createFeedbackSessionSubmissionSummaryIfAbsent(
+            FeedbackSessionSubmissionSummaryAttributes summary) {
+        assert summary != null;
+
+        FeedbackSessionSubmissionSummary newEntity = toEntityAsStored(summary);
+        Key<FeedbackSessionSubmissionSummary> key = Key.create(newEntity);
+        return ofy().transact(() -> {
+            FeedbackSessionSubmissionSummary entity = loadEntity(key);
+            if (entity != null) {
+                return makeAttributes(entity);
+            }
+            saveEntity(newEntity);
+            return makeAttributes(newEntity);
+        });
+    }
+
+    /**
+     * Replaces {@code replacedSummary}, the stored submission summary of a feedback session, with {@code summary}
+     * in a transaction.
+     *
+     * <p>The givers which are added to the stored summary after {@code replacedSummary} is read are kept,
+     * as {@code summary} may be built before they are added. The stored summary is kept instead if it is
+     * no longer {@code replacedSummary}, i.e. if it is replaced by a concurrent request, or deleted
+     * to be built afresh, which must not be undone with a summary which may be built before the deletion.
+     *
+     * @return the summary stored for the session, or {@code summary} if the stored summary is deleted
+     */
+    public FeedbackSessionSubmissionSummaryAttributes replaceFeedbackSessionSubmissionSummary(
+            FeedbackSessionSubmissionSummaryAttributes summary,
+            FeedbackSessionSubmissionSummaryAttributes replacedSummary) {
+        assert summary != null;
+        assert replacedSummary != null;
+
+        Key<FeedbackSessionSubmissionSummary> key =
+                getKey(replacedSummary.getFeedbackSessionName(), replacedSummary.getCourseId());
+        return ofy().transact(() -> {
+            FeedbackSessionSubmissionSummary entity = loadEntity(key);
+            if (entity == null) {
+                return summary;
+            }
+            // a summary only changes through additions of givers until it is replaced or deleted
+            if (!entity.getCreatedAt().equals(replacedSummary.getCreatedAt())) {
+                return makeAttributes(entity);
+            }
+            FeedbackSessionSubmissionSummary newEntity = toEntityAsStored(summary);
+            Set<String> givers = new TreeSet<>(newEntity.getGivers());
+            for (String giver : entity.getGivers()) {
+                if (!replacedSummary.getGivers().contains(giver)) {
+                    givers.add(giver);
+                }
+            }
+            newEntity.setGivers(new ArrayList<>(givers));
+            saveEntity(newEntity);
+            return makeAttributes(newEntity);
+        });
+    }
+
+    /**
+     * Adds {@code givers} to the givers of the submission summary of a feedback session in a transaction,
+     * so that the givers added by concurrent requests are not lost.
+     *
+     * <p>Nothing is done if there is no summary kept for the session yet, or if all the givers are in the summary
+     * already, which is checked outside of the transaction.
+     *
+     * <p>If the summary cannot be updated, e.g. due to contention with concurrent requests near the end of
+     * the session, it is deleted instead, to be built afresh on its next access. The failure is not propagated,
+     * as the givers are added after their responses are saved.
+     */
+    public void addGiversToFeedbackSessionSubmissionSummary(
+            String feedbackSessionName, String courseId, Collection<String> givers) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert givers != null;
+
+        Key<FeedbackSessionSubmissionSummary> key = getKey(feedbackSessionName, courseId);
+        FeedbackSessionSubmissionSummary summary = loadEntity(key);
+        if (summary == null || new HashSet<>(summary.getGivers()).containsAll(givers)) {
+            return;
+        }
+        try {
+            ofy().transact(() -> {
+                FeedbackSessionSubmissionSummary entity = loadEntity(key);
+                if (entity == null) {
+                    return;
+                }
+                Set<String> newGivers = new TreeSet<>(entity.getGivers());
+                if (newGivers.addAll(givers)) {
+                    entity.setGivers(new ArrayList<>(newGivers));
+                    saveEntity(entity);
+                }
+            });
+        } catch (ConcurrentModificationException | DatastoreException e) {
+            log.warning("Failed to add givers to the submission summary of feedback session " + key.getName()
+                    + ", which is deleted to be built afresh", e);
+            deleteOutdatedSummary(key);
+        }
+    }
+
+    private void deleteOutdatedSummary(Key<FeedbackSessionSubmissionSummary> key) {
+        try {
+            deleteEntity(key);
+        } catch (DatastoreException e) {
+            // the summary is built afresh anyway once it is older than its maximum age
+            log.severe("Failed to delete the outdated submission summary of feedback session " + key.getName(), e);
+        }
+    }
+
+    /**
+     * Deletes summaries using {@link AttributesDeletionQuery}.
+     *
+     * <p>Only the course ID and the session name of the query are considered, as a summary covers a whole session.
+     */
+    public void deleteFeedbackSessionSubmissionSummaries(AttributesDeletionQuery query) {
+        assert query != null;
+
+        if (!query.isCourseIdPresent()) {
+            return;
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            deleteEntity(getKey(query.getFeedbackSessionName(), query.getCourseId()));
+            return;
+        }
+
+        Query<FeedbackSessionSubmissionSummary> entitiesToDelete = load().project()
+                .filter("courseId =", query.getCourseId());
+        deleteEntity(getMatchingKeys(entitiesToDelete));
+    }
+
+    /**
+     * Converts the summary to an entity whose creation time is in the precision in which it is stored,
+     * so that the returned summary is the same as the stored one, whose creation time identifies it.
+     */
+    private static FeedbackSessionSubmissionSummary toEntityAsStored(FeedbackSessionSubmissionSummaryAttributes summary) {
+        FeedbackSessionSubmissionSummary entity = summary.toEntity();
+        entity.setCreatedAt(entity.getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+        return entity;
+    }
+
+    private static Key<FeedbackSessionSubmissionSummary> getKey(String feedbackSessionName, String courseId) {
+        return Key.create(FeedbackSessionSubmissionSummary.class,
+                FeedbackSession.generateId(feedbackSessionName, courseId));
+    }
+
+    @Override
+    Class<FeedbackSessionSubmissionSummary> getEntityClass() {
+        return FeedbackSessionSubmissionSummary.class;
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackSessionSubmissionSummaryAttributes entityToCreate) {
+        Key<FeedbackSessionSubmissionSummary> key =
+                getKey(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId());
+        return !load().filterKey(key).keys().list().isEmpty();
+    }
+
+    @Override
+    FeedbackSessionSubmissionSummaryAttributes makeAttributes(FeedbackSessionSubmissionSummary entity) {
+        assert entity != null;
+
+        return FeedbackSessionSubmissionSummaryAttributes.valueOf(entity);
+    }
+
+}
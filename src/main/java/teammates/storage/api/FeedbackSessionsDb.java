@@ -1,15 +1,12 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -83,7 +80,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert courseId != null;
 
         FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+                makeAttributesOrNull(getCachedFeedbackSessionEntity(feedbackSessionName, courseId));
 
         if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
             log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
@@ -97,7 +94,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsWithinTimeRange(Instant rangeStart, Instant rangeEnd) {
 
-        List<FeedbackSession> feedbackSessionList = new LinkedList<>();
+        List<FeedbackSession> feedbackSessionList = new ArrayList<>();
 
         List<FeedbackSession> startEntities = load()
                 .filter("startTime >=", rangeStart)
@@ -136,7 +133,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert courseId != null;
 
         FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+                makeAttributesOrNull(getCachedFeedbackSessionEntity(feedbackSessionName, courseId));
 
         if (feedbackSession != null && !feedbackSession.isSessionDeleted()) {
             log.info(feedbackSessionName + "/" + courseId + " is not soft-deleted!");
@@ -406,9 +403,13 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         return load().id(FeedbackSession.generateId(feedbackSessionName, courseId)).now();
     }
 
+    private FeedbackSession getCachedFeedbackSessionEntity(String feedbackSessionName, String courseId) {
+        return getEntity(Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)));
+    }
+
     @Override
-    LoadType<FeedbackSession> load() {
-        return ofy().load().type(FeedbackSession.class);
+    Class<FeedbackSession> getEntityClass() {
+        return FeedbackSession.class;
     }
 
     @Override
@@ -1,14 +1,14 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -51,6 +51,20 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         getSearchManager().putDocument(instructor);
     }
 
+    /**
+     * Creates or updates search documents for the given instructors in bulk.
+     */
+    public void putDocuments(Collection<InstructorAttributes> instructors) throws SearchServiceException {
+        getSearchManager().putDocuments(instructors);
+    }
+
+    /**
+     * Creates or updates search documents for the given instructors in bulk, without waiting for them to become searchable.
+     */
+    public void putDocumentsWithoutWaiting(Collection<InstructorAttributes> instructors) throws SearchServiceException {
+        getSearchManager().putDocumentsWithoutWaiting(instructors);
+    }
+
     /**
      * Removes search document for the given instructor by using {@code instructorUniqueId}.
      */
@@ -116,6 +130,26 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         return makeAttributesOrNull(getInstructorEntityById(courseId, email));
     }
 
+    /**
+     * Gets instructors by their unique IDs in a single batch.
+     *
+     * @return the instructors mapped by their unique IDs; instructors that do not exist are omitted
+     * @see Instructor#generateId(String, String)
+     */
+    public Map<String, InstructorAttributes> getInstructorsByIds(Collection<String> instructorIds) {
+        assert instructorIds != null;
+
+        List<Key<Instructor>> keys = instructorIds.stream()
+                .map(id -> Key.create(Instructor.class, id))
+                .collect(Collectors.toList());
+
+        Map<String, InstructorAttributes> instructors = new HashMap<>();
+        for (Instructor instructor : loadEntities(keys).values()) {
+            instructors.put(instructor.getUniqueId(), makeAttributes(instructor));
+        }
+        return instructors;
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-googleId.
      */
@@ -376,8 +410,8 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     }
 
     @Override
-    LoadType<Instructor> load() {
-        return ofy().load().type(Instructor.class);
+    Class<Instructor> getEntityClass() {
+        return Instructor.class;
     }
 
     @Override
@@ -0,0 +1,51 @@
+package teammates.storage.api;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable list view of the attributes of a list of entities.
+ *
+ * <p>An entity is only converted to its attributes when the element is first accessed;
+ * the converted attributes are then retained so that subsequent accesses return the same object.
+ * This avoids converting (and, for some entities, deserializing) elements that are never read.
+ *
+ * @param <E> the type of entity
+ * @param <A> the type of attributes
+ */
+class LazyAttributesList<E, A> extends AbstractList<A> implements RandomAccess {
+
+    private final List<E> entities;
+    private final Function<E, A> converter;
+    private final AtomicReferenceArray<A> attributes;
+
+    LazyAttributesList(List<E> entities, Function<E, A> converter) {
+        assert entities instanceof RandomAccess;
+
+        this.entities = entities;
+        this.converter = converter;
+        this.attributes = new AtomicReferenceArray<>(entities.size());
+    }
+
+    @Override
+    public A get(int index) {
+        A converted = attributes.get(index);
+        if (converted == null) {
+            converted = converter.apply(entities.get(index));
+            // if another thread has converted the same element concurrently, use its result instead
+            if (!attributes.compareAndSet(index, null, converted)) {
+                converted = attributes.get(index);
+            }
+        }
+        return converted;
+    }
+
+    @Override
+    public int size() {
+        return entities.size();
+    }
+
+}
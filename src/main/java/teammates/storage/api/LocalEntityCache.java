@@ -0,0 +1,198 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.googlecode.objectify.Key;
+
+/**
+ * In-process {@link EntityCache} which evicts the least recently used entity when full
+ * and treats entities older than the time-to-live as absent.
+ *
+ * <p>As the cache is local to an instance, writes done by other instances are only observed
+ * after the cached entity expires.
+ */
+public class LocalEntityCache implements EntityCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // access-ordered, i.e. the first entry is always the least recently used one
+    private final Map<Key<?>, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, EntityCacheStats> statsByKind = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private long invalidationCount;
+
+    public LocalEntityCache(int maxSize, Duration ttl) {
+        assert maxSize > 0;
+        assert ttl != null && !ttl.isNegative();
+
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> E get(Key<E> key, Function<Key<E>, E> loader) {
+        assert key != null;
+
+        EntityCacheStats stats = getStatsForKind(key.getKind());
+        long invalidationCountBeforeLoad;
+        synchronized (lock) {
+            CacheEntry entry = getUnexpiredEntry(key, stats);
+            if (entry != null) {
+                stats.recordHit();
+                return (E) entry.entity;
+            }
+            invalidationCountBeforeLoad = invalidationCount;
+        }
+
+        stats.recordMiss();
+        E entity = loader.apply(key);
+        if (entity == null) {
+            return null;
+        }
+
+        synchronized (lock) {
+            // the loaded entity may already be outdated if there is any write in the meantime
+            if (invalidationCount == invalidationCountBeforeLoad) {
+                putEntry(key, entity);
+                evictLeastRecentlyUsedIfFull();
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> Map<Key<E>, E> getAll(Collection<Key<E>> keys, Function<Collection<Key<E>>, Map<Key<E>, E>> loader) {
+        assert keys != null;
+
+        Map<Key<E>, E> entities = new HashMap<>();
+        List<Key<E>> keysToLoad = new ArrayList<>();
+        long invalidationCountBeforeLoad;
+        synchronized (lock) {
+            for (Key<E> key : keys) {
+                EntityCacheStats stats = getStatsForKind(key.getKind());
+                CacheEntry entry = getUnexpiredEntry(key, stats);
+                if (entry == null) {
+                    stats.recordMiss();
+                    keysToLoad.add(key);
+                } else {
+                    stats.recordHit();
+                    entities.put(key, (E) entry.entity);
+                }
+            }
+            invalidationCountBeforeLoad = invalidationCount;
+        }
+
+        if (keysToLoad.isEmpty()) {
+            return entities;
+        }
+
+        Map<Key<E>, E> loadedEntities = loader.apply(keysToLoad);
+        synchronized (lock) {
+            // the loaded entities may already be outdated if there is any write in the meantime
+            boolean isCacheable = invalidationCount == invalidationCountBeforeLoad;
+            for (Map.Entry<Key<E>, E> loadedEntity : loadedEntities.entrySet()) {
+                if (loadedEntity.getValue() == null) {
+                    continue;
+                }
+                entities.put(loadedEntity.getKey(), loadedEntity.getValue());
+                if (isCacheable) {
+                    putEntry(loadedEntity.getKey(), loadedEntity.getValue());
+                }
+            }
+            if (isCacheable) {
+                evictLeastRecentlyUsedIfFull();
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public void invalidate(Collection<? extends Key<?>> keys) {
+        synchronized (lock) {
+            invalidationCount++;
+            for (Key<?> key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (lock) {
+            invalidationCount++;
+            entries.clear();
+        }
+    }
+
+    @Override
+    public Map<String, EntityCacheStats> getStats() {
+        return Collections.unmodifiableMap(new HashMap<>(statsByKind));
+    }
+
+    /**
+     * Returns the number of entities currently held by the cache, including expired ones.
+     */
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    private CacheEntry getUnexpiredEntry(Key<?> key, EntityCacheStats stats) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.isExpired()) {
+            entries.remove(key);
+            stats.recordEviction();
+            return null;
+        }
+        return entry;
+    }
+
+    private void putEntry(Key<?> key, Object entity) {
+        entries.put(key, new CacheEntry(entity, Instant.now().toEpochMilli() + ttlMillis));
+    }
+
+    private void evictLeastRecentlyUsedIfFull() {
+        Iterator<Map.Entry<Key<?>, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Key<?> eldestKey = iterator.next().getKey();
+            iterator.remove();
+            getStatsForKind(eldestKey.getKind()).recordEviction();
+        }
+    }
+
+    private EntityCacheStats getStatsForKind(String kind) {
+        return statsByKind.computeIfAbsent(kind, k -> new EntityCacheStats());
+    }
+
+    private static class CacheEntry {
+        private final Object entity;
+        private final long expiryTimestamp;
+
+        private CacheEntry(Object entity, long expiryTimestamp) {
+            this.entity = entity;
+            this.expiryTimestamp = expiryTimestamp;
+        }
+
+        private boolean isExpired() {
+            return Instant.now().toEpochMilli() >= expiryTimestamp;
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package teammates.storage.api;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
@@ -8,15 +11,18 @@ import com.googlecode.objectify.ObjectifyFactory;
 import com.googlecode.objectify.ObjectifyService;
 
 import teammates.common.util.Config;
+import teammates.common.util.Logger;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.AccountRequest;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackQuestionStatistics;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -25,6 +31,8 @@ import teammates.storage.entity.StudentProfile;
  **/
 public class OfyHelper implements ServletContextListener {
 
+    private static final Logger log = Logger.getLogger();
+
     private static void initializeDatastore() {
         DatastoreOptions.Builder builder = DatastoreOptions.newBuilder().setProjectId(Config.APP_ID);
         if (Config.isDevServer()) {
@@ -47,19 +55,57 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
         ObjectifyService.register(AccountRequest.class);
+        ObjectifyService.register(FeedbackQuestionStatistics.class);
+        ObjectifyService.register(FeedbackSessionSubmissionSummary.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
 
+    /**
+     * Registers the cache for entities fetched by key, if it is enabled in build.properties.
+     */
+    public static void registerEntityCache() {
+        if (Config.ENTITY_CACHE_MAX_SIZE > 0) {
+            EntitiesDb.registerEntityCache(new LocalEntityCache(
+                    Config.ENTITY_CACHE_MAX_SIZE, Duration.ofSeconds(Config.ENTITY_CACHE_TTL_SECONDS)));
+        }
+    }
+
+    /**
+     * Removes all entities from the entity cache.
+     *
+     * <p>This needs to be done whenever the database is modified without going through the storage layer.
+     */
+    public static void clearEntityCache() {
+        EntityCache entityCache = EntitiesDb.getEntityCache();
+        if (entityCache != null) {
+            entityCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Runs the task with all entities loaded directly from the database, bypassing the entity cache.
+     *
+     * <p>The entity cache of an instance is not invalidated by writes on other instances, so this is meant for
+     * results which are kept beyond the current request and thus must not be built from outdated entities.
+     */
+    public static <T> T runWithoutEntityCache(Supplier<T> task) {
+        return EntitiesDb.runWithoutEntityCache(task);
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
         initializeDatastore();
         registerEntityClasses();
+        registerEntityCache();
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        EntityCache entityCache = EntitiesDb.getEntityCache();
+        if (entityCache != null) {
+            log.info("Entity cache statistics: " + entityCache.getStats());
+        }
     }
 }
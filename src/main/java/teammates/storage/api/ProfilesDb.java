@@ -1,11 +1,8 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.Instant;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.InvalidParametersException;
@@ -112,12 +109,12 @@ public final class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileA
     private StudentProfile getStudentProfileEntityFromDb(String googleId) {
         Key<Account> parentKey = Key.create(Account.class, googleId);
         Key<StudentProfile> childKey = Key.create(parentKey, StudentProfile.class, googleId);
-        return ofy().load().key(childKey).now();
+        return loadEntity(childKey);
     }
 
     @Override
-    LoadType<StudentProfile> load() {
-        return ofy().load().type(StudentProfile.class);
+    Class<StudentProfile> getEntityClass() {
+        return StudentProfile.class;
     }
 
     @Override
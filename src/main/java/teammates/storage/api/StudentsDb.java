@@ -1,23 +1,26 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentRosterEntry;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.search.SearchManagerFactory;
@@ -56,6 +59,20 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         getSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in bulk.
+     */
+    public void putDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        getSearchManager().putDocuments(students);
+    }
+
+    /**
+     * Creates or updates search documents for the given students in bulk, without waiting for them to become searchable.
+     */
+    public void putDocumentsWithoutWaiting(Collection<StudentAttributes> students) throws SearchServiceException {
+        getSearchManager().putDocumentsWithoutWaiting(students);
+    }
+
     /**
      * Searches for students.
      *
@@ -123,6 +140,26 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets students by their unique IDs in a single batch.
+     *
+     * @return the students mapped by their unique IDs; students that do not exist are omitted
+     * @see CourseStudent#generateId(String, String)
+     */
+    public Map<String, StudentAttributes> getStudentsByIds(Collection<String> studentIds) {
+        assert studentIds != null;
+
+        List<Key<CourseStudent>> keys = studentIds.stream()
+                .map(id -> Key.create(CourseStudent.class, id))
+                .collect(Collectors.toList());
+
+        Map<String, StudentAttributes> students = new HashMap<>();
+        for (CourseStudent student : loadEntities(keys).values()) {
+            students.put(student.getUniqueId(), makeAttributes(student));
+        }
+        return students;
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -175,6 +212,32 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributes(getCourseStudentEntitiesForCourse(courseId));
     }
 
+    /**
+     * Streams all students of a course.
+     *
+     * <p>Unlike {@link #getStudentsForCourse(String)}, students are fetched in chunks
+     * as the stream is consumed instead of being loaded all at once.
+     */
+    public Stream<StudentAttributes> streamStudentsForCourse(String courseId) {
+        assert courseId != null;
+
+        return streamAttributes(getCourseStudentsForCourseQuery(courseId));
+    }
+
+    /**
+     * Gets the email, team and section of all students of a course.
+     *
+     * <p>This is cheaper than {@link #getStudentsForCourse(String)} as only the needed properties are read.
+     */
+    public List<StudentRosterEntry> getStudentRosterEntriesForCourse(String courseId) {
+        assert courseId != null;
+
+        return getProjectedRows(load().filter("courseId =", courseId),
+                student -> new StudentRosterEntry(student.getEmail(), student.getTeamName(),
+                        student.getSectionName() == null ? Const.DEFAULT_SECTION : student.getSectionName()),
+                "email", "teamName", "sectionName");
+    }
+
     /**
      * Gets all students of a section of a course.
      */
@@ -359,8 +422,8 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
     }
 
     @Override
-    LoadType<CourseStudent> load() {
-        return ofy().load().type(CourseStudent.class);
+    Class<CourseStudent> getEntityClass() {
+        return CourseStudent.class;
     }
 
     @Override
@@ -0,0 +1,153 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the running statistics of the responses to a feedback question.
+ */
+@Entity
+@Index
+public class FeedbackQuestionStatistics extends BaseEntity {
+
+    @Id
+    private String feedbackQuestionId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private long numberOfResponses;
+
+    /**
+     * Serialized tallies of the response values stored as a string.
+     *
+     * @see teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes
+     */
+    @Unindex
+    private String tallies;
+
+    /**
+     * Incremented whenever the statistics are saved, so that changes made in the meantime can be detected.
+     */
+    @Unindex
+    private long version;
+
+    /**
+     * Time before the responses were read when the statistics were last built.
+     */
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant buildStartedAt;
+
+    /**
+     * Time after the responses were read when the statistics were last built, or null while they are being built.
+     */
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant builtAt;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackQuestionStatistics() {
+        // required by Objectify
+    }
+
+    public FeedbackQuestionStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+            long numberOfResponses, String tallies) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.numberOfResponses = numberOfResponses;
+        this.tallies = tallies;
+        this.setCreatedAt(Instant.now());
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public long getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    public void setNumberOfResponses(long numberOfResponses) {
+        this.numberOfResponses = numberOfResponses;
+    }
+
+    public String getTallies() {
+        return tallies;
+    }
+
+    public void setTallies(String tallies) {
+        this.tallies = tallies;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getBuildStartedAt() {
+        return buildStartedAt;
+    }
+
+    public void setBuildStartedAt(Instant buildStartedAt) {
+        this.buildStartedAt = buildStartedAt;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public void setBuiltAt(Instant builtAt) {
+        this.builtAt = builtAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        setLastUpdate(createdAt);
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setLastUpdate(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Updates the updatedAt timestamp and the version when saving.
+     */
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.setLastUpdate(Instant.now());
+        this.version++;
+    }
+
+}
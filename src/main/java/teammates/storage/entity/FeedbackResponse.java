@@ -1,6 +1,8 @@
 package teammates.storage.entity;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
@@ -47,6 +49,12 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    /**
+     * The distinct sections of {@code giverSection} and {@code receiverSection}, so that the responses given from
+     * or to a section can be fetched with a single query on this field.
+     */
+    private List<String> sections;
+
     /**
      * Serialized {@link teammates.common.datatransfer.questions.FeedbackResponseDetails} stored as a string.
      *
@@ -78,6 +86,7 @@ public class FeedbackResponse extends BaseEntity {
         this.receiver = recipient;
         this.receiverSection = recipientSection;
         this.answer = answer;
+        updateSections();
 
         this.feedbackResponseId = generateId(feedbackQuestionId, giverEmail, receiver);
 
@@ -144,6 +153,7 @@ public class FeedbackResponse extends BaseEntity {
 
     public void setGiverSection(String giverSection) {
         this.giverSection = giverSection;
+        updateSections();
     }
 
     public String getRecipientEmail() {
@@ -160,6 +170,34 @@ public class FeedbackResponse extends BaseEntity {
 
     public void setRecipientSection(String recipientSection) {
         this.receiverSection = recipientSection;
+        updateSections();
+    }
+
+    /**
+     * Gets the distinct sections of the giver and the recipient.
+     *
+     * @return null if the sections have not been stored, i.e. for responses which have not been saved since
+     *         the field was introduced
+     */
+    public List<String> getSections() {
+        return sections;
+    }
+
+    /**
+     * Updates the sections from the sections of the giver and the recipient.
+     *
+     * <p>This is also done when saving, which fills in the sections of older responses when they are saved again.
+     */
+    @OnSave
+    public void updateSections() {
+        List<String> newSections = new ArrayList<>();
+        if (giverSection != null) {
+            newSections.add(giverSection);
+        }
+        if (receiverSection != null && !receiverSection.equals(giverSection)) {
+            newSections.add(receiverSection);
+        }
+        this.sections = newSections;
     }
 
     public String getAnswer() {
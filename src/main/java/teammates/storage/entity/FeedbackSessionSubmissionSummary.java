@@ -0,0 +1,112 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the summary of the submissions of a feedback session, i.e. who is expected to submit
+ * and who has submitted.
+ */
+@Entity
+@Index
+public class FeedbackSessionSubmissionSummary extends BaseEntity {
+
+    /**
+     * The unique id of the entity, which is the same as the id of its session.
+     *
+     * @see FeedbackSession#generateId(String, String)
+     */
+    @Id
+    private String feedbackSessionId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private int expectedTotalSubmission;
+
+    /**
+     * The identifiers of the givers who have given at least one response in the session.
+     */
+    @Unindex
+    private List<String> givers = new ArrayList<>();
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionSubmissionSummary() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionSubmissionSummary(String feedbackSessionName, String courseId,
+            int expectedTotalSubmission, List<String> givers) {
+        this.feedbackSessionId = FeedbackSession.generateId(feedbackSessionName, courseId);
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.expectedTotalSubmission = expectedTotalSubmission;
+        this.givers = givers;
+        this.setCreatedAt(Instant.now());
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getExpectedTotalSubmission() {
+        return expectedTotalSubmission;
+    }
+
+    public List<String> getGivers() {
+        // an empty list is not stored by the Datastore
+        return givers == null ? new ArrayList<>() : givers;
+    }
+
+    public void setGivers(List<String> givers) {
+        this.givers = givers;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        setLastUpdate(createdAt);
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setLastUpdate(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Updates the updatedAt timestamp when saving.
+     */
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.setLastUpdate(Instant.now());
+    }
+
+}
@@ -2,14 +2,13 @@ package teammates.storage.search;
 
 import java.util.Comparator;
 import java.util.List;
-
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
-import org.apache.solr.common.SolrDocument;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
 import teammates.common.exception.SearchServiceException;
 import teammates.storage.api.AccountRequestsDb;
+import teammates.storage.entity.AccountRequest;
 
 /**
  * Acts as a proxy to search service for account request related search features.
@@ -18,8 +17,8 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
 
     private final AccountRequestsDb accountRequestsDb = AccountRequestsDb.inst();
 
-    public AccountRequestSearchManager(String searchServiceHost, boolean isResetAllowed) {
-        super(searchServiceHost, isResetAllowed);
+    public AccountRequestSearchManager(String searchService, String searchServiceHost, boolean isResetAllowed) {
+        super(searchService, searchServiceHost, isResetAllowed);
     }
 
     @Override
@@ -33,10 +32,16 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
     }
 
     @Override
-    AccountRequestAttributes getAttributeFromDocument(SolrDocument document) {
-        String email = (String) document.getFirstValue("email");
-        String institute = (String) document.getFirstValue("institute");
-        return accountRequestsDb.getAccountRequest(email, institute);
+    List<AccountRequestAttributes> getAttributesFromDocuments(List<Map<String, Object>> documents) {
+        List<String> accountRequestIds = documents.stream()
+                .map(document -> AccountRequest.generateId(
+                        (String) document.get("email"), (String) document.get("institute")))
+                .collect(Collectors.toList());
+        Map<String, AccountRequestAttributes> accountRequests =
+                accountRequestsDb.getAccountRequestsByIds(accountRequestIds);
+        return accountRequestIds.stream()
+                .map(accountRequests::get)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -49,10 +54,7 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
      * Searches for account requests.
      */
     public List<AccountRequestAttributes> searchAccountRequests(String queryString) throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
-        QueryResponse response = performQuery(query);
-        return convertDocumentToAttributes(response.getResults());
+        return search(queryString, null);
     }
 
 }
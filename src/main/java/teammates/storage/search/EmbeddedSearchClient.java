@@ -0,0 +1,210 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link SearchClient} which keeps an inverted index of the documents in memory,
+ * so that no separate search service is needed.
+ *
+ * <p>As the index lives within the process, it is only suitable for deployments served by a single instance,
+ * e.g. the dev server and the component tests, and it has to be filled again after every restart.
+ *
+ * <p>Queries follow the Solr setup of the system closely: the "_text_" field is split into lowercase words,
+ * a document matches if it matches any word or quoted phrase of the query, a word ending with "*" matches
+ * by prefix, and email-like queries are matched as a phrase. Documents are ranked by the rarity of the
+ * words they match, then by their ID, so that the same query always gives the same results.
+ */
+class EmbeddedSearchClient implements SearchClient {
+
+    private static final String WILDCARD = "*";
+
+    private final Map<String, Index> collections = new ConcurrentHashMap<>();
+
+    @Override
+    public void putDocuments(String collectionName, List<Map<String, Object>> documents) {
+        Index index = getIndex(collectionName);
+        for (Map<String, Object> document : documents) {
+            index.put(document);
+        }
+    }
+
+    @Override
+    public void putDocumentsWithoutWaiting(String collectionName, List<Map<String, Object>> documents) {
+        // documents are searchable as soon as they are put
+        putDocuments(collectionName, documents);
+    }
+
+    @Override
+    public void deleteDocuments(String collectionName, List<String> ids) {
+        Index index = getIndex(collectionName);
+        for (String id : ids) {
+            index.remove(id);
+        }
+    }
+
+    @Override
+    public void deleteAllDocuments(String collectionName) {
+        collections.remove(collectionName);
+    }
+
+    @Override
+    public List<Map<String, Object>> search(String collectionName, String queryString,
+            String filterField, Collection<String> filterValues, int limit) {
+        return getIndex(collectionName).search(parseQuery(queryString), filterField, filterValues, limit);
+    }
+
+    private Index getIndex(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name -> new Index());
+    }
+
+    /**
+     * Splits the text into lowercase words.
+     */
+    static List<String> tokenize(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Parses the query into clauses, each of which is a sequence of words to be matched as a phrase.
+     * A clause of a single word ending with {@link #WILDCARD} is matched by prefix.
+     */
+    static List<List<String>> parseQuery(String queryString) {
+        String query = queryString.replaceAll("<[^>]*>", "");
+
+        // imbalanced double quotes are ignored
+        int count = query.length() - query.replace("\"", "").length();
+        if (count % 2 == 1) {
+            query = query.replace("\"", "");
+        }
+        // use exact match only when there's email-like input
+        if (query.contains("@") && count == 0) {
+            query = "\"" + query + "\"";
+        }
+
+        List<List<String>> clauses = new ArrayList<>();
+        String[] segments = query.split("\"", -1);
+        for (int i = 0; i < segments.length; i++) {
+            boolean isPhrase = i % 2 == 1;
+            if (isPhrase) {
+                List<String> phrase = tokenize(segments[i]);
+                if (!phrase.isEmpty()) {
+                    clauses.add(phrase);
+                }
+                continue;
+            }
+            for (String word : segments[i].trim().split("\\s+")) {
+                List<String> tokens = tokenize(word);
+                if (tokens.isEmpty()) {
+                    continue;
+                }
+                if (word.endsWith(WILDCARD)) {
+                    int last = tokens.size() - 1;
+                    tokens.set(last, tokens.get(last) + WILDCARD);
+                }
+                tokens.forEach(token -> clauses.add(Collections.singletonList(token)));
+            }
+        }
+        return clauses;
+    }
+
+    /**
+     * The inverted index of a collection.
+     */
+    private static class Index {
+
+        private final Map<String, Map<String, Object>> documents = new HashMap<>();
+        private final Map<String, List<String>> tokensOfDocuments = new HashMap<>();
+        private final TreeMap<String, Set<String>> idsOfTokens = new TreeMap<>();
+
+        synchronized void put(Map<String, Object> document) {
+            String id = (String) document.get("id");
+            remove(id);
+
+            Object text = document.get("_text_");
+            List<String> tokens = text == null ? Collections.emptyList() : tokenize(text.toString());
+            documents.put(id, new HashMap<>(document));
+            tokensOfDocuments.put(id, tokens);
+            for (String token : tokens) {
+                idsOfTokens.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        synchronized void remove(String id) {
+            List<String> tokens = tokensOfDocuments.remove(id);
+            documents.remove(id);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : new HashSet<>(tokens)) {
+                Set<String> ids = idsOfTokens.get(token);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    idsOfTokens.remove(token);
+                }
+            }
+        }
+
+        synchronized List<Map<String, Object>> search(List<List<String>> clauses,
+                String filterField, Collection<String> filterValues, int limit) {
+            Set<String> allowedValues = filterField == null ? null : new HashSet<>(filterValues);
+            Map<String, Double> scores = new HashMap<>();
+            for (List<String> clause : clauses) {
+                Set<String> ids = getMatchingIds(clause);
+                if (ids.isEmpty()) {
+                    continue;
+                }
+                // rarer words weigh more, as the inverse document frequency does in Solr
+                double weight = Math.log(1 + (double) documents.size() / ids.size());
+                for (String id : ids) {
+                    if (allowedValues == null || allowedValues.contains(documents.get(id).get(filterField))) {
+                        scores.merge(id, weight, Double::sum);
+                    }
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(entry -> (Map<String, Object>) new HashMap<>(documents.get(entry.getKey())))
+                    .collect(Collectors.toList());
+        }
+
+        private Set<String> getMatchingIds(List<String> clause) {
+            String first = clause.get(0);
+            if (clause.size() == 1 && first.endsWith(WILDCARD) && first.length() > WILDCARD.length()) {
+                String prefix = first.substring(0, first.length() - WILDCARD.length());
+                Set<String> ids = new LinkedHashSet<>();
+                idsOfTokens.subMap(prefix, prefix + Character.MAX_VALUE).values().forEach(ids::addAll);
+                return ids;
+            }
+
+            Set<String> ids = new HashSet<>(idsOfTokens.getOrDefault(first, Collections.emptySet()));
+            for (String token : clause.subList(1, clause.size())) {
+                ids.retainAll(idsOfTokens.getOrDefault(token, Collections.emptySet()));
+            }
+            if (clause.size() > 1) {
+                ids.removeIf(id -> Collections.indexOfSubList(tokensOfDocuments.get(id), clause) < 0);
+            }
+            return ids;
+        }
+
+    }
+
+}
@@ -2,16 +2,15 @@ package teammates.storage.search;
 
 import java.util.Comparator;
 import java.util.List;
-
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
-import org.apache.solr.common.SolrDocument;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.SearchServiceException;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.InstructorsDb;
+import teammates.storage.entity.Instructor;
 
 /**
  * Acts as a proxy to search service for instructor-related search features.
@@ -21,8 +20,8 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
     private final CoursesDb coursesDb = CoursesDb.inst();
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
 
-    public InstructorSearchManager(String searchServiceHost, boolean isResetAllowed) {
-        super(searchServiceHost, isResetAllowed);
+    public InstructorSearchManager(String searchService, String searchServiceHost, boolean isResetAllowed) {
+        super(searchService, searchServiceHost, isResetAllowed);
     }
 
     @Override
@@ -37,10 +36,15 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
     }
 
     @Override
-    InstructorAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorById(courseId, email);
+    List<InstructorAttributes> getAttributesFromDocuments(List<Map<String, Object>> documents) {
+        List<String> instructorIds = documents.stream()
+                .map(document -> Instructor.generateId(
+                        (String) document.get("email"), (String) document.get("courseId")))
+                .collect(Collectors.toList());
+        Map<String, InstructorAttributes> instructors = instructorsDb.getInstructorsByIds(instructorIds);
+        return instructorIds.stream()
+                .map(instructors::get)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -55,10 +59,7 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
      * Searches for instructors.
      */
     public List<InstructorAttributes> searchInstructors(String queryString) throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
-        QueryResponse response = performQuery(query);
-        return convertDocumentToAttributes(response.getResults());
+        return search(queryString, null);
     }
 
 }
@@ -0,0 +1,54 @@
+package teammates.storage.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.exception.SearchServiceException;
+
+/**
+ * Performs the operations of a full-text search service used by {@link SearchManager}.
+ *
+ * <p>Documents are kept in named collections. A document is a map from field names to values which contains
+ * at least its unique "id" and the "_text_" field that queries are matched against.
+ */
+interface SearchClient {
+
+    /**
+     * Creates or updates the documents in the collection and makes them searchable.
+     */
+    void putDocuments(String collectionName, List<Map<String, Object>> documents) throws SearchServiceException;
+
+    /**
+     * Creates or updates the documents in the collection, without waiting for them to become searchable.
+     *
+     * <p>This is meant for bulk writes whose documents need not be searchable right away, e.g. the rebuilds
+     * of collections, so that the search service can make the documents of concurrent writes searchable together.
+     */
+    void putDocumentsWithoutWaiting(String collectionName, List<Map<String, Object>> documents)
+            throws SearchServiceException;
+
+    /**
+     * Removes the documents identified by {@code ids} from the collection.
+     *
+     * <p>Failures are logged instead of thrown, as documents left behind are removed when they are found by a search.
+     */
+    void deleteDocuments(String collectionName, List<String> ids);
+
+    /**
+     * Removes all documents from the collection.
+     */
+    void deleteAllDocuments(String collectionName);
+
+    /**
+     * Searches the collection for documents matching {@code queryString}.
+     *
+     * @param filterField the field whose value restricts the documents searched, or null if there is no restriction
+     * @param filterValues the values of {@code filterField} allowed; ignored if {@code filterField} is null
+     * @param limit the maximum number of documents to return
+     * @return the matching documents, best matches first
+     */
+    List<Map<String, Object>> search(String collectionName, String queryString,
+            String filterField, Collection<String> filterValues, int limit) throws SearchServiceException;
+
+}
@@ -1,20 +1,17 @@
 package teammates.storage.search;
 
-import java.io.IOException;
-import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.SolrServerException;
-import org.apache.solr.client.solrj.impl.HttpSolrClient;
-import org.apache.solr.client.solrj.response.QueryResponse;
-import org.apache.solr.common.SolrDocument;
-import org.apache.solr.common.SolrInputDocument;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.SearchServiceException;
@@ -30,76 +27,138 @@ import teammates.common.util.StringHelper;
  */
 abstract class SearchManager<T extends EntityAttributes<?>> {
 
+    /**
+     * The search service which keeps the index within the application instead of using a Solr server.
+     *
+     * @see EmbeddedSearchClient
+     */
+    static final String EMBEDDED_SEARCH_SERVICE = "embedded";
+
     private static final Logger log = Logger.getLogger();
 
-    private static final String ERROR_DELETE_DOCUMENT =
-            "Failed to delete document(s) %s in Solr. Root cause: %s ";
-    private static final String ERROR_SEARCH_DOCUMENT =
-            "Failed to search for document(s) %s from Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED =
             "Search service is not implemented";
-    private static final String ERROR_PUT_DOCUMENT =
-            "Failed to put document %s into Solr. Root cause: %s ";
-    private static final String ERROR_RESET_COLLECTION =
-            "Failed to reset collections. Root cause: %s ";
 
-    private static final int START_INDEX = 0;
     private static final int NUM_OF_RESULTS = Const.SEARCH_QUERY_SIZE_LIMIT;
 
-    private final HttpSolrClient client;
+    private static final String COURSE_ID_FIELD = "courseId";
+
+    /**
+     * Minimum time between two logs of the statistics of the search result cache.
+     */
+    private static final Duration RESULT_CACHE_STATS_LOG_INTERVAL = Duration.ofMinutes(10);
+
+    private final SearchClient client;
+
+    /**
+     * Caches the documents of the entities found instead of the entities themselves, so that the entities are
+     * fetched afresh on every hit, as they may be changed without changing their documents.
+     */
+    private final SearchResultCache<Map<String, Object>> resultCache;
+    private final AtomicLong resultCacheStatsLoggedAt = new AtomicLong(System.currentTimeMillis());
     private final boolean isResetAllowed;
 
-    SearchManager(String searchServiceHost, boolean isResetAllowed) {
+    SearchManager(String searchService, String searchServiceHost, boolean isResetAllowed) {
         this.isResetAllowed = Config.isDevServer() && isResetAllowed;
 
-        if (StringHelper.isEmpty(searchServiceHost)) {
+        if (EMBEDDED_SEARCH_SERVICE.equalsIgnoreCase(searchService)) {
+            this.client = new EmbeddedSearchClient();
+        } else if (StringHelper.isEmpty(searchServiceHost)) {
             this.client = null;
         } else {
-            this.client = new HttpSolrClient.Builder(searchServiceHost)
-                    .withConnectionTimeout(2000) // timeout for connecting to Solr server
-                    .withSocketTimeout(5000) // timeout for reading data
-                    .build();
+            this.client = new SolrSearchClient(searchServiceHost);
+        }
+
+        if (Config.SEARCH_RESULT_CACHE_MAX_SIZE > 0) {
+            this.resultCache = new SearchResultCache<>(Config.SEARCH_RESULT_CACHE_MAX_SIZE,
+                    Duration.ofSeconds(Config.SEARCH_RESULT_CACHE_TTL_SECONDS));
+        } else {
+            this.resultCache = null;
         }
     }
 
-    SolrQuery getBasicQuery(String queryString) {
-        SolrQuery query = new SolrQuery();
+    /**
+     * Searches for the entities matching {@code queryString}, using the cached result if there is one.
+     *
+     * @param courseIds the courses to restrict the search to, or null if the search is not restricted
+     */
+    List<T> search(String queryString, Set<String> courseIds) throws SearchServiceException {
+        String normalizedQuery = SearchResultCache.normalizeQuery(queryString);
+        long invalidationCountBeforeSearch = 0;
+        if (resultCache != null) {
+            List<Map<String, Object>> cachedDocuments =
+                    resultCache.get(normalizedQuery, courseIds, SearchManager::hasWordStartingWith);
+            logResultCacheStatsIfDue();
+            if (cachedDocuments != null) {
+                return convertDocumentToAttributes(cachedDocuments);
+            }
+            invalidationCountBeforeSearch = resultCache.getInvalidationCount();
+        }
 
-        String cleanQueryString = cleanSpecialChars(queryString);
-        query.setQuery(cleanQueryString);
+        List<Map<String, Object>> documents = courseIds == null
+                ? performQuery(queryString, null, Collections.emptyList())
+                : performQuery(queryString, COURSE_ID_FIELD, courseIds);
+
+        // Sanity check such that the course ID of the documents match exactly.
+        // In ideal case, this check is not expected to do anything,
+        // i.e. the resulting list should be the same as the incoming list.
+        List<Map<String, Object>> filteredDocuments = documents.stream()
+                .filter(document -> courseIds == null || courseIds.contains(document.get(COURSE_ID_FIELD)))
+                .collect(Collectors.toList());
+
+        List<T> result = convertDocumentToAttributes(filteredDocuments);
+        if (resultCache != null) {
+            // the documents are made from the entities found, as the search service may not return the searchable
+            // text of the documents, which is needed to refine the results of prefix queries
+            List<Map<String, Object>> documentsOfResult = result.stream()
+                    .map(attribute -> createDocument(attribute).getSearchableFields())
+                    .collect(Collectors.toList());
+            List<String> documentIds = documentsOfResult.stream()
+                    .map(document -> (String) document.get("id"))
+                    .collect(Collectors.toList());
+            boolean isComplete = documents.size() < NUM_OF_RESULTS;
+            resultCache.put(normalizedQuery, courseIds, documentsOfResult, documentIds, isComplete,
+                    invalidationCountBeforeSearch);
+        }
+        return result;
+    }
 
-        query.setStart(START_INDEX);
-        query.setRows(NUM_OF_RESULTS);
+    /**
+     * Returns true if the searchable text of the document has a word starting with {@code prefix}.
+     *
+     * <p>The text is split into words in the same way as {@link EmbeddedSearchClient} does, which is close to,
+     * but not exactly the same as, the way Solr does.
+     */
+    private static boolean hasWordStartingWith(Map<String, Object> document, String prefix) {
+        Object text = document.get("_text_");
+        return text != null && EmbeddedSearchClient.tokenize(text.toString()).stream()
+                .anyMatch(word -> word.startsWith(prefix));
+    }
 
-        return query;
+    /**
+     * Logs the statistics of the search result cache if they are not logged within the last
+     * {@link #RESULT_CACHE_STATS_LOG_INTERVAL}, so that the hit rate can be followed while the instance runs.
+     */
+    private void logResultCacheStatsIfDue() {
+        long now = System.currentTimeMillis();
+        long loggedAt = resultCacheStatsLoggedAt.get();
+        if (now - loggedAt >= RESULT_CACHE_STATS_LOG_INTERVAL.toMillis()
+                && resultCacheStatsLoggedAt.compareAndSet(loggedAt, now)) {
+            log.info("Search result cache statistics of " + getCollectionName() + ": " + resultCache);
+        }
     }
 
-    QueryResponse performQuery(SolrQuery query) throws SearchServiceException {
+    /**
+     * Searches for the documents matching {@code queryString} among the documents whose {@code filterField}
+     * has one of {@code filterValues}.
+     */
+    private List<Map<String, Object>> performQuery(String queryString, String filterField,
+            Collection<String> filterValues) throws SearchServiceException {
         if (client == null) {
             throw new SearchServiceException("Full-text search is not available.", HttpStatus.SC_NOT_IMPLEMENTED);
         }
 
-        QueryResponse response = null;
-
-        try {
-            response = client.query(getCollectionName(), query);
-        } catch (SolrServerException e) {
-            Throwable rootCause = e.getRootCause();
-            log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), rootCause), e);
-            if (rootCause instanceof SocketTimeoutException) {
-                throw new SearchServiceException("A timeout was reached while processing your request. "
-                        + "Please try again later.", e, HttpStatus.SC_GATEWAY_TIMEOUT);
-            } else {
-                throw new SearchServiceException("An error has occurred while performing search. "
-                        + "Please try again later.", e, HttpStatus.SC_BAD_GATEWAY);
-            }
-        } catch (IOException e) {
-            log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), e.getCause()), e);
-            throw new SearchServiceException("An error has occurred while performing search. "
-                    + "Please try again later.", e, HttpStatus.SC_BAD_GATEWAY);
-        }
-
-        return response;
+        return client.search(getCollectionName(), queryString, filterField, filterValues, NUM_OF_RESULTS);
     }
 
     abstract String getCollectionName();
@@ -110,28 +169,55 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
      * Creates or updates search document for the given entity.
      */
     public void putDocument(T attributes) throws SearchServiceException {
+        putDocuments(Collections.singletonList(attributes));
+    }
+
+    /**
+     * Creates or updates search documents for the given entities.
+     */
+    public void putDocuments(Collection<T> attributesList) throws SearchServiceException {
+        putDocuments(attributesList, true);
+    }
+
+    /**
+     * Creates or updates search documents for the given entities, without waiting for them to become searchable.
+     *
+     * @see SearchClient#putDocumentsWithoutWaiting(String, List)
+     */
+    public void putDocumentsWithoutWaiting(Collection<T> attributesList) throws SearchServiceException {
+        putDocuments(attributesList, false);
+    }
+
+    private void putDocuments(Collection<T> attributesList, boolean isWaitingUntilSearchable)
+            throws SearchServiceException {
         if (client == null) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (attributes == null) {
+        List<Map<String, Object>> documents = new ArrayList<>();
+        for (T attributes : attributesList) {
+            if (attributes != null) {
+                documents.add(createDocument(attributes).getSearchableFields());
+            }
+        }
+        if (documents.isEmpty()) {
             return;
         }
 
-        Map<String, Object> searchableFields = createDocument(attributes).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
-
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
-        } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
-            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
-        } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
-            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+            if (isWaitingUntilSearchable) {
+                client.putDocuments(getCollectionName(), documents);
+            } else {
+                client.putDocumentsWithoutWaiting(getCollectionName(), documents);
+            }
+        } finally {
+            if (resultCache != null) {
+                resultCache.invalidateCourses(documents.stream()
+                        .map(document -> (String) document.get(COURSE_ID_FIELD))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+            }
         }
     }
 
@@ -148,13 +234,9 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return;
         }
 
-        try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
-        } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
-        } catch (IOException e) {
-            log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getCause()), e);
+        client.deleteDocuments(getCollectionName(), keys);
+        if (resultCache != null) {
+            resultCache.invalidateDocuments(keys);
         }
     }
 
@@ -162,79 +244,53 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
      * Resets the data for all collections if, and only if called during component tests.
      */
     public void resetCollections() {
+        if (resultCache != null) {
+            resultCache.invalidateAll();
+        }
+
         if (client == null || !isResetAllowed) {
             return;
         }
 
-        try {
-            client.deleteByQuery(getCollectionName(), "*:*");
-            client.commit(getCollectionName());
-        } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_RESET_COLLECTION, e.getRootCause()), e);
-        } catch (IOException e) {
-            log.severe(String.format(ERROR_RESET_COLLECTION, e.getCause()), e);
-        }
+        client.deleteAllDocuments(getCollectionName());
     }
 
-    private String cleanSpecialChars(String queryString) {
-        String htmlTagStripPattern = "<[^>]*>";
-
-        // Solr special characters: + - && || ! ( ) { } [ ] ^ " ~ * ? : \ /
-        String res = queryString.replaceAll(htmlTagStripPattern, "")
-                .replace("\\", "\\\\")
-                .replace("+", "\\+")
-                .replace("-", "\\-")
-                .replace("&&", "\\&&")
-                .replace("||", "\\||")
-                .replace("!", "\\!")
-                .replace("(", "\\(")
-                .replace(")", "\\)")
-                .replace("{", "\\{")
-                .replace("}", "\\}")
-                .replace("[", "\\[")
-                .replace("]", "\\]")
-                .replace("^", "\\^")
-                .replace("~", "\\~")
-                .replace("?", "\\?")
-                .replace(":", "\\:")
-                .replace("/", "\\/");
-
-        // imbalanced double quotes are invalid
-        int count = StringUtils.countMatches(res, "\"");
-        if (count % 2 == 1) {
-            res = res.replace("\"", "");
-        }
-
-        // use exact match only when there's email-like input
-        if (res.contains("@") && count == 0) {
-            return "\"" + res + "\"";
-        } else {
-            return res;
-        }
+    /**
+     * Returns the statistics of the search result cache, or null if the cache is disabled.
+     */
+    String getResultCacheStats() {
+        return resultCache == null ? null : resultCache.toString();
     }
 
-    abstract T getAttributeFromDocument(SolrDocument document);
+    /**
+     * Gets the entities of the given documents, fetching them from the database in a single batch.
+     *
+     * @return the entities in the same order as the documents, with null for documents whose entity does not exist
+     */
+    abstract List<T> getAttributesFromDocuments(List<Map<String, Object>> documents);
 
     abstract void sortResult(List<T> result);
 
-    List<T> convertDocumentToAttributes(List<SolrDocument> documents) {
+    List<T> convertDocumentToAttributes(List<Map<String, Object>> documents) {
         if (documents == null) {
             return new ArrayList<>();
         }
 
         List<T> result = new ArrayList<>();
+        List<String> idsOfDocumentsOutOfSync = new ArrayList<>();
 
-        for (SolrDocument document : documents) {
-            T attribute = getAttributeFromDocument(document);
+        List<T> attributes = getAttributesFromDocuments(documents);
+        for (int i = 0; i < documents.size(); i++) {
+            T attribute = attributes.get(i);
             if (attribute == null) {
                 // search engine out of sync as SearchManager may fail to delete documents
                 // the chance is low and it is generally not a big problem
-                String id = (String) document.getFirstValue("id");
-                deleteDocuments(Collections.singletonList(id));
+                idsOfDocumentsOutOfSync.add((String) documents.get(i).get("id"));
                 continue;
             }
             result.add(attribute);
         }
+        deleteDocuments(idsOfDocumentsOutOfSync);
         sortResult(result);
 
         return result;
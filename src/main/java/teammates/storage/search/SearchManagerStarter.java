@@ -4,24 +4,34 @@ import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
 import teammates.common.util.Config;
+import teammates.common.util.Logger;
 
 /**
  * Setup in web.xml to register search manager at application startup.
  */
 public class SearchManagerStarter implements ServletContextListener {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
-        SearchManagerFactory.registerInstructorSearchManager(new InstructorSearchManager(Config.SEARCH_SERVICE_HOST, false));
-        SearchManagerFactory.registerStudentSearchManager(new StudentSearchManager(Config.SEARCH_SERVICE_HOST, false));
+        SearchManagerFactory.registerInstructorSearchManager(
+                new InstructorSearchManager(Config.SEARCH_SERVICE, Config.SEARCH_SERVICE_HOST, false));
+        SearchManagerFactory.registerStudentSearchManager(
+                new StudentSearchManager(Config.SEARCH_SERVICE, Config.SEARCH_SERVICE_HOST, false));
         SearchManagerFactory.registerAccountRequestSearchManager(
-                new AccountRequestSearchManager(Config.SEARCH_SERVICE_HOST, false));
+                new AccountRequestSearchManager(Config.SEARCH_SERVICE, Config.SEARCH_SERVICE_HOST, false));
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        if (Config.SEARCH_RESULT_CACHE_MAX_SIZE > 0) {
+            log.info("Search result cache statistics: "
+                    + "instructors=" + SearchManagerFactory.getInstructorSearchManager().getResultCacheStats()
+                    + ", students=" + SearchManagerFactory.getStudentSearchManager().getResultCacheStats()
+                    + ", accountrequests=" + SearchManagerFactory.getAccountRequestSearchManager().getResultCacheStats());
+        }
     }
 
 }
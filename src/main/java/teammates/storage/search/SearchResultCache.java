@@ -0,0 +1,299 @@
+package teammates.storage.search;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of search results, keyed by the normalized query and the courses the search is restricted to.
+ *
+ * <p>The least recently used result is evicted when the cache is full, and results older than the time-to-live
+ * are treated as absent. A result is invalidated when a document of any of its courses is put, or when any of its
+ * documents is deleted. As the cache is local to an instance, changes done by other instances, including the indexing
+ * done by task queue workers, are only observed after the cached result expires; hence it is disabled by default.
+ *
+ * <p>A query consisting of a single prefix word, e.g. "alic*", which is not cached can be answered by refining
+ * the complete result of a shorter prefix, e.g. "ali*", so that type-ahead searches only go to the search service
+ * once.
+ *
+ * @param <T> type of the results, e.g. the documents of the entities found
+ */
+class SearchResultCache<T> {
+
+    private static final String WILDCARD = "*";
+    private static final Pattern PREFIX_QUERY = Pattern.compile("[\\p{L}\\p{N}]+\\*");
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // access-ordered, i.e. the first entry is always the least recently used one
+    private final Map<CacheKey, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Object lock = new Object();
+
+    private long invalidationCount;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong prefixHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    SearchResultCache(int maxSize, Duration ttl) {
+        assert maxSize > 0;
+        assert ttl != null && !ttl.isNegative();
+
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Normalizes the query so that queries differing only in case or whitespace share the same result.
+     */
+    static String normalizeQuery(String queryString) {
+        return queryString.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Returns the number of invalidations so far.
+     *
+     * <p>This needs to be read before searching, and passed to {@link #put} together with the result.
+     */
+    long getInvalidationCount() {
+        synchronized (lock) {
+            return invalidationCount;
+        }
+    }
+
+    /**
+     * Gets the cached result of the query.
+     *
+     * @param query the normalized query
+     * @param courseIds the courses the search is restricted to, or null if it is not restricted
+     * @param prefixMatcher checks whether an entity has a word starting with the given prefix
+     * @return the entities found, or null if the result is not cached
+     */
+    List<T> get(String query, Set<String> courseIds, BiPredicate<T, String> prefixMatcher) {
+        CacheKey key = new CacheKey(query, courseIds);
+        CacheEntry<T> shorterPrefixEntry;
+        long invalidationCountBeforeRefine;
+        synchronized (lock) {
+            CacheEntry<T> entry = getUnexpiredEntry(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return new ArrayList<>(entry.results);
+            }
+
+            shorterPrefixEntry = getCompleteEntryOfShorterPrefix(query, courseIds);
+            if (shorterPrefixEntry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            invalidationCountBeforeRefine = invalidationCount;
+        }
+
+        // the matcher may be run on many results, hence it is not run while holding the lock
+        String prefix = query.substring(0, query.length() - WILDCARD.length());
+        List<T> results = shorterPrefixEntry.results.stream()
+                .filter(result -> prefixMatcher.test(result, prefix))
+                .collect(Collectors.toList());
+        prefixHits.incrementAndGet();
+
+        synchronized (lock) {
+            if (invalidationCount == invalidationCountBeforeRefine) {
+                // the IDs of the documents are only used for invalidation, so it is fine to keep those filtered out
+                entries.put(key, new CacheEntry<>(results, shorterPrefixEntry.documentIds, true,
+                        shorterPrefixEntry.expiryTimestamp));
+                evictLeastRecentlyUsedIfFull();
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Caches the result of the query, unless there is any invalidation since {@code invalidationCountBeforeSearch}.
+     *
+     * @param query the normalized query
+     * @param courseIds the courses the search is restricted to, or null if it is not restricted
+     * @param results the entities found
+     * @param documentIds the IDs of the documents found
+     * @param isComplete whether all documents matching the query are found, i.e. the result is not truncated
+     * @param invalidationCountBeforeSearch the value of {@link #getInvalidationCount()} before searching
+     */
+    void put(String query, Set<String> courseIds, List<T> results, Collection<String> documentIds,
+            boolean isComplete, long invalidationCountBeforeSearch) {
+        synchronized (lock) {
+            // the result may already be outdated if there is any write in the meantime
+            if (invalidationCount != invalidationCountBeforeSearch) {
+                return;
+            }
+            entries.put(new CacheKey(query, courseIds), new CacheEntry<>(new ArrayList<>(results),
+                    new TreeSet<>(documentIds), isComplete, Instant.now().toEpochMilli() + ttlMillis));
+            evictLeastRecentlyUsedIfFull();
+        }
+    }
+
+    /**
+     * Invalidates the results which may include documents of the given courses,
+     * i.e. the results of searches restricted to any of the courses and those of unrestricted searches.
+     */
+    void invalidateCourses(Collection<String> courseIds) {
+        synchronized (lock) {
+            invalidationCount++;
+            entries.keySet().removeIf(key -> key.courseIds == null
+                    || courseIds.stream().anyMatch(key.courseIds::contains));
+        }
+    }
+
+    /**
+     * Invalidates the results which include any of the given documents.
+     */
+    void invalidateDocuments(Collection<String> documentIds) {
+        synchronized (lock) {
+            invalidationCount++;
+            entries.values().removeIf(entry -> documentIds.stream().anyMatch(entry.documentIds::contains));
+        }
+    }
+
+    /**
+     * Invalidates all results.
+     */
+    void invalidateAll() {
+        synchronized (lock) {
+            invalidationCount++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of results currently held by the cache, including expired ones.
+     */
+    int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getPrefixHits() {
+        return prefixHits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the fraction of lookups answered by the cache, including those answered by refining a shorter prefix.
+     */
+    double getHitRate() {
+        long answered = getHits() + getPrefixHits();
+        long lookups = answered + getMisses();
+        return lookups == 0 ? 0 : (double) answered / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "[hits=" + getHits() + ", prefixHits=" + getPrefixHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions() + ", hitRate=" + String.format("%.2f", getHitRate()) + "]";
+    }
+
+    private CacheEntry<T> getCompleteEntryOfShorterPrefix(String query, Set<String> courseIds) {
+        if (!PREFIX_QUERY.matcher(query).matches()) {
+            return null;
+        }
+
+        // the result of a shorter prefix includes all documents matching a longer one, unless it is truncated
+        for (int length = query.length() - WILDCARD.length() - 1; length > 0; length--) {
+            CacheEntry<T> entry = getUnexpiredEntry(new CacheKey(query.substring(0, length) + WILDCARD, courseIds));
+            if (entry != null && entry.isComplete) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private CacheEntry<T> getUnexpiredEntry(CacheKey key) {
+        CacheEntry<T> entry = entries.get(key);
+        if (entry != null && entry.isExpired()) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry;
+    }
+
+    private void evictLeastRecentlyUsedIfFull() {
+        Iterator<CacheKey> iterator = entries.keySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static class CacheKey {
+        private final String query;
+        private final Set<String> courseIds;
+
+        private CacheKey(String query, Set<String> courseIds) {
+            this.query = query;
+            this.courseIds = courseIds == null ? null : Collections.unmodifiableSet(new TreeSet<>(courseIds));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey otherKey = (CacheKey) other;
+            return query.equals(otherKey.query) && Objects.equals(courseIds, otherKey.courseIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, courseIds);
+        }
+    }
+
+    private static class CacheEntry<T> {
+        private final List<T> results;
+        private final Set<String> documentIds;
+        private final boolean isComplete;
+        private final long expiryTimestamp;
+
+        private CacheEntry(List<T> results, Set<String> documentIds, boolean isComplete, long expiryTimestamp) {
+            this.results = results;
+            this.documentIds = documentIds;
+            this.isComplete = isComplete;
+            this.expiryTimestamp = expiryTimestamp;
+        }
+
+        private boolean isExpired() {
+            return Instant.now().toEpochMilli() >= expiryTimestamp;
+        }
+    }
+
+}
@@ -0,0 +1,232 @@
+package teammates.storage.search;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.http.HttpStatus;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrInputDocument;
+
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Logger;
+
+/**
+ * The {@link SearchClient} which uses a Solr server as the search service.
+ */
+class SolrSearchClient implements SearchClient {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final String ERROR_DELETE_DOCUMENT =
+            "Failed to delete document(s) %s in Solr. Root cause: %s ";
+    private static final String ERROR_SEARCH_DOCUMENT =
+            "Failed to search for document(s) %s from Solr. Root cause: %s ";
+    private static final String ERROR_PUT_DOCUMENT =
+            "Failed to put document(s) %s into Solr. Root cause: %s ";
+    private static final String ERROR_RESET_COLLECTION =
+            "Failed to reset collections. Root cause: %s ";
+
+    private static final int START_INDEX = 0;
+    private static final int MAX_DOCUMENTS_PER_REQUEST = 500;
+
+    /**
+     * Time within which the documents put without waiting are made searchable. The search service makes
+     * all documents added within this time searchable with a single soft commit.
+     */
+    private static final int COMMIT_WITHIN_MILLIS = 10_000;
+
+    private final HttpSolrClient client;
+
+    SolrSearchClient(String searchServiceHost) {
+        this.client = new HttpSolrClient.Builder(searchServiceHost)
+                .withConnectionTimeout(2000) // timeout for connecting to Solr server
+                .withSocketTimeout(5000) // timeout for reading data
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The documents are sent in batches of at most {@link #MAX_DOCUMENTS_PER_REQUEST} documents,
+     * followed by a single soft commit which makes all of them searchable.
+     * Hard commits are left to the auto commit of the search service, as they are expensive
+     * and not needed for the documents to become searchable.
+     */
+    @Override
+    public void putDocuments(String collectionName, List<Map<String, Object>> documents)
+            throws SearchServiceException {
+        putDocuments(collectionName, documents, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The documents are added with a commit within {@link #COMMIT_WITHIN_MILLIS} instead of a soft commit
+     * of their own, as every soft commit opens a new searcher, and the search service refuses to open more
+     * searchers than it can warm at once.
+     */
+    @Override
+    public void putDocumentsWithoutWaiting(String collectionName, List<Map<String, Object>> documents)
+            throws SearchServiceException {
+        putDocuments(collectionName, documents, false);
+    }
+
+    private void putDocuments(String collectionName, List<Map<String, Object>> documents,
+            boolean isWaitingUntilSearchable) throws SearchServiceException {
+        List<SolrInputDocument> solrDocuments = new ArrayList<>();
+        for (Map<String, Object> fields : documents) {
+            SolrInputDocument document = new SolrInputDocument();
+            fields.forEach((key, value) -> document.addField(key, value));
+            solrDocuments.add(document);
+        }
+
+        // only the number of documents is logged for batches to keep the log short
+        Object documentsToLog = solrDocuments.size() == 1 ? solrDocuments.get(0) : solrDocuments.size() + " documents";
+        // a negative commit within leaves the commit to the explicit soft commit
+        int commitWithinMillis = isWaitingUntilSearchable ? -1 : COMMIT_WITHIN_MILLIS;
+        try {
+            for (int i = 0; i < solrDocuments.size(); i += MAX_DOCUMENTS_PER_REQUEST) {
+                client.add(collectionName,
+                        solrDocuments.subList(i, Math.min(i + MAX_DOCUMENTS_PER_REQUEST, solrDocuments.size())),
+                        commitWithinMillis);
+            }
+            if (isWaitingUntilSearchable) {
+                softCommit(collectionName);
+            }
+        } catch (SolrServerException e) {
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documentsToLog, e.getRootCause()), e);
+            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documentsToLog, e.getCause()), e);
+            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+        }
+    }
+
+    @Override
+    public void deleteDocuments(String collectionName, List<String> ids) {
+        try {
+            client.deleteById(collectionName, ids);
+            softCommit(collectionName);
+        } catch (SolrServerException e) {
+            log.severe(String.format(ERROR_DELETE_DOCUMENT, ids, e.getRootCause()), e);
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_DELETE_DOCUMENT, ids, e.getCause()), e);
+        }
+    }
+
+    @Override
+    public void deleteAllDocuments(String collectionName) {
+        try {
+            client.deleteByQuery(collectionName, "*:*");
+            client.commit(collectionName);
+        } catch (SolrServerException e) {
+            log.severe(String.format(ERROR_RESET_COLLECTION, e.getRootCause()), e);
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_RESET_COLLECTION, e.getCause()), e);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> search(String collectionName, String queryString,
+            String filterField, Collection<String> filterValues, int limit) throws SearchServiceException {
+        SolrQuery query = new SolrQuery();
+
+        String cleanQueryString = cleanSpecialChars(queryString);
+        query.setQuery(cleanQueryString);
+
+        query.setStart(START_INDEX);
+        query.setRows(limit);
+
+        if (filterField != null) {
+            String filterValuesFq = String.join("\" OR \"", filterValues);
+            query.addFilterQuery(filterField + ":(\"" + filterValuesFq + "\")");
+        }
+
+        QueryResponse response;
+        try {
+            response = client.query(collectionName, query);
+        } catch (SolrServerException e) {
+            Throwable rootCause = e.getRootCause();
+            log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), rootCause), e);
+            if (rootCause instanceof SocketTimeoutException) {
+                throw new SearchServiceException("A timeout was reached while processing your request. "
+                        + "Please try again later.", e, HttpStatus.SC_GATEWAY_TIMEOUT);
+            } else {
+                throw new SearchServiceException("An error has occurred while performing search. "
+                        + "Please try again later.", e, HttpStatus.SC_BAD_GATEWAY);
+            }
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), e.getCause()), e);
+            throw new SearchServiceException("An error has occurred while performing search. "
+                    + "Please try again later.", e, HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        List<Map<String, Object>> documents = new ArrayList<>();
+        if (response.getResults() == null) {
+            return documents;
+        }
+        for (SolrDocument result : response.getResults()) {
+            Map<String, Object> document = new HashMap<>();
+            for (String fieldName : result.getFieldNames()) {
+                document.put(fieldName, result.getFirstValue(fieldName));
+            }
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    /**
+     * Makes the changes to the collection searchable, waiting until they are.
+     */
+    private void softCommit(String collectionName) throws SolrServerException, IOException {
+        client.commit(collectionName, true, true, true);
+    }
+
+    private String cleanSpecialChars(String queryString) {
+        String htmlTagStripPattern = "<[^>]*>";
+
+        // Solr special characters: + - && || ! ( ) { } [ ] ^ " ~ * ? : \ /
+        String res = queryString.replaceAll(htmlTagStripPattern, "")
+                .replace("\\", "\\\\")
+                .replace("+", "\\+")
+                .replace("-", "\\-")
+                .replace("&&", "\\&&")
+                .replace("||", "\\||")
+                .replace("!", "\\!")
+                .replace("(", "\\(")
+                .replace(")", "\\)")
+                .replace("{", "\\{")
+                .replace("}", "\\}")
+                .replace("[", "\\[")
+                .replace("]", "\\]")
+                .replace("^", "\\^")
+                .replace("~", "\\~")
+                .replace("?", "\\?")
+                .replace(":", "\\:")
+                .replace("/", "\\/");
+
+        // imbalanced double quotes are invalid
+        int count = StringUtils.countMatches(res, "\"");
+        if (count % 2 == 1) {
+            res = res.replace("\"", "");
+        }
+
+        // use exact match only when there's email-like input
+        if (res.contains("@") && count == 0) {
+            return "\"" + res + "\"";
+        } else {
+            return res;
+        }
+    }
+
+}
@@ -3,19 +3,17 @@ package teammates.storage.search;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.solr.client.solrj.SolrQuery;
-import org.apache.solr.client.solrj.response.QueryResponse;
-import org.apache.solr.common.SolrDocument;
-import org.apache.solr.common.SolrDocumentList;
-
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.SearchServiceException;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.StudentsDb;
+import teammates.storage.entity.CourseStudent;
 
 /**
  * Acts as a proxy to search service for student-related search features.
@@ -25,8 +23,8 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
     private final CoursesDb coursesDb = CoursesDb.inst();
     private final StudentsDb studentsDb = StudentsDb.inst();
 
-    public StudentSearchManager(String searchServiceHost, boolean isResetAllowed) {
-        super(searchServiceHost, isResetAllowed);
+    public StudentSearchManager(String searchService, String searchServiceHost, boolean isResetAllowed) {
+        super(searchService, searchServiceHost, isResetAllowed);
     }
 
     @Override
@@ -41,10 +39,15 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
     }
 
     @Override
-    StudentAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<StudentAttributes> getAttributesFromDocuments(List<Map<String, Object>> documents) {
+        List<String> studentIds = documents.stream()
+                .map(document -> CourseStudent.generateId(
+                        (String) document.get("email"), (String) document.get("courseId")))
+                .collect(Collectors.toList());
+        Map<String, StudentAttributes> students = studentsDb.getStudentsByIds(studentIds);
+        return studentIds.stream()
+                .map(students::get)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -63,41 +66,19 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
      */
     public List<StudentAttributes> searchStudents(String queryString, List<InstructorAttributes> instructors)
             throws SearchServiceException {
-        SolrQuery query = getBasicQuery(queryString);
-
-        List<String> courseIdsWithViewStudentPrivilege;
         if (instructors == null) {
-            courseIdsWithViewStudentPrivilege = new ArrayList<>();
-        } else {
-            courseIdsWithViewStudentPrivilege = instructors.stream()
-                    .filter(i -> i.getPrivileges().getCourseLevelPrivileges().isCanViewStudentInSections())
-                    .map(ins -> ins.getCourseId())
-                    .collect(Collectors.toList());
-            if (courseIdsWithViewStudentPrivilege.isEmpty()) {
-                return new ArrayList<>();
-            }
-            String courseIdFq = String.join("\" OR \"", courseIdsWithViewStudentPrivilege);
-            query.addFilterQuery("courseId:(\"" + courseIdFq + "\")");
+            return search(queryString, null);
         }
 
-        QueryResponse response = performQuery(query);
-        SolrDocumentList documents = response.getResults();
-
-        // Sanity check such that the course ID of the students match exactly.
-        // In ideal case, this check is not expected to do anything,
-        // i.e. the resulting list should be the same as the incoming list.
-
-        List<SolrDocument> filteredDocuments = documents.stream()
-                .filter(document -> {
-                    if (instructors == null) {
-                        return true;
-                    }
-                    String courseId = (String) document.getFirstValue("courseId");
-                    return courseIdsWithViewStudentPrivilege.contains(courseId);
-                })
-                .collect(Collectors.toList());
+        Set<String> courseIdsWithViewStudentPrivilege = instructors.stream()
+                .filter(i -> i.getPrivileges().getCourseLevelPrivileges().isCanViewStudentInSections())
+                .map(ins -> ins.getCourseId())
+                .collect(Collectors.toSet());
+        if (courseIdsWithViewStudentPrivilege.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return convertDocumentToAttributes(filteredDocuments);
+        return search(queryString, courseIdsWithViewStudentPrivilege);
     }
 
 }
@@ -1,7 +1,11 @@
 package teammates.ui.output;
 
+import java.io.IOException;
+
 import javax.annotation.Nullable;
 
+import teammates.common.util.JsonUtils;
+
 /**
  * Generic output format for all API requests.
  */
@@ -18,4 +22,13 @@ public class ApiOutput {
         this.requestId = requestId;
     }
 
+    /**
+     * Writes the output in compact JSON format to the writer.
+     *
+     * <p>Large outputs may override this to write their content piece by piece.
+     */
+    public void writeJsonTo(Appendable writer) throws IOException {
+        JsonUtils.toCompactJson(this, writer);
+    }
+
 }
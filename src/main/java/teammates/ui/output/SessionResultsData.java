@@ -1,12 +1,17 @@
 package teammates.ui.output;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -20,7 +25,10 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.ParallelHelper;
 import teammates.common.util.StringHelper;
 
 /**
@@ -30,94 +38,198 @@ public class SessionResultsData extends ApiOutput {
 
     private static final String REGEX_ANONYMOUS_PARTICIPANT_HASH = "[0-9]{1,10}";
 
+    /**
+     * Number of question outputs built at once, in parallel, as they are written out.
+     */
+    private static final int QUESTIONS_BUILT_AT_ONCE = Math.max(1, Config.REQUEST_PARALLELISM);
+
     final List<QuestionOutput> questions = new ArrayList<>();
 
+    @Nullable
+    private String nextPageToken;
+
+    /**
+     * Builders of the question outputs which are not yet in {@link #questions}.
+     *
+     * <p>Question outputs, which hold all the responses of the question, are only built when needed
+     * so that they can be written out a few at a time instead of being held in memory all at once.
+     * The questions written out together are built in parallel, including their missing responses.
+     */
+    private transient List<Supplier<QuestionOutput>> questionOutputBuilders;
+
+    /**
+     * Writes the question outputs which are not yet in {@link #questions}, already serialized as a JSON array.
+     */
+    private transient SerializedQuestionsWriter serializedQuestionsWriter;
+
     SessionResultsData() {
         // use factory method instead
     }
 
+    /**
+     * Factory method to construct API output from questions serialized by {@link #writeSerializedQuestionsTo},
+     * e.g. those in a snapshot of the session results, which are written out as they are read.
+     */
+    public static SessionResultsData initFromSerializedQuestions(SerializedQuestionsWriter serializedQuestionsWriter) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.serializedQuestionsWriter = serializedQuestionsWriter;
+        return sessionResultsData;
+    }
+
     /**
      * Factory method to construct API output for instructor.
      */
     public static SessionResultsData initForInstructor(SessionResultsBundle bundle) {
+        return initForInstructor(bundle, buildQuestionStatistics(bundle, null));
+    }
+
+    /**
+     * Factory method to construct API output for instructor from a page of the results of a question.
+     *
+     * <p>The page has no statistics, as the statistics of a question depend on the responses in all its pages.
+     */
+    public static SessionResultsData initPageForInstructor(SessionResultsBundle bundle) {
+        Map<String, String> noQuestionStatistics = new HashMap<>();
+        bundle.getQuestionResponseMap().keySet().forEach(questionId -> noQuestionStatistics.put(questionId, ""));
+
+        SessionResultsData sessionResultsData = initForInstructor(bundle, noQuestionStatistics);
+        sessionResultsData.nextPageToken = bundle.getNextPageToken();
+        return sessionResultsData;
+    }
+
+    /**
+     * Factory method to construct API output for instructor from the running statistics of the questions,
+     * without any responses.
+     *
+     * <p>Questions without running statistics in the bundle have no statistics, as the statistics of the other
+     * questions depend on their responses.
+     */
+    public static SessionResultsData initStatisticsForInstructor(SessionResultsBundle bundle) {
+        Map<String, String> questionStatistics = new HashMap<>();
+        bundle.getQuestionResponseMap().keySet().forEach(questionId -> {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            questionStatistics.put(questionId, bundle.getQuestionStatistics(questionId) == null ? ""
+                    : question.getQuestionDetailsCopy().getQuestionResultStatisticsJson(question, null, bundle));
+        });
+
+        return initForInstructor(bundle, questionStatistics);
+    }
+
+    private static SessionResultsData initForInstructor(
+            SessionResultsBundle bundle, Map<String, String> questionStatistics) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.questionOutputBuilders = new ArrayList<>();
 
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
 
-        questionsWithResponses.forEach((questionId, responses) -> {
-            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
-            // put normal responses
-            List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
-            qnOutput.allResponses.addAll(allResponses);
-
-            // put missing responses
-            List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(questionId);
-            qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
-
-            sessionResultsData.questions.add(qnOutput);
-        });
+        questionsWithResponses.forEach((questionId, responses) -> sessionResultsData.questionOutputBuilders.add(
+                () -> buildQuestionOutputForInstructor(
+                        questionId, responses, questionStatistics.get(questionId), bundle)));
 
         return sessionResultsData;
     }
 
+    /**
+     * Computes the statistics of all questions in the bundle, which are independent of each other.
+     *
+     * <p>The statistics are computed up front, in parallel, as computing them may be expensive
+     * (e.g. for contribution questions) while the computed statistics are small.
+     */
+    private static Map<String, String> buildQuestionStatistics(SessionResultsBundle bundle, @Nullable String studentEmail) {
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (String questionId : bundle.getQuestionResponseMap().keySet()) {
+            questions.add(bundle.getQuestionsMap().get(questionId));
+        }
+        List<String> statistics = ParallelHelper.map(questions, question ->
+                question.getQuestionDetailsCopy().getQuestionResultStatisticsJson(question, studentEmail, bundle));
+
+        Map<String, String> questionStatistics = new HashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            questionStatistics.put(questions.get(i).getId(), statistics.get(i));
+        }
+        return questionStatistics;
+    }
+
+    private static QuestionOutput buildQuestionOutputForInstructor(String questionId,
+            List<FeedbackResponseAttributes> responses, String questionStatistics, SessionResultsBundle bundle) {
+        FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+        QuestionOutput qnOutput = new QuestionOutput(question, questionStatistics);
+        // put normal responses
+        List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
+        qnOutput.allResponses.addAll(allResponses);
+
+        // put missing responses, which may only be generated as they are put
+        Iterator<FeedbackResponseAttributes> missingResponses = bundle.getMissingResponsesOfQuestion(questionId);
+        while (missingResponses.hasNext()) {
+            qnOutput.allResponses.add(buildSingleResponseForInstructor(missingResponses.next(), bundle, true));
+        }
+
+        return qnOutput;
+    }
+
     /**
      * Factory method to construct API output for student.
      */
     public static SessionResultsData initForStudent(SessionResultsBundle bundle, StudentAttributes student) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.questionOutputBuilders = new ArrayList<>();
 
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
 
-        questionsWithResponses.forEach((questionId, responses) -> {
-            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle));
-            Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
-
-            if (questionDetails.isIndividualResponsesShownToStudents()) {
-                for (FeedbackResponseAttributes response : responses) {
-                    boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeam());
-
-                    boolean isUserGiver = student.getEmail().equals(response.getGiver())
-                            && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
-                    boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
-                            && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
-                    ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
-
-                    if (isUserRecipient) {
-                        qnOutput.responsesToSelf.add(responseOutput);
-                    }
-
-                    if (isUserGiver) {
-                        qnOutput.responsesFromSelf.add(responseOutput);
-                    }
-
-                    if (!isUserRecipient && !isUserGiver) {
-                        // we don't need care about the keys of the map here
-                        // as only the values of the map will be used
-                        otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
-                                .add(responseOutput);
-                    }
-
-                    qnOutput.allResponses.add(responseOutput);
-                }
-            }
-            qnOutput.otherResponses.addAll(otherResponsesMap.values());
+        Map<String, String> questionStatistics = buildQuestionStatistics(bundle, student.getEmail());
 
-            sessionResultsData.questions.add(qnOutput);
-        });
+        questionsWithResponses.forEach((questionId, responses) -> sessionResultsData.questionOutputBuilders.add(
+                () -> buildQuestionOutputForStudent(
+                        questionId, responses, questionStatistics.get(questionId), bundle, student)));
 
         return sessionResultsData;
     }
 
+    private static QuestionOutput buildQuestionOutputForStudent(String questionId,
+            List<FeedbackResponseAttributes> responses, String questionStatistics, SessionResultsBundle bundle,
+            StudentAttributes student) {
+        FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+        QuestionOutput qnOutput = new QuestionOutput(question, questionStatistics);
+        Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
+
+        if (questionDetails.isIndividualResponsesShownToStudents()) {
+            for (FeedbackResponseAttributes response : responses) {
+                boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeam());
+
+                boolean isUserGiver = student.getEmail().equals(response.getGiver())
+                        && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
+                boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
+                        && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
+                ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
+
+                if (isUserRecipient) {
+                    qnOutput.responsesToSelf.add(responseOutput);
+                }
+
+                if (isUserGiver) {
+                    qnOutput.responsesFromSelf.add(responseOutput);
+                }
+
+                if (!isUserRecipient && !isUserGiver) {
+                    // we don't need care about the keys of the map here
+                    // as only the values of the map will be used
+                    otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
+                            .add(responseOutput);
+                }
+
+                qnOutput.allResponses.add(responseOutput);
+            }
+        }
+        qnOutput.otherResponses.addAll(otherResponsesMap.values());
+
+        return qnOutput;
+    }
+
     private static ResponseOutput buildSingleResponseForStudent(
             FeedbackResponseAttributes response, SessionResultsBundle bundle, StudentAttributes student) {
         FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(response.getFeedbackQuestionId());
@@ -361,9 +473,90 @@ public class SessionResultsData extends ApiOutput {
     }
 
     public List<QuestionOutput> getQuestions() {
+        if (questionOutputBuilders != null) {
+            questions.addAll(ParallelHelper.map(questionOutputBuilders, Supplier::get));
+            questionOutputBuilders = null;
+        }
+        if (serializedQuestionsWriter != null) {
+            StringBuilder serializedQuestions = new StringBuilder();
+            try {
+                serializedQuestionsWriter.writeTo(serializedQuestions);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            questions.addAll(Arrays.asList(JsonUtils.fromJson(serializedQuestions.toString(), QuestionOutput[].class)));
+            serializedQuestionsWriter = null;
+        }
         return questions;
     }
 
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * Writes the questions serialized as a JSON array, in the same format as in the serialized form of this class,
+     * building them as they are written.
+     */
+    public void writeSerializedQuestionsTo(Appendable writer) throws IOException {
+        if (serializedQuestionsWriter != null) {
+            serializedQuestionsWriter.writeTo(writer);
+            return;
+        }
+        if (questionOutputBuilders == null) {
+            JsonUtils.toCompactJson(questions, writer);
+            return;
+        }
+
+        writer.append('[');
+        for (int i = 0; i < questionOutputBuilders.size(); i += QUESTIONS_BUILT_AT_ONCE) {
+            List<QuestionOutput> questionOutputs = ParallelHelper.map(questionOutputBuilders.subList(
+                    i, Math.min(i + QUESTIONS_BUILT_AT_ONCE, questionOutputBuilders.size())), Supplier::get);
+            for (int j = 0; j < questionOutputs.size(); j++) {
+                if (i + j > 0) {
+                    writer.append(',');
+                }
+                JsonUtils.toCompactJson(questionOutputs.get(j), writer);
+            }
+        }
+        writer.append(']');
+    }
+
+    @Override
+    public void writeJsonTo(Appendable writer) throws IOException {
+        if (questionOutputBuilders == null && serializedQuestionsWriter == null) {
+            super.writeJsonTo(writer);
+            return;
+        }
+
+        // same format as the serialized form of this class, but with the questions built as they are written
+        // or copied from their serialized form
+        writer.append("{\"questions\":");
+        writeSerializedQuestionsTo(writer);
+        if (nextPageToken != null) {
+            writer.append(",\"nextPageToken\":");
+            JsonUtils.toCompactJson(nextPageToken, writer);
+        }
+        if (getRequestId() != null) {
+            writer.append(",\"requestId\":");
+            JsonUtils.toCompactJson(getRequestId(), writer);
+        }
+        writer.append('}');
+    }
+
+    /**
+     * Writes out questions serialized as a JSON array piece by piece.
+     */
+    @FunctionalInterface
+    public interface SerializedQuestionsWriter {
+
+        /**
+         * Writes the serialized questions to {@code writer}.
+         */
+        void writeTo(Appendable writer) throws IOException;
+
+    }
+
     /**
      * API output format for questions in session results.
      */
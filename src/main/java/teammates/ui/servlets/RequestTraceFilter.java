@@ -90,7 +90,16 @@ public class RequestTraceFilter implements Filter {
             throw e;
         }
 
-        chain.doFilter(req, resp);
+        try {
+            chain.doFilter(req, resp);
+        } finally {
+            try {
+                RequestTracer.runEndOfRequestTasks();
+            } finally {
+                // values memoized for the request must not outlive it
+                RequestTracer.clear();
+            }
+        }
     }
 
     @Override
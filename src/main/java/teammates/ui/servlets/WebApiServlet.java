@@ -134,6 +134,15 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        // Outputs which are built as they are written may fail after part of them is written.
+        if (resp.isCommitted()) {
+            // The success status and part of the output have been sent; the response is aborted instead,
+            // so that the client sees a failed request rather than a truncated output followed by the error.
+            throw new IOException("Response is already committed; aborting it instead of sending the error: "
+                    + message);
+        }
+        resp.resetBuffer();
+
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
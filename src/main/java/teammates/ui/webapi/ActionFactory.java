@@ -83,6 +83,7 @@ public final class ActionFactory {
         map(ResourceURIs.SEARCH_INSTRUCTORS, GET, SearchInstructorsAction.class);
         map(ResourceURIs.SEARCH_STUDENTS, GET, SearchStudentsAction.class);
         map(ResourceURIs.SEARCH_ACCOUNT_REQUESTS, GET, SearchAccountRequestsAction.class);
+        map(ResourceURIs.SEARCH_INDEXES, POST, RebuildSearchIndexesAction.class);
         map(ResourceURIs.EMAIL, GET, GenerateEmailAction.class);
 
         map(ResourceURIs.SESSIONS_ONGOING, GET, GetOngoingSessionsAction.class);
@@ -136,6 +137,8 @@ public final class ActionFactory {
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, GET, FeedbackSessionClosedRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, GET, FeedbackSessionClosingRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, GET, FeedbackSessionPublishedRemindersAction.class);
+        map(CronJobURIs.AUTOMATED_FEEDBACK_QUESTION_STATISTICS_RECONCILIATION, GET,
+                FeedbackQuestionStatisticsReconciliationAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_OPENING_SOON_REMINDERS, GET,
                 FeedbackSessionOpeningSoonRemindersAction.class);
 
@@ -156,6 +159,10 @@ public final class ActionFactory {
         map(TaskQueue.ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL, POST, AccountRequestSearchIndexingWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL, POST, InstructorSearchIndexingWorkerAction.class);
         map(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, POST, StudentSearchIndexingWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEX_REBUILD_SPLIT_WORKER_URL, POST, SearchIndexRebuildSplitWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEX_REBUILD_CHUNK_WORKER_URL, POST, SearchIndexRebuildChunkWorkerAction.class);
+        map(TaskQueue.FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_WORKER_URL, POST,
+                FeedbackQuestionStatisticsReconciliationWorkerAction.class);
 
     }
 
@@ -1,17 +1,30 @@
 package teammates.ui.webapi;
 
+import java.io.IOException;
+
 import com.google.cloud.datastore.DatastoreException;
 import com.google.rpc.Code;
 
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.ui.output.ApiOutput;
 
 /**
  * Action specifically created for testing exception handling at API servlet.
  */
 class AdminExceptionTestAction extends Action {
 
+    /**
+     * Fails with a {@link DatastoreException} while the output is written, before any of it is sent.
+     */
+    private static final String ERROR_WHILE_WRITING_OUTPUT = "DatastoreExceptionWhileWritingOutput";
+
+    /**
+     * Fails with a {@link DatastoreException} while the output is written, after part of it is sent.
+     */
+    private static final String ERROR_AFTER_SENDING_OUTPUT = "DatastoreExceptionAfterSendingOutput";
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -51,7 +64,36 @@ class AdminExceptionTestAction extends Action {
         if (error.equals(EntityNotFoundException.class.getSimpleName())) {
             throw new EntityNotFoundException("EntityNotFoundException testing");
         }
+        if (error.equals(ERROR_WHILE_WRITING_OUTPUT)) {
+            return new JsonResult(new PartiallyWrittenOutput(10));
+        }
+        if (error.equals(ERROR_AFTER_SENDING_OUTPUT)) {
+            return new JsonResult(new PartiallyWrittenOutput(100_000));
+        }
         return new JsonResult("Test output");
     }
 
+    /**
+     * Output which fails after some of its elements are written, as outputs built while being written may do.
+     */
+    private static class PartiallyWrittenOutput extends ApiOutput {
+
+        private final int numberOfElementsWritten;
+
+        PartiallyWrittenOutput(int numberOfElementsWritten) {
+            this.numberOfElementsWritten = numberOfElementsWritten;
+        }
+
+        @Override
+        public void writeJsonTo(Appendable writer) throws IOException {
+            writer.append("{\"elements\":[");
+            for (int i = 0; i < numberOfElementsWritten; i++) {
+                writer.append(i == 0 ? "\"element\"" : ",\"element\"");
+            }
+            throw new DatastoreException(Code.DEADLINE_EXCEEDED_VALUE, "DatastoreException testing",
+                    Code.DEADLINE_EXCEEDED.name());
+        }
+
+    }
+
 }
@@ -86,7 +86,6 @@ class EnrollStudentsAction extends Action {
                                 .build();
                 try {
                     StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                    taskQueuer.scheduleStudentForSearchIndexing(updatedStudent.getCourse(), updatedStudent.getEmail());
                     enrolledStudents.add(updatedStudent);
                 } catch (InvalidParametersException | EntityDoesNotExistException
                         | EntityAlreadyExistsException exception) {
@@ -98,7 +97,6 @@ class EnrollStudentsAction extends Action {
                 // The student is new.
                 try {
                     StudentAttributes newStudent = logic.createStudent(student);
-                    taskQueuer.scheduleStudentForSearchIndexing(newStudent.getCourse(), newStudent.getEmail());
                     enrolledStudents.add(newStudent);
                 } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
                     // Unsuccessfully enrolled students will not be returned.
@@ -107,6 +105,10 @@ class EnrollStudentsAction extends Action {
                 }
             }
         }
+        if (!enrolledStudents.isEmpty()) {
+            // the enrolled students are indexed together instead of one task per student
+            taskQueuer.scheduleCourseStudentsForSearchIndexing(courseId);
+        }
         return new JsonResult(new EnrollStudentsData(new StudentsData(enrolledStudents), failToEnrollStudents));
     }
 }
@@ -0,0 +1,26 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import teammates.common.util.RequestTracer;
+
+/**
+ * Cron job: schedules the running statistics of feedback questions updated in the past day to be reconciled
+ * with their responses.
+ */
+class FeedbackQuestionStatisticsReconciliationAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() {
+        List<String> questionIds =
+                logic.getFeedbackQuestionIdsWithStatisticsUpdatedAfter(Instant.now().minus(1, ChronoUnit.DAYS));
+        for (String questionId : questionIds) {
+            RequestTracer.checkRemainingTime();
+            taskQueuer.scheduleFeedbackQuestionStatisticsReconciliation(questionId);
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,20 @@
+package teammates.ui.webapi;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: reconciles the running statistics of a feedback question with its responses.
+ */
+class FeedbackQuestionStatisticsReconciliationWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() {
+        String feedbackQuestionId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+
+        // any drift found is logged while the statistics are rebuilt
+        logic.rebuildFeedbackQuestionStatistics(feedbackQuestionId);
+
+        return new JsonResult("Successful");
+    }
+
+}
@@ -25,12 +25,11 @@ class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
-            List<StudentAttributes> studentList = logic.getStudentsForCourse(courseId);
             List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
-            List<StudentAttributes> studentsToRemindList = studentList.stream().filter(student ->
+            List<StudentAttributes> studentsToRemindList = logic.streamStudentsForCourse(courseId).filter(student ->
                     !logic.isFeedbackSessionAttemptedByStudent(session, student.getEmail(), student.getTeam())
             ).collect(Collectors.toList());
 
@@ -1,7 +1,10 @@
 package teammates.ui.webapi;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -76,20 +79,26 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        List<FeedbackResponseData> responsesData = new LinkedList<>();
-        responses.forEach(response -> {
+        Map<String, FeedbackResponseCommentAttributes> participantComments = new HashMap<>();
+        if (questionAttributes.getQuestionType() == FeedbackQuestionType.MCQ
+                || questionAttributes.getQuestionType() == FeedbackQuestionType.MSQ) {
+            // Only MCQ and MSQ questions can have participant comment
+            List<String> responseIds = responses.stream()
+                    .map(FeedbackResponseAttributes::getId)
+                    .collect(Collectors.toList());
+            participantComments = logic.getFeedbackResponseCommentsForResponsesFromParticipants(
+                    questionAttributes.getFeedbackQuestionId(), responseIds);
+        }
+
+        List<FeedbackResponseData> responsesData = new ArrayList<>(responses.size());
+        for (FeedbackResponseAttributes response : responses) {
             FeedbackResponseData data = new FeedbackResponseData(response);
-            if (questionAttributes.getQuestionType() == FeedbackQuestionType.MCQ
-                    || questionAttributes.getQuestionType() == FeedbackQuestionType.MSQ) {
-                // Only MCQ and MSQ questions can have participant comment
-                FeedbackResponseCommentAttributes comment =
-                        logic.getFeedbackResponseCommentForResponseFromParticipant(response.getId());
-                if (comment != null) {
-                    data.setGiverComment(new FeedbackResponseCommentData(comment));
-                }
+            FeedbackResponseCommentAttributes comment = participantComments.get(response.getId());
+            if (comment != null) {
+                data.setGiverComment(new FeedbackResponseCommentData(comment));
             }
             responsesData.add(data);
-        });
+        }
         FeedbackResponsesData result = new FeedbackResponsesData();
         if (!responsesData.isEmpty()) {
             result.setResponses(responsesData);
@@ -1,10 +1,14 @@
 package teammates.ui.webapi;
 
+import java.util.function.Supplier;
+
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
@@ -79,40 +83,67 @@ class GetSessionResultsAction extends Action {
         // Allow additional filter by question ID (equivalent to question number) and section name
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        // Allow the results of a question to be loaded page by page instead
+        boolean isPaginated = Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGINATED));
+        // Allow only the running statistics of the questions to be loaded, without the responses
+        boolean isStatisticsOnly =
+                Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY));
 
-        SessionResultsBundle bundle;
-        InstructorAttributes instructor;
-        StudentAttributes student;
+        FeedbackSessionAttributes feedbackSession = getNonNullFeedbackSession(feedbackSessionName, courseId);
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        if (isPaginated && (intent != Intent.FULL_DETAIL || questionId == null)) {
+            throw new InvalidHttpParameterException("Only the full detail results of a question can be paginated");
+        }
+        if (isStatisticsOnly && (intent != Intent.FULL_DETAIL || isPaginated || selectedSection != null)) {
+            throw new InvalidHttpParameterException(
+                    "Only the full detail results of all sections can be loaded as statistics only");
+        }
         switch (intent) {
         case FULL_DETAIL:
-            instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+            InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
 
-            bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
-                    questionId, selectedSection);
+            if (isPaginated) {
+                return getSessionResultsPage(feedbackSessionName, courseId, instructor.getEmail(), questionId,
+                        selectedSection, getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN));
+            }
 
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            if (isStatisticsOnly) {
+                // the running statistics are kept up to date with every response, so there is no snapshot of them
+                SessionResultsBundle bundle = logic.getSessionStatisticsForCourse(feedbackSessionName, courseId,
+                        instructor.getEmail(), questionId);
+                return new JsonResult(SessionResultsData.initStatisticsForInstructor(bundle));
+            }
+
+            return getSessionResults(feedbackSession, getViewKey(intent, instructor.getEmail(), questionId, selectedSection),
+                    () -> {
+                        SessionResultsBundle bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId,
+                                instructor.getEmail(), questionId, selectedSection);
+                        return SessionResultsData.initForInstructor(bundle);
+                    });
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
-            instructor = getInstructor(courseId);
+            InstructorAttributes previewer = getInstructor(courseId);
 
-            bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, instructor.getEmail(),
-                    true, questionId);
+            return getSessionResults(feedbackSession, getViewKey(intent, previewer.getEmail(), questionId, null), () -> {
+                SessionResultsBundle bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId,
+                        previewer.getEmail(), true, questionId);
 
-            // Build a fake student object, as the results will be displayed as if they are displayed to a student
-            student = StudentAttributes.builder(instructor.getCourseId(), instructor.getEmail())
-                    .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
-                    .build();
+                // Build a fake student object, as the results will be displayed as if they are displayed to a student
+                StudentAttributes student = StudentAttributes.builder(previewer.getCourseId(), previewer.getEmail())
+                        .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
+                        .build();
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+                return SessionResultsData.initForStudent(bundle, student);
+            });
         case STUDENT_RESULT:
             // Section name filter is not applicable here
-            student = getStudent(courseId);
-
-            bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, student.getEmail(),
-                    false, questionId);
+            StudentAttributes student = getStudent(courseId);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return getSessionResults(feedbackSession, getViewKey(intent, student.getEmail(), questionId, null), () -> {
+                SessionResultsBundle bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId,
+                        student.getEmail(), false, questionId);
+                return SessionResultsData.initForStudent(bundle, student);
+            });
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -121,4 +152,45 @@ class GetSessionResultsAction extends Action {
         }
     }
 
+    /**
+     * Gets the results built by {@code resultsBuilder}, from the snapshot of the results if the session is published.
+     */
+    private JsonResult getSessionResults(FeedbackSessionAttributes feedbackSession, String viewKey,
+                                         Supplier<SessionResultsData> resultsBuilder) {
+        if (!feedbackSession.isPublished()) {
+            // there is no snapshot for results which are still changing;
+            // the results are written out as they are built instead
+            return new JsonResult(resultsBuilder.get());
+        }
+
+        // the snapshot is read, or built and stored, as the results are written out
+        return new JsonResult(SessionResultsData.initFromSerializedQuestions(
+                writer -> logic.writeSessionResultsSnapshot(feedbackSession, viewKey,
+                        resultsWriter -> resultsBuilder.get().writeSerializedQuestionsTo(resultsWriter), writer)));
+    }
+
+    /**
+     * Gets a page of the full detail results of a question.
+     *
+     * <p>Pages are not kept in snapshots, as each page is small and its range of givers depends on the roster.
+     */
+    private JsonResult getSessionResultsPage(String feedbackSessionName, String courseId, String instructorEmail,
+                                             String questionId, String selectedSection, String pageToken) {
+        try {
+            SessionResultsBundle bundle = logic.getSessionResultsPageForCourse(feedbackSessionName, courseId,
+                    instructorEmail, questionId, selectedSection, pageToken, Const.SESSION_RESULTS_PAGE_SIZE);
+            return new JsonResult(SessionResultsData.initPageForInstructor(bundle));
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpParameterException(e);
+        }
+    }
+
+    /**
+     * Gets the key identifying everything that the results depend on apart from the session,
+     * i.e. the intent, the viewer and the filters applied.
+     */
+    private static String getViewKey(Intent intent, String viewerEmail, String questionId, String section) {
+        return JsonUtils.toCompactJson(new String[] { intent.name(), viewerEmail, questionId, section });
+    }
+
 }
@@ -11,7 +11,6 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.Config;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.RequestTracer;
 import teammates.ui.output.ApiOutput;
 import teammates.ui.output.MessageOutput;
@@ -61,7 +60,7 @@ public class JsonResult extends ActionResult {
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
+        output.writeJsonTo(pw);
     }
 
     List<Cookie> getCookies() {
@@ -0,0 +1,41 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Rebuilds the search collections from the database, e.g. after the search service has lost its data.
+ *
+ * <p>Only one collection is rebuilt if the collection is given, otherwise all of them are.
+ * The rebuild itself is done by task queue workers, so this action returns as soon as it is scheduled.
+ * Existing documents are overwritten rather than removed beforehand, so that searching keeps working meanwhile.
+ */
+class RebuildSearchIndexesAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String collection = getRequestParamValue(ParamsNames.SEARCH_COLLECTION);
+        if (collection != null && !Const.SearchCollections.ALL.contains(collection)) {
+            throw new InvalidHttpParameterException("Search collection " + collection + " not accepted");
+        }
+
+        List<String> collections = collection == null
+                ? Const.SearchCollections.ALL
+                : Collections.singletonList(collection);
+        long rebuildStartTime = Instant.now().toEpochMilli();
+        for (String collectionToRebuild : collections) {
+            log.info("Rebuild of search collection " + collectionToRebuild + " scheduled");
+            taskQueuer.scheduleSearchIndexRebuildSplit(collectionToRebuild, null, rebuildStartTime);
+        }
+
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,46 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: indexes all entities in a chunk of a search collection in bulk.
+ *
+ * <p>The throughput of the chunk is logged, together with the time elapsed since the rebuild was started.
+ */
+class SearchIndexRebuildChunkWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String collection = getNonNullRequestParamValue(ParamsNames.SEARCH_COLLECTION);
+        EntityIdRange chunk = new EntityIdRange(getNonNullRequestParamValue(ParamsNames.ENTITY_ID_RANGE_START),
+                getRequestParamValue(ParamsNames.ENTITY_ID_RANGE_END));
+        long rebuildStartTime = getLongRequestParamValue(ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME);
+
+        long startTime = Instant.now().toEpochMilli();
+        int numberOfDocuments;
+        try {
+            numberOfDocuments = logic.indexSearchCollectionChunk(collection, chunk);
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+        long endTime = Instant.now().toEpochMilli();
+
+        long elapsedMillis = Math.max(endTime - startTime, 1);
+        log.info(String.format("Rebuild of search collection %s: %d document(s) of %s indexed in %d ms "
+                + "(%.1f documents/s), %d s since the rebuild was started", collection, numberOfDocuments, chunk,
+                elapsedMillis, numberOfDocuments * 1000.0 / elapsedMillis, (endTime - rebuildStartTime) / 1000));
+
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,46 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: splits the entities of a search collection into chunks and schedules
+ * each chunk to be indexed separately.
+ *
+ * <p>As the number of chunks found by a split is limited, the split is continued by another task
+ * from where this one stops. The start ID of each task thus serves as the checkpoint of the rebuild:
+ * a failed task is retried from it rather than from the first entity.
+ */
+class SearchIndexRebuildSplitWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String collection = getNonNullRequestParamValue(ParamsNames.SEARCH_COLLECTION);
+        String startId = getRequestParamValue(ParamsNames.ENTITY_ID_RANGE_START);
+        long rebuildStartTime = getLongRequestParamValue(ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME);
+
+        List<EntityIdRange> chunks = logic.splitSearchCollectionIntoChunks(collection, startId);
+        for (EntityIdRange chunk : chunks) {
+            taskQueuer.scheduleSearchIndexRebuildChunk(collection, chunk, rebuildStartTime);
+        }
+
+        // the next split is only scheduled once all chunks found by this one are, so that none is missed on retry
+        String nextStartId = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1).getEndId();
+        if (nextStartId == null) {
+            log.info(String.format("Rebuild of search collection %s: all %d chunk(s) from %s scheduled",
+                    collection, chunks.size(), startId));
+        } else {
+            log.info(String.format("Rebuild of search collection %s: %d chunk(s) from %s scheduled, continuing from %s",
+                    collection, chunks.size(), startId, nextStartId));
+            taskQueuer.scheduleSearchIndexRebuildSplit(collection, nextStartId, rebuildStartTime);
+        }
+
+        return new JsonResult("Successful");
+    }
+
+}
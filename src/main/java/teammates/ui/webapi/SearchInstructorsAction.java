@@ -2,6 +2,8 @@ package teammates.ui.webapi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.SearchServiceException;
@@ -24,12 +26,16 @@ class SearchInstructorsAction extends AdminOnlyAction {
             return new JsonResult(e.getMessage(), e.getStatusCode());
         }
 
+        // the institutes are fetched once for all courses of the results instead of once per instructor
+        Map<String, String> courseInstitutes = logic.getCourseInstitutes(
+                instructors.stream().map(InstructorAttributes::getCourseId).collect(Collectors.toSet()));
+
         List<InstructorData> instructorDataList = new ArrayList<>();
         for (InstructorAttributes instructor : instructors) {
             InstructorData instructorData = new InstructorData(instructor);
             instructorData.addAdditionalInformationForAdminSearch(
                     instructor.getKey(),
-                    logic.getCourseInstitute(instructor.getCourseId()),
+                    courseInstitutes.get(instructor.getCourseId()),
                     instructor.getGoogleId());
 
             instructorDataList.add(instructorData);
@@ -1,7 +1,10 @@
 package teammates.ui.webapi;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -47,14 +50,20 @@ class SearchStudentsAction extends Action {
             return new JsonResult(e.getMessage(), e.getStatusCode());
         }
 
+        boolean isAdminSearch = userInfo.isAdmin && entity.equals(Const.EntityType.ADMIN);
+        // the institutes are fetched once for all courses of the results instead of once per student
+        Map<String, String> courseInstitutes = isAdminSearch
+                ? logic.getCourseInstitutes(students.stream().map(StudentAttributes::getCourse).collect(Collectors.toSet()))
+                : Collections.emptyMap();
+
         List<StudentData> studentDataList = new ArrayList<>();
         for (StudentAttributes s : students) {
             StudentData studentData = new StudentData(s);
 
-            if (userInfo.isAdmin && entity.equals(Const.EntityType.ADMIN)) {
+            if (isAdminSearch) {
                 studentData.addAdditionalInformationForAdminSearch(
                         s.getKey(),
-                        logic.getCourseInstitute(s.getCourse()),
+                        courseInstitutes.get(s.getCourse()),
                         s.getGoogleId()
                 );
             }
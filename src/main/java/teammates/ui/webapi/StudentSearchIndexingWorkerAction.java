@@ -8,17 +8,23 @@ import teammates.common.util.Const.ParamsNames;
 
 /**
  * Task queue worker action: performs student search indexing.
+ *
+ * <p>All students of the course are indexed in bulk if no student email is given.
  */
 public class StudentSearchIndexingWorkerAction extends AdminOnlyAction {
 
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
-        String email = getNonNullRequestParamValue(ParamsNames.STUDENT_EMAIL);
+        String email = getRequestParamValue(ParamsNames.STUDENT_EMAIL);
 
-        StudentAttributes student = logic.getStudentForEmail(courseId, email);
         try {
-            logic.putStudentDocument(student);
+            if (email == null) {
+                logic.putStudentDocuments(logic.getStudentsForCourse(courseId));
+            } else {
+                StudentAttributes student = logic.getStudentForEmail(courseId, email);
+                logic.putStudentDocument(student);
+            }
         } catch (SearchServiceException e) {
             // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
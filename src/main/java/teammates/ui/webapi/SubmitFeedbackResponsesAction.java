@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.http.HttpStatus;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -187,33 +189,24 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         }
 
         List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponseAttributes> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
+        List<String> feedbackResponseIdsToDelete = existingResponsesPerRecipient.entrySet().stream()
                 .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
+                .map(entry -> entry.getValue().getId())
                 .collect(Collectors.toList());
 
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToDelete) {
-            logic.deleteFeedbackResponseCascade(feedbackResponse.getId());
-        }
-
-        List<FeedbackResponseAttributes> output = new ArrayList<>();
-
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(logic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
-
-        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
+        List<FeedbackResponseAttributes> output;
+        try {
+            output = logic.batchUpdateFeedbackResponsesCascade(
+                    feedbackResponsesToAdd, feedbackResponsesToUpdate, feedbackResponseIdsToDelete);
+        } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
+            // None of the exceptions should be happening as the responses have been pre-validated.
+            // The responses are not saved if they fail the checks done before any of them is written,
+            // but they stay saved if the cascade update of their comments fails afterwards,
+            // so the user has to check which of them are saved.
+            log.severe("Encountered exception when submitting responses: " + e.getMessage(), e);
+            return new JsonResult("The responses may not have been saved completely. "
+                    + "Please reload the page to check the saved responses and submit them again.",
+                    HttpStatus.SC_INTERNAL_SERVER_ERROR);
         }
 
         return new JsonResult(new FeedbackResponsesData(output));
@@ -180,6 +180,47 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(Const.DEFAULT_SECTION, info.getSectionName());
     }
 
+    @Test
+    public void testGetStudentsInSection() {
+        List<StudentAttributes> students = createStudentList(
+                "team 1", "s1@gmail.com",
+                "team 2", "s2@gmail.com");
+        students.add(StudentAttributes.builder("", "s3@gmail.com")
+                .withName("s3")
+                .withTeamName("team 1")
+                .withSectionName("team 1's Section")
+                .build());
+        CourseRoster roster = new CourseRoster(students, null);
+
+        List<StudentAttributes> studentsInSection = roster.getStudentsInSection("team 1's Section");
+        assertEquals(2, studentsInSection.size());
+        assertEquals("s1@gmail.com", studentsInSection.get(0).getEmail());
+        assertEquals("s3@gmail.com", studentsInSection.get(1).getEmail());
+        assertEquals(1, roster.getStudentsInSection("team 2's Section").size());
+        assertTrue(roster.getStudentsInSection("non-existent section").isEmpty());
+
+        assertThrows(UnsupportedOperationException.class, () -> studentsInSection.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> roster.getStudents().remove(0));
+    }
+
+    @Test
+    public void testGetTeamId() {
+        CourseRoster roster = new CourseRoster(
+                createStudentList(
+                        "team 1", "s1@gmail.com",
+                        "team 2", "s2@gmail.com",
+                        "team 1", "s3@gmail.com"),
+                null);
+
+        assertEquals(roster.getTeamId("team 1"), roster.getTeamIdOfStudent("s1@gmail.com"));
+        assertEquals(roster.getTeamId("team 1"), roster.getTeamIdOfStudent("s3@gmail.com"));
+        assertEquals(roster.getTeamId("team 2"), roster.getTeamIdOfStudent("s2@gmail.com"));
+        assertNotEquals(roster.getTeamId("team 1"), roster.getTeamId("team 2"));
+
+        assertEquals(CourseRoster.NO_TEAM_ID, roster.getTeamId("non-existent team"));
+        assertEquals(CourseRoster.NO_TEAM_ID, roster.getTeamIdOfStudent("non-existent@gmail.com"));
+    }
+
     private List<StudentAttributes> createStudentList(String... studentData) {
         List<StudentAttributes> students = new ArrayList<>();
         for (int i = 0; i < studentData.length; i += 2) {
@@ -0,0 +1,91 @@
+package teammates.common.datatransfer;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the calculation of the results of a contribution question for all the teams of a course
+ * with {@link TeamEvalCalculator}, against the calculation of each team with {@link TeamEvalResult}.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmarks=TeamEvalCalculatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamEvalCalculatorBenchmark {
+
+    private static final int NUM_TEAMS = 200;
+    private static final int TEAM_SIZE = 6;
+
+    /**
+     * The percentage of students who have not submitted their points.
+     */
+    @Param("20")
+    public int notSubmittedPercentage;
+
+    private int[][][] teams;
+    private int[] teamSizes;
+    private int[] points;
+
+    /**
+     * Builds the points given by the students of 200 teams of 6 students, with some points not sure
+     * and some students not submitting.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        teams = new int[NUM_TEAMS][TEAM_SIZE][TEAM_SIZE];
+        teamSizes = new int[NUM_TEAMS];
+        points = new int[NUM_TEAMS * TEAM_SIZE * TEAM_SIZE];
+        int offset = 0;
+        for (int team = 0; team < NUM_TEAMS; team++) {
+            teamSizes[team] = TEAM_SIZE;
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                boolean isSubmitted = random.nextInt(100) >= notSubmittedPercentage;
+                for (int j = 0; j < TEAM_SIZE; j++) {
+                    int value;
+                    if (!isSubmitted) {
+                        value = Const.POINTS_NOT_SUBMITTED;
+                    } else if (random.nextInt(20) == 0) {
+                        value = Const.POINTS_NOT_SURE;
+                    } else {
+                        value = 50 + random.nextInt(101);
+                    }
+                    teams[team][i][j] = value;
+                    points[offset++] = value;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void allTeamsWithTeamEvalResult(Blackhole blackhole) {
+        for (int[][] team : teams) {
+            blackhole.consume(new TeamEvalResult(team));
+        }
+    }
+
+    @Benchmark
+    public void allTeamsWithCalculator(Blackhole blackhole) {
+        blackhole.consume(new TeamEvalCalculator().calculate(teamSizes, points));
+    }
+
+}
@@ -0,0 +1,112 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalCalculator}.
+ */
+public class TeamEvalCalculatorTest extends BaseTestCase {
+
+    // CHECKSTYLE.OFF:SingleSpaceSeparator vertical alignment of values for readability
+    @Test
+    public void testCalculate_sameTeamsAsTeamEvalResult_shouldGiveSameResults() {
+
+        ______TS("submitted, not sure and not submitted points");
+
+        int[][][] teams = {
+                {
+                        { 100, 100, 100, 100 },
+                        { 110, 110, 110, 110 },
+                        {  90,  90,  90,  90 },
+                        {  70,  80, 110, 120 },
+                },
+                {
+                        { NSB, NSB, NSB, NSB },
+                        { NSU, NSU, NSU, NSU },
+                        { NSU, NSU, NSU, NSU },
+                        { NSB, NSB, NSB, NSB },
+                },
+                {
+                        { 100, NSU, 120 },
+                        { NSB, NSB, NSB },
+                        {   0,   0,   0 },
+                },
+                {
+                        { 100 },
+                },
+                {
+                        { NSU },
+                },
+        };
+        verifySameResults(teams);
+
+        ______TS("random teams of different sizes");
+
+        Random random = new Random(1);
+        teams = new int[50][][];
+        for (int team = 0; team < teams.length; team++) {
+            int teamSize = 1 + random.nextInt(8);
+            teams[team] = new int[teamSize][teamSize];
+            for (int i = 0; i < teamSize; i++) {
+                boolean isSubmitted = random.nextInt(5) != 0;
+                for (int j = 0; j < teamSize; j++) {
+                    int choice = random.nextInt(10);
+                    if (!isSubmitted) {
+                        teams[team][i][j] = NSB;
+                    } else if (choice == 0) {
+                        teams[team][i][j] = NSU;
+                    } else {
+                        teams[team][i][j] = choice == 1 ? 0 : random.nextInt(200);
+                    }
+                }
+            }
+        }
+        verifySameResults(teams);
+    }
+    // CHECKSTYLE.ON:SingleSpaceSeparator
+
+    private void verifySameResults(int[][][] teams) {
+        int[] teamSizes = new int[teams.length];
+        int numberOfPoints = 0;
+        for (int team = 0; team < teams.length; team++) {
+            teamSizes[team] = teams[team].length;
+            numberOfPoints += teamSizes[team] * teamSizes[team];
+        }
+        int[] points = new int[numberOfPoints];
+        int offset = 0;
+        for (int[][] team : teams) {
+            for (int[] row : team) {
+                System.arraycopy(row, 0, points, offset, row.length);
+                offset += row.length;
+            }
+        }
+
+        TeamEvalCalculator.Results results = new TeamEvalCalculator().calculate(teamSizes, points);
+
+        assertEquals(teams.length, results.getNumberOfTeams());
+        for (int team = 0; team < teams.length; team++) {
+            TeamEvalResult expected = new TeamEvalResult(teams[team]);
+            int teamSize = teams[team].length;
+            assertEquals(teamSize, results.getTeamSize(team));
+            for (int i = 0; i < teamSize; i++) {
+                assertEquals(expected.normalizedAveragePerceived[i], results.getNormalizedAveragePerceived(team, i));
+                for (int j = 0; j < teamSize; j++) {
+                    assertEquals(expected.claimed[i][j], results.getClaimed(team, i, j));
+                    assertEquals(expected.normalizedClaimed[i][j], results.getNormalizedClaimed(team, i, j));
+                    assertEquals(expected.denormalizedAveragePerceived[i][j],
+                            results.getDenormalizedAveragePerceived(team, i, j));
+                    assertEquals(expected.normalizedPeerContributionRatio[i][j],
+                            results.getNormalizedPeerContributionRatio(team, i, j));
+                }
+            }
+        }
+    }
+
+}
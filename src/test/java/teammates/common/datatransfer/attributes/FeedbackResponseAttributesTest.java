@@ -1,11 +1,17 @@
 package teammates.common.datatransfer.attributes;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.ParallelHelper;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.test.BaseTestCase;
 
@@ -61,6 +67,49 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(Const.TIME_REPRESENTS_DEFAULT_TIMESTAMP, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testValueOf_responseDetailsModified_shouldReflectModificationInSerializedAnswer() {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer("A");
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.MCQ, "giver@email.com", "section1",
+                "recipient@email.com", "section2", details.getJsonString());
+
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+
+        ______TS("unmodified answer is kept as is");
+
+        assertEquals(FeedbackQuestionType.MCQ, fra.getFeedbackQuestionType());
+        assertEquals(response.getAnswer(), fra.getSerializedFeedbackResponseDetail());
+        assertEquals("A", fra.getResponseDetailsCopy().getAnswerString());
+        assertTrue(JsonUtils.toJson(fra).contains("\"answer\": \"A\""));
+
+        ______TS("modified answer is serialized again");
+
+        ((FeedbackMcqResponseDetails) fra.getResponseDetails()).setAnswer("B");
+        assertEquals("B", fra.getResponseDetailsCopy().getAnswerString());
+        assertEquals("B", ((FeedbackMcqResponseDetails) JsonUtils.fromJson(
+                fra.getSerializedFeedbackResponseDetail(), FeedbackMcqResponseDetails.class)).getAnswer());
+        assertEquals(fra.getSerializedFeedbackResponseDetail(), fra.toEntity().getAnswer());
+    }
+
+    @Test
+    public void testGetResponseDetails_concurrentAccess_shouldParseOnlyOnce() {
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.TEXT, "giver@email.com", "section1",
+                "recipient@email.com", "section2", new FeedbackTextResponseDetails("answer").getJsonString());
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+
+        List<FeedbackResponseDetails> details =
+                ParallelHelper.map(Collections.nCopies(100, fra), FeedbackResponseAttributes::getResponseDetails);
+
+        for (FeedbackResponseDetails detail : details) {
+            assertTrue(details.get(0) == detail);
+        }
+        assertEquals("answer", details.get(0).getAnswerString());
+        assertEquals(response.getAnswer(), fra.getSerializedFeedbackResponseDetail());
+    }
+
     @Test
     public void testBuilder_buildNothing_shouldUseDefaultValue() {
         FeedbackResponseAttributes fra =
@@ -0,0 +1,99 @@
+package teammates.common.util;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.FeedbackConstantSumResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackResponseDetailsParser}.
+ */
+public class FeedbackResponseDetailsParserTest extends BaseTestCase {
+
+    @Test
+    public void testParse_textResponse_shouldUseAnswerAsIs() {
+        FeedbackResponseDetails details = FeedbackResponseDetailsParser.parse("{not a JSON", FeedbackQuestionType.TEXT);
+
+        assertEquals(FeedbackQuestionType.TEXT, details.getQuestionType());
+        assertEquals("{not a JSON", details.getAnswerString());
+    }
+
+    @Test
+    public void testParse_mcqResponse_shouldBeSameAsGenericParser() {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer("Other answer");
+        details.setOther(true);
+        details.setOtherFieldContent("My own answer");
+
+        ______TS("typical case");
+
+        verifySameAsGenericParser(details.getJsonString(), FeedbackQuestionType.MCQ);
+
+        ______TS("missing, null and unknown fields");
+
+        verifySameAsGenericParser("{\"answer\":null,\"unknown\":{\"a\":[1,2]},\"questionType\":\"MCQ\"}",
+                FeedbackQuestionType.MCQ);
+
+        ______TS("field types which are only understood by the generic parser");
+
+        verifySameAsGenericParser("{\"answer\":true,\"isOther\":\"true\",\"questionType\":\"MCQ\"}",
+                FeedbackQuestionType.MCQ);
+    }
+
+    @Test
+    public void testParse_numericalScaleResponse_shouldBeSameAsGenericParser() {
+        FeedbackNumericalScaleResponseDetails details = new FeedbackNumericalScaleResponseDetails();
+        details.setAnswer(3.5);
+
+        ______TS("typical case");
+
+        verifySameAsGenericParser(details.getJsonString(), FeedbackQuestionType.NUMSCALE);
+
+        ______TS("integer answer");
+
+        verifySameAsGenericParser("{\"answer\":4,\"questionType\":\"NUMSCALE\"}", FeedbackQuestionType.NUMSCALE);
+
+        ______TS("missing answer");
+
+        verifySameAsGenericParser("{\"questionType\":\"NUMSCALE\"}", FeedbackQuestionType.NUMSCALE);
+    }
+
+    @Test
+    public void testParse_constantSumResponse_shouldBeSameAsGenericParser() {
+        FeedbackConstantSumResponseDetails details = new FeedbackConstantSumResponseDetails();
+        details.setAnswers(Arrays.asList(20, 30, 50));
+
+        ______TS("typical case");
+
+        verifySameAsGenericParser(details.getJsonString(), FeedbackQuestionType.CONSTSUM);
+
+        ______TS("empty and null answers");
+
+        verifySameAsGenericParser("{\"answers\":[],\"questionType\":\"CONSTSUM\"}", FeedbackQuestionType.CONSTSUM);
+        verifySameAsGenericParser("{\"answers\":null,\"questionType\":\"CONSTSUM\"}", FeedbackQuestionType.CONSTSUM);
+    }
+
+    @Test
+    public void testParse_otherResponseTypes_shouldUseGenericParser() {
+        FeedbackRubricResponseDetails details = new FeedbackRubricResponseDetails();
+        details.setAnswer(Arrays.asList(0, 1));
+
+        verifySameAsGenericParser(details.getJsonString(), FeedbackQuestionType.RUBRIC);
+    }
+
+    private void verifySameAsGenericParser(String json, FeedbackQuestionType questionType) {
+        FeedbackResponseDetails expected = JsonUtils.fromJson(json, questionType.getResponseDetailsClass());
+        FeedbackResponseDetails actual = FeedbackResponseDetailsParser.parse(json, questionType);
+
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(JsonUtils.toJson(expected), JsonUtils.toJson(actual));
+    }
+
+}
@@ -0,0 +1,93 @@
+package teammates.common.util;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Benchmarks the serialization with the Gson instances shared by {@link JsonUtils},
+ * against building a Gson instance for every call as done before.
+ *
+ * <p>The benchmarks run in several threads, as the requests of a server instance do.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmarks=JsonUtilsBenchmark};
+ * add {@code -prof gc} to the property to compare the allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private static final int NUM_SESSIONS = 100;
+
+    private static final Type SESSIONS_TYPE = new TypeToken<List<FeedbackSessionAttributes>>() {}.getType();
+
+    private List<FeedbackSessionAttributes> sessions;
+    private String sessionsJson;
+
+    /**
+     * Builds sessions, which hold the time fields handled by the custom adapters.
+     */
+    @Setup
+    public void setUp() {
+        Instant startTime = Instant.parse("2026-01-01T00:00:00Z");
+        sessions = new ArrayList<>(NUM_SESSIONS);
+        for (int i = 0; i < NUM_SESSIONS; i++) {
+            sessions.add(FeedbackSessionAttributes.builder("Session " + i, "benchmark.course")
+                    .withCreatorEmail("instructor@gmail.tmt")
+                    .withInstructions("Instructions of session " + i)
+                    .withStartTime(startTime.plus(Duration.ofDays(i)))
+                    .withEndTime(startTime.plus(Duration.ofDays(i + 7)))
+                    .withSessionVisibleFromTime(startTime)
+                    .withResultsVisibleFromTime(startTime.plus(Duration.ofDays(i + 14)))
+                    .withTimeZone("Asia/Singapore")
+                    .withGracePeriod(Duration.ofMinutes(15))
+                    .build());
+        }
+        sessionsJson = JsonUtils.toCompactJson(sessions);
+    }
+
+    @Benchmark
+    public String toJsonWithGsonPerCall() {
+        return JsonUtils.createGsonInstance(false).toJson(sessions);
+    }
+
+    @Benchmark
+    public String toJsonWithSharedGson() {
+        return JsonUtils.toCompactJson(sessions);
+    }
+
+    @Benchmark
+    public List<FeedbackSessionAttributes> fromJsonWithGsonPerCall() {
+        return JsonUtils.createGsonInstance(false).fromJson(sessionsJson, SESSIONS_TYPE);
+    }
+
+    @Benchmark
+    public List<FeedbackSessionAttributes> fromJsonWithSharedGson() {
+        return JsonUtils.fromJson(sessionsJson, SESSIONS_TYPE);
+    }
+
+}
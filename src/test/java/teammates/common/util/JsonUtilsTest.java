@@ -1,5 +1,8 @@
 package teammates.common.util;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 
 import org.testng.annotations.Test;
@@ -103,4 +106,29 @@ public class JsonUtilsTest extends BaseTestCase {
                 + "\"recipientSection\":\"recipientSection\"}",
                 JsonUtils.toCompactJson(fra));
     }
+
+    @Test
+    public void testTimeAdapters_shouldSerializeAndDeserializeConsistently() {
+        Instant instant = Instant.parse("2021-05-01T10:15:30Z");
+        ZoneId zoneId = ZoneId.of("Asia/Singapore");
+        Duration duration = Duration.ofMinutes(15);
+
+        ______TS("values are serialized in their respective formats");
+
+        assertEquals("\"2021-05-01T10:15:30Z\"", JsonUtils.toCompactJson(instant));
+        assertEquals("\"Asia/Singapore\"", JsonUtils.toJson(zoneId, ZoneId.class));
+        assertEquals("15", JsonUtils.toCompactJson(duration));
+
+        ______TS("serialized values can be deserialized back");
+
+        assertEquals(instant, JsonUtils.fromJson(JsonUtils.toJson(instant), Instant.class));
+        assertEquals(zoneId, JsonUtils.fromJson(JsonUtils.toJson(zoneId, ZoneId.class), ZoneId.class));
+        assertEquals(duration, JsonUtils.fromJson(JsonUtils.toJson(duration), Duration.class));
+
+        ______TS("null values are handled");
+
+        assertEquals("null", JsonUtils.toCompactJson(null));
+        assertNull(JsonUtils.fromJson("null", Instant.class));
+        assertNull(JsonUtils.fromJson("null", Duration.class));
+    }
 }
@@ -0,0 +1,57 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link ParallelHelper}.
+ */
+public class ParallelHelperTest extends BaseTestCase {
+
+    @Test
+    public void testMap() {
+
+        ______TS("empty inputs");
+
+        assertTrue(ParallelHelper.map(Collections.<Integer>emptyList(), i -> i * 2).isEmpty());
+
+        ______TS("results are in input order");
+
+        List<Integer> inputs = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inputs.add(i);
+            expected.add(i * 2);
+        }
+        assertEquals(expected, ParallelHelper.map(inputs, i -> i * 2));
+
+        ______TS("exception thrown for an input is rethrown");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ParallelHelper.map(Arrays.asList(1, 2, 3), i -> {
+                    if (i == 2) {
+                        throw new IllegalArgumentException("bad input");
+                    }
+                    return i;
+                }));
+        assertEquals("bad input", e.getMessage());
+
+        ______TS("deadline of the current request is honored");
+
+        try {
+            RequestTracer.init("traceId", "spanId", -1);
+            assertThrows(DeadlineExceededException.class,
+                    () -> ParallelHelper.map(Arrays.asList(1, 2, 3), i -> i));
+        } finally {
+            RequestTracer.clear();
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -18,6 +19,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.RequestTracer;
 import teammates.storage.api.CoursesDb;
 import teammates.test.AssertHelper;
 
@@ -62,6 +64,47 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertTrue(sessionsOfCourse.stream().allMatch(s -> "UTC".equals(s.getTimeZone())));
     }
 
+    @Test
+    public void testGetCourseRoster_withinRequest_shouldBeSharedUntilRosterIsModified() throws Exception {
+        CourseAttributes typicalCourse1 = dataBundle.courses.get("typicalCourse1");
+
+        ______TS("outside of request: roster is read from the database every time");
+
+        assertNotSame(coursesLogic.getCourseRoster(typicalCourse1.getId()),
+                coursesLogic.getCourseRoster(typicalCourse1.getId()));
+
+        RequestTracer.init("traceId", null, 60);
+        try {
+            ______TS("within request: roster is shared");
+
+            CourseRoster roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+            assertTrue(roster == coursesLogic.getCourseRoster(typicalCourse1.getId()));
+            assertEquals(studentsLogic.getStudentsForCourse(typicalCourse1.getId()), roster.getStudents());
+            assertEquals(instructorsLogic.getInstructorsForCourse(typicalCourse1.getId()), roster.getInstructors());
+
+            ______TS("within request: roster is reloaded after students are modified");
+
+            StudentAttributes student = dataBundle.students.get("student1InCourse1");
+            studentsLogic.updateStudentCascade(
+                    StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                            .withName("New Name")
+                            .build());
+            CourseRoster updatedRoster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+            assertNotSame(roster, updatedRoster);
+            assertEquals("New Name", updatedRoster.getStudentForEmail(student.getEmail()).getName());
+
+            ______TS("within request: roster is reloaded after instructors are modified");
+
+            InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+            instructorsLogic.deleteInstructorCascade(instructor.getCourseId(), instructor.getEmail());
+            CourseRoster rosterAfterDeletion = coursesLogic.getCourseRoster(typicalCourse1.getId());
+            assertNotSame(updatedRoster, rosterAfterDeletion);
+            assertNull(rosterAfterDeletion.getInstructorForEmail(instructor.getEmail()));
+        } finally {
+            RequestTracer.clear();
+        }
+    }
+
     @Test
     public void testAll() throws Exception {
         testGetCourse();
@@ -0,0 +1,102 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+
+/**
+ * SUT: {@link FeedbackMissingResponsesGenerator}.
+ */
+public class FeedbackMissingResponsesGeneratorTest extends BaseLogicTest {
+
+    private static final String COURSE_ID = "idOfTypicalCourse1";
+    private static final String SESSION_NAME = "First feedback session";
+
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testGenerate_shouldGenerateAllPairsWithoutResponse() {
+        CourseRoster roster = getTypicalCourseRoster();
+        FeedbackVisibilityEvaluator visibilityEvaluator = getInstructorEvaluator(roster);
+
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(SESSION_NAME, COURSE_ID)) {
+            // make sure all missing responses are visible to the instructor
+            question.setShowResponsesTo(new ArrayList<>(Collections.singletonList(FeedbackParticipantType.INSTRUCTORS)));
+            List<FeedbackResponseAttributes> existingResponses = frLogic.getFeedbackResponsesForQuestion(question.getId());
+
+            Set<String> expectedPairs = new HashSet<>();
+            if (question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+                fqLogic.buildCompleteGiverRecipientMap(question, roster).forEach((giver, recipients) ->
+                        recipients.forEach(recipient -> expectedPairs.add(giver + "%" + recipient)));
+            }
+            existingResponses.forEach(response ->
+                    expectedPairs.remove(response.getGiver() + "%" + response.getRecipient()));
+
+            FeedbackMissingResponsesGenerator generator = new FeedbackMissingResponsesGenerator(COURSE_ID, SESSION_NAME,
+                    Collections.singletonMap(question.getId(), question), existingResponses, visibilityEvaluator,
+                    roster, null, null);
+            Set<String> actualPairs = new HashSet<>();
+            generator.generate(question.getId()).forEachRemaining(missingResponse -> {
+                assertEquals(question.getId(), missingResponse.getFeedbackQuestionId());
+                assertEquals("No Response", missingResponse.getResponseDetailsCopy().getAnswerString());
+                assertTrue(actualPairs.add(missingResponse.getGiver() + "%" + missingResponse.getRecipient()));
+            });
+            assertEquals(expectedPairs, actualPairs);
+        }
+    }
+
+    @Test
+    public void testGenerate_specificSection_shouldOnlyGenerateResponsesInSection() {
+        CourseRoster roster = getTypicalCourseRoster();
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(SESSION_NAME, COURSE_ID, 1);
+        question.setShowResponsesTo(new ArrayList<>(Collections.singletonList(FeedbackParticipantType.INSTRUCTORS)));
+
+        FeedbackMissingResponsesGenerator generator = new FeedbackMissingResponsesGenerator(COURSE_ID, SESSION_NAME,
+                Collections.singletonMap(question.getId(), question), Collections.emptyList(),
+                getInstructorEvaluator(roster), roster, "Section 1", null);
+        Iterator<FeedbackResponseAttributes> missingResponses = generator.generate(question.getId());
+
+        assertTrue(missingResponses.hasNext());
+        while (missingResponses.hasNext()) {
+            FeedbackResponseAttributes missingResponse = missingResponses.next();
+            assertTrue("Section 1".equals(missingResponse.getGiverSection())
+                    || "Section 1".equals(missingResponse.getRecipientSection()));
+        }
+        assertThrows(NoSuchElementException.class, missingResponses::next);
+    }
+
+    @Test
+    public void testGenerate_unknownQuestion_shouldGenerateNothing() {
+        CourseRoster roster = getTypicalCourseRoster();
+        FeedbackMissingResponsesGenerator generator = new FeedbackMissingResponsesGenerator(COURSE_ID, SESSION_NAME,
+                Collections.emptyMap(), Collections.emptyList(), getInstructorEvaluator(roster), roster, null, null);
+
+        assertFalse(generator.generate("non-existent-question-id").hasNext());
+    }
+
+    private CourseRoster getTypicalCourseRoster() {
+        return new CourseRoster(studentsLogic.getStudentsForCourse(COURSE_ID),
+                instructorsLogic.getInstructorsForCourse(COURSE_ID));
+    }
+
+    private FeedbackVisibilityEvaluator getInstructorEvaluator(CourseRoster roster) {
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        return new FeedbackVisibilityEvaluator(instructor.getEmail(), true, null, instructor, roster);
+    }
+
+}
@@ -0,0 +1,187 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+import teammates.storage.api.FeedbackResponsesDb;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsLogic}.
+ */
+public class FeedbackQuestionStatisticsLogicTest extends BaseLogicTest {
+
+    private final FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+    private final FeedbackQuestionStatisticsDb fqsDb = FeedbackQuestionStatisticsDb.inst();
+
+    private DataBundle questionTypeBundle;
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+
+        removeAndRestoreTypicalDataBundle();
+        removeAndRestoreDataBundle(questionTypeBundle);
+    }
+
+    @Test
+    public void testGetOrBuildStatistics() {
+
+        ______TS("question type without running statistics");
+
+        FeedbackQuestionAttributes textQuestion = getQuestionFromDatabase(dataBundle, "qn1InSession1InCourse1");
+        assertNull(fqsLogic.getOrBuildStatistics(textQuestion));
+
+        ______TS("MCQ question: chosen options are counted, other answers are counted together");
+
+        FeedbackQuestionAttributes mcqQuestion = getQuestionFromDatabase(questionTypeBundle, "qn1InSession1InCourse1");
+        FeedbackQuestionStatisticsAttributes statistics = fqsLogic.getOrBuildStatistics(mcqQuestion);
+        assertEquals(3, statistics.getNumberOfResponses());
+        assertEquals(1, statistics.getTallies().get("It's good").getCount());
+        assertEquals(2, statistics.getTallies().get("It's perfect").getCount());
+        assertEquals(1, statistics.getRecipientTallies().get("student1InCourse1@gmail.tmt").size());
+
+        FeedbackQuestionAttributes mcqOtherQuestion =
+                getQuestionFromDatabase(questionTypeBundle, "qn3InSession1InCourse1");
+        statistics = fqsLogic.getOrBuildStatistics(mcqOtherQuestion);
+        assertEquals(Collections.singleton("Other"), statistics.getTallies().keySet());
+
+        ______TS("numerical scale question: answers are summed");
+
+        FeedbackQuestionAttributes numScaleQuestion =
+                getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1");
+        statistics = fqsLogic.getOrBuildStatistics(numScaleQuestion);
+        assertEquals(2, statistics.getNumberOfResponses());
+        FeedbackQuestionStatisticsAttributes.Tally tally = statistics.getTallies().get("answer");
+        assertEquals(2, tally.getCount());
+        assertEquals(5.5, tally.getSum(), 1e-9);
+        assertEquals(3.5 * 3.5 + 2 * 2, tally.getSumOfSquares(), 1e-9);
+    }
+
+    @Test
+    public void testGetOrBuildStatistics_noStatisticsKept_shouldStoreBuiltStatistics() {
+        FeedbackQuestionAttributes question = getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1");
+        assertNull(fqsDb.getFeedbackQuestionStatistics(question.getId()));
+
+        fqsLogic.getOrBuildStatistics(question);
+
+        FeedbackQuestionStatisticsAttributes storedStatistics = fqsDb.getFeedbackQuestionStatistics(question.getId());
+        assertTrue(storedStatistics.isBuilt());
+        assertEquals(2, storedStatistics.getNumberOfResponses());
+
+        ______TS("statistics kept are read again");
+
+        assertEquals(storedStatistics.getVersion(), fqsLogic.getOrBuildStatistics(question).getVersion());
+    }
+
+    @Test
+    public void testUpdateStatisticsForResponses_writesOfResponses_shouldKeepStatisticsUpToDate() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1");
+        fqsLogic.getOrBuildStatistics(question);
+
+        ______TS("updated response");
+
+        FeedbackResponseAttributes response = getResponseFromDatabase(questionTypeBundle, "response1ForQ1S3C1");
+        frLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
+                        .withResponseDetails(makeNumericalScaleResponseDetails(1))
+                        .build());
+
+        FeedbackQuestionStatisticsAttributes statistics = fqsLogic.getOrBuildStatistics(question);
+        assertEquals(2, statistics.getNumberOfResponses());
+        assertEquals(3, statistics.getTallies().get("answer").getSum(), 1e-9);
+
+        ______TS("deleted response");
+
+        frLogic.deleteFeedbackResponseCascade(response.getId());
+
+        statistics = fqsLogic.getOrBuildStatistics(question);
+        assertEquals(1, statistics.getNumberOfResponses());
+        assertEquals(2, statistics.getTallies().get("answer").getSum(), 1e-9);
+        assertNull(statistics.getRecipientTallies().get(response.getRecipient()));
+
+        ______TS("created response");
+
+        frLogic.createFeedbackResponse(
+                FeedbackResponseAttributes.builder(question.getId(), response.getGiver(), response.getRecipient())
+                        .withFeedbackSessionName(response.getFeedbackSessionName())
+                        .withCourseId(response.getCourseId())
+                        .withGiverSection(response.getGiverSection())
+                        .withRecipientSection(response.getRecipientSection())
+                        .withResponseDetails(makeNumericalScaleResponseDetails(4.5))
+                        .build());
+
+        statistics = fqsLogic.getOrBuildStatistics(question);
+        assertEquals(2, statistics.getNumberOfResponses());
+        assertEquals(6.5, statistics.getTallies().get("answer").getSum(), 1e-9);
+
+        ______TS("statistics kept up to date have not drifted from the responses");
+
+        assertFalse(fqsLogic.rebuildStatistics(question.getId()));
+    }
+
+    @Test
+    public void testRebuildStatistics() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1");
+
+        ______TS("no statistics kept yet: nothing to rebuild");
+
+        assertFalse(fqsLogic.rebuildStatistics(question.getId()));
+
+        ______TS("response deleted without updating the statistics: drift is detected and repaired");
+
+        fqsLogic.getOrBuildStatistics(question);
+        FeedbackResponseAttributes response = getResponseFromDatabase(questionTypeBundle, "response1ForQ1S3C1");
+        frDb.deleteFeedbackResponse(response.getId());
+
+        assertTrue(fqsLogic.rebuildStatistics(question.getId()));
+        assertEquals(1, fqsLogic.getOrBuildStatistics(question).getNumberOfResponses());
+        assertFalse(fqsLogic.rebuildStatistics(question.getId()));
+
+        ______TS("edited question: statistics are discarded and built afresh");
+
+        fqLogic.updateFeedbackQuestionCascade(
+                FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
+                        .withQuestionDescription("new description")
+                        .build());
+
+        assertFalse(fqsLogic.rebuildStatistics(question.getId()));
+        assertEquals(1, fqsLogic.getOrBuildStatistics(question).getNumberOfResponses());
+    }
+
+    private FeedbackNumericalScaleResponseDetails makeNumericalScaleResponseDetails(double answer) {
+        FeedbackNumericalScaleResponseDetails responseDetails = new FeedbackNumericalScaleResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+    private FeedbackQuestionAttributes getQuestionFromDatabase(DataBundle dataBundle, String jsonId) {
+        FeedbackQuestionAttributes question = dataBundle.feedbackQuestions.get(jsonId);
+        return fqLogic.getFeedbackQuestion(
+                question.getFeedbackSessionName(), question.getCourseId(), question.getQuestionNumber());
+    }
+
+    private FeedbackResponseAttributes getResponseFromDatabase(DataBundle dataBundle, String jsonId) {
+        FeedbackResponseAttributes response = dataBundle.feedbackResponses.get(jsonId);
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.getFeedbackSessionName(),
+                response.getCourseId(), Integer.parseInt(response.getFeedbackQuestionId()));
+        return frLogic.getFeedbackResponse(question.getId(), response.getGiver(), response.getRecipient());
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.test.AssertHelper;
 
 /**
@@ -170,6 +172,75 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                                 .build()));
     }
 
+    @Test
+    public void testBatchUpdateFeedbackResponsesCascade() throws Exception {
+        FeedbackResponseAttributes responseToUpdate = getResponseFromDatabase("response1ForQ1S1C1");
+        FeedbackResponseAttributes responseToDelete = getResponseFromDatabase("response1ForQ2S1C1");
+        FeedbackResponseAttributes responseToCreate =
+                FeedbackResponseAttributes.builder(responseToUpdate.getFeedbackQuestionId(),
+                        "test@example.com", "test@example.com")
+                        .withFeedbackSessionName(responseToUpdate.getFeedbackSessionName())
+                        .withCourseId(responseToUpdate.getCourseId())
+                        .withGiverSection(responseToUpdate.getGiverSection())
+                        .withRecipientSection(responseToUpdate.getRecipientSection())
+                        .withResponseDetails(new FeedbackTextResponseDetails("New response"))
+                        .build();
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseToUpdate.getId()).isEmpty());
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseToDelete.getId()).isEmpty());
+
+        ______TS("failure: no such response, nothing is changed");
+
+        assertThrows(EntityDoesNotExistException.class,
+                () -> frLogic.batchUpdateFeedbackResponsesCascade(
+                        Collections.singletonList(responseToCreate),
+                        Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder("non-existent")
+                                .withGiver("random")
+                                .build()),
+                        Collections.singletonList(responseToDelete.getId())));
+        assertNull(frLogic.getFeedbackResponse(responseToCreate.getFeedbackQuestionId(),
+                responseToCreate.getGiver(), responseToCreate.getRecipient()));
+        assertNotNull(frLogic.getFeedbackResponse(responseToDelete.getId()));
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseToDelete.getId()).isEmpty());
+
+        ______TS("success: create, update and delete, should do cascade update and deletion to comments");
+
+        List<FeedbackResponseAttributes> responses = frLogic.batchUpdateFeedbackResponsesCascade(
+                Collections.singletonList(responseToCreate),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                        .withGiverSection("giverSection")
+                        .withRecipientSection("recipientSection")
+                        .build()),
+                Collections.singletonList(responseToDelete.getId()));
+
+        assertEquals(2, responses.size());
+        assertEquals("test@example.com", responses.get(0).getGiver());
+        assertNotNull(frLogic.getFeedbackResponse(responses.get(0).getId()));
+        assertEquals("giverSection", responses.get(1).getGiverSection());
+        assertEquals("recipientSection", responses.get(1).getRecipientSection());
+        List<FeedbackResponseCommentAttributes> associatedComments =
+                frcLogic.getFeedbackResponseCommentForResponse(responseToUpdate.getId());
+        assertFalse(associatedComments.isEmpty());
+        assertTrue(associatedComments.stream()
+                .allMatch(c -> "giverSection".equals(c.getGiverSection())
+                        && "recipientSection".equals(c.getReceiverSection())));
+        assertNull(frLogic.getFeedbackResponse(responseToDelete.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseToDelete.getId()).isEmpty());
+
+        ______TS("success: recipient changed, should move comments to the recreated response");
+
+        responses = frLogic.batchUpdateFeedbackResponsesCascade(new ArrayList<>(),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                        .withRecipient("student5InCourse1@gmail.tmt")
+                        .build()),
+                new ArrayList<>());
+
+        assertEquals(1, responses.size());
+        assertNull(frLogic.getFeedbackResponse(responseToUpdate.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseToUpdate.getId()).isEmpty());
+        assertEquals(associatedComments.size(),
+                frcLogic.getFeedbackResponseCommentForResponse(responses.get(0).getId()).size());
+    }
+
     @Test
     public void testUpdateFeedbackResponsesForChangingTeam_typicalData_shouldDoCascadeDeletion() throws Exception {
 
@@ -961,6 +1032,62 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(3, responseForQuestion.size());
     }
 
+    @Test
+    public void testGetSessionResultsPageForCourse_pageByPage_shouldCoverAllResultsOfQuestion() throws Exception {
+        FeedbackQuestionAttributes fq = getQuestionFromDatabase("qn2InSession1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        SessionResultsBundle fullBundle = frLogic.getSessionResultsForCourse(
+                fq.getFeedbackSessionName(), fq.getCourseId(), instructor.getEmail(), fq.getId(), null);
+        Set<String> expectedResponses = getGiverRecipientPairs(fullBundle.getQuestionResponseMap());
+        Set<String> expectedMissingResponses = getGiverRecipientPairs(fullBundle.getQuestionMissingResponseMap());
+        assertNull(fullBundle.getNextPageToken());
+
+        ______TS("one page covers all the results if it is large enough");
+
+        SessionResultsBundle page = frLogic.getSessionResultsPageForCourse(fq.getFeedbackSessionName(),
+                fq.getCourseId(), instructor.getEmail(), fq.getId(), null, null, Integer.MAX_VALUE);
+        assertEquals(expectedResponses, getGiverRecipientPairs(page.getQuestionResponseMap()));
+        assertEquals(expectedMissingResponses, getGiverRecipientPairs(page.getQuestionMissingResponseMap()));
+        assertNull(page.getNextPageToken());
+
+        ______TS("small pages together cover all the results exactly once");
+
+        Set<String> actualResponses = new HashSet<>();
+        Set<String> actualMissingResponses = new HashSet<>();
+        int numberOfPages = 0;
+        String pageToken = null;
+        do {
+            page = frLogic.getSessionResultsPageForCourse(fq.getFeedbackSessionName(),
+                    fq.getCourseId(), instructor.getEmail(), fq.getId(), null, pageToken, 1);
+            for (String pair : getGiverRecipientPairs(page.getQuestionResponseMap())) {
+                assertTrue(actualResponses.add(pair));
+            }
+            for (String pair : getGiverRecipientPairs(page.getQuestionMissingResponseMap())) {
+                assertTrue(actualMissingResponses.add(pair));
+            }
+            pageToken = page.getNextPageToken();
+            numberOfPages++;
+        } while (pageToken != null);
+
+        assertTrue(numberOfPages > 1);
+        assertEquals(expectedResponses, actualResponses);
+        assertEquals(expectedMissingResponses, actualMissingResponses);
+
+        ______TS("invalid page token");
+
+        assertThrows(InvalidParametersException.class, () -> frLogic.getSessionResultsPageForCourse(
+                fq.getFeedbackSessionName(), fq.getCourseId(), instructor.getEmail(), fq.getId(), null,
+                "invalid-token", 1));
+    }
+
+    private Set<String> getGiverRecipientPairs(Map<String, List<FeedbackResponseAttributes>> questionResponseMap) {
+        return questionResponseMap.values().stream()
+                .flatMap(List::stream)
+                .map(response -> response.getGiver() + "%" + response.getRecipient())
+                .collect(Collectors.toSet());
+    }
+
     @Test
     public void testGetSessionResultsForCourse_allQuestions_shouldGenerateCorrectBundle() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
@@ -1003,7 +1130,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
@@ -1016,7 +1143,20 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
+
+        // missing responses are generated on demand and are not in the visibility tables
+        for (List<FeedbackResponseAttributes> missingResponses : bundle.getQuestionMissingResponseMap().values()) {
+            for (FeedbackResponseAttributes missingResponse : missingResponses) {
+                FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(missingResponse.getFeedbackQuestionId());
+                assertEquals(frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(), true, true,
+                                bundle.getRoster()) || question.getGiverType() == FeedbackParticipantType.NONE,
+                        bundle.isResponseGiverVisible(missingResponse));
+                assertEquals(frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(), true, false,
+                                bundle.getRoster()) || question.getRecipientType() == FeedbackParticipantType.NONE,
+                        bundle.isResponseRecipientVisible(missingResponse));
+            }
+        }
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
@@ -1061,15 +1201,15 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn3.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
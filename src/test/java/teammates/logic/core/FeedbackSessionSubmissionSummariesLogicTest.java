@@ -0,0 +1,148 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.storage.api.FeedbackSessionSubmissionSummariesDb;
+
+/**
+ * SUT: {@link FeedbackSessionSubmissionSummariesLogic}.
+ */
+public class FeedbackSessionSubmissionSummariesLogicTest extends BaseLogicTest {
+
+    private final FeedbackSessionSubmissionSummariesLogic fsssLogic = FeedbackSessionSubmissionSummariesLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final FeedbackSessionSubmissionSummariesDb fsssDb = FeedbackSessionSubmissionSummariesDb.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testGetOrBuildSummary() {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+
+        FeedbackSessionSubmissionSummaryAttributes summary = fsssLogic.getOrBuildSummary(session);
+        assertEquals(fsLogic.getExpectedTotalSubmission(session), summary.getExpectedTotalSubmission());
+        assertEquals(fsLogic.getActualTotalSubmission(session), summary.getActualTotalSubmission());
+        assertTrue(summary.getGivers().contains("student1InCourse1@gmail.tmt"));
+
+        ______TS("summary is kept and read again");
+
+        FeedbackSessionSubmissionSummaryAttributes summaryReadAgain = fsssLogic.getOrBuildSummary(session);
+        assertEquals(summary.getCreatedAt(), summaryReadAgain.getCreatedAt());
+        assertEquals(summary.getGivers(), summaryReadAgain.getGivers());
+    }
+
+    @Test
+    public void testGetOrBuildSummary_writesOfResponsesAndRoster_shouldKeepSummaryUpToDate() throws Exception {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+        fsssLogic.getOrBuildSummary(session);
+
+        ______TS("deleted response: summary is discarded and built afresh");
+
+        FeedbackResponseAttributes response = getResponseFromDatabase("response1ForQ1S1C1");
+        frLogic.deleteFeedbackResponseCascade(response.getId());
+
+        FeedbackSessionSubmissionSummaryAttributes summary = fsssLogic.getOrBuildSummary(session);
+        assertEquals(fsLogic.getActualTotalSubmission(session), summary.getActualTotalSubmission());
+        assertFalse(summary.getGivers().contains(response.getGiver()));
+
+        ______TS("created response: giver is added to the kept summary");
+
+        frLogic.createFeedbackResponse(
+                FeedbackResponseAttributes.builder(
+                        response.getFeedbackQuestionId(), response.getGiver(), response.getRecipient())
+                        .withFeedbackSessionName(response.getFeedbackSessionName())
+                        .withCourseId(response.getCourseId())
+                        .withGiverSection(response.getGiverSection())
+                        .withRecipientSection(response.getRecipientSection())
+                        .withResponseDetails(response.getResponseDetails())
+                        .build());
+
+        FeedbackSessionSubmissionSummaryAttributes updatedSummary = fsssLogic.getOrBuildSummary(session);
+        assertEquals(summary.getCreatedAt(), updatedSummary.getCreatedAt());
+        assertEquals(summary.getActualTotalSubmission() + 1, updatedSummary.getActualTotalSubmission());
+        assertTrue(updatedSummary.getGivers().contains(response.getGiver()));
+        assertEquals(fsLogic.getActualTotalSubmission(session), updatedSummary.getActualTotalSubmission());
+
+        ______TS("enrolled student: summary is discarded and built afresh");
+
+        studentsLogic.createStudent(
+                StudentAttributes.builder(session.getCourseId(), "newStudentInCourse1@gmail.tmt")
+                        .withName("New Student")
+                        .withSectionName("Section 1")
+                        .withTeamName("Team 1.1</td></div>'\"")
+                        .build());
+
+        summary = fsssLogic.getOrBuildSummary(session);
+        assertEquals(updatedSummary.getExpectedTotalSubmission() + 1, summary.getExpectedTotalSubmission());
+        assertEquals(fsLogic.getExpectedTotalSubmission(session), summary.getExpectedTotalSubmission());
+    }
+
+    @Test
+    public void testReplaceSummary_giversAddedWhileBuilding_shouldBeKept() {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+        FeedbackSessionSubmissionSummaryAttributes placeholder = fsssDb.createFeedbackSessionSubmissionSummaryIfAbsent(
+                FeedbackSessionSubmissionSummaryAttributes
+                        .builder(session.getFeedbackSessionName(), session.getCourseId())
+                        .withCreatedAt(Instant.now().minus(FeedbackSessionSubmissionSummariesLogic.SUMMARY_MAX_AGE))
+                        .build());
+
+        FeedbackSessionSubmissionSummaryAttributes builtSummary = FeedbackSessionSubmissionSummaryAttributes
+                .builder(session.getFeedbackSessionName(), session.getCourseId())
+                .withGivers(Arrays.asList("student1InCourse1@gmail.tmt"))
+                .build();
+        fsssDb.addGiversToFeedbackSessionSubmissionSummary(session.getFeedbackSessionName(), session.getCourseId(),
+                Arrays.asList("student2InCourse1@gmail.tmt"));
+
+        FeedbackSessionSubmissionSummaryAttributes summary =
+                fsssDb.replaceFeedbackSessionSubmissionSummary(builtSummary, placeholder);
+        assertEquals(new HashSet<>(Arrays.asList("student1InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt")),
+                summary.getGivers());
+        assertEquals(summary.getGivers(), fsssLogic.getOrBuildSummary(session).getGivers());
+
+        ______TS("summary replaced concurrently: stored summary is kept");
+
+        FeedbackSessionSubmissionSummaryAttributes staleSummary = FeedbackSessionSubmissionSummaryAttributes
+                .builder(session.getFeedbackSessionName(), session.getCourseId())
+                .build();
+
+        FeedbackSessionSubmissionSummaryAttributes storedSummary =
+                fsssDb.replaceFeedbackSessionSubmissionSummary(staleSummary, placeholder);
+        assertEquals(summary.getCreatedAt(), storedSummary.getCreatedAt());
+        assertEquals(summary.getGivers(), storedSummary.getGivers());
+    }
+
+    private FeedbackSessionAttributes getSessionFromDatabase(String jsonId) {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get(jsonId);
+        return fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+    }
+
+    private FeedbackResponseAttributes getResponseFromDatabase(String jsonId) {
+        FeedbackResponseAttributes response = dataBundle.feedbackResponses.get(jsonId);
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.getFeedbackSessionName(),
+                response.getCourseId(), Integer.parseInt(response.getFeedbackQuestionId()));
+        return frLogic.getFeedbackResponse(question.getId(), response.getGiver(), response.getRecipient());
+    }
+
+}
@@ -0,0 +1,189 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+
+/**
+ * Benchmarks the visibility checks of the responses of a synthetic session with {@link FeedbackVisibilityEvaluator},
+ * against the checks of {@link FeedbackResponsesLogic}.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmarks=FeedbackVisibilityEvaluatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedbackVisibilityEvaluatorBenchmark {
+
+    private static final String COURSE_ID = "benchmark.course";
+    private static final String SESSION_NAME = "Benchmark session";
+    private static final int NUM_SECTIONS = 10;
+    private static final int NUM_TEAMS = 100;
+    private static final int TEAM_SIZE = 5;
+    private static final int NUM_QUESTIONS = 10;
+
+    /**
+     * The number of responses to each question given by each student.
+     */
+    @Param("10")
+    public int responsesPerStudent;
+
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private CourseRoster roster;
+    private StudentAttributes student;
+    private InstructorAttributes instructor;
+    private Map<String, FeedbackQuestionAttributes> questions;
+    private List<FeedbackResponseAttributes> responses;
+
+    /**
+     * Builds a session of 500 students answering 10 questions, i.e. 50,000 responses by default.
+     */
+    @Setup
+    public void setUp() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int team = 0; team < NUM_TEAMS; team++) {
+            for (int member = 0; member < TEAM_SIZE; member++) {
+                students.add(StudentAttributes.builder(COURSE_ID, "student" + team + "." + member + "@benchmark.tmt")
+                        .withName("Student " + team + "." + member)
+                        .withSectionName("Section " + team % NUM_SECTIONS)
+                        .withTeamName("Team " + team)
+                        .build());
+            }
+        }
+        instructor = InstructorAttributes.builder(COURSE_ID, "instructor@benchmark.tmt")
+                .withName("Instructor")
+                .build();
+        roster = new CourseRoster(students, Arrays.asList(instructor));
+        student = students.get(0);
+
+        List<List<FeedbackParticipantType>> visibilityOptions = Arrays.asList(
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS),
+                Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.INSTRUCTORS),
+                Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.INSTRUCTORS),
+                Arrays.asList(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS, FeedbackParticipantType.STUDENTS));
+        questions = new HashMap<>();
+        responses = new ArrayList<>();
+        for (int questionNumber = 1; questionNumber <= NUM_QUESTIONS; questionNumber++) {
+            List<FeedbackParticipantType> visibility = visibilityOptions.get(questionNumber % visibilityOptions.size());
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withCourseId(COURSE_ID)
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withQuestionDetails(new FeedbackTextQuestionDetails("Question " + questionNumber))
+                    .withQuestionNumber(questionNumber)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.STUDENTS)
+                    .withNumberOfEntitiesToGiveFeedbackTo(responsesPerStudent)
+                    .withShowResponsesTo(new ArrayList<>(visibility))
+                    .withShowGiverNameTo(new ArrayList<>(visibility))
+                    .withShowRecipientNameTo(new ArrayList<>(visibility))
+                    .build();
+            question.setId("question" + questionNumber);
+            questions.put(question.getId(), question);
+
+            for (int giver = 0; giver < students.size(); giver++) {
+                for (int i = 1; i <= responsesPerStudent; i++) {
+                    StudentAttributes giverStudent = students.get(giver);
+                    StudentAttributes recipientStudent = students.get((giver + i) % students.size());
+                    responses.add(FeedbackResponseAttributes.builder(
+                            question.getId(), giverStudent.getEmail(), recipientStudent.getEmail())
+                            .withCourseId(COURSE_ID)
+                            .withFeedbackSessionName(SESSION_NAME)
+                            .withGiverSection(giverStudent.getSection())
+                            .withRecipientSection(recipientStudent.getSection())
+                            .build());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void namesForStudentWithLogic(Blackhole blackhole) {
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = getQuestion(response);
+            blackhole.consume(frLogic.isNameVisibleToUser(question, response, student.getEmail(), false, true, roster));
+            blackhole.consume(frLogic.isNameVisibleToUser(question, response, student.getEmail(), false, false, roster));
+        }
+    }
+
+    @Benchmark
+    public void namesForStudentWithEvaluator(Blackhole blackhole) {
+        FeedbackVisibilityEvaluator evaluator =
+                new FeedbackVisibilityEvaluator(student.getEmail(), false, student, null, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = getQuestion(response);
+            blackhole.consume(evaluator.isGiverNameVisible(response, question));
+            blackhole.consume(evaluator.isRecipientNameVisible(response, question));
+        }
+    }
+
+    @Benchmark
+    public void namesForInstructorWithLogic(Blackhole blackhole) {
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = getQuestion(response);
+            blackhole.consume(frLogic.isNameVisibleToUser(question, response, instructor.getEmail(), true, true, roster));
+            blackhole.consume(frLogic.isNameVisibleToUser(question, response, instructor.getEmail(), true, false, roster));
+        }
+    }
+
+    @Benchmark
+    public void namesForInstructorWithEvaluator(Blackhole blackhole) {
+        FeedbackVisibilityEvaluator evaluator =
+                new FeedbackVisibilityEvaluator(instructor.getEmail(), true, null, instructor, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = getQuestion(response);
+            blackhole.consume(evaluator.isGiverNameVisible(response, question));
+            blackhole.consume(evaluator.isRecipientNameVisible(response, question));
+        }
+    }
+
+    @Benchmark
+    public void responsesForStudentWithEvaluator(Blackhole blackhole) {
+        FeedbackVisibilityEvaluator evaluator =
+                new FeedbackVisibilityEvaluator(student.getEmail(), false, student, null, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            blackhole.consume(evaluator.isResponseVisible(response, getQuestion(response)));
+        }
+    }
+
+    @Benchmark
+    public void responsesForInstructorWithEvaluator(Blackhole blackhole) {
+        FeedbackVisibilityEvaluator evaluator =
+                new FeedbackVisibilityEvaluator(instructor.getEmail(), true, null, instructor, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            blackhole.consume(evaluator.isResponseVisible(response, getQuestion(response)));
+        }
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackResponseAttributes response) {
+        return questions.get(response.getFeedbackQuestionId());
+    }
+
+}
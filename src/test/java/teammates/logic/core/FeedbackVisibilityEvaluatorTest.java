@@ -0,0 +1,225 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackVisibilityEvaluator}.
+ */
+public class FeedbackVisibilityEvaluatorTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "idOfTypicalCourse1";
+
+    private static final List<List<FeedbackParticipantType>> VISIBILITY_OPTIONS = Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList(FeedbackParticipantType.INSTRUCTORS),
+            Collections.singletonList(FeedbackParticipantType.STUDENTS),
+            Collections.singletonList(FeedbackParticipantType.RECEIVER),
+            Collections.singletonList(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS),
+            Collections.singletonList(FeedbackParticipantType.OWN_TEAM_MEMBERS),
+            Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.OWN_TEAM_MEMBERS));
+
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+
+    private DataBundle dataBundle;
+    private CourseRoster roster;
+
+    @BeforeMethod
+    public void setUp() {
+        dataBundle = getTypicalDataBundle();
+        roster = new CourseRoster(
+                dataBundle.students.values().stream()
+                        .filter(student -> COURSE_ID.equals(student.getCourse()))
+                        .collect(Collectors.toList()),
+                dataBundle.instructors.values().stream()
+                        .filter(instructor -> COURSE_ID.equals(instructor.getCourseId()))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testIsResponseVisible() {
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        StudentAttributes student5 = dataBundle.students.get("student5InCourse1");
+        InstructorAttributes instructor1 = dataBundle.instructors.get("instructor1OfCourse1");
+
+        FeedbackQuestionAttributes question = getQuestion("qn2InSession1InCourse1");
+        question.setGiverType(FeedbackParticipantType.STUDENTS);
+        question.setRecipientType(FeedbackParticipantType.STUDENTS);
+        FeedbackResponseAttributes response =
+                FeedbackResponseAttributes.builder(question.getId(), student1.getEmail(), student5.getEmail())
+                        .withCourseId(COURSE_ID)
+                        .withFeedbackSessionName(question.getFeedbackSessionName())
+                        .withGiverSection(student1.getSection())
+                        .withRecipientSection(student5.getSection())
+                        .build();
+
+        ______TS("response visible to no one but its giver");
+
+        question.setShowResponsesTo(new ArrayList<>());
+        assertTrue(newStudentEvaluator(student1).isResponseVisible(response, question));
+        assertFalse(newStudentEvaluator(student2).isResponseVisible(response, question));
+        assertFalse(newStudentEvaluator(student5).isResponseVisible(response, question));
+        assertFalse(newInstructorEvaluator(instructor1).isResponseVisible(response, question));
+
+        ______TS("response visible to recipient");
+
+        question.setShowResponsesTo(new ArrayList<>(Arrays.asList(FeedbackParticipantType.RECEIVER)));
+        assertFalse(newStudentEvaluator(student2).isResponseVisible(response, question));
+        assertTrue(newStudentEvaluator(student5).isResponseVisible(response, question));
+
+        ______TS("response visible to team members of giver");
+
+        question.setShowResponsesTo(new ArrayList<>(Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS)));
+        assertTrue(newStudentEvaluator(student2).isResponseVisible(response, question));
+        assertFalse(newStudentEvaluator(student5).isResponseVisible(response, question));
+
+        ______TS("response visible to team members of recipient");
+
+        question.setShowResponsesTo(
+                new ArrayList<>(Arrays.asList(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)));
+        assertFalse(newStudentEvaluator(student2).isResponseVisible(response, question));
+        assertTrue(newStudentEvaluator(student5).isResponseVisible(response, question));
+
+        ______TS("response to team visible to recipient team");
+
+        question.setRecipientType(FeedbackParticipantType.TEAMS);
+        question.setShowResponsesTo(new ArrayList<>(Arrays.asList(FeedbackParticipantType.RECEIVER)));
+        response.setRecipient(student5.getTeam());
+        assertFalse(newStudentEvaluator(student2).isResponseVisible(response, question));
+        assertTrue(newStudentEvaluator(student5).isResponseVisible(response, question));
+
+        ______TS("response visible to instructors, subject to their section privileges");
+
+        question.setShowResponsesTo(new ArrayList<>(Arrays.asList(FeedbackParticipantType.INSTRUCTORS)));
+        assertTrue(newInstructorEvaluator(instructor1).isResponseVisible(response, question));
+        assertFalse(newStudentEvaluator(student2).isResponseVisible(response, question));
+
+        instructor1.getPrivileges().updatePrivilege(student5.getSection(), question.getFeedbackSessionName(),
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(newInstructorEvaluator(instructor1).isResponseVisible(response, question));
+    }
+
+    @Test
+    public void testIsNameVisible_sameAsFeedbackResponsesLogic() {
+        for (FeedbackQuestionAttributes question : getQuestionsOfCourse()) {
+            List<FeedbackResponseAttributes> responses = getResponsesOfQuestion(question);
+            for (List<FeedbackParticipantType> showNameTo : VISIBILITY_OPTIONS) {
+                question.setShowGiverNameTo(new ArrayList<>(showNameTo));
+                question.setShowRecipientNameTo(new ArrayList<>(showNameTo));
+
+                for (StudentAttributes student : roster.getStudents()) {
+                    FeedbackVisibilityEvaluator evaluator = newStudentEvaluator(student);
+                    for (FeedbackResponseAttributes response : responses) {
+                        assertEquals(frLogic.isNameVisibleToUser(
+                                        question, response, student.getEmail(), false, true, roster),
+                                evaluator.isGiverNameVisible(response, question));
+                        assertEquals(frLogic.isNameVisibleToUser(
+                                        question, response, student.getEmail(), false, false, roster),
+                                evaluator.isRecipientNameVisible(response, question));
+                    }
+                }
+                for (InstructorAttributes instructor : roster.getInstructors()) {
+                    FeedbackVisibilityEvaluator evaluator = newInstructorEvaluator(instructor);
+                    for (FeedbackResponseAttributes response : responses) {
+                        assertEquals(frLogic.isNameVisibleToUser(
+                                        question, response, instructor.getEmail(), true, true, roster),
+                                evaluator.isGiverNameVisible(response, question));
+                        assertEquals(frLogic.isNameVisibleToUser(
+                                        question, response, instructor.getEmail(), true, false, roster),
+                                evaluator.isRecipientNameVisible(response, question));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIsCommentVisible_sameAsFeedbackResponseCommentsLogic() {
+        List<FeedbackResponseCommentAttributes> comments = dataBundle.feedbackResponseComments.values().stream()
+                .filter(comment -> COURSE_ID.equals(comment.getCourseId()))
+                .collect(Collectors.toList());
+
+        for (FeedbackQuestionAttributes question : getQuestionsOfCourse()) {
+            List<FeedbackResponseAttributes> responses = getResponsesOfQuestion(question);
+            for (List<FeedbackParticipantType> showCommentTo : VISIBILITY_OPTIONS) {
+                question.setShowResponsesTo(new ArrayList<>(showCommentTo));
+                for (FeedbackResponseCommentAttributes comment : comments) {
+                    comment.setShowCommentTo(new ArrayList<>(showCommentTo));
+
+                    for (StudentAttributes student : roster.getStudents()) {
+                        FeedbackVisibilityEvaluator evaluator = newStudentEvaluator(student);
+                        Set<String> studentsEmailInTeam = roster.getTeamToMembersTable().get(student.getTeam())
+                                .stream()
+                                .map(StudentAttributes::getEmail)
+                                .collect(Collectors.toSet());
+                        for (FeedbackResponseAttributes response : responses) {
+                            assertEquals(frcLogic.isResponseCommentVisibleForUser(student.getEmail(), false, student,
+                                            studentsEmailInTeam, response, question, comment),
+                                    evaluator.isCommentVisible(comment, response, question));
+                        }
+                    }
+                    for (InstructorAttributes instructor : roster.getInstructors()) {
+                        FeedbackVisibilityEvaluator evaluator = newInstructorEvaluator(instructor);
+                        for (FeedbackResponseAttributes response : responses) {
+                            assertEquals(frcLogic.isResponseCommentVisibleForUser(instructor.getEmail(), true, null,
+                                            new HashSet<>(), response, question, comment),
+                                    evaluator.isCommentVisible(comment, response, question));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private FeedbackVisibilityEvaluator newStudentEvaluator(StudentAttributes student) {
+        return new FeedbackVisibilityEvaluator(student.getEmail(), false, student, null, roster);
+    }
+
+    private FeedbackVisibilityEvaluator newInstructorEvaluator(InstructorAttributes instructor) {
+        return new FeedbackVisibilityEvaluator(instructor.getEmail(), true, null, instructor, roster);
+    }
+
+    private FeedbackQuestionAttributes getQuestion(String key) {
+        FeedbackQuestionAttributes question = dataBundle.feedbackQuestions.get(key);
+        // questions in the data bundle are only identified by their numbers
+        question.setId(question.getFeedbackSessionName() + "%" + question.getQuestionNumber());
+        return question;
+    }
+
+    private List<FeedbackQuestionAttributes> getQuestionsOfCourse() {
+        return dataBundle.feedbackQuestions.keySet().stream()
+                .map(this::getQuestion)
+                .filter(question -> COURSE_ID.equals(question.getCourseId()))
+                .collect(Collectors.toList());
+    }
+
+    private List<FeedbackResponseAttributes> getResponsesOfQuestion(FeedbackQuestionAttributes question) {
+        return dataBundle.feedbackResponses.values().stream()
+                .filter(response -> COURSE_ID.equals(response.getCourseId())
+                        && question.getFeedbackSessionName().equals(response.getFeedbackSessionName())
+                        && String.valueOf(question.getQuestionNumber()).equals(response.getFeedbackQuestionId()))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,212 @@
+package teammates.logic.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.SessionResultsSnapshotsLogic.ResultsWriter;
+
+/**
+ * SUT: {@link SessionResultsSnapshotsLogic}.
+ */
+public class SessionResultsSnapshotsLogicTest extends BaseLogicTest {
+
+    private final SessionResultsSnapshotsLogic snapshotsLogic = SessionResultsSnapshotsLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final InMemoryFileStorageService fileStorageService = new InMemoryFileStorageService();
+
+    private int buildCount;
+
+    @BeforeClass
+    public void setUpFileStorage() {
+        snapshotsLogic.setFileStorageService(fileStorageService);
+    }
+
+    @AfterClass
+    public void tearDownFileStorage() {
+        snapshotsLogic.setFileStorageService(new LocalFileStorageService());
+    }
+
+    @Test
+    public void testWriteSnapshot_unpublishedSession_shouldAlwaysBuildResults() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        assertFalse(session.isPublished());
+        buildCount = 0;
+
+        assertEquals("results", writeSnapshot(session, "view", resultsBuilder("results")));
+        assertEquals("results", writeSnapshot(session, "view", resultsBuilder("results")));
+        assertEquals(2, buildCount);
+    }
+
+    @Test
+    public void testWriteSnapshot_publishedSession_shouldServeSnapshotUntilInvalidated() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("closedSession");
+        assertTrue(session.isPublished());
+        buildCount = 0;
+
+        ______TS("results are built once and then served from the snapshot");
+
+        assertEquals("results1", writeSnapshot(session, "view", resultsBuilder("results1")));
+        assertEquals("results1", writeSnapshot(session, "view", resultsBuilder("results2")));
+        assertEquals(1, buildCount);
+
+        ______TS("snapshots of different views are separate");
+
+        assertEquals("other", writeSnapshot(session, "otherView", resultsBuilder("other")));
+        assertEquals(2, buildCount);
+
+        ______TS("invalidating the session causes the results to be rebuilt");
+
+        snapshotsLogic.invalidateSnapshotsForSessionIfPublished(session.getFeedbackSessionName(), session.getCourseId());
+        assertEquals("results3", writeSnapshot(session, "view", resultsBuilder("results3")));
+        assertEquals("results3", writeSnapshot(session, "view", resultsBuilder("results4")));
+        assertEquals(3, buildCount);
+
+        ______TS("modifying the session invalidates its snapshots");
+
+        fsLogic.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
+                        .withInstructions("new instructions")
+                        .build());
+        assertEquals("results5", writeSnapshot(session, "view", resultsBuilder("results5")));
+        assertEquals(4, buildCount);
+
+        ______TS("modifying a student of the course invalidates the snapshots of all sessions in the course");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        studentsLogic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                        .withName("New name")
+                        .build());
+        assertEquals("results6", writeSnapshot(session, "view", resultsBuilder("results6")));
+        assertEquals("other2", writeSnapshot(session, "otherView", resultsBuilder("other2")));
+        assertEquals(6, buildCount);
+    }
+
+    @Test
+    public void testWriteSnapshot_failureWhileWritingResults_shouldNotStoreSnapshot() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("closedSession");
+        assertTrue(session.isPublished());
+        snapshotsLogic.invalidateSnapshotsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        buildCount = 0;
+
+        ______TS("the results written before the failure are not stored as the snapshot");
+
+        StringBuilder writer = new StringBuilder();
+        assertThrows(IOException.class, () -> snapshotsLogic.writeSnapshot(session, "view", partialWriter -> {
+            partialWriter.append("partial");
+            throw new IOException("Failure while writing results");
+        }, writer));
+        assertEquals("partial", writer.toString());
+
+        ______TS("the results are built again on the next access");
+
+        assertEquals("results", writeSnapshot(session, "view", resultsBuilder("results")));
+        assertEquals("results", writeSnapshot(session, "view", resultsBuilder("other")));
+        assertEquals(1, buildCount);
+
+        snapshotsLogic.invalidateSnapshotsForSession(session.getFeedbackSessionName(), session.getCourseId());
+    }
+
+    @Test
+    public void testInvalidateSnapshots_shouldDeleteAllFilesOfSessionOrCourse() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("closedSession");
+        FeedbackSessionAttributes otherSession = dataBundle.feedbackSessions.get("empty.session");
+        assertTrue(session.isPublished());
+        assertTrue(otherSession.isPublished());
+        assertEquals(session.getCourseId(), otherSession.getCourseId());
+        fileStorageService.files.clear();
+
+        writeSnapshot(session, "view", resultsBuilder("results"));
+        writeSnapshot(session, "otherView", resultsBuilder("other"));
+        writeSnapshot(otherSession, "view", resultsBuilder("results"));
+        // one version and two snapshots for the session, one version and one snapshot for the other session
+        assertEquals(5, fileStorageService.files.size());
+
+        ______TS("invalidating a session deletes its version and all its snapshots only");
+
+        snapshotsLogic.invalidateSnapshotsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        assertEquals(2, fileStorageService.files.size());
+
+        ______TS("invalidating a course deletes the files of all its sessions");
+
+        writeSnapshot(session, "view", resultsBuilder("results"));
+        snapshotsLogic.invalidateSnapshotsForCourse(session.getCourseId());
+        assertTrue(fileStorageService.files.isEmpty());
+    }
+
+    private String writeSnapshot(FeedbackSessionAttributes session, String viewKey, ResultsWriter resultsWriter)
+            throws IOException {
+        StringBuilder writer = new StringBuilder();
+        snapshotsLogic.writeSnapshot(session, viewKey, resultsWriter, writer);
+        return writer.toString();
+    }
+
+    private ResultsWriter resultsBuilder(String results) {
+        return writer -> {
+            buildCount++;
+            // written piece by piece, as the results are built
+            for (int i = 0; i < results.length(); i++) {
+                writer.append(results.charAt(i));
+            }
+        };
+    }
+
+    private static class InMemoryFileStorageService implements FileStorageService {
+
+        private final Map<String, byte[]> files = new HashMap<>();
+
+        @Override
+        public boolean doesFileExist(String fileKey) {
+            return files.containsKey(fileKey);
+        }
+
+        @Override
+        public byte[] getContent(String fileKey) {
+            return files.getOrDefault(fileKey, new byte[0]);
+        }
+
+        @Override
+        public InputStream openForReading(String fileKey) {
+            return new ByteArrayInputStream(getContent(fileKey));
+        }
+
+        @Override
+        public void delete(String fileKey) {
+            files.remove(fileKey);
+        }
+
+        @Override
+        public void deleteWithPrefix(String fileKeyPrefix) {
+            files.keySet().removeIf(fileKey -> fileKey.startsWith(fileKeyPrefix));
+        }
+
+        @Override
+        public void create(String fileKey, byte[] contentBytes, String contentType) {
+            files.put(fileKey, contentBytes);
+        }
+
+        @Override
+        public OutputStream openForWriting(String fileKey, String contentType) {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    files.put(fileKey, toByteArray());
+                }
+            };
+        }
+
+    }
+
+}
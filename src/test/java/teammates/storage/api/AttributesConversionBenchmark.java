@@ -0,0 +1,131 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Benchmarks the conversion of response entities to attributes with {@link EntitiesDb#makeAttributes(Collection)}
+ * and {@link EntitiesDb#makeAttributesView(Collection)}, against the conversion into a {@link LinkedList} done before.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmarks=AttributesConversionBenchmark};
+ * add {@code -prof gc} to the property to compare the allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttributesConversionBenchmark {
+
+    /**
+     * The number of attributes read by the caller, e.g. a page of results.
+     */
+    private static final int NUM_ATTRIBUTES_READ_PARTIALLY = 100;
+
+    /**
+     * The number of entities converted.
+     */
+    @Param({ "10000", "100000" })
+    public int numberOfEntities;
+
+    private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+
+    private List<FeedbackResponse> entities;
+
+    /**
+     * Builds text responses of 100 givers to a question.
+     */
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(numberOfEntities);
+        for (int i = 0; i < numberOfEntities; i++) {
+            String answer = new FeedbackTextResponseDetails("Answer " + i).getJsonString();
+            entities.add(new FeedbackResponse("Benchmark session", "benchmark.course", "question",
+                    FeedbackQuestionType.TEXT, "giver" + i % 100 + "@gmail.tmt", "Section " + i % 10,
+                    "recipient" + i + "@gmail.tmt", "Section " + i % 10, answer));
+        }
+    }
+
+    @Benchmark
+    public void readAllGiversWithLinkedList(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = new LinkedList<>();
+        for (FeedbackResponse entity : entities) {
+            attributes.add(frDb.makeAttributes(entity));
+        }
+        // the result has to be copied to be indexed into efficiently
+        for (FeedbackResponseAttributes response : new ArrayList<>(attributes)) {
+            blackhole.consume(response.getGiver());
+        }
+    }
+
+    @Benchmark
+    public void readAllGiversWithArrayList(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributes(entities);
+        for (int i = 0; i < attributes.size(); i++) {
+            blackhole.consume(attributes.get(i).getGiver());
+        }
+    }
+
+    @Benchmark
+    public void readAllGiversWithView(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributesView(entities);
+        for (int i = 0; i < attributes.size(); i++) {
+            blackhole.consume(attributes.get(i).getGiver());
+        }
+    }
+
+    @Benchmark
+    public void readAllDetailsWithArrayList(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributes(entities);
+        for (int i = 0; i < attributes.size(); i++) {
+            blackhole.consume(attributes.get(i).getResponseDetails());
+        }
+    }
+
+    @Benchmark
+    public void readAllDetailsWithView(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributesView(entities);
+        for (int i = 0; i < attributes.size(); i++) {
+            blackhole.consume(attributes.get(i).getResponseDetails());
+        }
+    }
+
+    @Benchmark
+    public void readSomeDetailsWithArrayList(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributes(entities);
+        for (int i = 0; i < NUM_ATTRIBUTES_READ_PARTIALLY; i++) {
+            blackhole.consume(attributes.get(i).getResponseDetails());
+        }
+    }
+
+    @Benchmark
+    public void readSomeDetailsWithView(Blackhole blackhole) {
+        List<FeedbackResponseAttributes> attributes = frDb.makeAttributesView(entities);
+        for (int i = 0; i < NUM_ATTRIBUTES_READ_PARTIALLY; i++) {
+            blackhole.consume(attributes.get(i).getResponseDetails());
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package teammates.storage.api;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsDb}.
+ */
+public class FeedbackQuestionStatisticsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String QUESTION_ID = "questionId";
+
+    private final FeedbackQuestionStatisticsDb fqsDb = FeedbackQuestionStatisticsDb.inst();
+
+    @AfterMethod
+    public void deleteStatistics() {
+        fqsDb.deleteFeedbackQuestionStatistics(AttributesDeletionQuery.builder()
+                .withQuestionId(QUESTION_ID)
+                .build());
+    }
+
+    @Test
+    public void testCreateFeedbackQuestionStatisticsIfAbsent() {
+
+        ______TS("typical case: statistics are created");
+
+        FeedbackQuestionStatisticsAttributes statistics = fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeStatistics(1));
+        assertEquals(1, statistics.getNumberOfResponses());
+        assertFalse(statistics.isBuilt());
+        assertEquals(1, fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getNumberOfResponses());
+
+        ______TS("statistics stored already are kept");
+
+        statistics = fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeStatistics(2));
+        assertEquals(1, statistics.getNumberOfResponses());
+        assertEquals(1, fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getNumberOfResponses());
+
+        ______TS("statistics too large to be stored are not created");
+
+        deleteStatistics();
+        assertNull(fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeTooLargeStatistics()));
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+    }
+
+    @Test
+    public void testReplaceFeedbackQuestionStatistics() {
+
+        ______TS("no statistics stored: nothing is replaced");
+
+        assertFalse(fqsDb.replaceFeedbackQuestionStatistics(makeStatistics(1), 0));
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+
+        ______TS("typical case: statistics of the expected version are replaced");
+
+        fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeStatistics(1));
+        FeedbackQuestionStatisticsAttributes storedStatistics = fqsDb.getFeedbackQuestionStatistics(QUESTION_ID);
+
+        assertTrue(fqsDb.replaceFeedbackQuestionStatistics(makeStatistics(2), storedStatistics.getVersion()));
+        FeedbackQuestionStatisticsAttributes replacedStatistics = fqsDb.getFeedbackQuestionStatistics(QUESTION_ID);
+        assertEquals(2, replacedStatistics.getNumberOfResponses());
+        assertEquals(storedStatistics.getCreatedAt(), replacedStatistics.getCreatedAt());
+        assertNotEquals(storedStatistics.getVersion(), replacedStatistics.getVersion());
+        assertTrue(replacedStatistics.isBuilt());
+
+        ______TS("statistics updated in the meantime are not replaced");
+
+        addChangesOfResponsesWrittenAt(makeStatistics(1), getTimeAfterBuilding());
+        assertFalse(fqsDb.replaceFeedbackQuestionStatistics(makeStatistics(5), replacedStatistics.getVersion()));
+        assertEquals(3, fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getNumberOfResponses());
+
+        ______TS("statistics too large to be stored are deleted instead");
+
+        long version = fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getVersion();
+        assertTrue(fqsDb.replaceFeedbackQuestionStatistics(makeTooLargeStatistics(), version));
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+    }
+
+    @Test
+    public void testAddToFeedbackQuestionStatistics() {
+
+        ______TS("no statistics stored: nothing is added");
+
+        addChangesOfResponsesWrittenAt(makeStatistics(1), Instant.now());
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+
+        ______TS("typical case: changes are added to the stored statistics");
+
+        fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeStatistics(1));
+        addChangesOfResponsesWrittenAt(makeStatistics(2), Instant.now());
+        FeedbackQuestionStatisticsAttributes statistics = fqsDb.getFeedbackQuestionStatistics(QUESTION_ID);
+        assertEquals(3, statistics.getNumberOfResponses());
+        assertEquals(3, statistics.getTallies().get("option").getCount());
+
+        ______TS("statistics which become too large to be stored are deleted instead");
+
+        addChangesOfResponsesWrittenAt(makeTooLargeStatistics(), Instant.now());
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+    }
+
+    @Test
+    public void testAddToFeedbackQuestionStatistics_builtStatistics_shouldNotCountResponsesTwice() {
+        Instant timeBeforeBuilding = Instant.now().minus(FeedbackQuestionStatisticsDb.MAX_CLOCK_SKEW.multipliedBy(2));
+        FeedbackQuestionStatisticsAttributes storedStatistics =
+                fqsDb.createFeedbackQuestionStatisticsIfAbsent(makeEmptyStatistics());
+        fqsDb.replaceFeedbackQuestionStatistics(makeStatistics(2), storedStatistics.getVersion());
+
+        ______TS("changes of responses written before the statistics are built are left out");
+
+        addChangesOfResponsesWrittenAt(makeStatistics(1), timeBeforeBuilding);
+        assertEquals(2, fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getNumberOfResponses());
+
+        ______TS("changes of responses written after the statistics are built are added");
+
+        addChangesOfResponsesWrittenAt(makeStatistics(1), getTimeAfterBuilding());
+        assertEquals(3, fqsDb.getFeedbackQuestionStatistics(QUESTION_ID).getNumberOfResponses());
+
+        ______TS("changes of responses written while the statistics are built: statistics are deleted");
+
+        addChangesOfResponsesWrittenAt(makeStatistics(1), Instant.now());
+        assertNull(fqsDb.getFeedbackQuestionStatistics(QUESTION_ID));
+    }
+
+    private void addChangesOfResponsesWrittenAt(FeedbackQuestionStatisticsAttributes changes, Instant writtenAt) {
+        fqsDb.addToFeedbackQuestionStatistics(changes, writtenAt, writtenAt);
+    }
+
+    private static Instant getTimeAfterBuilding() {
+        return Instant.now().plus(FeedbackQuestionStatisticsDb.MAX_CLOCK_SKEW.multipliedBy(2));
+    }
+
+    private static FeedbackQuestionStatisticsAttributes makeStatistics(int numberOfResponses) {
+        FeedbackQuestionStatisticsAttributes statistics = makeEmptyStatistics();
+        for (int i = 0; i < numberOfResponses; i++) {
+            statistics.addResponse("recipient@email.tmt", Collections.singletonMap("option", 1.0));
+        }
+        return statistics;
+    }
+
+    private static FeedbackQuestionStatisticsAttributes makeTooLargeStatistics() {
+        FeedbackQuestionStatisticsAttributes statistics = makeEmptyStatistics();
+        // every tally of a recipient takes up more than 50 bytes
+        int numberOfRecipients = FeedbackQuestionStatisticsDb.MAX_TALLIES_SIZE_IN_BYTES / 50;
+        for (int i = 0; i < numberOfRecipients; i++) {
+            statistics.addResponse("recipient" + i + "@email.tmt", Collections.singletonMap("option", 1.0));
+        }
+        return statistics;
+    }
+
+    private static FeedbackQuestionStatisticsAttributes makeEmptyStatistics() {
+        return FeedbackQuestionStatisticsAttributes.builder(QUESTION_ID)
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withBuildStartedAt(Instant.now())
+                .build();
+    }
+
+}
@@ -4,6 +4,7 @@ import static teammates.common.util.FieldValidator.PARTICIPANT_TYPE_TEAM_ERROR_M
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 import org.testng.collections.Lists;
@@ -286,6 +287,47 @@ public class FeedbackQuestionsDbTest extends BaseTestCaseWithLocalDatabaseAccess
         assertNull(actual);
     }
 
+    @Test
+    public void testGetFeedbackQuestions_byIds() throws Exception {
+        int numToCreate = 3;
+        List<FeedbackQuestionAttributes> created = createFeedbackQuestions(numToCreate);
+        List<FeedbackQuestionAttributes> questionsInSession = fqDb.getFeedbackQuestionsForSession(
+                created.get(0).getFeedbackSessionName(), created.get(0).getCourseId());
+
+        ______TS("standard success case");
+
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questionsInSession) {
+            questionIds.add(question.getId());
+        }
+        Map<String, FeedbackQuestionAttributes> questions = fqDb.getFeedbackQuestions(questionIds);
+
+        assertEquals(numToCreate, questions.size());
+        for (FeedbackQuestionAttributes question : questionsInSession) {
+            assertEquals(question.toString(), questions.get(question.getId()).toString());
+        }
+
+        ______TS("invalid and non-existent ids are omitted");
+
+        fqDb.deleteFeedbackQuestion(questionIds.get(0));
+        questionIds.add("non-existent id");
+        questions = fqDb.getFeedbackQuestions(questionIds);
+
+        assertEquals(numToCreate - 1, questions.size());
+        assertFalse(questions.containsKey(questionIds.get(0)));
+        assertFalse(questions.containsKey("non-existent id"));
+
+        ______TS("no ids");
+
+        assertTrue(fqDb.getFeedbackQuestions(new ArrayList<>()).isEmpty());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class, () -> fqDb.getFeedbackQuestions(null));
+
+        deleteFeedbackQuestions(numToCreate);
+    }
+
     @Test
     public void testGetFeedbackQuestionsForSession() throws Exception {
 
@@ -3,6 +3,7 @@ package teammates.storage.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -622,6 +623,49 @@ public class FeedbackResponseCommentsDbTest extends BaseTestCaseWithLocalDatabas
         assertEquals(0, comments.size());
     }
 
+    @Test
+    public void testGetFeedbackResponseCommentsForResponsesFromParticipants_typicalCase_shouldQueryCorrectly()
+            throws Exception {
+        FeedbackResponseCommentAttributes participantComment = frcDb.putEntity(
+                FeedbackResponseCommentAttributes.builder()
+                        .withCourseId(frcaData.getCourseId())
+                        .withFeedbackSessionName(frcaData.getFeedbackSessionName())
+                        .withCommentGiver("student1InCourse1@gmail.tmt")
+                        .withCommentText("Participant comment")
+                        .withFeedbackResponseId(frcaData.getFeedbackResponseId())
+                        .withFeedbackQuestionId(frcaData.getFeedbackQuestionId())
+                        .withGiverSection("Section 1")
+                        .withReceiverSection("Section 1")
+                        .withCommentGiverType(FeedbackParticipantType.STUDENTS)
+                        .withVisibilityFollowingFeedbackQuestion(true)
+                        .withShowCommentTo(new ArrayList<>())
+                        .withShowGiverNameTo(new ArrayList<>())
+                        .withCommentFromFeedbackParticipant(true)
+                        .build());
+
+        ______TS("only comments from participants of the given responses are returned");
+
+        Map<String, FeedbackResponseCommentAttributes> comments =
+                frcDb.getFeedbackResponseCommentsForResponsesFromParticipants(frcaData.getFeedbackQuestionId(),
+                        Lists.newArrayList(frcaData.getFeedbackResponseId(), "non-existent response id"));
+        assertEquals(1, comments.size());
+        assertEquals("Participant comment", comments.get(frcaData.getFeedbackResponseId()).getCommentText());
+
+        ______TS("responses of other questions are not matched");
+
+        comments = frcDb.getFeedbackResponseCommentsForResponsesFromParticipants("not_exist",
+                Lists.newArrayList(frcaData.getFeedbackResponseId()));
+        assertTrue(comments.isEmpty());
+
+        ______TS("no responses given");
+
+        comments = frcDb.getFeedbackResponseCommentsForResponsesFromParticipants(frcaData.getFeedbackQuestionId(),
+                new ArrayList<>());
+        assertTrue(comments.isEmpty());
+
+        frcDb.deleteFeedbackResponseComment(participantComment.getId());
+    }
+
     private FeedbackResponseCommentAttributes getFeedbackResponseComment(String courseId, Instant createdAt, String giver) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giver)
                 .stream()
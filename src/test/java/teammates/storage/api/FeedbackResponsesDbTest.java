@@ -1,8 +1,12 @@
 package teammates.storage.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -438,6 +442,58 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
 
     }
 
+    @Test
+    public void testStreamFeedbackResponsesForSession() {
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").getFeedbackSessionName();
+        String courseId = fras.get("response1ForQ1S1C1").getCourseId();
+        List<String> expectedIds = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toList());
+
+        ______TS("standard success case");
+
+        List<String> actualIds = frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId)
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toList());
+        AssertHelper.assertSameContentIgnoreOrder(expectedIds, actualIds);
+
+        ______TS("responses are fetched across multiple chunks");
+
+        for (int chunkSize : new int[] { 1, 4, 6 }) {
+            actualIds = frDb.streamAttributes(frDb.load()
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId), chunkSize)
+                    .map(FeedbackResponseAttributes::getId)
+                    .collect(Collectors.toList());
+            AssertHelper.assertSameContentIgnoreOrder(expectedIds, actualIds);
+        }
+
+        ______TS("stream in section matches list in section");
+
+        String section = fras.get("response1ForQ1S1C1").getGiverSection();
+        List<String> expectedIdsInSection =
+                frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section).stream()
+                        .map(FeedbackResponseAttributes::getId)
+                        .collect(Collectors.toList());
+        List<String> actualIdsInSection =
+                frDb.streamFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section)
+                        .map(FeedbackResponseAttributes::getId)
+                        .collect(Collectors.toList());
+        AssertHelper.assertSameContentIgnoreOrder(expectedIdsInSection, actualIdsInSection);
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> frDb.streamFeedbackResponsesForSession(null, courseId));
+
+        assertThrows(AssertionError.class,
+                () -> frDb.streamFeedbackResponsesForSession(feedbackSessionName, null));
+
+        ______TS("non-existent feedback session");
+
+        assertEquals(0, frDb.streamFeedbackResponsesForSession("non-existent feedback session", courseId).count());
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForCourse() {
 
@@ -501,6 +557,54 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
                 questionId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiversForQuestion() {
+
+        ______TS("standard success case");
+
+        String questionId = fras.get("response1ForQ1S1C1").getFeedbackQuestionId();
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesFromGiversForQuestion(questionId,
+                        Arrays.asList("student1InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt"));
+
+        AssertHelper.assertSameContentIgnoreOrder(
+                Arrays.asList(frDb.getFeedbackResponse(fras.get("response1ForQ1S1C1").getId()),
+                        frDb.getFeedbackResponse(fras.get("response2ForQ1S1C1").getId())),
+                responses);
+
+        ______TS("only responses of the given givers are returned");
+
+        responses = frDb.getFeedbackResponsesFromGiversForQuestion(questionId,
+                Arrays.asList("student1InCourse1@gmail.tmt", "non-existentStudentInCourse1@gmail.tmt"));
+
+        assertEquals(1, responses.size());
+        assertEquals("student1InCourse1@gmail.tmt", responses.get(0).getGiver());
+
+        ______TS("giver which is a prefix of another giver");
+
+        responses = frDb.getFeedbackResponsesFromGiversForQuestion(questionId,
+                Collections.singletonList("student1InCourse1"));
+
+        assertTrue(responses.isEmpty());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesFromGiversForQuestion(null, new ArrayList<>()));
+
+        assertThrows(AssertionError.class, () -> frDb.getFeedbackResponsesFromGiversForQuestion(questionId, null));
+
+        ______TS("non-existent feedback question");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiversForQuestion(
+                "non-existent fq id", Collections.singletonList("student1InCourse1@gmail.tmt")).isEmpty());
+
+        ______TS("no givers");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiversForQuestion(questionId, new ArrayList<>()).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForQuestion() {
 
@@ -704,6 +808,12 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         actualResponse = frDb.getFeedbackResponse(typicalResponse.getId());
         assertEquals("testSection", updatedResponse.getRecipientSection());
         assertEquals("testSection", actualResponse.getRecipientSection());
+        // the response is now given within the section, and fetched only once for it
+        assertEquals(Collections.singletonList(typicalResponse.getId()),
+                frDb.getFeedbackResponsesForQuestionInSection(typicalResponse.getFeedbackQuestionId(), "testSection")
+                        .stream()
+                        .map(FeedbackResponseAttributes::getId)
+                        .collect(Collectors.toList()));
 
         assertNotEquals("testResponse", typicalResponse.getResponseDetailsCopy().getAnswerString());
         updatedResponse = frDb.updateFeedbackResponse(
@@ -717,6 +827,105 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         frDb.deleteFeedbackResponse(typicalResponse.getId());
     }
 
+    @Test
+    public void testBatchUpdateFeedbackResponses() throws Exception {
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> frDb.batchUpdateFeedbackResponses(null, new ArrayList<>(), new ArrayList<>()));
+        assertThrows(AssertionError.class,
+                () -> frDb.batchUpdateFeedbackResponses(new ArrayList<>(), null, new ArrayList<>()));
+        assertThrows(AssertionError.class,
+                () -> frDb.batchUpdateFeedbackResponses(new ArrayList<>(), new ArrayList<>(), null));
+
+        FeedbackResponseAttributes typicalResponse = getResponseAttributes("response1ForQ2S1C1");
+        FeedbackResponseAttributes responseToUpdate = frDb.getFeedbackResponse(typicalResponse.getFeedbackQuestionId(),
+                typicalResponse.getGiver(), typicalResponse.getRecipient());
+        typicalResponse = getResponseAttributes("response2ForQ2S1C1");
+        FeedbackResponseAttributes responseToDelete = frDb.getFeedbackResponse(typicalResponse.getFeedbackQuestionId(),
+                typicalResponse.getGiver(), typicalResponse.getRecipient());
+        FeedbackResponseAttributes responseToCreate = getNewFeedbackResponseAttributes();
+
+        ______TS("invalid response: nothing is written");
+
+        FeedbackResponseAttributes invalidResponse = getNewFeedbackResponseAttributes();
+        invalidResponse.setCourseId("");
+        assertThrows(InvalidParametersException.class,
+                () -> frDb.batchUpdateFeedbackResponses(Collections.singletonList(invalidResponse),
+                        Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                                .withResponseDetails(new FeedbackTextResponseDetails("Batch updated answer"))
+                                .build()),
+                        Collections.singletonList(responseToDelete.getId())));
+        verifyPresentInDatabase(responseToUpdate);
+        verifyPresentInDatabase(responseToDelete);
+
+        ______TS("response to update does not exist: nothing is written");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> frDb.batchUpdateFeedbackResponses(Collections.singletonList(responseToCreate),
+                        Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder("non-existent")
+                                .withGiver("giverIdentifier")
+                                .build()),
+                        Collections.singletonList(responseToDelete.getId())));
+        AssertHelper.assertContains(FeedbackResponsesDb.ERROR_UPDATE_NON_EXISTENT, ednee.getMessage());
+        assertNull(frDb.getFeedbackResponse(responseToCreate.getFeedbackQuestionId(),
+                responseToCreate.getGiver(), responseToCreate.getRecipient()));
+        verifyPresentInDatabase(responseToDelete);
+
+        ______TS("response to create already exists: nothing is written");
+
+        assertThrows(EntityAlreadyExistsException.class,
+                () -> frDb.batchUpdateFeedbackResponses(Collections.singletonList(responseToUpdate),
+                        new ArrayList<>(), Collections.singletonList(responseToDelete.getId())));
+        verifyPresentInDatabase(responseToDelete);
+
+        ______TS("standard success case");
+
+        List<FeedbackResponseAttributes> responses = frDb.batchUpdateFeedbackResponses(
+                Collections.singletonList(responseToCreate),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                        .withResponseDetails(new FeedbackTextResponseDetails("Batch updated answer"))
+                        .build()),
+                Collections.singletonList(responseToDelete.getId()));
+
+        assertEquals(2, responses.size());
+        String createdResponseId = responses.get(0).getId();
+        assertEquals(responseToCreate.getGiver(), responses.get(0).getGiver());
+        assertEquals(responseToCreate.getRecipient(), responses.get(0).getRecipient());
+        assertEquals(responseToUpdate.getId(), responses.get(1).getId());
+        assertEquals("Batch updated answer", responses.get(1).getResponseDetailsCopy().getAnswerString());
+        assertNotNull(frDb.getFeedbackResponse(createdResponseId));
+        assertEquals("Batch updated answer",
+                frDb.getFeedbackResponse(responseToUpdate.getId()).getResponseDetailsCopy().getAnswerString());
+        assertNull(frDb.getFeedbackResponse(responseToDelete.getId()));
+
+        ______TS("recreate response when giver/recipient change");
+
+        responses = frDb.batchUpdateFeedbackResponses(new ArrayList<>(),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(createdResponseId)
+                        .withRecipient("newRecipient@email.tmt")
+                        .build()),
+                new ArrayList<>());
+
+        assertEquals(1, responses.size());
+        assertEquals("newRecipient@email.tmt", responses.get(0).getRecipient());
+        assertNull(frDb.getFeedbackResponse(createdResponseId));
+        assertNotNull(frDb.getFeedbackResponse(responses.get(0).getId()));
+
+        ______TS("response to create can replace a response deleted in the same batch");
+
+        FeedbackResponseAttributes replacingResponse = getResponseAttributes("response1ForQ2S1C1");
+        replacingResponse.setResponseDetails(new FeedbackTextResponseDetails("Replacing answer"));
+        frDb.batchUpdateFeedbackResponses(Collections.singletonList(replacingResponse),
+                new ArrayList<>(), Collections.singletonList(responseToUpdate.getId()));
+
+        assertEquals("Replacing answer",
+                frDb.getFeedbackResponse(responseToUpdate.getId()).getResponseDetailsCopy().getAnswerString());
+
+        frDb.deleteFeedbackResponse(responses.get(0).getId());
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         return FeedbackResponseAttributes.builder(
                 "testFeedbackQuestionId", "giver@email.tmt", "recipient@email.tmt")
@@ -0,0 +1,52 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LazyAttributesList}.
+ */
+public class LazyAttributesListTest extends BaseTestCase {
+
+    @Test
+    public void testGet_typicalCase_shouldOnlyConvertAccessedElementsOnce() {
+        List<Integer> entities = new ArrayList<>(Arrays.asList(1, 2, 3));
+        List<Integer> convertedEntities = new ArrayList<>();
+        List<String> attributes = new LazyAttributesList<>(entities, entity -> {
+            convertedEntities.add(entity);
+            return "attributes" + entity;
+        });
+
+        ______TS("nothing is converted upfront");
+
+        assertEquals(3, attributes.size());
+        assertTrue(convertedEntities.isEmpty());
+
+        ______TS("element is converted when accessed");
+
+        String attributes2 = attributes.get(1);
+        assertEquals("attributes2", attributes2);
+        assertEquals(Arrays.asList(2), convertedEntities);
+
+        ______TS("converted element is retained");
+
+        assertTrue(attributes2 == attributes.get(1));
+        assertEquals(Arrays.asList(2), convertedEntities);
+
+        ______TS("iteration converts the remaining elements");
+
+        assertEquals(Arrays.asList("attributes1", "attributes2", "attributes3"), new ArrayList<>(attributes));
+        assertEquals(Arrays.asList(2, 1, 3), convertedEntities);
+
+        ______TS("view is unmodifiable");
+
+        assertThrows(UnsupportedOperationException.class, () -> attributes.add("attributes4"));
+        assertThrows(UnsupportedOperationException.class, () -> attributes.remove(0));
+    }
+
+}
@@ -0,0 +1,226 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.storage.entity.Course;
+import teammates.test.AssertHelper;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+import teammates.test.ThreadHelper;
+
+/**
+ * SUT: {@link LocalEntityCache}.
+ */
+public class LocalEntityCacheTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+
+    private EntityCache originalEntityCache;
+
+    @BeforeMethod
+    public void backUpEntityCache() {
+        originalEntityCache = EntitiesDb.getEntityCache();
+    }
+
+    @AfterMethod
+    public void restoreEntityCache() {
+        EntitiesDb.registerEntityCache(originalEntityCache);
+    }
+
+    @Test
+    public void testGet_typicalCase_shouldOnlyLoadOnCacheMiss() {
+        LocalEntityCache cache = new LocalEntityCache(10, Duration.ofMinutes(1));
+        Key<Course> key = Key.create(Course.class, "LECT.course");
+        int[] loadCount = new int[1];
+
+        ______TS("cache miss: entity is loaded");
+
+        Course loaded = cache.get(key, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course");
+        });
+        assertEquals(1, loadCount[0]);
+
+        ______TS("cache hit: same entity is returned without loading");
+
+        Course cached = cache.get(key, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course");
+        });
+        assertEquals(1, loadCount[0]);
+        assertTrue(loaded == cached);
+
+        EntityCacheStats stats = cache.getStats().get(key.getKind());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0, stats.getEvictions());
+
+        ______TS("non-existent entity is not cached");
+
+        Key<Course> nonExistentKey = Key.create(Course.class, "LECT.non-existent");
+        assertNull(cache.get(nonExistentKey, k -> null));
+        assertNull(cache.get(nonExistentKey, k -> null));
+        assertEquals(3, stats.getMisses());
+        assertEquals(1, cache.size());
+
+        ______TS("invalidated entity is reloaded");
+
+        cache.invalidate(Collections.singletonList(key));
+        cache.get(key, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course");
+        });
+        assertEquals(2, loadCount[0]);
+    }
+
+    @Test
+    public void testGet_cacheIsFull_shouldEvictLeastRecentlyUsed() {
+        LocalEntityCache cache = new LocalEntityCache(2, Duration.ofMinutes(1));
+        Key<Course> key1 = Key.create(Course.class, "LECT.course1");
+        Key<Course> key2 = Key.create(Course.class, "LECT.course2");
+        Key<Course> key3 = Key.create(Course.class, "LECT.course3");
+
+        cache.get(key1, k -> makeCourse("LECT.course1"));
+        cache.get(key2, k -> makeCourse("LECT.course2"));
+        // access course1 so that course2 becomes the least recently used
+        cache.get(key1, k -> makeCourse("LECT.course1"));
+        cache.get(key3, k -> makeCourse("LECT.course3"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().get(key1.getKind()).getEvictions());
+
+        int[] loadCount = new int[1];
+        cache.get(key1, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course1");
+        });
+        assertEquals(0, loadCount[0]);
+        cache.get(key2, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course2");
+        });
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void testGet_entityExpired_shouldReload() {
+        LocalEntityCache cache = new LocalEntityCache(10, Duration.ofMillis(100));
+        Key<Course> key = Key.create(Course.class, "LECT.course");
+        int[] loadCount = new int[1];
+
+        cache.get(key, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course");
+        });
+        ThreadHelper.waitFor(200);
+        cache.get(key, k -> {
+            loadCount[0]++;
+            return makeCourse("LECT.course");
+        });
+
+        assertEquals(2, loadCount[0]);
+        assertEquals(1, cache.getStats().get(key.getKind()).getEvictions());
+    }
+
+    @Test
+    public void testGetAll_typicalCase_shouldOnlyLoadCacheMissesInOneBatch() {
+        LocalEntityCache cache = new LocalEntityCache(10, Duration.ofMinutes(1));
+        Key<Course> key1 = Key.create(Course.class, "LECT.course1");
+        Key<Course> key2 = Key.create(Course.class, "LECT.course2");
+        Key<Course> nonExistentKey = Key.create(Course.class, "LECT.non-existent");
+        cache.get(key1, k -> makeCourse("LECT.course1"));
+
+        ______TS("only cache misses are loaded, in a single batch");
+
+        List<Collection<Key<Course>>> loadedBatches = new ArrayList<>();
+        Map<Key<Course>, Course> courses = cache.getAll(Arrays.asList(key1, key2, nonExistentKey), keys -> {
+            loadedBatches.add(new ArrayList<>(keys));
+            Map<Key<Course>, Course> loaded = new HashMap<>();
+            loaded.put(key2, makeCourse("LECT.course2"));
+            return loaded;
+        });
+
+        assertEquals(1, loadedBatches.size());
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(key2, nonExistentKey),
+                new ArrayList<>(loadedBatches.get(0)));
+        assertEquals(2, courses.size());
+        assertEquals("LECT.course1", courses.get(key1).getUniqueId());
+        assertEquals("LECT.course2", courses.get(key2).getUniqueId());
+        assertFalse(courses.containsKey(nonExistentKey));
+
+        ______TS("loaded entities are cached, non-existent entities are not");
+
+        loadedBatches.clear();
+        courses = cache.getAll(Arrays.asList(key1, key2, nonExistentKey), keys -> {
+            loadedBatches.add(new ArrayList<>(keys));
+            return new HashMap<>();
+        });
+
+        assertEquals(1, loadedBatches.size());
+        assertEquals(Collections.singletonList(nonExistentKey), loadedBatches.get(0));
+        assertEquals(2, courses.size());
+        assertEquals(2, cache.size());
+
+        ______TS("all cached: nothing is loaded");
+
+        loadedBatches.clear();
+        cache.getAll(Arrays.asList(key1, key2), keys -> {
+            loadedBatches.add(new ArrayList<>(keys));
+            return new HashMap<>();
+        });
+        assertTrue(loadedBatches.isEmpty());
+    }
+
+    @Test
+    public void testEntitiesDb_writesThroughStorageLayer_shouldKeepCacheCoherent() throws Exception {
+        LocalEntityCache cache = new LocalEntityCache(10, Duration.ofMinutes(1));
+        EntitiesDb.registerEntityCache(cache);
+
+        CourseAttributes course = CourseAttributes
+                .builder("LECT.coherentCourse")
+                .withName("Basic Computing")
+                .withTimezone("UTC")
+                .withInstitute("Test institute")
+                .build();
+        coursesDb.createEntity(course);
+
+        ______TS("repeated reads are served by the cache");
+
+        assertEquals("Basic Computing", coursesDb.getCourse(course.getId()).getName());
+        assertEquals("Basic Computing", coursesDb.getCourse(course.getId()).getName());
+        EntityCacheStats stats = cache.getStats().get(Key.getKind(Course.class));
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getHits());
+
+        ______TS("update is visible to subsequent reads");
+
+        coursesDb.updateCourse(
+                CourseAttributes.updateOptionsBuilder(course.getId())
+                        .withName("Advanced Computing")
+                        .build());
+        assertEquals("Advanced Computing", coursesDb.getCourse(course.getId()).getName());
+
+        ______TS("deletion is visible to subsequent reads");
+
+        coursesDb.deleteCourse(course.getId());
+        assertNull(coursesDb.getCourse(course.getId()));
+    }
+
+    private Course makeCourse(String courseId) {
+        return new Course(courseId, "Basic Computing", "UTC", "Test institute", null, null);
+    }
+
+}
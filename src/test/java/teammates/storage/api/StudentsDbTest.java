@@ -3,9 +3,18 @@ package teammates.storage.api;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.datatransfer.StudentRosterEntry;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -146,6 +155,14 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
                 || isEnrollInfoSameAs(studentsDb.getStudentsForCourse(s.getCourse()).get(0), s2));
         assertTrue(isEnrollInfoSameAs(studentsDb.getStudentsForTeam(s.getTeam(), s.getCourse()).get(0), s));
 
+        ______TS("typical success case for getStudentsByIds: non-existent students are omitted");
+
+        Map<String, StudentAttributes> studentsByIds =
+                studentsDb.getStudentsByIds(Arrays.asList(s.getId(), s2.getId(), "non-existent@email.com%any-course-id"));
+        assertEquals(2, studentsByIds.size());
+        assertTrue(isEnrollInfoSameAs(studentsByIds.get(s.getId()), s));
+        assertTrue(isEnrollInfoSameAs(studentsByIds.get(s2.getId()), s2));
+
         ______TS("null params case");
         assertThrows(AssertionError.class, () -> studentsDb.getStudentForEmail(null, "valid@email.com"));
 
@@ -155,6 +172,34 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         studentsDb.deleteStudent(s2.getCourse(), s2.getEmail());
     }
 
+    @Test
+    public void testGetStudentRosterEntriesForCourse() throws Exception {
+        StudentAttributes s1 = createNewStudent();
+        StudentAttributes s2 = createNewStudent("one.new@gmail.com");
+
+        ______TS("typical success case: only email, team and section are fetched");
+
+        List<StudentRosterEntry> entries = studentsDb.getStudentRosterEntriesForCourse(s1.getCourse());
+
+        assertEquals(2, entries.size());
+        for (StudentAttributes student : Arrays.asList(s1, s2)) {
+            assertTrue(entries.stream().anyMatch(entry -> entry.getEmail().equals(student.getEmail())
+                    && entry.getTeam().equals(student.getTeam())
+                    && entry.getSection().equals(student.getSection())));
+        }
+
+        ______TS("course without students");
+
+        assertTrue(studentsDb.getStudentRosterEntriesForCourse("non-existent-course").isEmpty());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class, () -> studentsDb.getStudentRosterEntriesForCourse(null));
+
+        studentsDb.deleteStudent(s1.getCourse(), s1.getEmail());
+        studentsDb.deleteStudent(s2.getCourse(), s2.getEmail());
+    }
+
     @Test
     public void testUpdateStudent_noChangeToStudent_shouldNotIssueSaveRequest() throws Exception {
         StudentAttributes s = createNewStudent();
@@ -384,6 +429,70 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
                 () -> studentsDb.deleteStudent(finalStudent[0].getCourse(), null));
     }
 
+    @Test
+    public void testSplitIntoIdRanges() throws Exception {
+        for (int i = 0; i < 7; i++) {
+            createNewStudent("range.student" + i + "@email.com");
+        }
+
+        ______TS("ranges are split from the first entity onwards and continue from the end ID of the last range");
+
+        List<EntityIdRange> ranges = new ArrayList<>();
+        String startId = null;
+        do {
+            List<EntityIdRange> splitRanges = studentsDb.splitIntoIdRanges(startId, 2, 3);
+            assertFalse(splitRanges.isEmpty());
+            assertTrue(splitRanges.size() <= 3);
+            if (startId != null) {
+                assertEquals(startId, splitRanges.get(0).getStartId());
+            }
+            ranges.addAll(splitRanges);
+            startId = splitRanges.get(splitRanges.size() - 1).getEndId();
+        } while (startId != null);
+
+        ______TS("ranges are ordered, non-overlapping and without gaps");
+
+        for (int i = 0; i + 1 < ranges.size(); i++) {
+            EntityIdRange range = ranges.get(i);
+            assertEquals(range.getEndId(), ranges.get(i + 1).getStartId());
+            assertTrue(range.getStartId().compareTo(range.getEndId()) < 0);
+        }
+        assertNull(ranges.get(ranges.size() - 1).getEndId());
+
+        ______TS("entities in all ranges are every entity exactly once");
+
+        Set<String> studentIds = new HashSet<>();
+        int numberOfStudents = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            List<StudentAttributes> students = studentsDb.getAttributesInIdRange(ranges.get(i));
+            if (i + 1 < ranges.size()) {
+                assertEquals(2, students.size());
+            } else {
+                assertFalse(students.isEmpty());
+                assertTrue(students.size() <= 2);
+            }
+            for (StudentAttributes student : students) {
+                studentIds.add(student.getCourse() + "%" + student.getEmail());
+            }
+            numberOfStudents += students.size();
+        }
+        assertEquals(numberOfStudents, studentIds.size());
+        assertEquals(studentsDb.load().count(), numberOfStudents);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(studentIds.contains("valid-course%range.student" + i + "@email.com"));
+        }
+
+        ______TS("invalid params check");
+
+        assertThrows(AssertionError.class, () -> studentsDb.splitIntoIdRanges(null, 0, 3));
+        assertThrows(AssertionError.class, () -> studentsDb.splitIntoIdRanges(null, 2, 0));
+        assertThrows(AssertionError.class, () -> studentsDb.getAttributesInIdRange(null));
+
+        for (int i = 0; i < 7; i++) {
+            studentsDb.deleteStudent("valid-course", "range.student" + i + "@email.com");
+        }
+    }
+
     private StudentAttributes createNewStudent() throws Exception {
         StudentAttributes s = StudentAttributes
                 .builder("valid-course", "valid@email.com")
@@ -0,0 +1,155 @@
+package teammates.storage.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EmbeddedSearchClient}.
+ */
+public class EmbeddedSearchClientTest extends BaseTestCase {
+
+    private static final String COLLECTION = "students";
+    private static final int LIMIT = 50;
+
+    private EmbeddedSearchClient client;
+
+    @BeforeMethod
+    public void setUp() {
+        client = new EmbeddedSearchClient();
+        client.putDocuments(COLLECTION, Arrays.asList(
+                createDocument("alice@gmail.tmt%course1", "course1", "Alice Betsy alice@gmail.tmt course1 Team 1.1"),
+                createDocument("bob@gmail.tmt%course1", "course1", "Bob Charlie bob@gmail.tmt course1 Team 1.2"),
+                createDocument("alice@gmail.tmt%course2", "course2", "Alice Betsy alice@gmail.tmt course2 Team 2.1"),
+                createDocument("charlie@gmail.tmt%course2", "course2", "Charlie Dave charlie@gmail.tmt course2 Team 2.1")
+        ));
+    }
+
+    @Test
+    public void testTokenize() {
+        assertEquals(Arrays.asList("alice", "gmail", "tmt", "team", "1", "1"),
+                EmbeddedSearchClient.tokenize("  Alice@gmail.tmt, Team 1.1 "));
+        assertTrue(EmbeddedSearchClient.tokenize(" .,!? ").isEmpty());
+    }
+
+    @Test
+    public void testParseQuery() {
+        ______TS("words and phrases");
+
+        assertEquals(Arrays.asList(Collections.singletonList("alice"), Arrays.asList("team", "1", "1")),
+                EmbeddedSearchClient.parseQuery("Alice \"Team 1.1\""));
+
+        ______TS("email-like input is matched as a phrase");
+
+        assertEquals(Collections.singletonList(Arrays.asList("alice", "gmail", "tmt")),
+                EmbeddedSearchClient.parseQuery("alice@gmail.tmt"));
+
+        ______TS("imbalanced double quotes and HTML tags are ignored");
+
+        assertEquals(Arrays.asList(Collections.singletonList("team"), Collections.singletonList("1")),
+                EmbeddedSearchClient.parseQuery("<b>\"Team 1</b>"));
+
+        ______TS("wildcard is kept on the last word");
+
+        assertEquals(Collections.singletonList(Collections.singletonList("ali*")),
+                EmbeddedSearchClient.parseQuery("ali*"));
+    }
+
+    @Test
+    public void testSearch() {
+        ______TS("any word matches");
+
+        assertEquals(Arrays.asList("bob@gmail.tmt%course1", "charlie@gmail.tmt%course2"),
+                getIds(client.search(COLLECTION, "charlie", null, null, LIMIT)));
+        assertEquals(Arrays.asList("bob@gmail.tmt%course1", "alice@gmail.tmt%course1"),
+                getIds(client.search(COLLECTION, "bob course1", null, null, LIMIT)));
+
+        ______TS("case-insensitive");
+
+        assertEquals(Arrays.asList("alice@gmail.tmt%course1", "alice@gmail.tmt%course2"),
+                getIds(client.search(COLLECTION, "ALICE", null, null, LIMIT)));
+
+        ______TS("phrase must match consecutive words");
+
+        assertEquals(Collections.singletonList("alice@gmail.tmt%course2"),
+                getIds(client.search(COLLECTION, "\"Betsy alice@gmail.tmt course2\"", null, null, LIMIT)));
+        assertTrue(client.search(COLLECTION, "\"Team Alice\"", null, null, LIMIT).isEmpty());
+
+        ______TS("email matches exactly");
+
+        assertEquals(Collections.singletonList("bob@gmail.tmt%course1"),
+                getIds(client.search(COLLECTION, "bob@gmail.tmt", null, null, LIMIT)));
+
+        ______TS("prefix");
+
+        assertEquals(Arrays.asList("bob@gmail.tmt%course1", "charlie@gmail.tmt%course2"),
+                getIds(client.search(COLLECTION, "char*", null, null, LIMIT)));
+
+        ______TS("no match");
+
+        assertTrue(client.search(COLLECTION, "nobody", null, null, LIMIT).isEmpty());
+        assertTrue(client.search(COLLECTION, "", null, null, LIMIT).isEmpty());
+        assertTrue(client.search("instructors", "alice", null, null, LIMIT).isEmpty());
+    }
+
+    @Test
+    public void testSearch_withFilterAndLimit() {
+        ______TS("filter");
+
+        assertEquals(Collections.singletonList("alice@gmail.tmt%course2"),
+                getIds(client.search(COLLECTION, "alice", "courseId", Collections.singletonList("course2"), LIMIT)));
+        assertTrue(client.search(COLLECTION, "alice", "courseId", Collections.emptyList(), LIMIT).isEmpty());
+
+        ______TS("limit keeps the best matches in a stable order");
+
+        List<Map<String, Object>> results = client.search(COLLECTION, "gmail", null, null, 2);
+        assertEquals(Arrays.asList("alice@gmail.tmt%course1", "alice@gmail.tmt%course2"), getIds(results));
+        assertEquals(getIds(results), getIds(client.search(COLLECTION, "gmail", null, null, 2)));
+    }
+
+    @Test
+    public void testPutAndDeleteDocuments() {
+        ______TS("updated document is matched by its new text only");
+
+        client.putDocuments(COLLECTION, Collections.singletonList(
+                createDocument("bob@gmail.tmt%course1", "course1", "Robert Charlie robert@gmail.tmt course1 Team 1.2")));
+        assertTrue(client.search(COLLECTION, "bob", null, null, LIMIT).isEmpty());
+        List<Map<String, Object>> results = client.search(COLLECTION, "robert", null, null, LIMIT);
+        assertEquals(Collections.singletonList("bob@gmail.tmt%course1"), getIds(results));
+        assertEquals("course1", results.get(0).get("courseId"));
+
+        ______TS("deleted documents are not matched");
+
+        client.deleteDocuments(COLLECTION, Arrays.asList("charlie@gmail.tmt%course2", "non-existent"));
+        assertEquals(Collections.singletonList("bob@gmail.tmt%course1"),
+                getIds(client.search(COLLECTION, "charlie", null, null, LIMIT)));
+
+        ______TS("reset collection");
+
+        client.deleteAllDocuments(COLLECTION);
+        assertTrue(client.search(COLLECTION, "alice", null, null, LIMIT).isEmpty());
+    }
+
+    private Map<String, Object> createDocument(String id, String courseId, String text) {
+        Map<String, Object> document = new HashMap<>();
+        document.put("id", id);
+        document.put("courseId", courseId);
+        document.put("_text_", text);
+        return document;
+    }
+
+    private List<String> getIds(List<Map<String, Object>> documents) {
+        return documents.stream()
+                .map(document -> (String) document.get("id"))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,165 @@
+package teammates.storage.search;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+import teammates.test.ThreadHelper;
+
+/**
+ * SUT: {@link SearchResultCache}.
+ */
+public class SearchResultCacheTest extends BaseTestCase {
+
+    private static final BiPredicate<String, String> PREFIX_MATCHER = (result, prefix) -> result.startsWith(prefix);
+
+    private static final Set<String> COURSE_1 = Collections.singleton("course1");
+    private static final Set<String> COURSES_1_AND_2 = new HashSet<>(Arrays.asList("course1", "course2"));
+
+    @Test
+    public void testNormalizeQuery() {
+        assertEquals("alice \"team 1\"", SearchResultCache.normalizeQuery("  Alice \t\"Team   1\" "));
+    }
+
+    @Test
+    public void testGetAndPut() {
+        SearchResultCache<String> cache = new SearchResultCache<>(10, Duration.ofMinutes(1));
+
+        ______TS("cache miss");
+
+        assertNull(cache.get("alice", COURSE_1, PREFIX_MATCHER));
+        assertEquals(1, cache.getMisses());
+
+        ______TS("cache hit");
+
+        cache.put("alice", COURSE_1, Arrays.asList("alice1", "alice2"), Arrays.asList("a1", "a2"),
+                true, cache.getInvalidationCount());
+        assertEquals(Arrays.asList("alice1", "alice2"), cache.get("alice", COURSE_1, PREFIX_MATCHER));
+        assertEquals(1, cache.getHits());
+
+        ______TS("results of different courses are kept apart");
+
+        assertNull(cache.get("alice", COURSES_1_AND_2, PREFIX_MATCHER));
+        assertNull(cache.get("alice", null, PREFIX_MATCHER));
+
+        ______TS("result searched before an invalidation is not cached");
+
+        long invalidationCountBeforeSearch = cache.getInvalidationCount();
+        cache.invalidateCourses(Collections.singleton("course3"));
+        cache.put("bob", COURSE_1, Collections.singletonList("bob"), Collections.singletonList("b"),
+                true, invalidationCountBeforeSearch);
+        assertNull(cache.get("bob", COURSE_1, PREFIX_MATCHER));
+
+        ______TS("returned result is a copy");
+
+        cache.get("alice", COURSE_1, PREFIX_MATCHER).clear();
+        assertEquals(Arrays.asList("alice1", "alice2"), cache.get("alice", COURSE_1, PREFIX_MATCHER));
+    }
+
+    @Test
+    public void testGet_prefixQuery_shouldRefineCompleteResultOfShorterPrefix() {
+        SearchResultCache<String> cache = new SearchResultCache<>(10, Duration.ofMinutes(1));
+        cache.put("al*", COURSE_1, Arrays.asList("alan", "alice", "alicia"), Arrays.asList("a1", "a2", "a3"),
+                true, cache.getInvalidationCount());
+
+        ______TS("longer prefix is answered from the shorter one");
+
+        assertEquals(Arrays.asList("alice", "alicia"), cache.get("alic*", COURSE_1, PREFIX_MATCHER));
+        assertEquals(1, cache.getPrefixHits());
+
+        ______TS("refined result is cached as well");
+
+        assertEquals(Arrays.asList("alice", "alicia"), cache.get("alic*", COURSE_1, PREFIX_MATCHER));
+        assertEquals(1, cache.getHits());
+
+        ______TS("not a single prefix word");
+
+        assertNull(cache.get("alic", COURSE_1, PREFIX_MATCHER));
+        assertNull(cache.get("alic* bob", COURSE_1, PREFIX_MATCHER));
+        assertNull(cache.get("alic*", COURSES_1_AND_2, PREFIX_MATCHER));
+
+        ______TS("truncated result of shorter prefix is not used");
+
+        cache.put("b*", COURSE_1, Collections.singletonList("bob"), Collections.singletonList("b1"),
+                false, cache.getInvalidationCount());
+        assertNull(cache.get("bo*", COURSE_1, PREFIX_MATCHER));
+        assertEquals(1, cache.getPrefixHits());
+        assertEquals(2.0 / 6, cache.getHitRate(), 0.001);
+    }
+
+    @Test
+    public void testInvalidation() {
+        SearchResultCache<String> cache = new SearchResultCache<>(10, Duration.ofMinutes(1));
+        long invalidationCount = cache.getInvalidationCount();
+        cache.put("alice", COURSE_1, Collections.singletonList("alice1"), Collections.singletonList("a1"),
+                true, invalidationCount);
+        cache.put("alice", COURSES_1_AND_2, Arrays.asList("alice1", "alice2"), Arrays.asList("a1", "a2"),
+                true, invalidationCount);
+        cache.put("alice", null, Arrays.asList("alice1", "alice2"), Arrays.asList("a1", "a2"),
+                true, invalidationCount);
+        assertEquals(3, cache.size());
+
+        ______TS("document put in a course: results of that course and unrestricted results are invalidated");
+
+        cache.invalidateCourses(Collections.singleton("course2"));
+        assertNotNull(cache.get("alice", COURSE_1, PREFIX_MATCHER));
+        assertNull(cache.get("alice", COURSES_1_AND_2, PREFIX_MATCHER));
+        assertNull(cache.get("alice", null, PREFIX_MATCHER));
+
+        ______TS("document without a course put: unrestricted results are invalidated");
+
+        cache.put("alice", null, Arrays.asList("alice1", "alice2"), Arrays.asList("a1", "a2"),
+                true, cache.getInvalidationCount());
+        cache.invalidateCourses(Collections.emptySet());
+        assertNotNull(cache.get("alice", COURSE_1, PREFIX_MATCHER));
+        assertNull(cache.get("alice", null, PREFIX_MATCHER));
+
+        ______TS("document deleted: results including it are invalidated");
+
+        cache.put("bob", COURSE_1, Collections.singletonList("bob1"), Collections.singletonList("b1"),
+                true, cache.getInvalidationCount());
+        cache.invalidateDocuments(Collections.singletonList("a1"));
+        assertNull(cache.get("alice", COURSE_1, PREFIX_MATCHER));
+        assertNotNull(cache.get("bob", COURSE_1, PREFIX_MATCHER));
+
+        ______TS("all invalidated");
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        ______TS("least recently used result is evicted when full");
+
+        SearchResultCache<String> cache = new SearchResultCache<>(2, Duration.ofMinutes(1));
+        cache.put("alice", null, Collections.singletonList("alice"), Collections.singletonList("a"),
+                true, cache.getInvalidationCount());
+        cache.put("bob", null, Collections.singletonList("bob"), Collections.singletonList("b"),
+                true, cache.getInvalidationCount());
+        cache.get("alice", null, PREFIX_MATCHER);
+        cache.put("charlie", null, Collections.singletonList("charlie"), Collections.singletonList("c"),
+                true, cache.getInvalidationCount());
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get("bob", null, PREFIX_MATCHER));
+        assertNotNull(cache.get("alice", null, PREFIX_MATCHER));
+
+        ______TS("expired result is treated as absent");
+
+        SearchResultCache<String> shortLivedCache = new SearchResultCache<>(2, Duration.ofMillis(50));
+        shortLivedCache.put("alice", null, Collections.singletonList("alice"), Collections.singletonList("a"),
+                true, shortLivedCache.getInvalidationCount());
+        ThreadHelper.waitFor(100);
+        assertNull(shortLivedCache.get("alice", null, PREFIX_MATCHER));
+        assertEquals(1, shortLivedCache.getEvictions());
+    }
+
+}
@@ -55,13 +55,14 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
                 options.getService()
         ));
         OfyHelper.registerEntityClasses();
+        OfyHelper.registerEntityCache();
 
         SearchManagerFactory.registerAccountRequestSearchManager(
-                new AccountRequestSearchManager(TestProperties.SEARCH_SERVICE_HOST, true));
+                new AccountRequestSearchManager(TestProperties.SEARCH_SERVICE, TestProperties.SEARCH_SERVICE_HOST, true));
         SearchManagerFactory.registerInstructorSearchManager(
-                new InstructorSearchManager(TestProperties.SEARCH_SERVICE_HOST, true));
+                new InstructorSearchManager(TestProperties.SEARCH_SERVICE, TestProperties.SEARCH_SERVICE_HOST, true));
         SearchManagerFactory.registerStudentSearchManager(
-                new StudentSearchManager(TestProperties.SEARCH_SERVICE_HOST, true));
+                new StudentSearchManager(TestProperties.SEARCH_SERVICE, TestProperties.SEARCH_SERVICE_HOST, true));
 
         LogicStarter.initializeDependencies();
     }
@@ -83,6 +84,7 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         SearchManagerFactory.getStudentSearchManager().resetCollections();
 
         LOCAL_DATASTORE_HELPER.reset();
+        OfyHelper.clearEntityCache();
     }
 
     @AfterSuite
@@ -1,6 +1,8 @@
 package teammates.test;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -12,8 +14,6 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
  * Mocks {@link HttpServletResponse} for testing purpose.
  *
@@ -21,7 +21,13 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class MockHttpServletResponse implements HttpServletResponse {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
     private int statusCode = HttpStatus.SC_OK;
+    private final StringWriter output = new StringWriter();
+    private PrintWriter writer;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private boolean isCommitted;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
 
@@ -150,9 +156,18 @@ public class MockHttpServletResponse implements HttpServletResponse {
     }
 
     @Override
-    @SuppressFBWarnings("DM_DEFAULT_ENCODING")
     public PrintWriter getWriter() {
-        return new PrintWriter(System.out);
+        if (writer == null) {
+            writer = new PrintWriter(new BufferingWriter());
+        }
+        return writer;
+    }
+
+    /**
+     * Returns all the output written to the response.
+     */
+    public String getOutput() {
+        return output.toString();
     }
 
     @Override
@@ -177,27 +192,30 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setBufferSize(int size) {
-        // not used
+        this.bufferSize = size;
     }
 
     @Override
     public int getBufferSize() {
-        return 0;
+        return bufferSize;
     }
 
     @Override
     public void flushBuffer() {
-        // not used
+        isCommitted = true;
     }
 
     @Override
     public void resetBuffer() {
-        // not used
+        if (isCommitted) {
+            throw new IllegalStateException("Response is already committed");
+        }
+        output.getBuffer().setLength(0);
     }
 
     @Override
     public boolean isCommitted() {
-        return false;
+        return isCommitted;
     }
 
     @Override
@@ -219,4 +237,29 @@ public class MockHttpServletResponse implements HttpServletResponse {
         return this.cookies;
     }
 
+    /**
+     * Writes to the output, committing the response once the output exceeds the buffer as a servlet container does.
+     */
+    private class BufferingWriter extends Writer {
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            output.write(cbuf, off, len);
+            if (output.getBuffer().length() > bufferSize) {
+                isCommitted = true;
+            }
+        }
+
+        @Override
+        public void flush() {
+            isCommitted = true;
+        }
+
+        @Override
+        public void close() {
+            isCommitted = true;
+        }
+
+    }
+
 }
@@ -25,6 +25,9 @@ public final class TestProperties {
     /** Indicates whether auto-update snapshot mode is activated. */
     public static final boolean IS_SNAPSHOT_UPDATE;
 
+    /** The value of "test.search.service" in test.properties file. */
+    public static final String SEARCH_SERVICE;
+
     /** The value of "test.search.service.host" in test.search.service.host file. */
     public static final String SEARCH_SERVICE_HOST;
 
@@ -41,6 +44,7 @@ public final class TestProperties {
 
             IS_SNAPSHOT_UPDATE = Boolean.parseBoolean(prop.getProperty("test.snapshot.update", "false"));
             TEST_LOCALDATASTORE_PORT = Integer.parseInt(prop.getProperty("test.localdatastore.port"));
+            SEARCH_SERVICE = prop.getProperty("test.search.service");
             SEARCH_SERVICE_HOST = prop.getProperty("test.search.service.host");
 
         } catch (IOException | NumberFormatException e) {
@@ -49,7 +53,7 @@ public final class TestProperties {
     }
 
     public static boolean isSearchServiceActive() {
-        return !StringHelper.isEmpty(SEARCH_SERVICE_HOST);
+        return "embedded".equalsIgnoreCase(SEARCH_SERVICE) || !StringHelper.isEmpty(SEARCH_SERVICE_HOST);
     }
 
 }
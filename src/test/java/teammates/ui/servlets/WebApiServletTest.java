@@ -1,5 +1,6 @@
 package teammates.ui.servlets;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -88,6 +89,27 @@ public class WebApiServletTest extends BaseTestCase {
         SERVLET.doGet(mockRequest, mockResponse);
         assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, mockResponse.getStatus());
 
+        ______TS("Failure case: DatastoreException while the output is written");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "DatastoreExceptionWhileWritingOutput");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, mockResponse.getStatus());
+        // the partial output is discarded so that only the error is sent
+        assertFalse(mockResponse.getOutput().contains("element"));
+        assertTrue(mockResponse.getOutput().contains("DatastoreException testing"));
+
+        ______TS("Failure case: DatastoreException after part of the output is sent");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "DatastoreExceptionAfterSendingOutput");
+
+        // the response is aborted rather than having the error appended to the partial output
+        assertThrows(IOException.class, () -> SERVLET.doGet(mockRequest, mockResponse));
+        assertTrue(mockResponse.isCommitted());
+        assertFalse(mockResponse.getOutput().contains("DatastoreException testing"));
+
         ______TS("Failure case: UnauthorizedAccessException");
 
         setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
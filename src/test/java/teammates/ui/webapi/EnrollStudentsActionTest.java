@@ -166,8 +166,8 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(0), enrolledStudents.get(0));
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(2), enrolledStudents.get(1));
 
-        // verify tasks only added for students successfully enrolled
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 2);
+        // verify a single task is added for all students successfully enrolled
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
     }
 
     @Test
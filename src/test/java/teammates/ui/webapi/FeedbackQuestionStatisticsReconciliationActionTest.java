@@ -0,0 +1,59 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackQuestionStatisticsLogic;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsReconciliationAction}.
+ */
+public class FeedbackQuestionStatisticsReconciliationActionTest
+        extends BaseActionTest<FeedbackQuestionStatisticsReconciliationAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_FEEDBACK_QUESTION_STATISTICS_RECONCILIATION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(questionTypeBundle);
+
+        ______TS("no statistics kept: no reconciliation needed");
+
+        FeedbackQuestionStatisticsReconciliationAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded();
+
+        ______TS("statistics of 2 questions kept: both are reconciled");
+
+        for (String questionKey : new String[] { "qn1InSession1InCourse1", "qn1InSession3InCourse1" }) {
+            FeedbackQuestionAttributes question = questionTypeBundle.feedbackQuestions.get(questionKey);
+            FeedbackQuestionStatisticsLogic.inst().getOrBuildStatistics(logic.getFeedbackQuestion(
+                    question.getFeedbackSessionName(), question.getCourseId(), question.getQuestionNumber()));
+        }
+
+        action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_QUEUE_NAME, 2);
+    }
+
+}
@@ -0,0 +1,58 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.logic.core.FeedbackQuestionStatisticsLogic;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsReconciliationWorkerAction}.
+ */
+public class FeedbackQuestionStatisticsReconciliationWorkerActionTest
+        extends BaseActionTest<FeedbackQuestionStatisticsReconciliationWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.FEEDBACK_QUESTION_STATISTICS_RECONCILIATION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(questionTypeBundle);
+
+        FeedbackQuestionAttributes question = questionTypeBundle.feedbackQuestions.get("qn1InSession3InCourse1");
+        question = logic.getFeedbackQuestion(
+                question.getFeedbackSessionName(), question.getCourseId(), question.getQuestionNumber());
+        FeedbackQuestionStatisticsAttributes statistics =
+                FeedbackQuestionStatisticsLogic.inst().getOrBuildStatistics(question);
+
+        ______TS("statistics are rebuilt from the responses");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+        };
+
+        FeedbackQuestionStatisticsReconciliationWorkerAction action = getAction(submissionParams);
+        getJsonResult(action);
+
+        assertTrue(statistics.hasSameStatistics(FeedbackQuestionStatisticsLogic.inst().getOrBuildStatistics(question)));
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
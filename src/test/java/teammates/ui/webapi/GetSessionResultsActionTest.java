@@ -5,6 +5,7 @@ import java.util.List;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -30,7 +31,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
     @Override
     @Test
-    protected void testExecute() {
+    protected void testExecute() throws Exception {
         InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
         loginAsInstructor(instructorAttributes.getGoogleId());
 
@@ -56,6 +57,92 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
+        ______TS("typical: results written piece by piece are the same as the serialized results");
+
+        SessionResultsData resultsToWrite = SessionResultsData.initForInstructor(
+                logic.getSessionResultsForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
+                        accessibleFeedbackSession.getCourseId(),
+                        instructorAttributes.getEmail(),
+                        null, null));
+        StringBuilder writtenJson = new StringBuilder();
+        resultsToWrite.writeJsonTo(writtenJson);
+
+        assertEquals(JsonUtils.toCompactJson(expectedResults), writtenJson.toString());
+
+        ______TS("typical: instructor accesses a page of the results of a question");
+
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(
+                accessibleFeedbackSession.getFeedbackSessionName(), accessibleFeedbackSession.getCourseId(), 2);
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGINATED, "true",
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        output = (SessionResultsData) r.getOutput();
+        expectedResults = SessionResultsData.initPageForInstructor(
+                logic.getSessionResultsPageForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
+                        accessibleFeedbackSession.getCourseId(),
+                        instructorAttributes.getEmail(),
+                        question.getId(), null, null, Const.SESSION_RESULTS_PAGE_SIZE));
+
+        assertTrue(isSessionResultsDataEqual(expectedResults, output));
+        assertNull(output.getNextPageToken());
+
+        ______TS("failure: invalid page token");
+
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGINATED, "true",
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN, "invalid-token");
+
+        ______TS("failure: paginated results without a question");
+
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGINATED, "true");
+
+        ______TS("typical: instructor accesses the statistics of the results without the responses");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        output = (SessionResultsData) r.getOutput();
+        expectedResults = SessionResultsData.initStatisticsForInstructor(
+                logic.getSessionStatisticsForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
+                        accessibleFeedbackSession.getCourseId(),
+                        instructorAttributes.getEmail(),
+                        null));
+
+        assertTrue(isSessionResultsDataEqual(expectedResults, output));
+        assertTrue(output.getQuestions().stream().allMatch(q -> q.getAllResponses().isEmpty()));
+
+        ______TS("failure: statistics of the results of a section");
+
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, "Section 1",
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true");
+
         ______TS("typical: student accesses results of his/her course");
 
         StudentAttributes studentAttributes = typicalBundle.students.get("student1InCourse1");
@@ -0,0 +1,66 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * SUT: {@link RebuildSearchIndexesAction}.
+ */
+public class RebuildSearchIndexesActionTest extends BaseActionTest<RebuildSearchIndexesAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.SEARCH_INDEXES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        ______TS("no collection given: all collections are rebuilt from the first entity");
+
+        RebuildSearchIndexesAction action = getAction();
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 3);
+        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
+        assertEquals(Const.SearchCollections.ALL, tasksAdded.stream()
+                .map(task -> task.getParamMap().get(ParamsNames.SEARCH_COLLECTION))
+                .collect(Collectors.toList()));
+        for (TaskWrapper task : tasksAdded) {
+            assertEquals(Const.TaskQueue.SEARCH_INDEX_REBUILD_SPLIT_WORKER_URL, task.getWorkerUrl());
+            assertNull(task.getParamMap().get(ParamsNames.ENTITY_ID_RANGE_START));
+        }
+
+        ______TS("collection given: only that collection is rebuilt");
+
+        action = getAction(ParamsNames.SEARCH_COLLECTION, Const.SearchCollections.INSTRUCTORS);
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        assertEquals(Const.SearchCollections.INSTRUCTORS,
+                mockTaskQueuer.getTasksAdded().get(0).getParamMap().get(ParamsNames.SEARCH_COLLECTION));
+
+        ______TS("unknown collection");
+
+        verifyHttpParameterFailure(ParamsNames.SEARCH_COLLECTION, "courses");
+        verifyNoTasksAdded();
+    }
+
+}
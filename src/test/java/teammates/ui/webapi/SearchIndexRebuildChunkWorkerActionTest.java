@@ -0,0 +1,66 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.test.TestProperties;
+
+/**
+ * SUT: {@link SearchIndexRebuildChunkWorkerAction}.
+ */
+public class SearchIndexRebuildChunkWorkerActionTest extends BaseActionTest<SearchIndexRebuildChunkWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.SEARCH_INDEX_REBUILD_CHUNK_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        if (!TestProperties.isSearchServiceActive()) {
+            return;
+        }
+
+        StudentAttributes student1 = typicalBundle.students.get("student1InCourse1");
+
+        ______TS("students not yet indexed should not be searchable");
+
+        List<StudentAttributes> studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
+        assertEquals(0, studentList.size());
+
+        ______TS("students in the chunk indexed should be searchable");
+
+        EntityIdRange chunk = logic.splitSearchCollectionIntoChunks(Const.SearchCollections.STUDENTS, null).get(0);
+        String[] submissionParams = new String[] {
+                ParamsNames.SEARCH_COLLECTION, Const.SearchCollections.STUDENTS,
+                ParamsNames.ENTITY_ID_RANGE_START, chunk.getStartId(),
+                ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, "1000",
+        };
+
+        SearchIndexRebuildChunkWorkerAction action = getAction(submissionParams);
+        getJsonResult(action);
+
+        studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
+        assertEquals(1, studentList.size());
+        assertEquals(student1.getName(), studentList.get(0).getName());
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
@@ -0,0 +1,88 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EntityIdRange;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * SUT: {@link SearchIndexRebuildSplitWorkerAction}.
+ */
+public class SearchIndexRebuildSplitWorkerActionTest extends BaseActionTest<SearchIndexRebuildSplitWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.SEARCH_INDEX_REBUILD_SPLIT_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        ______TS("split from the first entity: all students fit in one chunk, so no further split is scheduled");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.SEARCH_COLLECTION, Const.SearchCollections.STUDENTS,
+                ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, "1000",
+        };
+
+        SearchIndexRebuildSplitWorkerAction action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        TaskWrapper task = mockTaskQueuer.getTasksAdded().get(0);
+        assertEquals(TaskQueue.SEARCH_INDEX_REBUILD_CHUNK_WORKER_URL, task.getWorkerUrl());
+        assertEquals(Const.SearchCollections.STUDENTS, task.getParamMap().get(ParamsNames.SEARCH_COLLECTION));
+        assertNotNull(task.getParamMap().get(ParamsNames.ENTITY_ID_RANGE_START));
+        assertNull(task.getParamMap().get(ParamsNames.ENTITY_ID_RANGE_END));
+        assertEquals("1000", task.getParamMap().get(ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME));
+
+        ______TS("split from a given entity");
+
+        List<EntityIdRange> chunks =
+                logic.splitSearchCollectionIntoChunks(Const.SearchCollections.INSTRUCTORS, null);
+        assertEquals(1, chunks.size());
+        String startId = chunks.get(0).getStartId();
+
+        submissionParams = new String[] {
+                ParamsNames.SEARCH_COLLECTION, Const.SearchCollections.INSTRUCTORS,
+                ParamsNames.ENTITY_ID_RANGE_START, startId,
+                ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, "1000",
+        };
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        assertEquals(startId, mockTaskQueuer.getTasksAdded().get(0).getParamMap().get(ParamsNames.ENTITY_ID_RANGE_START));
+
+        ______TS("split beyond the last entity: nothing to index");
+
+        submissionParams = new String[] {
+                ParamsNames.SEARCH_COLLECTION, Const.SearchCollections.INSTRUCTORS,
+                ParamsNames.ENTITY_ID_RANGE_START, "~",
+                ParamsNames.SEARCH_INDEX_REBUILD_STARTTIME, "1000",
+        };
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifyNoTasksAdded();
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
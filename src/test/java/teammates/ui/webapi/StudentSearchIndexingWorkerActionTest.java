@@ -51,6 +51,23 @@ public class StudentSearchIndexingWorkerActionTest extends BaseActionTest<Studen
         studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
         assertEquals(1, studentList.size());
         assertEquals(student1.getName(), studentList.get(0).getName());
+
+        ______TS("all students of course indexed in bulk should be searchable");
+
+        StudentAttributes student2 = typicalBundle.students.get("student2InCourse1");
+        studentList = logic.searchStudentsInWholeSystem(student2.getEmail());
+        assertEquals(0, studentList.size());
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student2.getCourse(),
+        };
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        studentList = logic.searchStudentsInWholeSystem(student2.getEmail());
+        assertEquals(1, studentList.size());
+        assertEquals(student2.getName(), studentList.get(0).getName());
     }
 
     @Override